@@ -16,7 +16,6 @@ import org.eclipse.dirigible.commons.api.module.StaticInjector;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.extensions.api.ExtensionsException;
 import org.eclipse.dirigible.core.extensions.api.IExtensionsCoreService;
-import org.eclipse.dirigible.core.extensions.definition.ExtensionDefinition;
 import org.eclipse.dirigible.core.extensions.definition.ExtensionPointDefinition;
 import org.eclipse.dirigible.core.extensions.service.ExtensionsCoreService;
 import org.slf4j.Logger;
@@ -42,12 +41,7 @@ public class ExtensionsServiceFacade implements IScriptingFacade {
 	 */
 	public static final String[] getExtensions(String extensionPointName) throws ExtensionsException {
 		logger.trace("API - ExtensionsServiceFacade.getExtensions() -> begin");
-		List<ExtensionDefinition> extensionDefinitions = extensionsCoreService.getExtensionsByExtensionPoint(extensionPointName);
-		String[] extensions = new String[extensionDefinitions.size()];
-		int i = 0;
-		for (ExtensionDefinition extensionDefinition : extensionDefinitions) {
-			extensions[i++] = extensionDefinition.getModule();
-		}
+		String[] extensions = extensionsCoreService.getExtensionModules(extensionPointName);
 		logger.trace("API - ExtensionsServiceFacade.getExtensions() -> end");
 		return extensions;
 	}
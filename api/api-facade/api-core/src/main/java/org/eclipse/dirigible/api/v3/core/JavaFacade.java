@@ -21,7 +21,9 @@ import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.lang.model.type.NullType;
 
@@ -42,19 +44,19 @@ public class JavaFacade {
 
 	private static final Logger logger = LoggerFactory.getLogger(JavaFacade.class);
 
-	private static List<String> blacklist;
+	private static Set<String> blacklist;
 	static {
 		try {
 			InputStream in = JavaFacade.class.getResourceAsStream("/.blacklist");
 			try {
-				blacklist = IOUtils.readLines(in, StandardCharsets.UTF_8);
+				blacklist = new HashSet<String>(IOUtils.readLines(in, StandardCharsets.UTF_8));
 			} finally {
 				if (in != null) {
 					in.close();
 				}
 			}
 		} catch (IOException e) {
-			blacklist = new ArrayList<String>();
+			blacklist = new HashSet<String>();
 		}
 	}
 
@@ -87,14 +89,24 @@ public class JavaFacade {
 			IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException, ContextException {
 		checkBlacklist(className, methodName);
 		logger.trace("API - JavaFacade.call() -> begin");
-		Class<?> clazz = Class.forName(className);
 		List<Object> params = normalizeParameters(parameters);
 		Class<?>[] parameterTypes = enumerateTypes(params);
-		Method method = findMethod(methodName, clazz, parameterTypes, params);
-		if ((method != null) && Modifier.isStatic(method.getModifiers())) {
+		JavaResolutionCache.Key key = JavaResolutionCache.key(className, methodName, parameterTypes, params);
+		JavaResolutionCache.Resolution resolution = JavaResolutionCache.get(key);
+		if (resolution == null) {
+			Class<?> clazz = Class.forName(className);
+			List<Object> originalParams = new ArrayList<Object>(params);
+			Method method = findMethod(methodName, clazz, parameterTypes, params);
+			if ((method != null) && Modifier.isStatic(method.getModifiers())) {
+				resolution = JavaResolutionCache.put(key, method, originalParams, params, false);
+			}
+		} else {
+			resolution.coerce(params);
+		}
+		if (resolution != null) {
 			Object result;
 			try {
-				result = method.invoke(null, params.toArray(new Object[] {}));
+				result = resolution.invoke(null, params);
 			} catch (Throwable t) {
 				logger.error(t.getMessage(), t);
 				return null;
@@ -118,12 +130,15 @@ public class JavaFacade {
 	}
 
 	private static void checkBlacklist(String className, String methodName) throws IllegalAccessException {
-		String find = className + ":" + methodName;
-		if (blacklist.contains(find)) {
+		if (isBlacklisted(className, methodName)) {
 			throw new IllegalAccessException(format("Calling of method [{0}] from the class [{1}] is forbidden.", methodName, className));
 		}
 	}
 
+	private static boolean isBlacklisted(String className, String methodName) {
+		return blacklist.contains(className + ":" + methodName);
+	}
+
 	/**
 	 * Find method of a given class per name and parameters. It performs some artificial logic based on the underlying
 	 * javascript engine in use
@@ -228,21 +243,24 @@ public class JavaFacade {
 	public static final String instantiate(String className, Object[] parameters) throws ClassNotFoundException, IllegalAccessException,
 			IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException, ContextException {
 		logger.trace("API - JavaFacade.instantiate() -> begin");
-		Class<?> clazz = Class.forName(className);
 		List<Object> params = normalizeParameters(parameters);
 		Class<?>[] parameterTypes = enumerateTypes(params);
-		Constructor constructor = clazz.getConstructor(parameterTypes);
-		if (constructor != null) {
-			Object result;
-			try {
-				result = constructor.newInstance(params.toArray(new Object[] {}));
-				return ThreadContextFacade.setProxy(result);
-			} catch (Throwable t) {
-				logger.error(t.getMessage(), t);
-			}
+		JavaResolutionCache.Key key = JavaResolutionCache.key(className, JavaResolutionCache.CONSTRUCTOR_NAME, parameterTypes, params);
+		JavaResolutionCache.Resolution resolution = JavaResolutionCache.get(key);
+		if (resolution == null) {
+			Class<?> clazz = Class.forName(className);
+			Constructor<?> constructor = clazz.getConstructor(parameterTypes);
+			resolution = JavaResolutionCache.put(key, constructor, params, params, false);
+		}
+		Object result;
+		try {
+			result = resolution.invoke(null, params);
+			return ThreadContextFacade.setProxy(result);
+		} catch (Throwable t) {
+			logger.error(t.getMessage(), t);
 		}
 		String message = format("No such constructor [{0}] in class [{1}]. Available ones are: [{2}]", Arrays.toString(parameterTypes), className,
-				ReflectionToStringBuilder.toString((clazz.getConstructors())));
+				ReflectionToStringBuilder.toString((Class.forName(className).getConstructors())));
 		logger.error(message);
 		logger.trace("API - JavaFacade.instantiate() -> end");
 		throw new NoSuchMethodException(message);
@@ -285,39 +303,41 @@ public class JavaFacade {
 		Class<?> clazz = instance.getClass();
 		List<Object> params = normalizeParameters(parameters);
 		Class<?>[] parameterTypes = enumerateTypes(params);
-		Method method = null;
-		// if (Modifier.isPublic(clazz.getModifiers())) {
-		method = findMethod(methodName, clazz, parameterTypes, params);
-		if (method == null) {
-		//} else {
-			Class[] interfaces = clazz.getInterfaces();
-			for (Class i : interfaces) {
-				method = findMethod(methodName, i, parameterTypes, params);
-				if (method != null) {
-					break;
+		JavaResolutionCache.Key key = JavaResolutionCache.key(clazz, methodName, parameterTypes, params);
+		JavaResolutionCache.Resolution resolution = JavaResolutionCache.get(key);
+		if (resolution == null) {
+			List<Object> originalParams = new ArrayList<Object>(params);
+			Method method = null;
+			// if (Modifier.isPublic(clazz.getModifiers())) {
+			method = findMethod(methodName, clazz, parameterTypes, params);
+			if (method == null) {
+			//} else {
+				Class[] interfaces = clazz.getInterfaces();
+				for (Class i : interfaces) {
+					method = findMethod(methodName, i, parameterTypes, params);
+					if (method != null) {
+						break;
+					}
 				}
 			}
+			//}
+			if (method != null) {
+				boolean forbidden = isBlacklisted(method.getDeclaringClass().getCanonicalName(), methodName);
+				resolution = JavaResolutionCache.put(key, method, originalParams, params, forbidden);
+			}
+		} else {
+			resolution.coerce(params);
 		}
-		//}
 
-		if (method != null) {
-			checkBlacklist(method.getDeclaringClass().getCanonicalName(), methodName);
+		if (resolution != null) {
+			if (resolution.isForbidden()) {
+				checkBlacklist(resolution.getMember().getDeclaringClass().getCanonicalName(), methodName);
+			}
 			Object result;
 			try {
-				boolean forced = false;
-				if (!method.isAccessible()) {
-					method.setAccessible(true);
-					forced = true;
-				}
-				try {
-					result = method.invoke(instance, params.toArray(new Object[] {}));
-				} finally {
-					if (forced) {
-						method.setAccessible(false);
-					}
-				}
+				result = resolution.invoke(instance, params);
 			} catch (Throwable t) {
-				String message = format("Error in invoking the method [{0}] of the instance [{1}] with parameters [{2}]", method.getName(),
+				String message = format("Error in invoking the method [{0}] of the instance [{1}] with parameters [{2}]", methodName,
 						ReflectionToStringBuilder.toString(instance), ReflectionToStringBuilder.toString(params.toArray(new Object[] {})));
 				logger.error(message, t);
 				throw new IllegalStateException(message, t);
@@ -394,11 +414,11 @@ public class JavaFacade {
 				continue;
 			}
 			if (!"undefined".equals(param) && (!"jdk.nashorn.internal.runtime.Undefined".equals(param.getClass().getName()))) {
-				if ((param instanceof String) && (ThreadContextFacade.getProxy((String) param) != null)) {
-					params.add(ThreadContextFacade.getProxy((String) param));
-				} else {
-					params.add(param);
+				Object proxy = null;
+				if ((param instanceof String) && ThreadContextFacade.isProxyId((String) param)) {
+					proxy = ThreadContextFacade.getProxy((String) param);
 				}
+				params.add((proxy != null) ? proxy : param);
 			}
 		}
 		return params;
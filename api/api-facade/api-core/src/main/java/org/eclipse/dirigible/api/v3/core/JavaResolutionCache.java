@@ -0,0 +1,420 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.api.v3.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The cache of the methods and constructors resolved by the {@link JavaFacade}. The entries are keyed by the owner
+ * (the class or the class name), the member name and the types of the actual arguments. Each entry holds a method
+ * handle of the resolved member, together with the coercions, which have to be applied on the arguments before the
+ * invocation - e.g. Rhino passes all the numbers as Double, so they have to be converted for int and long parameters.
+ * <p>
+ * Only the members accessible through the public lookup are cached. The resolutions of the instance methods are kept
+ * per class in a {@link ClassValue}, so that they do not keep the class loaders of the redeployed classes alive. The
+ * resolutions of the static methods and the constructors are keyed by the class name, as the classes are loaded by the
+ * class loader of the facade. The invocations with arguments of classes not visible from the class loader of the
+ * owner are not cached either.
+ */
+public class JavaResolutionCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(JavaResolutionCache.class);
+
+	/** The Constant CONSTRUCTOR_NAME. */
+	public static final String CONSTRUCTOR_NAME = "<init>"; //$NON-NLS-1$
+
+	// the integral doubles are tracked in a bit mask, so the methods with more parameters are not cached
+	private static final int MAX_PARAMETERS = 64;
+
+	private static final ClassValue<Map<Key, Resolution>> INSTANCE_RESOLUTIONS = new ClassValue<Map<Key, Resolution>>() {
+		@Override
+		protected Map<Key, Resolution> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Key, Resolution>();
+		}
+	};
+
+	private static final Map<Key, Resolution> NAMED_RESOLUTIONS = new ConcurrentHashMap<Key, Resolution>();
+
+	/**
+	 * The coercion of an argument.
+	 */
+	enum Coercion {
+
+		/** No coercion. */
+		NONE,
+
+		/** Double to Integer. */
+		TO_INTEGER,
+
+		/** Double to Long. */
+		TO_LONG
+
+	}
+
+	/**
+	 * Creates the key for the given owner, member name and actual arguments.
+	 *
+	 * @param owner
+	 *            the class or the class name
+	 * @param name
+	 *            the member name
+	 * @param parameterTypes
+	 *            the parameter types
+	 * @param params
+	 *            the actual arguments
+	 * @return the key or null, if the invocation cannot be cached
+	 */
+	public static Key key(Object owner, String name, Class<?>[] parameterTypes, List<Object> params) {
+		if (params.size() > MAX_PARAMETERS) {
+			return null;
+		}
+		ClassLoader ownerLoader = (owner instanceof Class) ? ((Class<?>) owner).getClassLoader() : JavaResolutionCache.class.getClassLoader();
+		for (Class<?> parameterType : parameterTypes) {
+			if ((parameterType != null) && !isVisible(parameterType.getClassLoader(), ownerLoader)) {
+				return null;
+			}
+		}
+		long integralDoubles = 0;
+		for (int i = 0; i < params.size(); i++) {
+			Object param = params.get(i);
+			if (param instanceof Double) {
+				Double value = (Double) param;
+				if ((value == Math.floor(value)) && !Double.isInfinite(value)) {
+					integralDoubles |= (1L << i);
+				}
+			}
+		}
+		return new Key(owner, name, parameterTypes, integralDoubles);
+	}
+
+	/**
+	 * Checks whether the classes of the class loader are visible from the other one, so that they do not outlive it.
+	 *
+	 * @param classLoader
+	 *            the class loader of the classes
+	 * @param fromClassLoader
+	 *            the class loader from which they are referenced
+	 * @return true, if it is the same class loader or one of its parents
+	 */
+	private static boolean isVisible(ClassLoader classLoader, ClassLoader fromClassLoader) {
+		if (classLoader == null) {
+			// the bootstrap class loader
+			return true;
+		}
+		for (ClassLoader current = fromClassLoader; current != null; current = current.getParent()) {
+			if (current == classLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the map of the resolutions for the owner of the key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the resolutions
+	 */
+	private static Map<Key, Resolution> getResolutions(Key key) {
+		return (key.owner instanceof Class) ? INSTANCE_RESOLUTIONS.get((Class<?>) key.owner) : NAMED_RESOLUTIONS;
+	}
+
+	/**
+	 * Gets the resolution for the given key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the resolution or null
+	 */
+	public static Resolution get(Key key) {
+		if (key == null) {
+			return null;
+		}
+		return getResolutions(key).get(key);
+	}
+
+	/**
+	 * Stores the resolved member, if it is accessible through the public lookup. The coercion plan is derived from the
+	 * arguments before and after the resolution.
+	 *
+	 * @param key
+	 *            the key, can be null
+	 * @param member
+	 *            the resolved method or constructor
+	 * @param originalParams
+	 *            the arguments before the resolution
+	 * @param resolvedParams
+	 *            the arguments after the resolution
+	 * @param forbidden
+	 *            whether the member is blacklisted
+	 * @return the resolution
+	 */
+	public static Resolution put(Key key, Executable member, List<Object> originalParams, List<Object> resolvedParams, boolean forbidden) {
+		Coercion[] coercions = new Coercion[resolvedParams.size()];
+		for (int i = 0; i < coercions.length; i++) {
+			Object original = originalParams.get(i);
+			Object resolved = resolvedParams.get(i);
+			if ((original instanceof Double) && (resolved instanceof Integer)) {
+				coercions[i] = Coercion.TO_INTEGER;
+			} else if ((original instanceof Double) && (resolved instanceof Long)) {
+				coercions[i] = Coercion.TO_LONG;
+			} else {
+				coercions[i] = Coercion.NONE;
+			}
+		}
+		MethodHandle handle = createHandle(member);
+		Resolution resolution = new Resolution(member, handle, coercions, forbidden);
+		if ((key != null) && (handle != null)) {
+			getResolutions(key).put(key, resolution);
+		}
+		return resolution;
+	}
+
+	/**
+	 * Creates the spreading method handle for the member.
+	 *
+	 * @param member
+	 *            the member
+	 * @return the method handle or null, if the member is not accessible through the public lookup
+	 */
+	private static MethodHandle createHandle(Executable member) {
+		try {
+			MethodHandle handle = unreflect(MethodHandles.publicLookup(), member);
+			if (handle == null) {
+				return null;
+			}
+			handle = handle.asFixedArity();
+			return handle.asType(handle.type().generic()).asSpreader(Object[].class, handle.type().parameterCount());
+		} catch (RuntimeException e) {
+			logger.debug(e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Unreflect.
+	 *
+	 * @param lookup
+	 *            the lookup
+	 * @param member
+	 *            the member
+	 * @return the method handle or null, if not accessible
+	 */
+	private static MethodHandle unreflect(MethodHandles.Lookup lookup, Executable member) {
+		try {
+			if (member instanceof Constructor) {
+				return lookup.unreflectConstructor((Constructor<?>) member);
+			}
+			return lookup.unreflect((Method) member);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The resolution key.
+	 */
+	public static final class Key {
+
+		private final Object owner;
+
+		private final String name;
+
+		private final Class<?>[] types;
+
+		private final long integralDoubles;
+
+		private final int hash;
+
+		/**
+		 * Instantiates a new key.
+		 *
+		 * @param owner
+		 *            the owner
+		 * @param name
+		 *            the name
+		 * @param types
+		 *            the types
+		 * @param integralDoubles
+		 *            the integral doubles mask
+		 */
+		Key(Object owner, String name, Class<?>[] types, long integralDoubles) {
+			this.owner = owner;
+			this.name = name;
+			this.types = types;
+			this.integralDoubles = integralDoubles;
+			int result = owner.hashCode();
+			result = (31 * result) + name.hashCode();
+			result = (31 * result) + Arrays.hashCode(types);
+			result = (31 * result) + (int) (integralDoubles ^ (integralDoubles >>> 32));
+			this.hash = result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return (hash == other.hash) && (integralDoubles == other.integralDoubles) && owner.equals(other.owner) && name.equals(other.name)
+					&& Arrays.equals(types, other.types);
+		}
+
+	}
+
+	/**
+	 * The resolved member with its invocation plan.
+	 */
+	public static final class Resolution {
+
+		private final Executable member;
+
+		private final MethodHandle handle;
+
+		private final Coercion[] coercions;
+
+		private final boolean forbidden;
+
+		private final boolean instanceMethod;
+
+		/**
+		 * Instantiates a new resolution.
+		 *
+		 * @param member
+		 *            the member
+		 * @param handle
+		 *            the handle
+		 * @param coercions
+		 *            the coercions
+		 * @param forbidden
+		 *            the forbidden
+		 */
+		Resolution(Executable member, MethodHandle handle, Coercion[] coercions, boolean forbidden) {
+			this.member = member;
+			this.handle = handle;
+			this.coercions = coercions;
+			this.forbidden = forbidden;
+			this.instanceMethod = (member instanceof Method) && !Modifier.isStatic(member.getModifiers());
+		}
+
+		/**
+		 * Gets the member.
+		 *
+		 * @return the member
+		 */
+		public Executable getMember() {
+			return member;
+		}
+
+		/**
+		 * Checks if the member is blacklisted.
+		 *
+		 * @return true, if is forbidden
+		 */
+		public boolean isForbidden() {
+			return forbidden;
+		}
+
+		/**
+		 * Apply the coercions on the arguments.
+		 *
+		 * @param params
+		 *            the arguments
+		 */
+		public void coerce(List<Object> params) {
+			for (int i = 0; i < coercions.length; i++) {
+				switch (coercions[i]) {
+					case TO_INTEGER:
+						params.set(i, ((Double) params.get(i)).intValue());
+						break;
+					case TO_LONG:
+						params.set(i, ((Double) params.get(i)).longValue());
+						break;
+					default:
+						break;
+				}
+			}
+		}
+
+		/**
+		 * Invoke the member. The members not accessible through the public lookup are invoked through reflection, the
+		 * same way as before the resolutions were cached - the instance methods, e.g. the public methods of the
+		 * non-public classes, are made accessible for the call, while the static methods and the constructors are not.
+		 *
+		 * @param instance
+		 *            the instance or null for the static methods and the constructors
+		 * @param params
+		 *            the already coerced arguments
+		 * @return the result
+		 * @throws Throwable
+		 *             the exception thrown by the member
+		 */
+		public Object invoke(Object instance, List<Object> params) throws Throwable {
+			if (handle == null) {
+				if (member instanceof Constructor) {
+					return ((Constructor<?>) member).newInstance(params.toArray(new Object[] {}));
+				}
+				Method method = (Method) member;
+				if (instanceMethod && !method.isAccessible()) {
+					method.setAccessible(true);
+					try {
+						return method.invoke(instance, params.toArray(new Object[] {}));
+					} finally {
+						method.setAccessible(false);
+					}
+				}
+				return method.invoke(instance, params.toArray(new Object[] {}));
+			}
+			Object[] arguments;
+			if (instanceMethod) {
+				arguments = new Object[params.size() + 1];
+				arguments[0] = instance;
+				for (int i = 0; i < params.size(); i++) {
+					arguments[i + 1] = params.get(i);
+				}
+			} else {
+				arguments = params.toArray(new Object[params.size()]);
+			}
+			return (Object) handle.invokeExact(arguments);
+		}
+
+	}
+
+}
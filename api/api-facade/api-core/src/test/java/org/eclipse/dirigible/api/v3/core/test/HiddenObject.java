@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.api.v3.core.test;
+
+/**
+ * The non-public class with a public static method.
+ */
+class HiddenObject {
+
+	/**
+	 * Gets the value.
+	 *
+	 * @return the value
+	 */
+	public static String getValue() {
+		return "hidden";
+	}
+
+}
@@ -100,6 +100,50 @@ public class JavaFacadeTest extends AbstractGuiceTest {
 		}
 	}
 
+	/**
+	 * Test that the cached resolution applies the same coercions as the first resolution.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testCachedResolution() throws Exception {
+		ThreadContextFacade.setUp();
+		try {
+			Object result = JavaFacade.call("java.lang.Integer", "toHexString", new Object[] { 255.0 });
+			assertEquals("ff", result);
+			result = JavaFacade.call("java.lang.Integer", "toHexString", new Object[] { 4095.0 });
+			assertEquals("fff", result);
+		} finally {
+			ThreadContextFacade.tearDown();
+		}
+	}
+
+	/**
+	 * Test the members of the non-public classes - the public static methods are refused, while the public instance
+	 * methods, e.g. of the iterators, are invoked as before the resolutions were cached.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testNonPublicClasses() throws Exception {
+		ThreadContextFacade.setUp();
+		try {
+			assertNull(JavaFacade.call("org.eclipse.dirigible.api.v3.core.test.HiddenObject", "getValue", new Object[] {}));
+			assertNull(JavaFacade.call("org.eclipse.dirigible.api.v3.core.test.HiddenObject", "getValue", new Object[] {}));
+
+			String list = JavaFacade.instantiate("java.util.ArrayList", new Object[] {});
+			JavaFacade.invoke(list, "add", new Object[] { "value" });
+			String iterator = (String) JavaFacade.invoke(list, "iterator", new Object[] {});
+			assertEquals(Boolean.TRUE, JavaFacade.invoke(iterator, "hasNext", new Object[] {}));
+			assertEquals("value", JavaFacade.invoke(iterator, "next", new Object[] {}));
+			assertEquals(Boolean.FALSE, JavaFacade.invoke(iterator, "hasNext", new Object[] {}));
+		} finally {
+			ThreadContextFacade.tearDown();
+		}
+	}
+
 	/**
 	 * Test deeper inheritance
 	 *
@@ -50,6 +50,10 @@ public class DatabaseFacade implements IScriptingFacade {
 
 	private static IDatabase database = StaticInjector.getInjector().getInstance(IDatabase.class);
 
+	private static final String SEQUENCE_KEY_SEPARATOR = ":";
+
+	private static final SequenceCache sequenceCache = new SequenceCache();
+
 	/**
 	 * Gets the database types.
 	 *
@@ -214,6 +218,23 @@ public class DatabaseFacade implements IScriptingFacade {
 	 * @throws SQLException the SQL exception
 	 */
 	public static final String query(String sql, String parameters, String databaseType, String datasourceName) throws SQLException {
+		return query(sql, parameters, databaseType, datasourceName, 0, 0);
+	}
+
+	/**
+	 * Executes SQL query and returns a page of the result.
+	 *
+	 * @param sql the sql
+	 * @param parameters the parameters
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @param offset the number of the records to be skipped
+	 * @param limit the maximum number of the records, 0 for the default limit
+	 * @return the page of the result of the query as JSON
+	 * @throws SQLException the SQL exception
+	 */
+	public static final String query(String sql, String parameters, String databaseType, String datasourceName, int offset, int limit)
+			throws SQLException {
 		DataSource dataSource = getDataSource(databaseType, datasourceName);
 		if (dataSource == null) {
 			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
@@ -227,7 +248,14 @@ public class DatabaseFacade implements IScriptingFacade {
 				if (parameters != null) {
 					setParameters(parameters, preparedStatement);
 				}
+				if (limit > 0) {
+					preparedStatement.setMaxRows(offset + limit);
+					preparedStatement.setFetchSize(limit);
+				}
 				ResultSet resultSet = preparedStatement.executeQuery();
+				if ((offset > 0) || (limit > 0)) {
+					return DatabaseResultSetHelper.toJson(resultSet, offset, limit);
+				}
 				return DatabaseResultSetHelper.toJson(resultSet, true);
 			} finally {
 				if (preparedStatement != null) {
@@ -593,7 +621,8 @@ public class DatabaseFacade implements IScriptingFacade {
 	
 	
 	/**
-	 * Nextval.
+	 * Nextval. The value is served from the blocks of the {@link SequenceCache}, so with a block size greater than 1 it
+	 * overlaps the values the SQL statements get directly from the sequence (NEXT VALUE FOR).
 	 *
 	 * @param sequence the sequence
 	 * @param databaseType the database type
@@ -607,6 +636,18 @@ public class DatabaseFacade implements IScriptingFacade {
 			String error = format("DataSource {0} of Database Type {1} not known.", datasourceName, databaseType);
 			throw new IllegalArgumentException(error);
 		}
+		return sequenceCache.nextval(getSequenceKey(sequence, databaseType, datasourceName), sequence, () -> fetchNextVal(sequence, dataSource));
+	}
+
+	/**
+	 * Fetch the next value of the database sequence, creating the sequence, if it does not exist yet.
+	 *
+	 * @param sequence the sequence
+	 * @param dataSource the data source
+	 * @return the next val
+	 * @throws SQLException the SQL exception
+	 */
+	private static long fetchNextVal(String sequence, DataSource dataSource) throws SQLException {
 		Connection connection = null;
 		try {
 			connection = dataSource.getConnection();
@@ -625,6 +666,18 @@ public class DatabaseFacade implements IScriptingFacade {
 		}
 	}
 
+	/**
+	 * Gets the key of the sequence in the sequence cache.
+	 *
+	 * @param sequence the sequence
+	 * @param databaseType the database type
+	 * @param datasourceName the datasource name
+	 * @return the key
+	 */
+	private static String getSequenceKey(String sequence, String databaseType, String datasourceName) {
+		return databaseType + SEQUENCE_KEY_SEPARATOR + datasourceName + SEQUENCE_KEY_SEPARATOR + sequence;
+	}
+
 	/**
 	 * Gets the next val.
 	 *
@@ -709,6 +762,7 @@ public class DatabaseFacade implements IScriptingFacade {
 		try {
 			connection = dataSource.getConnection();
 			createSequenceInternal(sequence, connection);
+			sequenceCache.reset(getSequenceKey(sequence, databaseType, datasourceName));
 		} finally {
 			if (connection != null) {
 				connection.close();
@@ -763,6 +817,7 @@ public class DatabaseFacade implements IScriptingFacade {
 					preparedStatement.close();
 				}
 			}
+			sequenceCache.reset(getSequenceKey(sequence, databaseType, datasourceName));
 		} finally {
 			if (connection != null) {
 				connection.close();
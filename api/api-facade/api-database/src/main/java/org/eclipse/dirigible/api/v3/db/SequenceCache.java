@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.api.v3.db;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * The cache of the sequence values allocated in blocks. Each value fetched from the database sequence reserves a block
+ * of the given size (hi-lo), which is then handed out from memory, so that only one round trip per block is needed. The
+ * blocks come from the database, hence they do not overlap across the nodes of a cluster as well.
+ * <p>
+ * The block size of a sequence can be increased, but must not be decreased later, as the new blocks would overlap the
+ * values already handed out. The block size of 1 gives the values of the database sequence as they are.
+ * <p>
+ * With a block size greater than 1 the values are no longer the ones of the database sequence, but the ones derived
+ * from them - the value n reserves the block from n * size to n * size + size - 1. The consumers using the sequence
+ * directly in SQL (e.g. NEXT VALUE FOR or a column default) get the plain values of the sequence, which overlap the
+ * blocks handed out by the cache sooner or later. Hence a sequence with a block size greater than 1 has to be used only
+ * through this cache.
+ */
+public class SequenceCache {
+
+	/** The default block size for all the sequences. */
+	public static final String DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE = "DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE"; //$NON-NLS-1$
+
+	/** The prefix of the block size of a single sequence, followed by its name in upper case. */
+	public static final String DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_PREFIX = "DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_"; //$NON-NLS-1$
+
+	private static final String DEFAULT_BLOCK_SIZE = "1"; //$NON-NLS-1$
+
+	private final Map<String, Block> blocks = new ConcurrentHashMap<String, Block>();
+
+	private final Map<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+	/**
+	 * The source of the values of a database sequence.
+	 */
+	public interface Source {
+
+		/**
+		 * Fetch the next value of the database sequence.
+		 *
+		 * @return the value
+		 * @throws SQLException
+		 *             the SQL exception
+		 */
+		public long fetch() throws SQLException;
+
+	}
+
+	/**
+	 * Gets the next value of the sequence, fetching a new block from the source, when the current one is exhausted.
+	 *
+	 * @param key
+	 *            the key of the sequence, unique per database
+	 * @param sequence
+	 *            the name of the sequence
+	 * @param source
+	 *            the source of the database sequence values
+	 * @return the value
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public long nextval(String key, String sequence, Source source) throws SQLException {
+		while (true) {
+			Block block = blocks.get(key);
+			if (block != null) {
+				long value = block.take();
+				if (value != Block.EXHAUSTED) {
+					return value;
+				}
+			}
+			synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+				if (blocks.get(key) == block) {
+					int size = getBlockSize(sequence);
+					long start = source.fetch() * size;
+					blocks.put(key, new Block(start, start + size));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discard the block of the sequence, e.g. when it has been recreated.
+	 *
+	 * @param key
+	 *            the key of the sequence
+	 */
+	public void reset(String key) {
+		blocks.remove(key);
+	}
+
+	/**
+	 * Gets the configured block size of the sequence.
+	 *
+	 * @param sequence
+	 *            the name of the sequence
+	 * @return the block size
+	 */
+	static int getBlockSize(String sequence) {
+		String size = Configuration.get(DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_PREFIX + sequence.toUpperCase(Locale.ENGLISH),
+				Configuration.get(DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, DEFAULT_BLOCK_SIZE));
+		return Math.max(1, Integer.parseInt(size));
+	}
+
+	/**
+	 * A block of reserved values.
+	 */
+	private static class Block {
+
+		static final long EXHAUSTED = Long.MIN_VALUE;
+
+		private final AtomicLong next;
+
+		private final long end;
+
+		/**
+		 * Instantiates a new block.
+		 *
+		 * @param start
+		 *            the first value
+		 * @param end
+		 *            the value after the last one
+		 */
+		Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+		/**
+		 * Take the next value of the block.
+		 *
+		 * @return the value or EXHAUSTED, if there are no more values
+		 */
+		long take() {
+			long value = next.getAndIncrement();
+			return (value < end) ? value : EXHAUSTED;
+		}
+
+	}
+
+}
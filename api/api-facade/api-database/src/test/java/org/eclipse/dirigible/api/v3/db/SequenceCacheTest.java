@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.api.v3.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * The Class SequenceCacheTest.
+ */
+public class SequenceCacheTest {
+
+	private static final String KEY = "DERBY:DefaultDB:ORDERS_SEQ"; //$NON-NLS-1$
+
+	private static final String SEQUENCE = "orders_seq"; //$NON-NLS-1$
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, null);
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_PREFIX + "ORDERS_SEQ", null);
+	}
+
+	/**
+	 * Default block size test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void defaultBlockSize() throws SQLException {
+		SequenceCache sequenceCache = new SequenceCache();
+		CountingSource source = new CountingSource(5);
+
+		// without a configured block size the values of the database sequence are returned as they are
+		assertEquals(1, SequenceCache.getBlockSize(SEQUENCE));
+		assertEquals(5, sequenceCache.nextval(KEY, SEQUENCE, source));
+		assertEquals(6, sequenceCache.nextval(KEY, SEQUENCE, source));
+		assertEquals(7, sequenceCache.nextval(KEY, SEQUENCE, source));
+		assertEquals(3, source.fetches.get());
+	}
+
+	/**
+	 * Block boundaries test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void blockBoundaries() throws SQLException {
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "10");
+		SequenceCache sequenceCache = new SequenceCache();
+		CountingSource source = new CountingSource(1);
+
+		// the fetched value 1 reserves the block from 1 * 10 to 19
+		for (long expected = 10; expected < 20; expected++) {
+			assertEquals(expected, sequenceCache.nextval(KEY, SEQUENCE, source));
+		}
+		assertEquals(1, source.fetches.get());
+
+		// the exhausted block is replaced by the one of the next fetched value
+		assertEquals(20, sequenceCache.nextval(KEY, SEQUENCE, source));
+		assertEquals(2, source.fetches.get());
+	}
+
+	/**
+	 * Per sequence configuration test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void perSequenceConfiguration() throws SQLException {
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "10");
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE_PREFIX + "ORDERS_SEQ", "3");
+		assertEquals(3, SequenceCache.getBlockSize(SEQUENCE));
+		assertEquals(10, SequenceCache.getBlockSize("customers_seq"));
+
+		SequenceCache sequenceCache = new SequenceCache();
+		CountingSource orders = new CountingSource(1);
+		CountingSource customers = new CountingSource(1);
+		assertEquals(3, sequenceCache.nextval(KEY, SEQUENCE, orders));
+		assertEquals(10, sequenceCache.nextval("DERBY:DefaultDB:CUSTOMERS_SEQ", "customers_seq", customers));
+		assertEquals(4, sequenceCache.nextval(KEY, SEQUENCE, orders));
+		assertEquals(5, sequenceCache.nextval(KEY, SEQUENCE, orders));
+		assertEquals(6, sequenceCache.nextval(KEY, SEQUENCE, orders));
+		assertEquals(2, orders.fetches.get());
+		assertEquals(1, customers.fetches.get());
+	}
+
+	/**
+	 * Reset test - as on creating or dropping the sequence.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void reset() throws SQLException {
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "10");
+		SequenceCache sequenceCache = new SequenceCache();
+		CountingSource source = new CountingSource(1);
+		assertEquals(10, sequenceCache.nextval(KEY, SEQUENCE, source));
+		assertEquals(11, sequenceCache.nextval(KEY, SEQUENCE, source));
+
+		// the rest of the block is discarded and the next value comes from the recreated sequence
+		sequenceCache.reset(KEY);
+		CountingSource recreated = new CountingSource(1);
+		assertEquals(10, sequenceCache.nextval(KEY, SEQUENCE, recreated));
+		assertEquals(1, recreated.fetches.get());
+	}
+
+	/**
+	 * Concurrent values test.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void concurrentValues() throws Exception {
+		Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "7");
+		SequenceCache sequenceCache = new SequenceCache();
+		CountingSource source = new CountingSource(1);
+		Set<Long> values = Collections.synchronizedSet(new HashSet<Long>());
+		AtomicReference<Exception> failure = new AtomicReference<Exception>();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 250; j++) {
+						values.add(sequenceCache.nextval(KEY, SEQUENCE, source));
+					}
+				} catch (SQLException e) {
+					failure.set(e);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(null, failure.get());
+		// no value is handed out twice
+		assertEquals(1000, values.size());
+		assertTrue(source.fetches.get() <= ((1000 / 7) + 1));
+	}
+
+	/**
+	 * The source of the sequence values, which counts the fetches.
+	 */
+	private static class CountingSource implements SequenceCache.Source {
+
+		private final AtomicLong value;
+
+		private final AtomicLong fetches = new AtomicLong();
+
+		/**
+		 * Instantiates a new counting source.
+		 *
+		 * @param start
+		 *            the first value
+		 */
+		CountingSource(long start) {
+			this.value = new AtomicLong(start);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.api.v3.db.SequenceCache.Source#fetch()
+		 */
+		@Override
+		public long fetch() throws SQLException {
+			fetches.incrementAndGet();
+			return value.getAndIncrement();
+		}
+
+	}
+
+}
@@ -340,6 +340,15 @@ public class HttpClientFacade implements IScriptingFacade {
 		return processResponse(response, httpClientRequestOptions.isBinary());
 	}
 
+	/**
+	 * Returns the statistics of the pooled connections of the shared HTTP clients
+	 *
+	 * @return the statistics as JSON
+	 */
+	public static final String getPoolStats() {
+		return GsonHelper.GSON.toJson(HttpClientProxyUtils.getPoolStats());
+	}
+
 	private static HttpClientRequestOptions parseOptions(String options) {
 		HttpClientRequestOptions httpClientRequestOptions = GsonHelper.GSON.fromJson(options, HttpClientRequestOptions.class);
 		return httpClientRequestOptions;
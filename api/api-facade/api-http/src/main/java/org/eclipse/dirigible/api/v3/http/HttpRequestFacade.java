@@ -11,6 +11,7 @@
 package org.eclipse.dirigible.api.v3.http;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
@@ -283,6 +284,22 @@ public class HttpRequestFacade implements IScriptingFacade {
 		return BytesHelper.bytesToJson(IOUtils.toByteArray(request.getInputStream()));
 	}
 
+	/**
+	 * Open the input stream of the current servlet request, so that the body can be processed without being loaded in
+	 * memory as a whole.
+	 *
+	 * @return the input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static final InputStream getInputStream() throws IOException {
+		HttpServletRequest request = getRequest();
+		if (request == null) {
+			throw new InvalidStateException(NO_VALID_REQUEST);
+		}
+		return request.getInputStream();
+	}
+
 	/**
 	 * Returns the text.
 	 *
@@ -15,6 +15,13 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -27,13 +34,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.eclipse.dirigible.commons.config.Configuration;
@@ -60,8 +73,30 @@ public class HttpClientProxyUtils {
 	/** The HTTP_NON_PROXY_HOSTS. */
 	public static final String HTTP_NON_PROXY_HOSTS = "http.nonProxyHosts"; //$NON-NLS-1$
 
+	/** The DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL = "DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL"; //$NON-NLS-1$
+
+	/** The DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE"; //$NON-NLS-1$
+
+	/** The DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+	/** The DIRIGIBLE_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY. */
+	public static final String DIRIGIBLE_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY = "DIRIGIBLE_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY"; //$NON-NLS-1$
+
+	private static final String TRUST_ALL = "trustAll"; //$NON-NLS-1$
+
+	private static final String TRUST_DEFAULT = "default"; //$NON-NLS-1$
+
+	private static final String KEY_SEPARATOR = "|"; //$NON-NLS-1$
+
 	private static final Logger logger = LoggerFactory.getLogger(HttpClientProxyUtils.class);
 
+	private static final Map<String, PooledHttpClient> CLIENTS = new ConcurrentHashMap<String, PooledHttpClient>();
+
+	private static volatile ScheduledExecutorService evictor;
+
 	{
 		try {
 			setProxySettings();
@@ -81,36 +116,145 @@ public class HttpClientProxyUtils {
 	}
 
 	/**
-	 * Returns the http client.
+	 * Returns the shared http client for the trust mode and the current proxy settings. The clients are pooled - they
+	 * keep the connections alive and reuse them for the subsequent requests to the same route, hence they must not be
+	 * closed by the callers. The responses have to be closed or fully consumed instead, so that their connections are
+	 * returned to the pool.
 	 *
 	 * @param trustAll
 	 *            if no SSL verification should be done
 	 * @return the http client
 	 */
 	public static CloseableHttpClient getHttpClient(boolean trustAll) {
-		CloseableHttpClient httpClient = null;
+		String httpProxyHost = Configuration.get(HTTP_PROXY_HOST);
+		String httpProxyPort = Configuration.get(HTTP_PROXY_PORT);
+		String httpNonProxyHosts = Configuration.get(HTTP_NON_PROXY_HOSTS);
+		String key = (trustAll ? TRUST_ALL : TRUST_DEFAULT) + KEY_SEPARATOR + httpProxyHost + KEY_SEPARATOR + httpProxyPort + KEY_SEPARATOR
+				+ httpNonProxyHosts;
 
+		PooledHttpClient pooledHttpClient = CLIENTS.get(key);
+		if (pooledHttpClient == null) {
+			synchronized (CLIENTS) {
+				pooledHttpClient = CLIENTS.get(key);
+				if (pooledHttpClient == null) {
+					pooledHttpClient = createPooledHttpClient(trustAll);
+					CLIENTS.put(key, pooledHttpClient);
+					startEvictor();
+					logger.debug("Pooled HTTP Client created for: {}", key);
+				}
+			}
+		}
+		return pooledHttpClient.httpClient;
+	}
+
+	/**
+	 * Creates the pooled http client.
+	 *
+	 * @param trustAll
+	 *            if no SSL verification should be done
+	 * @return the pooled http client
+	 */
+	private static PooledHttpClient createPooledHttpClient(boolean trustAll) {
+		SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
 		if (trustAll) {
 			try {
 				SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
 				sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-				SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(),
-						(hostName, sslSession) -> true);
-				HttpClientBuilder httpClientBuilder = HttpClients.custom();
-				httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
-				setProxyIfNeeded(httpClientBuilder);
-				httpClient = httpClientBuilder.build();
+				sslSocketFactory = new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true);
 			} catch (Exception e) {
 				logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);
-				httpClient = HttpClients.createDefault();
 			}
-		} else {
-			HttpClientBuilder httpClientBuilder = HttpClients.custom();
-			setProxyIfNeeded(httpClientBuilder);
-			httpClient = httpClientBuilder.build();
+		}
+		Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory()).register("https", sslSocketFactory).build();
+
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+		connectionManager.setMaxTotal(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_MAX_TOTAL, "200")));
+		connectionManager.setDefaultMaxPerRoute(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_MAX_PER_ROUTE, "20")));
+		connectionManager.setValidateAfterInactivity(Integer.parseInt(Configuration.get(DIRIGIBLE_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY, "2000")));
+
+		HttpClientBuilder httpClientBuilder = HttpClients.custom();
+		httpClientBuilder.setConnectionManager(connectionManager);
+		setProxyIfNeeded(httpClientBuilder);
+		return new PooledHttpClient(httpClientBuilder.build(), connectionManager, trustAll);
+	}
+
+	/**
+	 * Start the evictor of the expired and the idle connections, unless already started.
+	 */
+	private static void startEvictor() {
+		if (evictor != null) {
+			return;
+		}
+		long idleTimeout = Long.parseLong(Configuration.get(DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, "30000"));
+		evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "dirigible-http-client-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = Math.max(1000, idleTimeout / 2);
+		evictor.scheduleWithFixedDelay(() -> {
+			for (PooledHttpClient pooledHttpClient : CLIENTS.values()) {
+				try {
+					pooledHttpClient.connectionManager.closeExpiredConnections();
+					pooledHttpClient.connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+				} catch (RuntimeException e) {
+					logger.error(e.getMessage(), e);
+				}
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Gets the statistics of the connection pools - one per trust mode and proxy settings.
+	 *
+	 * @return the statistics by pool
+	 */
+	public static Map<String, Map<String, Object>> getPoolStats() {
+		Map<String, Map<String, Object>> stats = new TreeMap<String, Map<String, Object>>();
+		for (Map.Entry<String, PooledHttpClient> entry : CLIENTS.entrySet()) {
+			PoolingHttpClientConnectionManager connectionManager = entry.getValue().connectionManager;
+			PoolStats totalStats = connectionManager.getTotalStats();
+			Map<String, Object> poolStats = new LinkedHashMap<String, Object>();
+			poolStats.put("trustAll", entry.getValue().trustAll);
+			poolStats.put("leased", totalStats.getLeased());
+			poolStats.put("pending", totalStats.getPending());
+			poolStats.put("available", totalStats.getAvailable());
+			poolStats.put("max", totalStats.getMax());
+			poolStats.put("maxPerRoute", connectionManager.getDefaultMaxPerRoute());
+			poolStats.put("routes", connectionManager.getRoutes().size());
+			stats.put(entry.getKey(), poolStats);
+		}
+		return stats;
+	}
+
+	/**
+	 * The shared http client together with its connection manager.
+	 */
+	private static final class PooledHttpClient {
+
+		private final CloseableHttpClient httpClient;
+
+		private final PoolingHttpClientConnectionManager connectionManager;
+
+		private final boolean trustAll;
+
+		/**
+		 * Instantiates a new pooled http client.
+		 *
+		 * @param httpClient
+		 *            the http client
+		 * @param connectionManager
+		 *            the connection manager
+		 * @param trustAll
+		 *            the trust all
+		 */
+		PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager, boolean trustAll) {
+			this.httpClient = httpClient;
+			this.connectionManager = connectionManager;
+			this.trustAll = trustAll;
 		}
 
-		return httpClient;
 	}
 
 	/**
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.api.v3.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.eclipse.dirigible.api.v3.http.client.HttpClientProxyUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The Class HttpClientProxyUtilsTest.
+ */
+public class HttpClientProxyUtilsTest {
+
+	private static final String DEFAULT_POOL = "default|null|null|null"; //$NON-NLS-1$
+
+	private static final String TRUST_ALL_POOL = "trustAll|null|null|null"; //$NON-NLS-1$
+
+	private static final String PROXY_POOL = "default|proxy.invalid|3128|null"; //$NON-NLS-1$
+
+	private static final Set<Integer> CLIENT_PORTS = Collections.synchronizedSet(new HashSet<Integer>());
+
+	private static HttpServer server;
+
+	private static String url;
+
+	/**
+	 * Start the local server, which records the ports of the client connections.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@BeforeClass
+	public static void setUpClass() throws IOException {
+		// read once, when the first pool is created
+		Configuration.set(HttpClientProxyUtils.DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, "1000");
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			CLIENT_PORTS.add(exchange.getRemoteAddress().getPort());
+			byte[] content = "ok".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/plain");
+			exchange.sendResponseHeaders(200, content.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(content);
+			}
+		});
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/";
+	}
+
+	/**
+	 * Stop the local server.
+	 */
+	@AfterClass
+	public static void tearDownClass() {
+		server.stop(0);
+	}
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		CLIENT_PORTS.clear();
+	}
+
+	/**
+	 * The requests with the same options share the pool and its connection.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void sharedPoolTest() throws IOException {
+		CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(false);
+		assertSame(httpClient, HttpClientProxyUtils.getHttpClient(false));
+
+		HttpClientFacade.get(url, "{}");
+		HttpClientFacade.get(url, "{}");
+		assertEquals(1, CLIENT_PORTS.size());
+	}
+
+	/**
+	 * The different proxy settings and trust modes get separate pools.
+	 */
+	@Test
+	public void separatePoolsTest() {
+		CloseableHttpClient defaultClient = HttpClientProxyUtils.getHttpClient(false);
+		CloseableHttpClient trustAllClient = HttpClientProxyUtils.getHttpClient(true);
+		assertNotSame(defaultClient, trustAllClient);
+
+		Configuration.set(HttpClientProxyUtils.HTTP_PROXY_HOST, "proxy.invalid");
+		Configuration.set(HttpClientProxyUtils.HTTP_PROXY_PORT, "3128");
+		CloseableHttpClient proxyClient;
+		try {
+			proxyClient = HttpClientProxyUtils.getHttpClient(false);
+		} finally {
+			Configuration.set(HttpClientProxyUtils.HTTP_PROXY_HOST, null);
+			Configuration.set(HttpClientProxyUtils.HTTP_PROXY_PORT, null);
+		}
+		assertNotSame(defaultClient, proxyClient);
+		assertNotSame(trustAllClient, proxyClient);
+		assertSame(defaultClient, HttpClientProxyUtils.getHttpClient(false));
+
+		Map<String, Map<String, Object>> stats = HttpClientProxyUtils.getPoolStats();
+		assertEquals(Boolean.FALSE, stats.get(DEFAULT_POOL).get("trustAll"));
+		assertEquals(Boolean.TRUE, stats.get(TRUST_ALL_POOL).get("trustAll"));
+		assertEquals(Boolean.FALSE, stats.get(PROXY_POOL).get("trustAll"));
+	}
+
+	/**
+	 * The responses are closed, so their connection is back in the pool and it is leased again by the next request.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void responseClosedTest() throws IOException {
+		for (int i = 0; i < 5; i++) {
+			HttpClientFacade.get(url, "{}");
+			Map<String, Object> stats = HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL);
+			assertEquals(0, stats.get("leased"));
+			assertEquals(1, stats.get("available"));
+		}
+		assertEquals(1, CLIENT_PORTS.size());
+	}
+
+	/**
+	 * The connections idle longer than the idle timeout are closed by the evictor.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void idleEvictionTest() throws IOException, InterruptedException {
+		HttpClientFacade.get(url, "{}");
+		assertEquals(1, HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL).get("available"));
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while (((Integer) HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL).get("available") > 0) && (System.currentTimeMillis() < deadline)) {
+			Thread.sleep(100);
+		}
+		assertEquals(0, HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL).get("available"));
+
+		// the next request opens a new connection
+		HttpClientFacade.get(url, "{}");
+		assertEquals(1, HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL).get("available"));
+		assertEquals(2, CLIENT_PORTS.size());
+		assertTrue((Integer) HttpClientProxyUtils.getPoolStats().get(DEFAULT_POOL).get("routes") >= 1);
+	}
+
+}
@@ -11,17 +11,24 @@
 package org.eclipse.dirigible.api.v3.indexing;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.module.StaticInjector;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
 /**
  * The Class IndexingFacade.
  */
@@ -46,6 +53,43 @@ public class IndexingFacade implements IScriptingFacade {
 		indexingCoreService.add(index, location, contents.getBytes(StandardCharsets.UTF_8), Long.parseLong(lastModified), map);
 	}
 
+	/**
+	 * Adds a batch of documents to an index.
+	 *
+	 * @param index the index
+	 * @param documents the documents as JSON array of objects with location, contents, lastModified and parameters
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final void addAll(String index, String documents) throws IndexingException {
+		JsonArray array = GsonHelper.PARSER.parse(documents).getAsJsonArray();
+		List<IndexingDocument> list = new ArrayList<IndexingDocument>(array.size());
+		for (JsonElement element : array) {
+			JsonObject object = element.getAsJsonObject();
+			IndexingDocument document = new IndexingDocument();
+			document.setLocation(object.get("location").getAsString());
+			JsonElement contents = object.get("contents");
+			document.setContents(((contents != null) && !contents.isJsonNull()) ? contents.getAsString().getBytes(StandardCharsets.UTF_8) : new byte[0]);
+			JsonElement lastModified = object.get("lastModified");
+			document.setLastModified(((lastModified != null) && !lastModified.isJsonNull()) ? lastModified.getAsLong() : System.currentTimeMillis());
+			JsonElement parameters = object.get("parameters");
+			if ((parameters != null) && parameters.isJsonObject()) {
+				document.setParameters(GsonHelper.GSON.fromJson(parameters, Map.class));
+			}
+			list.add(document);
+		}
+		indexingCoreService.addAll(index, list);
+	}
+
+	/**
+	 * Commit the pending changes of an index.
+	 *
+	 * @param index the index
+	 * @throws IndexingException the indexing exception
+	 */
+	public static final void commit(String index) throws IndexingException {
+		indexingCoreService.commit(index);
+	}
+
 	/**
 	 * Search an index by term.
 	 *
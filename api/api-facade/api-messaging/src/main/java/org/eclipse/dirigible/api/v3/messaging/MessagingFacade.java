@@ -10,16 +10,55 @@
  */
 package org.eclipse.dirigible.api.v3.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.api.scripting.IScriptingFacade;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
 import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
 import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
 
+import com.google.gson.JsonElement;
+
 /**
  * The Class MessagingFacade.
  */
 public class MessagingFacade implements IScriptingFacade {
 
+	/** The Constant DIRIGIBLE_MESSAGING_SENDER_QUEUE_SIZE. */
+	public static final String DIRIGIBLE_MESSAGING_SENDER_QUEUE_SIZE = "DIRIGIBLE_MESSAGING_SENDER_QUEUE_SIZE"; //$NON-NLS-1$
+
+	private static final String DEFAULT_SENDER_QUEUE_SIZE = "1000"; //$NON-NLS-1$
+
+	/**
+	 * The sender of the asynchronous messages, instead of a new thread per message. Its queue is bounded - when it is
+	 * full, the message is sent by the calling thread, which slows down the producer instead of piling up the messages
+	 * in memory.
+	 */
+	private static final ExecutorService SENDER = createSender();
+
+	/**
+	 * Creates the sender of the asynchronous messages.
+	 *
+	 * @return the executor service
+	 */
+	private static ExecutorService createSender() {
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		int queueSize = Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_SENDER_QUEUE_SIZE, DEFAULT_SENDER_QUEUE_SIZE));
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueSize), runnable -> {
+			Thread thread = new Thread(runnable, "dirigible-messaging-sender"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
 	/**
 	 * Send a message to queue.
 	 *
@@ -28,7 +67,7 @@ public class MessagingFacade implements IScriptingFacade {
 	 */
 	public static final void sendToQueue(String destination, String message) {
 		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.QUEUE, message);
-		new Thread(producer).start();
+		SENDER.execute(producer);
 	}
 	
 	/**
@@ -39,7 +78,29 @@ public class MessagingFacade implements IScriptingFacade {
 	 */
 	public static final void sendToTopic(String destination, String message) {
 		MessagingProducer producer = new MessagingProducer(destination, IMessagingCoreService.TOPIC, message);
-		new Thread(producer).start();
+		SENDER.execute(producer);
+	}
+	
+	/**
+	 * Send messages to queue in a single transaction.
+	 *
+	 * @param destination the destination
+	 * @param messages the messages as JSON array of strings
+	 * @throws MessagingException in case the messages cannot be sent
+	 */
+	public static final void sendToQueueBatch(String destination, String messages) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.QUEUE, parseMessages(messages));
+	}
+	
+	/**
+	 * Send messages to topic in a single transaction.
+	 *
+	 * @param destination the destination
+	 * @param messages the messages as JSON array of strings
+	 * @throws MessagingException in case the messages cannot be sent
+	 */
+	public static final void sendToTopicBatch(String destination, String messages) throws MessagingException {
+		MessagingProducer.sendBatch(destination, IMessagingCoreService.TOPIC, parseMessages(messages));
 	}
 	
 	/**
@@ -66,4 +127,18 @@ public class MessagingFacade implements IScriptingFacade {
 		return consumer.receiveMessage();
 	}
 	
+	/**
+	 * Parses the messages.
+	 *
+	 * @param messages the messages as JSON array of strings
+	 * @return the messages
+	 */
+	private static List<String> parseMessages(String messages) {
+		List<String> list = new ArrayList<String>();
+		for (JsonElement element : GsonHelper.PARSER.parse(messages).getAsJsonArray()) {
+			list.add(element.isJsonPrimitive() ? element.getAsString() : element.toString());
+		}
+		return list;
+	}
+	
 }
@@ -30,3 +30,12 @@ exports.execute = function(sql, parameters, databaseType, datasourceName) {
 	}
 	return resultset;
 };
+
+exports.executePage = function(sql, parameters, offset, limit, databaseType, datasourceName) {
+	var resultset = java.call('org.eclipse.dirigible.api.v3.db.DatabaseFacade', 'query',
+		[sql, parameters ? parameters : null, databaseType ? databaseType : null, datasourceName ? datasourceName : null, offset ? offset : 0, limit ? limit : 0]);
+	if (resultset) {
+		return JSON.parse(resultset);
+	}
+	return resultset;
+};
@@ -47,6 +47,11 @@ exports.trace = function(url, options) {
 	return request(url, 'trace', options);
 };
 
+exports.getPoolStats = function() {
+	var result = java.call('org.eclipse.dirigible.api.v3.http.HttpClientFacade', 'getPoolStats', []);
+	return JSON.parse(result);
+};
+
 function buildUrl(url, options) {
 	if (options === undefined || options === null || options.params === undefined || options.params === null || options.params.length === 0) {
 		return url;
@@ -170,6 +170,14 @@ exports.getBytes = function() {
 	return bytes;
 };
 
+exports.getInputStream = function() {
+	var streams = require("io/v3/streams");
+	var inputStreamInstance = java.call('org.eclipse.dirigible.api.v3.http.HttpRequestFacade', 'getInputStream', [], true);
+	var inputStream = new streams.InputStream();
+	inputStream.uuid = inputStreamInstance.uuid;
+	return inputStream;
+};
+
 var getText = exports.getText = function() {
 	if (__engine === 'rhino') {
 		return org.eclipse.dirigible.api.v3.http.HttpRequestFacade.getText();
@@ -20,3 +20,22 @@ exports.add = function(index, location, contents, lastModified, parameters) {
 	}
 	java.call('org.eclipse.dirigible.api.v3.indexing.IndexingFacade', 'add', [index, location, contents, '' + lastModified.getTime(), map]);
 };
+
+exports.addAll = function(index, documents) {
+	var batch = [];
+	for (var i = 0; i < documents.length; i++) {
+		var document = documents[i];
+		var lastModified = document.lastModified ? document.lastModified : new Date();
+		batch.push({
+			'location': document.location,
+			'contents': document.contents,
+			'lastModified': lastModified.getTime(),
+			'parameters': document.parameters ? document.parameters : {}
+		});
+	}
+	java.call('org.eclipse.dirigible.api.v3.indexing.IndexingFacade', 'addAll', [index, JSON.stringify(batch)]);
+};
+
+exports.commit = function(index) {
+	java.call('org.eclipse.dirigible.api.v3.indexing.IndexingFacade', 'commit', [index]);
+};
@@ -26,12 +26,20 @@ function Queue() {
 	this.send = function(message) {
 		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToQueue', [this.destination, message]);
 	}
+
+	this.sendBatch = function(messages) {
+		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToQueueBatch', [this.destination, JSON.stringify(messages)]);
+	}
 };
 
 function Topic() {
 	this.send = function(message) {
 		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToTopic', [this.destination, message]);
 	}
+
+	this.sendBatch = function(messages) {
+		java.call('org.eclipse.dirigible.api.v3.messaging.MessagingFacade', 'sendToTopicBatch', [this.destination, JSON.stringify(messages)]);
+	}
 };
 
 
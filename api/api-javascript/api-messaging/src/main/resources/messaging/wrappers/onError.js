@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2010-2019 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+/*
+ * Invoked by the listener workers - the handler module and the error are passed via the execution context
+ */
+function getParameter(name) {
+	// a Java map in Rhino and Nashorn, a plain object in V8
+	return (typeof __context.get === 'function') ? __context.get(name) : __context[name];
+}
+
+var handler = require(getParameter('handler'));
+handler.onError(getParameter('error'));
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010-2019 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+/*
+ * Invoked by the listener workers - the handler module and the batch of received messages are passed via the execution
+ * context. The handler is resolved once for the whole batch.
+ */
+function getParameter(name) {
+	// a Java map in Rhino and Nashorn, a plain object in V8
+	return (typeof __context.get === 'function') ? __context.get(name) : __context[name];
+}
+
+var handler = require(getParameter('handler'));
+var messages = getParameter('messages');
+// a Java list in Rhino and Nashorn, an array in V8
+var count = (typeof messages.size === 'function') ? messages.size() : messages.length;
+var failures = [];
+for (var i = 0; i < count; i++) {
+	try {
+		handler.onMessage((typeof messages.get === 'function') ? messages.get(i) : messages[i]);
+	} catch (e) {
+		// the rest of the batch is still handled
+		failures.push(e);
+	}
+}
+if (failures.length > 0) {
+	throw new Error('Handling of ' + failures.length + ' of ' + count + ' messages failed, the first with: ' + failures[0]);
+}
@@ -10,7 +10,10 @@
  */
 package org.eclipse.dirigible.runtime.databases.processor;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -41,6 +44,8 @@ public class DatabaseProcessor {
 
 	private boolean LIMITED = true;
 
+	private static final int EXPORT_FETCH_SIZE = 1000;
+
 	@Inject
 	private IDatabase database;
 
@@ -122,6 +127,51 @@ public class DatabaseProcessor {
 		return null;
 	}
 
+	/**
+	 * Export the result of a single query as JSON to the writer. The records are streamed one by one, so the whole
+	 * result is never kept in memory.
+	 *
+	 * @param type
+	 *            the type
+	 * @param name
+	 *            the name
+	 * @param sql
+	 *            the sql
+	 * @param offset
+	 *            the number of the records to be skipped
+	 * @param limit
+	 *            the maximum number of the records, 0 for all
+	 * @param writer
+	 *            the writer
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void exportQuery(String type, String name, String sql, int offset, int limit, Writer writer) throws SQLException, IOException {
+		DataSource dataSource = getDataSource(type, name);
+		Connection connection = dataSource.getConnection();
+		try {
+			PreparedStatement preparedStatement = connection.prepareStatement(sql);
+			try {
+				if (limit > 0) {
+					preparedStatement.setMaxRows(offset + limit);
+				}
+				preparedStatement.setFetchSize(EXPORT_FETCH_SIZE);
+				ResultSet resultSet = preparedStatement.executeQuery();
+				try {
+					DatabaseResultSetHelper.toJson(resultSet, offset, limit, writer);
+				} finally {
+					resultSet.close();
+				}
+			} finally {
+				preparedStatement.close();
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
 	/**
 	 * Execute update.
 	 *
@@ -12,6 +12,11 @@ package org.eclipse.dirigible.runtime.databases.service;
 
 import static java.text.MessageFormat.format;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
@@ -27,10 +32,12 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
@@ -60,6 +67,10 @@ public class DatabaseRestService extends AbstractRestService implements IRestSer
 
 	private static final Logger logger = LoggerFactory.getLogger(DatabaseRestService.class);
 
+	private static final String PARAMETER_OFFSET = "offset"; //$NON-NLS-1$
+
+	private static final String PARAMETER_LIMIT = "limit"; //$NON-NLS-1$
+
 	@Inject
 	private DatabaseProcessor processor;
 
@@ -236,6 +247,80 @@ public class DatabaseRestService extends AbstractRestService implements IRestSer
 		return Response.ok().entity(result).type(MediaType.APPLICATION_JSON).build();
 	}
 
+	/**
+	 * Export the result of a query as JSON. The records are streamed directly to the response, optionally only the page
+	 * defined by the offset and limit request parameters.
+	 *
+	 * @param type
+	 *            the type
+	 * @param name
+	 *            the name
+	 * @param sql
+	 *            the sql
+	 * @param request
+	 *            the request
+	 * @return the response
+	 */
+	@POST
+	@Path("{type}/{name}/export")
+	@Produces(MediaType.APPLICATION_JSON)
+	@ApiOperation("Executes a query operation on the datasource {name} and {type} and streams the whole result in JSON format")
+	@ApiResponses({ @ApiResponse(code = 200, message = "Query executed successfully", response = String.class),
+			@ApiResponse(code = 404, message = "Datasource with {name} for the requested database {type} does not exist") })
+	public Response exportQuery(@ApiParam(value = "Database Type", required = true) @PathParam("type") String type,
+			@ApiParam(value = "DataSource Name", required = true) @PathParam("name") String name, byte[] sql, @Context HttpServletRequest request) {
+		String user = UserFacade.getName();
+		if (user == null) {
+			sendErrorForbidden(response, NO_LOGGED_IN_USER);
+			return Response.status(Status.FORBIDDEN).build();
+		}
+
+		if (!processor.existsDatabase(type, name)) {
+			String error = format("Datasource {0} does not exist as {1}.", name, type);
+			sendErrorNotFound(response, error);
+			return Response.status(Status.NOT_FOUND).entity(error).build();
+		}
+
+		int offset = getIntParameter(request, PARAMETER_OFFSET);
+		int limit = getIntParameter(request, PARAMETER_LIMIT);
+		String query = new String(sql, StandardCharsets.UTF_8);
+		StreamingOutput stream = new StreamingOutput() {
+			@Override
+			public void write(OutputStream output) throws IOException, WebApplicationException {
+				Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+				try {
+					processor.exportQuery(type, name, query, offset, limit, writer);
+				} catch (SQLException e) {
+					logger.error(e.getMessage(), e);
+					throw new WebApplicationException(e);
+				}
+				writer.flush();
+			}
+		};
+		return Response.ok(stream).type(MediaType.APPLICATION_JSON).build();
+	}
+
+	/**
+	 * Gets a non-negative integer request parameter.
+	 *
+	 * @param request
+	 *            the request
+	 * @param name
+	 *            the name of the parameter
+	 * @return the value or 0, if the parameter is not set
+	 */
+	private int getIntParameter(HttpServletRequest request, String name) {
+		String value = request.getParameter(name);
+		if ((value == null) || value.isEmpty()) {
+			return 0;
+		}
+		try {
+			return Math.max(0, Integer.parseInt(value));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
 	/**
 	 * Execute update.
 	 *
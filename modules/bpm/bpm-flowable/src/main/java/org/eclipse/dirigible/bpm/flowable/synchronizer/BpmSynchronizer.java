@@ -115,7 +115,9 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 				synchronizePredelivered();
 				synchronizeRegistry();
 				updateProcessEngine();
-				cleanup();
+				if (isFullSynchronization()) {
+					cleanup();
+				}
 				clearCache();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for BPMN files failed.", e);
@@ -229,7 +231,7 @@ public class BpmSynchronizer extends AbstractSynchronizer {
 	}
 	
 	private void updateProcessEngine() {
-		if (BPMN_SYNCHRONIZED.isEmpty()) {
+		if (BPMN_SYNCHRONIZED.isEmpty() || !isFullSynchronization()) {
 			logger.trace("No BPMN files to update.");
 			return;
 		}
@@ -10,7 +10,6 @@
  */
 package org.eclipse.dirigible.cms.internal;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -55,9 +54,9 @@ public class Document extends CmisObject {
 	 * @throws IOException IO Exception
 	 */
 	public ContentStream getContentStream() throws IOException {
-		byte[] content = this.internalResource.getContent();
-		return new ContentStream(session, this.internalResource.getName(), content.length, this.internalResource.getContentType(),
-				new ByteArrayInputStream(content));
+		Long size = this.internalResource.getInformation().getSize();
+		return new ContentStream(session, this.internalResource.getName(), (size != null) ? size : -1, this.internalResource.getContentType(),
+				this.internalResource.getContentStream());
 	}
 
 }
@@ -10,14 +10,12 @@
  */
 package org.eclipse.dirigible.cms.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.chemistry.opencmis.commons.enums.VersioningState;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
@@ -109,10 +107,12 @@ public class Folder extends CmisObject {
 	public Document createDocument(Map<String, String> properties, ContentStream contentStream,
 			VersioningState versioningState) throws IOException {
 		String name = properties.get(CmisConstants.NAME);
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		IOUtils.copy(contentStream.getStream(), out);
-		return new Document(this.session,
-				this.internalFolder.createResource(name, out.toByteArray(), true, contentStream.getMimeType()));
+		IResource resource = this.internalFolder.getResource(name);
+		if (resource.exists()) {
+			throw new IOException(String.format("Document with name: %s already exists", name));
+		}
+		resource.setContent(contentStream.getStream(), contentStream.getLength(), true, contentStream.getMimeType());
+		return new Document(this.session, resource);
 	}
 
 	public List<CmisObject> getChildren() throws IOException {
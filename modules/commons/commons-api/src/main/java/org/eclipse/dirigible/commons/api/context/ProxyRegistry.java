@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.commons.api.context;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The request scoped registry of the proxy objects - the Java objects handed to the scripts by id. The ids are
+ * tagged with a prefix, so that the ordinary strings passed by the scripts can be recognized without a lookup, and
+ * the entries are kept in an open-addressing map keyed by the numeric part of the id. The objects set by the callers
+ * under their own keys, which are not proxy ids, are kept in a separate map. The registry is not thread safe and is
+ * meant to be bound to a single request thread.
+ */
+public class ProxyRegistry {
+
+	/** The Constant PROXY_ID_PREFIX. */
+	public static final String PROXY_ID_PREFIX = "$proxy:"; //$NON-NLS-1$
+
+	private static final int RADIX = Character.MAX_RADIX;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+	private static final AtomicLong TOTAL_CREATED = new AtomicLong();
+
+	private static final AtomicLong TOTAL_REQUESTS = new AtomicLong();
+
+	private static final AtomicLong MAX_PEAK = new AtomicLong();
+
+	// 0 is never generated, so it marks the free slots
+	private long[] keys = new long[INITIAL_CAPACITY];
+
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	// the objects set under keys, which are not proxy ids, created on demand
+	private Map<String, Object> untagged;
+
+	private int size;
+
+	private int created;
+
+	private int peak;
+
+	/**
+	 * Checks whether the string has the format of a proxy id.
+	 *
+	 * @param id
+	 *            the string
+	 * @return true, if it is a proxy id
+	 */
+	public static boolean isProxyId(String id) {
+		return id.startsWith(PROXY_ID_PREFIX);
+	}
+
+	/**
+	 * Adds the object and returns its id.
+	 *
+	 * @param value
+	 *            the object
+	 * @return the proxy id
+	 */
+	public String add(Object value) {
+		long key = ID_GENERATOR.incrementAndGet();
+		put(key, value);
+		created++;
+		if (size() > peak) {
+			peak = size();
+		}
+		return PROXY_ID_PREFIX + Long.toString(key, RADIX);
+	}
+
+	/**
+	 * Gets the object by its id.
+	 *
+	 * @param id
+	 *            the proxy id
+	 * @return the object or null, if the id is unknown
+	 */
+	public Object get(String id) {
+		long key = parse(id);
+		if (key == 0) {
+			return (untagged == null) ? null : untagged.get(id);
+		}
+		int index = indexOf(key);
+		return (index < 0) ? null : values[index];
+	}
+
+	/**
+	 * Sets or replaces the object with the given id. An id, which is not a proxy id, is kept as it is in a separate
+	 * map.
+	 *
+	 * @param id
+	 *            the id
+	 * @param value
+	 *            the object
+	 */
+	public void set(String id, Object value) {
+		long key = parse(id);
+		if (key == 0) {
+			if (untagged == null) {
+				untagged = new HashMap<String, Object>();
+			}
+			untagged.put(id, value);
+		} else {
+			put(key, value);
+		}
+		if (size() > peak) {
+			peak = size();
+		}
+	}
+
+	/**
+	 * Removes the object with the given id.
+	 *
+	 * @param id
+	 *            the proxy id
+	 */
+	public void remove(String id) {
+		long key = parse(id);
+		if (key == 0) {
+			if (untagged != null) {
+				untagged.remove(id);
+			}
+			return;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return;
+		}
+		// backward shift deletion keeps the probe sequences intact without tombstones
+		int mask = keys.length - 1;
+		int free = index;
+		int next = (free + 1) & mask;
+		while (keys[next] != 0) {
+			int home = slot(keys[next], mask);
+			if (((next - home) & mask) >= ((next - free) & mask)) {
+				keys[free] = keys[next];
+				values[free] = values[next];
+				free = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[free] = 0;
+		values[free] = null;
+		size--;
+	}
+
+	/**
+	 * Clears the registry and records its statistics.
+	 */
+	public void clear() {
+		TOTAL_CREATED.addAndGet(created);
+		TOTAL_REQUESTS.incrementAndGet();
+		long currentMax;
+		while (peak > (currentMax = MAX_PEAK.get())) {
+			if (MAX_PEAK.compareAndSet(currentMax, peak)) {
+				break;
+			}
+		}
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		size = 0;
+		untagged = null;
+	}
+
+	/**
+	 * Gets the number of the current entries.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return (untagged == null) ? size : (size + untagged.size());
+	}
+
+	/**
+	 * Gets the number of the proxies created in this registry.
+	 *
+	 * @return the created
+	 */
+	public int getCreated() {
+		return created;
+	}
+
+	/**
+	 * Gets the peak number of entries in this registry.
+	 *
+	 * @return the peak
+	 */
+	public int getPeak() {
+		return peak;
+	}
+
+	/**
+	 * Gets the total number of proxies created in all the completed requests.
+	 *
+	 * @return the total created
+	 */
+	public static long getTotalCreated() {
+		return TOTAL_CREATED.get();
+	}
+
+	/**
+	 * Gets the number of the completed requests.
+	 *
+	 * @return the total requests
+	 */
+	public static long getTotalRequests() {
+		return TOTAL_REQUESTS.get();
+	}
+
+	/**
+	 * Gets the maximum of the peak entries per request.
+	 *
+	 * @return the max peak
+	 */
+	public static long getMaxPeak() {
+		return MAX_PEAK.get();
+	}
+
+	/**
+	 * Parses the numeric part of the id.
+	 *
+	 * @param id
+	 *            the id
+	 * @return the key or 0, if the id is not a valid proxy id
+	 */
+	private static long parse(String id) {
+		if ((id == null) || !isProxyId(id)) {
+			return 0;
+		}
+		try {
+			return Long.parseLong(id.substring(PROXY_ID_PREFIX.length()), RADIX);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Puts the entry.
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	private void put(long key, Object value) {
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length * 2);
+		}
+		int mask = keys.length - 1;
+		int index = slot(key, mask);
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				values[index] = value;
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+	}
+
+	/**
+	 * Index of the key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index or -1
+	 */
+	private int indexOf(long key) {
+		int mask = keys.length - 1;
+		int index = slot(key, mask);
+		while (keys[index] != 0) {
+			if (keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Resize the tables.
+	 *
+	 * @param capacity
+	 *            the new capacity
+	 */
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new long[capacity];
+		values = new Object[capacity];
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	/**
+	 * The home slot of the key.
+	 *
+	 * @param key
+	 *            the key
+	 * @param mask
+	 *            the mask
+	 * @return the slot
+	 */
+	private static int slot(long key, int mask) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+}
@@ -27,7 +27,7 @@ public class ThreadContextFacade {
 
 	private static final ThreadLocal<Map<String, Object>> CONTEXT = new ThreadLocal<Map<String, Object>>();
 
-	private static final ThreadLocal<Map<String, Object>> PROXIES = new ThreadLocal<Map<String, Object>>();
+	private static final ThreadLocal<ProxyRegistry> PROXIES = new ThreadLocal<ProxyRegistry>();
 
 	private static final AtomicLong UUID_GENERATOR = new AtomicLong(Long.MIN_VALUE);
 
@@ -39,7 +39,7 @@ public class ThreadContextFacade {
 	 */
 	public static final void setUp() throws ContextException {
 		CONTEXT.set(new HashMap<String, Object>());
-		PROXIES.set(new HashMap<String, Object>());
+		PROXIES.set(new ProxyRegistry());
 		logger.trace("Scripting context {} has been set up", Thread.currentThread().hashCode());
 	}
 
@@ -52,9 +52,11 @@ public class ThreadContextFacade {
 	public static final void tearDown() throws ContextException {
 		CONTEXT.get().clear();
 		CONTEXT.remove();
-		PROXIES.get().clear();
+		ProxyRegistry proxies = PROXIES.get();
+		proxies.clear();
 		PROXIES.remove();
-		logger.trace("Scripting context {} has been torn up", Thread.currentThread().hashCode());
+		logger.trace("Scripting context {} has been torn up - proxies created: {}, peak entries: {}", Thread.currentThread().hashCode(),
+				proxies.getCreated(), proxies.getPeak());
 	}
 
 	/**
@@ -153,6 +155,18 @@ public class ThreadContextFacade {
 		return PROXIES.get().get(key);
 	}
 
+	/**
+	 * Checks whether the string has the format of a proxy object id. Only such strings have to be looked up by
+	 * {@link #getProxy(String)}.
+	 *
+	 * @param key
+	 *            the key
+	 * @return true, if it is a proxy id
+	 */
+	public static final boolean isProxyId(String key) {
+		return ProxyRegistry.isProxyId(key);
+	}
+
 	/**
 	 * Set a proxy scripting object.
 	 *
@@ -163,11 +177,36 @@ public class ThreadContextFacade {
 	 *             in case of an error
 	 */
 	public static final String setProxy(Object value) throws ContextException {
-		final String uuid = generateObjectId();
-		setProxy(uuid, value);
+		checkContext();
+		final String uuid = PROXIES.get().add(value);
+		logger.trace("Proxy object has been added to {} with key {}", Thread.currentThread().hashCode(), uuid);
 		return uuid;
 	}
 
+	/**
+	 * Gets the number of proxy objects created in the current context.
+	 *
+	 * @return the proxies created
+	 * @throws ContextException
+	 *             in case of an error
+	 */
+	public static final int getProxiesCreated() throws ContextException {
+		checkContext();
+		return PROXIES.get().getCreated();
+	}
+
+	/**
+	 * Gets the peak number of proxy objects held at once in the current context.
+	 *
+	 * @return the proxies peak
+	 * @throws ContextException
+	 *             in case of an error
+	 */
+	public static final int getProxiesPeak() throws ContextException {
+		checkContext();
+		return PROXIES.get().getPeak();
+	}
+
 	/**
 	 * Generate object id.
 	 *
@@ -180,7 +219,8 @@ public class ThreadContextFacade {
 	/**
 	 * Set a proxy scripting object. If proxy object
 	 * with this key exists, it will be replaced with
-	 * the new object
+	 * the new object. The key can be a proxy id or
+	 * any other string.
 	 *
 	 * @param key
 	 *            the key
@@ -191,7 +231,7 @@ public class ThreadContextFacade {
 	 */
 	public static final void setProxy(String key, Object value) throws ContextException {
 		checkContext();
-		PROXIES.get().put(key, value);
+		PROXIES.get().set(key, value);
 		logger.trace("Proxy object has been added to {} with key {}", Thread.currentThread().hashCode(), key);
 	}
 
@@ -13,11 +13,16 @@ package org.eclipse.dirigible.commons.api.helpers;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Date;
 
@@ -33,6 +38,7 @@ public class FileSystemUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(FileSystemUtils.class);
 	private static final String SEPARATOR = "/";
+	private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
 
 	/**
 	 * Save file.
@@ -55,6 +61,55 @@ public class FileSystemUtils {
 		Files.write(path, content);
 	}
 
+	/**
+	 * Save file from a stream, which is read to its end, but is not closed. The content is transferred through a file
+	 * channel in chunks, without being loaded in memory as a whole.
+	 *
+	 * @param workspacePath
+	 *            the workspace path
+	 * @param content
+	 *            the content
+	 * @throws FileNotFoundException
+	 *             the file not found exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void saveFile(String workspacePath, InputStream content) throws FileNotFoundException, IOException {
+		createFoldersIfNecessary(workspacePath);
+		Path path = FileSystems.getDefault().getPath(FilenameUtils.normalize(workspacePath));
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			if (content == null) {
+				return;
+			}
+			ReadableByteChannel source = Channels.newChannel(content);
+			long position = 0;
+			long transferred;
+			while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+				position += transferred;
+			}
+		}
+	}
+
+	/**
+	 * Open file for reading through a file channel.
+	 *
+	 * @param workspacePath
+	 *            the workspace path
+	 * @return the stream, which has to be closed by the caller, or null if there is no such file
+	 * @throws FileNotFoundException
+	 *             the file not found exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static InputStream openFile(String workspacePath) throws FileNotFoundException, IOException {
+		Path path = FileSystems.getDefault().getPath(workspacePath);
+		if (path.toFile().exists()) {
+			return Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+		}
+		return null;
+	}
+
 	/**
 	 * Load file.
 	 *
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.commons.api.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * The Class ProxyRegistryTest.
+ */
+public class ProxyRegistryTest {
+
+	/**
+	 * Test add, get and remove across the resizes.
+	 */
+	@Test
+	public void testAddGetRemove() {
+		ProxyRegistry registry = new ProxyRegistry();
+		List<String> ids = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			ids.add(registry.add(Integer.valueOf(i)));
+		}
+		assertEquals(1000, registry.size());
+		for (int i = 0; i < 1000; i += 2) {
+			registry.remove(ids.get(i));
+		}
+		assertEquals(500, registry.size());
+		for (int i = 0; i < 1000; i++) {
+			if ((i % 2) == 0) {
+				assertNull(registry.get(ids.get(i)));
+			} else {
+				assertEquals(Integer.valueOf(i), registry.get(ids.get(i)));
+			}
+		}
+		assertEquals(1000, registry.getCreated());
+		assertEquals(1000, registry.getPeak());
+	}
+
+	/**
+	 * Test that the ordinary strings are not recognized as proxy ids.
+	 */
+	@Test
+	public void testProxyIdFormat() {
+		ProxyRegistry registry = new ProxyRegistry();
+		String id = registry.add(new Object());
+		assertTrue(ProxyRegistry.isProxyId(id));
+		assertFalse(ProxyRegistry.isProxyId("some text"));
+		assertNull(registry.get("some text"));
+		assertNull(registry.get(ProxyRegistry.PROXY_ID_PREFIX + "not-a-number"));
+	}
+
+	/**
+	 * Test that the objects can be set under keys, which are not proxy ids.
+	 */
+	@Test
+	public void testUntaggedKeys() {
+		ProxyRegistry registry = new ProxyRegistry();
+		String id = registry.add("tagged");
+		Object value = new Object();
+		registry.set("custom-key", value);
+		assertEquals(value, registry.get("custom-key"));
+		assertEquals("tagged", registry.get(id));
+		assertEquals(2, registry.size());
+
+		// replaced as the proxy ids are
+		registry.set("custom-key", "replaced");
+		assertEquals("replaced", registry.get("custom-key"));
+		assertEquals(2, registry.size());
+
+		registry.remove("custom-key");
+		assertNull(registry.get("custom-key"));
+		assertEquals(1, registry.size());
+
+		registry.set("other-key", value);
+		registry.clear();
+		assertNull(registry.get("other-key"));
+		assertEquals(0, registry.size());
+	}
+
+	/**
+	 * Test the statistics after clear.
+	 */
+	@Test
+	public void testStatistics() {
+		long totalCreated = ProxyRegistry.getTotalCreated();
+		ProxyRegistry registry = new ProxyRegistry();
+		registry.add(new Object());
+		registry.add(new Object());
+		registry.clear();
+		assertEquals(0, registry.size());
+		assertEquals(totalCreated + 2, ProxyRegistry.getTotalCreated());
+		assertTrue(ProxyRegistry.getMaxPeak() >= 2);
+	}
+
+}
@@ -0,0 +1,500 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.commons.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Size bounded LRU cache of the content of the served resources, keyed by their path and their modification time. Each
+ * entry carries a strong entity tag derived from the content hash and the compressed variants of the content, so that
+ * they are computed once per version of the resource. A resource bigger than the maximum entry size is kept only with
+ * its entity tag, without the content.
+ */
+public class ContentCache {
+
+	/** The Constant ENCODING_GZIP. */
+	public static final String ENCODING_GZIP = "gzip";
+
+	/** The Constant ENCODING_BROTLI. */
+	public static final String ENCODING_BROTLI = "br";
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final long maxSize;
+
+	private final long maxEntrySize;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true);
+
+	private long size;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Instantiates a new content cache.
+	 *
+	 * @param maxSize
+	 *            the maximum total size of the cached content in bytes
+	 * @param maxEntrySize
+	 *            the maximum size of the content of a single entry in bytes
+	 */
+	public ContentCache(long maxSize, long maxEntrySize) {
+		this.maxSize = maxSize;
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	/**
+	 * Gets the entry of the given version of the resource.
+	 *
+	 * @param path
+	 *            the path
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @return the entry or null, if there is no such version cached
+	 */
+	public Entry get(String path, long modifiedAt) {
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(path);
+		}
+		if ((entry != null) && (entry.getModifiedAt() == modifiedAt)) {
+			hits.incrementAndGet();
+			return entry;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Cache the given version of the resource. The gzip variant is computed for the compressible content, while the
+	 * brotli one, if any, has to be provided precompressed.
+	 *
+	 * @param path
+	 *            the path
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @param content
+	 *            the content
+	 * @param contentType
+	 *            the content type
+	 * @param compressible
+	 *            whether the content is worth compressing
+	 * @param brotli
+	 *            the precompressed brotli variant or null
+	 * @return the entry with the content, regardless of whether the content itself is kept in the cache
+	 */
+	public Entry put(String path, long modifiedAt, byte[] content, String contentType, boolean compressible, byte[] brotli) {
+		String tag = generateTag(content);
+		if (content.length > maxEntrySize) {
+			store(path, new Entry(modifiedAt, null, content.length, contentType, tag, null, null));
+			return new Entry(modifiedAt, content, content.length, contentType, tag, null, null);
+		}
+		byte[] gzip = compressible ? gzip(content) : null;
+		Entry entry = new Entry(modifiedAt, content, content.length, contentType, tag, gzip, brotli);
+		store(path, entry);
+		return entry;
+	}
+
+	/**
+	 * Cache the given version of the resource read from a stream, which is not closed. The entity tag is computed while
+	 * reading, and the content is buffered only up to the maximum entry size, so that a big resource does not have to
+	 * be loaded in memory as a whole.
+	 *
+	 * @param path
+	 *            the path
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @param content
+	 *            the content stream
+	 * @param contentType
+	 *            the content type
+	 * @param compressible
+	 *            whether the content is worth compressing
+	 * @param brotli
+	 *            the precompressed brotli variant or null
+	 * @return the entry, which is without content in case of a big resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public Entry put(String path, long modifiedAt, InputStream content, String contentType, boolean compressible, byte[] brotli)
+			throws IOException {
+		Entry entry = load(modifiedAt, content, contentType, compressible, brotli);
+		store(path, entry);
+		return entry;
+	}
+
+	/**
+	 * Creates the entry of the resource read from a stream, which is not closed, without caching it - e.g. for a
+	 * resource, which version is not known, so that the cached entry could not be revalidated. The content is buffered
+	 * only up to the maximum entry size.
+	 *
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @param content
+	 *            the content stream
+	 * @param contentType
+	 *            the content type
+	 * @param compressible
+	 *            whether the content is worth compressing
+	 * @param brotli
+	 *            the precompressed brotli variant or null
+	 * @return the entry, which is without content in case of a big resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public Entry load(long modifiedAt, InputStream content, String contentType, boolean compressible, byte[] brotli) throws IOException {
+		MessageDigest digest = createDigest();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		long length = 0;
+		int read;
+		while ((read = content.read(chunk)) != -1) {
+			digest.update(chunk, 0, read);
+			length += read;
+			if (buffer != null) {
+				if (length > maxEntrySize) {
+					buffer = null;
+				} else {
+					buffer.write(chunk, 0, read);
+				}
+			}
+		}
+		String tag = formatTag(digest.digest());
+		if (buffer == null) {
+			return new Entry(modifiedAt, null, length, contentType, tag, null, null);
+		}
+		byte[] bytes = buffer.toByteArray();
+		byte[] gzip = compressible ? gzip(bytes) : null;
+		return new Entry(modifiedAt, bytes, bytes.length, contentType, tag, gzip, brotli);
+	}
+
+	/**
+	 * Store the entry and evict the least recently used ones over the maximum size.
+	 *
+	 * @param path
+	 *            the path
+	 * @param entry
+	 *            the entry
+	 */
+	private void store(String path, Entry entry) {
+		synchronized (entries) {
+			Entry previous = entries.put(path, entry);
+			if (previous != null) {
+				size -= previous.getWeight();
+			}
+			size += entry.getWeight();
+			Iterator<Entry> iterator = entries.values().iterator();
+			while ((size > maxSize) && iterator.hasNext()) {
+				Entry eldest = iterator.next();
+				if (eldest == entry) {
+					continue;
+				}
+				size -= eldest.getWeight();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove the entry of the resource.
+	 *
+	 * @param path
+	 *            the path
+	 */
+	public void remove(String path) {
+		synchronized (entries) {
+			Entry previous = entries.remove(path);
+			if (previous != null) {
+				size -= previous.getWeight();
+			}
+		}
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+			size = 0;
+		}
+	}
+
+	/**
+	 * Gets the number of the cached entries.
+	 *
+	 * @return the count
+	 */
+	public int getCount() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Gets the total size of the cached content in bytes.
+	 *
+	 * @return the size
+	 */
+	public long getSize() {
+		synchronized (entries) {
+			return size;
+		}
+	}
+
+	/**
+	 * Gets the number of the lookups served from the cache.
+	 *
+	 * @return the hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of the lookups not served from the cache.
+	 *
+	 * @return the misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Generate a strong entity tag from the hash of the content.
+	 *
+	 * @param content
+	 *            the content
+	 * @return the tag
+	 */
+	static String generateTag(byte[] content) {
+		return formatTag(createDigest().digest(content));
+	}
+
+	/**
+	 * Creates the digest the entity tags are derived from.
+	 *
+	 * @return the digest
+	 */
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Format the digest of the content as a strong entity tag.
+	 *
+	 * @param digest
+	 *            the digest
+	 * @return the tag
+	 */
+	private static String formatTag(byte[] digest) {
+		// the first half of the digest is enough for telling the versions apart
+		char[] tag = new char[34];
+		tag[0] = '"';
+		for (int i = 0; i < 16; i++) {
+			tag[1 + (i * 2)] = HEX[(digest[i] >> 4) & 0x0f];
+			tag[2 + (i * 2)] = HEX[digest[i] & 0x0f];
+		}
+		tag[33] = '"';
+		return new String(tag);
+	}
+
+	/**
+	 * Compress the content with gzip.
+	 *
+	 * @param content
+	 *            the content
+	 * @return the compressed content or null, if it is not smaller than the original
+	 */
+	static byte[] gzip(byte[] content) {
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2);
+			GZIPOutputStream gzip = new GZIPOutputStream(output);
+			try {
+				gzip.write(content);
+			} finally {
+				gzip.close();
+			}
+			byte[] compressed = output.toByteArray();
+			return (compressed.length < content.length) ? compressed : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The cached version of a resource.
+	 */
+	public static class Entry {
+
+		private final long modifiedAt;
+
+		private final byte[] content;
+
+		private final long length;
+
+		private final String contentType;
+
+		private final String tag;
+
+		private final byte[] gzip;
+
+		private final byte[] brotli;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param modifiedAt
+		 *            the modification time
+		 * @param content
+		 *            the content or null, if it is not cached
+		 * @param length
+		 *            the length of the content
+		 * @param contentType
+		 *            the content type
+		 * @param tag
+		 *            the entity tag
+		 * @param gzip
+		 *            the gzip variant or null
+		 * @param brotli
+		 *            the brotli variant or null
+		 */
+		Entry(long modifiedAt, byte[] content, long length, String contentType, String tag, byte[] gzip, byte[] brotli) {
+			this.modifiedAt = modifiedAt;
+			this.content = content;
+			this.length = length;
+			this.contentType = contentType;
+			this.tag = tag;
+			this.gzip = gzip;
+			this.brotli = brotli;
+		}
+
+		/**
+		 * Gets the modification time of the resource.
+		 *
+		 * @return the modified at
+		 */
+		public long getModifiedAt() {
+			return modifiedAt;
+		}
+
+		/**
+		 * Gets the content.
+		 *
+		 * @return the content or null, if it is too big to be cached
+		 */
+		public byte[] getContent() {
+			return content;
+		}
+
+		/**
+		 * Gets the length of the content.
+		 *
+		 * @return the length
+		 */
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Gets the content type.
+		 *
+		 * @return the content type
+		 */
+		public String getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * Gets the strong entity tag of the content.
+		 *
+		 * @return the tag
+		 */
+		public String getTag() {
+			return tag;
+		}
+
+		/**
+		 * Gets the entity tag of the given encoding of the content.
+		 *
+		 * @param encoding
+		 *            the encoding or null for the identity one
+		 * @return the tag
+		 */
+		public String getTag(String encoding) {
+			if (encoding == null) {
+				return tag;
+			}
+			return tag.substring(0, tag.length() - 1) + "-" + encoding + "\"";
+		}
+
+		/**
+		 * Gets the variant of the content in the given encoding.
+		 *
+		 * @param encoding
+		 *            the encoding
+		 * @return the variant or null, if there is no such one
+		 */
+		public byte[] getVariant(String encoding) {
+			if (ENCODING_GZIP.equals(encoding)) {
+				return gzip;
+			}
+			if (ENCODING_BROTLI.equals(encoding)) {
+				return brotli;
+			}
+			return null;
+		}
+
+		/**
+		 * Checks whether there is any compressed variant.
+		 *
+		 * @return true, if there is a variant
+		 */
+		public boolean hasVariants() {
+			return (gzip != null) || (brotli != null);
+		}
+
+		/**
+		 * Gets the weight of the entry in the cache.
+		 *
+		 * @return the weight in bytes
+		 */
+		long getWeight() {
+			long weight = 128 + tag.length();
+			if (content != null) {
+				weight += content.length;
+			}
+			if (gzip != null) {
+				weight += gzip.length;
+			}
+			if (brotli != null) {
+				weight += brotli.length;
+			}
+			return weight;
+		}
+
+	}
+
+}
@@ -17,13 +17,28 @@ import java.util.UUID;
 
 public class ResourcesCache {
 
+	public static final String DIRIGIBLE_WEB_CACHE_MAX_SIZE = "DIRIGIBLE_WEB_CACHE_MAX_SIZE";
+	public static final String DIRIGIBLE_WEB_CACHE_MAX_ENTRY_SIZE = "DIRIGIBLE_WEB_CACHE_MAX_ENTRY_SIZE";
+
 	private static final Cache WEB_CACHE = new Cache();
 	private static final Cache THEME_CACHE = new Cache();
+	private static final ContentCache WEB_CONTENT_CACHE = new ContentCache(
+			Long.parseLong(Configuration.get(DIRIGIBLE_WEB_CACHE_MAX_SIZE, "33554432")),
+			Long.parseLong(Configuration.get(DIRIGIBLE_WEB_CACHE_MAX_ENTRY_SIZE, "1048576")));
 
 	public static Cache getWebCache() {
 		return WEB_CACHE;
 	}
 
+	/**
+	 * Gets the cache of the content of the web resources.
+	 *
+	 * @return the web content cache
+	 */
+	public static ContentCache getWebContentCache() {
+		return WEB_CONTENT_CACHE;
+	}
+
 	public static Cache getThemeCache() {
 		return THEME_CACHE;
 	}
@@ -31,6 +46,7 @@ public class ResourcesCache {
 	public static void clear() {
 		WEB_CACHE.clear();
 		THEME_CACHE.clear();
+		WEB_CONTENT_CACHE.clear();
 	}
 
 	private ResourcesCache() {
@@ -39,18 +55,18 @@ public class ResourcesCache {
 
 	public static class Cache {
 
-		private static final Map<String, String> CACHE = Collections.synchronizedMap(new HashMap<String, String>());
+		private final Map<String, String> cache = Collections.synchronizedMap(new HashMap<String, String>());
 
 		private Cache() {
 			
 		}
 
 		public String getTag(String id) {
-			return CACHE.get(id);
+			return cache.get(id);
 		}
 
 		public void setTag(String id, String tag) {
-			CACHE.put(id, tag);
+			cache.put(id, tag);
 		}
 
 		public String generateTag() {
@@ -58,7 +74,7 @@ public class ResourcesCache {
 		}
 
 		public void clear() {
-			CACHE.clear();
+			cache.clear();
 		}
 	}
 }
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.commons.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.dirigible.commons.config.ContentCache.Entry;
+import org.junit.Test;
+
+/**
+ * The Class ContentCacheTest.
+ */
+public class ContentCacheTest {
+
+	/**
+	 * Versions test.
+	 */
+	@Test
+	public void versionsTest() {
+		ContentCache cache = new ContentCache(1024 * 1024, 64 * 1024);
+		byte[] content = repeat("body { color: red; }\n", 100);
+		Entry entry = cache.put("/a.css", 1, content, "text/css", true, null);
+		assertEquals(entry, cache.get("/a.css", 1));
+		assertNull(cache.get("/a.css", 2));
+		assertNotNull(entry.getVariant(ContentCache.ENCODING_GZIP));
+		assertNull(entry.getVariant(ContentCache.ENCODING_BROTLI));
+		assertNotEquals(entry.getTag(), entry.getTag(ContentCache.ENCODING_GZIP));
+
+		Entry same = cache.put("/b.css", 1, content, "text/css", true, null);
+		assertEquals(entry.getTag(), same.getTag());
+		Entry changed = cache.put("/a.css", 2, repeat("body { color: blue; }\n", 100), "text/css", true, null);
+		assertNotEquals(entry.getTag(), changed.getTag());
+	}
+
+	/**
+	 * Eviction test.
+	 */
+	@Test
+	public void evictionTest() {
+		ContentCache cache = new ContentCache(3000, 2000);
+		cache.put("/1", 1, new byte[1000], "application/octet-stream", false, null);
+		cache.put("/2", 1, new byte[1000], "application/octet-stream", false, null);
+		cache.get("/1", 1);
+		cache.put("/3", 1, new byte[1000], "application/octet-stream", false, null);
+		assertNotNull(cache.get("/1", 1));
+		assertNull(cache.get("/2", 1));
+		assertNotNull(cache.get("/3", 1));
+
+		// too big for the content, but the tag is still kept
+		Entry big = cache.put("/4", 1, new byte[2500], "application/octet-stream", false, null);
+		assertNotNull(big.getContent());
+		assertNull(cache.get("/4", 1).getContent());
+		assertEquals(big.getTag(), cache.get("/4", 1).getTag());
+	}
+
+	/**
+	 * Stream test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void streamTest() throws IOException {
+		ContentCache cache = new ContentCache(1024 * 1024, 2000);
+		byte[] content = repeat("body { color: red; }\n", 50);
+		Entry entry = cache.put("/a.css", 1, new ByteArrayInputStream(content), "text/css", true, null);
+		Entry same = cache.put("/b.css", 1, content, "text/css", true, null);
+		assertEquals(same.getTag(), entry.getTag());
+		assertEquals(content.length, entry.getContent().length);
+		assertNotNull(entry.getVariant(ContentCache.ENCODING_GZIP));
+
+		// too big to be buffered, but the tag and the length are known
+		byte[] big = new byte[5000];
+		big[4999] = 1;
+		Entry streamed = cache.put("/c", 1, new ByteArrayInputStream(big), "application/octet-stream", false, null);
+		assertNull(streamed.getContent());
+		assertEquals(big.length, streamed.getLength());
+		assertEquals(ContentCache.generateTag(big), streamed.getTag());
+		assertEquals(streamed, cache.get("/c", 1));
+	}
+
+	/**
+	 * Load test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void loadTest() throws IOException {
+		ContentCache cache = new ContentCache(1024 * 1024, 2000);
+		byte[] content = repeat("body { color: red; }\n", 50);
+		Entry entry = cache.load(0, new ByteArrayInputStream(content), "text/css", true, null);
+		assertEquals(ContentCache.generateTag(content), entry.getTag());
+		assertNotNull(entry.getVariant(ContentCache.ENCODING_GZIP));
+		// the entry is not cached
+		assertNull(cache.get("/a.css", 0));
+		assertEquals(0, cache.getCount());
+	}
+
+	private byte[] repeat(String text, int times) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < times; i++) {
+			builder.append(text);
+		}
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -224,6 +224,26 @@ public interface IExtensionsCoreService extends ICoreService {
 	 */
 	public List<ExtensionDefinition> getExtensionsByExtensionPoint(String extensionPoint) throws ExtensionsException;
 
+	/**
+	 * Gets the modules of the extensions by extension point from the in-memory index, without reading the database,
+	 * unless the extensions have been changed since the index was built.
+	 *
+	 * @param extensionPoint
+	 *            the extension point
+	 * @return the modules of the extensions
+	 * @throws ExtensionsException
+	 *             the extensions exception
+	 */
+	public String[] getExtensionModules(String extensionPoint) throws ExtensionsException;
+
+	/**
+	 * Rebuild the in-memory index of the extensions from the database and swap it with the current one.
+	 *
+	 * @throws ExtensionsException
+	 *             the extensions exception
+	 */
+	public void refreshExtensionsIndex() throws ExtensionsException;
+
 	/**
 	 * Parses the extension.
 	 *
@@ -20,6 +20,8 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -49,6 +51,10 @@ public class ExtensionsCoreService implements IExtensionsCoreService {
 	@Inject
 	private PersistenceManager<ExtensionDefinition> extensionPersistenceManager;
 
+	private final AtomicReference<ExtensionsIndex> index = new AtomicReference<ExtensionsIndex>();
+
+	private final AtomicLong indexVersion = new AtomicLong();
+
 	// Extension Points
 
 	/*
@@ -224,6 +230,7 @@ public class ExtensionsCoreService implements IExtensionsCoreService {
 			try {
 				connection = dataSource.getConnection();
 				extensionPersistenceManager.insert(connection, extensionDefinition);
+				indexVersion.incrementAndGet();
 				return extensionDefinition;
 			} finally {
 				if (connection != null) {
@@ -267,6 +274,7 @@ public class ExtensionsCoreService implements IExtensionsCoreService {
 			try {
 				connection = dataSource.getConnection();
 				extensionPersistenceManager.delete(connection, ExtensionDefinition.class, location);
+				indexVersion.incrementAndGet();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -293,6 +301,7 @@ public class ExtensionsCoreService implements IExtensionsCoreService {
 				extensionDefinition.setExtensionPoint(extensionPoint);
 				extensionDefinition.setDescription(description);
 				extensionPersistenceManager.update(connection, extensionDefinition);
+				indexVersion.incrementAndGet();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -349,6 +358,43 @@ public class ExtensionsCoreService implements IExtensionsCoreService {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.extensions.api.IExtensionsCoreService#getExtensionModules(java.lang.String)
+	 */
+	@Override
+	public String[] getExtensionModules(String extensionPoint) throws ExtensionsException {
+		ExtensionsIndex current = index.get();
+		if ((current == null) || (current.getVersion() != indexVersion.get())) {
+			current = buildExtensionsIndex();
+		}
+		return current.getModules(extensionPoint);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.extensions.api.IExtensionsCoreService#refreshExtensionsIndex()
+	 */
+	@Override
+	public void refreshExtensionsIndex() throws ExtensionsException {
+		buildExtensionsIndex();
+	}
+
+	/**
+	 * Builds the extensions index from the database and swaps it with the current one.
+	 *
+	 * @return the extensions index
+	 * @throws ExtensionsException
+	 *             the extensions exception
+	 */
+	private ExtensionsIndex buildExtensionsIndex() throws ExtensionsException {
+		// the version is taken before reading, so that a concurrent change makes the new index outdated
+		long version = indexVersion.get();
+		ExtensionsIndex built = new ExtensionsIndex(getExtensions(), version);
+		index.set(built);
+		return built;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.extensions.api.IExtensionsCoreService#existsExtensionPoint(java.lang.String)
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.extensions.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.core.extensions.definition.ExtensionDefinition;
+
+/**
+ * Immutable index of the modules of the extensions per extension point name. A new index is built and swapped as a
+ * whole on each change, so that the lookups never touch the database.
+ */
+public class ExtensionsIndex {
+
+	private static final String[] NO_MODULES = new String[0];
+
+	private final Map<String, String[]> modules;
+
+	private final long version;
+
+	/**
+	 * Instantiates a new extensions index.
+	 *
+	 * @param extensionDefinitions
+	 *            the extension definitions
+	 * @param version
+	 *            the version of the extension definitions
+	 */
+	public ExtensionsIndex(List<ExtensionDefinition> extensionDefinitions, long version) {
+		Map<String, List<String>> lists = new HashMap<String, List<String>>();
+		for (ExtensionDefinition extensionDefinition : extensionDefinitions) {
+			List<String> list = lists.get(extensionDefinition.getExtensionPoint());
+			if (list == null) {
+				list = new ArrayList<String>();
+				lists.put(extensionDefinition.getExtensionPoint(), list);
+			}
+			list.add(extensionDefinition.getModule());
+		}
+		Map<String, String[]> arrays = new HashMap<String, String[]>();
+		for (Map.Entry<String, List<String>> entry : lists.entrySet()) {
+			arrays.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+		}
+		this.modules = arrays;
+		this.version = version;
+	}
+
+	/**
+	 * Gets the version of the extension definitions the index has been built from.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the modules of the extensions of the extension point, in the order the extensions are stored.
+	 *
+	 * @param extensionPoint
+	 *            the extension point name
+	 * @return a copy of the modules, empty if there are no extensions
+	 */
+	public String[] getModules(String extensionPoint) {
+		String[] result = modules.get(extensionPoint);
+		return (result != null) ? result.clone() : NO_MODULES;
+	}
+
+}
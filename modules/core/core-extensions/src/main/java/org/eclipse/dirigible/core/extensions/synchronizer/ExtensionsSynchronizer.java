@@ -120,8 +120,11 @@ public class ExtensionsSynchronizer extends AbstractSynchronizer {
 				clearCache();
 				synchronizePredelivered();
 				synchronizeRegistry();
-				cleanup();
+				if (isFullSynchronization()) {
+					cleanup();
+				}
 				clearCache();
+				extensionsCoreService.refreshExtensionsIndex();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for Extension Points and Extensions failed.", e);
 			}
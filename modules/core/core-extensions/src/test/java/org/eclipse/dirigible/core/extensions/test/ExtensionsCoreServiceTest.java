@@ -222,6 +222,35 @@ public class ExtensionsCoreServiceTest extends AbstractGuiceTest {
 		extensionsCoreService.removeExtensionPoint("/test_extpoint2");
 	}
 
+	/**
+	 * Gets the extension modules test.
+	 *
+	 * @throws ExtensionsException
+	 *             the extensions exception
+	 */
+	@Test
+	public void getExtensionModulesTest() throws ExtensionsException {
+		extensionsCoreService.removeExtensionPoint("/test_extpoint1");
+		extensionsCoreService.createExtensionPoint("/test_extpoint1", "test_extpoint1", "Test");
+
+		extensionsCoreService.removeExtension("/test_ext1");
+		extensionsCoreService.removeExtension("/test_ext11");
+		extensionsCoreService.createExtension("/test_ext1", "test_ext1", "test_extpoint1", "Test Ext 1");
+		extensionsCoreService.refreshExtensionsIndex();
+		String[] modules = extensionsCoreService.getExtensionModules("test_extpoint1");
+		assertEquals(1, modules.length);
+		assertEquals("test_ext1", modules[0]);
+
+		// the changes are visible without an explicit refresh
+		extensionsCoreService.createExtension("/test_ext11", "test_ext11", "test_extpoint1", "Test Ext 11");
+		assertEquals(2, extensionsCoreService.getExtensionModules("test_extpoint1").length);
+		extensionsCoreService.removeExtension("/test_ext1");
+		extensionsCoreService.removeExtension("/test_ext11");
+		assertEquals(0, extensionsCoreService.getExtensionModules("test_extpoint1").length);
+
+		extensionsCoreService.removeExtensionPoint("/test_extpoint1");
+	}
+
 	/**
 	 * Updatet extension test.
 	 *
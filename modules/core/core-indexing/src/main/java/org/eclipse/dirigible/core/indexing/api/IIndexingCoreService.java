@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.core.indexing.api;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.service.ICoreService;
@@ -37,6 +38,29 @@ public interface IIndexingCoreService extends ICoreService {
 	 */
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException;
 
+	/**
+	 * Adds a batch of documents to an index. The documents are searchable right after the call, while they are
+	 * committed to the disk together with the other pending changes.
+	 *
+	 * @param index
+	 *            the index
+	 * @param documents
+	 *            the documents
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException;
+
+	/**
+	 * Commit the pending changes of an index to the disk, without waiting for the periodic commit.
+	 *
+	 * @param index
+	 *            the index
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	public void commit(String index) throws IndexingException;
+
 	/**
 	 * Search an index by term.
 	 *
@@ -22,6 +22,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -30,36 +34,36 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
-import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * The Class IndexingCoreService.
+ * The Class IndexingCoreService. Each named index keeps a long-lived writer and a near-real-time searcher on top of it,
+ * so that the added documents are searchable immediately, while they are committed to the disk periodically - every
+ * DIRIGIBLE_INDEXING_COMMIT_INTERVAL milliseconds and on shutdown.
  */
 public class IndexingCoreService implements IIndexingCoreService {
 
+	private static final Logger logger = LoggerFactory.getLogger(IndexingCoreService.class);
+
 	private static final String DIRIGIBLE_INDEXING_ROOT_FOLDER = "DIRIGIBLE_INDEXING_ROOT_FOLDER";
 	private static final String DIRIGIBLE_INDEXING_MAX_RESULTS = "DIRIGIBLE_INDEXING_MAX_RESULTS";
+	private static final String DIRIGIBLE_INDEXING_COMMIT_INTERVAL = "DIRIGIBLE_INDEXING_COMMIT_INTERVAL";
 	private static final String FIELD_CONTENTS = "contents";
 	private static final String FIELD_MODIFIED = "modified";
-	private static final String FIELD_LOCATION = "location";
+	static final String FIELD_LOCATION = "location";
 	private static final String US = "_";
 	private static final String BS = "\\";
 	private static final String SLASH = "/";
@@ -67,11 +71,23 @@ public class IndexingCoreService implements IIndexingCoreService {
 
 	private static String ROOT_FOLDER;
 	private static int MAX_RESULTS;
+	private static long COMMIT_INTERVAL;
+
+	private static final Map<String, ManagedIndex> INDICES = new ConcurrentHashMap<String, ManagedIndex>();
 
 	static {
 		Configuration.load("/dirigible-indexing.properties");
 		ROOT_FOLDER = Configuration.get(DIRIGIBLE_INDEXING_ROOT_FOLDER);
 		MAX_RESULTS = Integer.parseInt(Configuration.get(DIRIGIBLE_INDEXING_MAX_RESULTS, "100"));
+		COMMIT_INTERVAL = Long.parseLong(Configuration.get(DIRIGIBLE_INDEXING_COMMIT_INTERVAL, "5000"));
+
+		ScheduledExecutorService committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "dirigible-indexing-committer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		committer.scheduleWithFixedDelay(IndexingCoreService::commitAll, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.MILLISECONDS);
+		Runtime.getRuntime().addShutdownHook(new Thread(IndexingCoreService::closeAll, "dirigible-indexing-shutdown"));
 	}
 
 	/*
@@ -81,82 +97,77 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException {
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
+		ManagedIndex managedIndex = getIndex(index);
+		try {
+			managedIndex.update(location, createDocument(location, contents, lastModified, parameters));
+		} catch (IOException e) {
+			throw new IndexingException(e);
 		}
+	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#addAll(java.lang.String, java.util.List)
+	 */
+	@Override
+	public void addAll(String index, List<IndexingDocument> documents) throws IndexingException {
+		ManagedIndex managedIndex = getIndex(index);
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
-				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-				if (parameters != null) {
-					for (String key : parameters.keySet()) {
-						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-					}
-				}
-				doc.add(new TextField(FIELD_CONTENTS,
-						new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
-				}
+			for (IndexingDocument document : documents) {
+				managedIndex.update(document.getLocation(), createDocument(document.getLocation(), document.getContents(),
+						document.getLastModified(), document.getParameters()));
 			}
 		} catch (IOException e) {
 			throw new IndexingException(e);
 		}
 	}
 
+	/**
+	 * Creates the document.
+	 *
+	 * @param location
+	 *            the location
+	 * @param contents
+	 *            the contents
+	 * @param lastModified
+	 *            the last modified
+	 * @param parameters
+	 *            the parameters
+	 * @return the document
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	private Document createDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IndexingException {
+		if (location == null) {
+			throw new IndexingException("Location may not be null");
+		}
+		Document doc = new Document();
+		Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+		doc.add(pathField);
+		doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+		if (parameters != null) {
+			for (String key : parameters.keySet()) {
+				doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
+			}
+		}
+		doc.add(new TextField(FIELD_CONTENTS,
+				new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents != null ? contents : new byte[0]), StandardCharsets.UTF_8))));
+		return doc;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#search(java.lang.String, java.lang.String)
 	 */
 	@Override
 	public String search(String index, String term) throws IndexingException {
-		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
-		}
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
-			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Analyzer analyzer = new StandardAnalyzer();
-				String field = FIELD_CONTENTS;
-				QueryParser parser = new QueryParser(field, analyzer);
-				Query query = parser.parse(term);
-				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-					Document document = searcher.doc(scoreDoc.doc);
-					Map<String, String> map = new HashMap<String, String>();
-					for (IndexableField indexableField : document.getFields()) {
-						map.put(indexableField.name(), indexableField.stringValue());
-					}
-					results.add(map);
-				}
-			} finally {
-				if (reader != null) {
-					reader.close();
-				}
-			}
-			return GsonHelper.GSON.toJson(results);
-		} catch (IOException | ParseException e) {
+			Analyzer analyzer = new StandardAnalyzer();
+			String field = FIELD_CONTENTS;
+			QueryParser parser = new QueryParser(field, analyzer);
+			Query query = parser.parse(term);
+			return search(getIndex(index), query);
+		} catch (ParseException e) {
 			throw new IndexingException(e);
 		}
 	}
@@ -185,20 +196,39 @@ public class IndexingCoreService implements IIndexingCoreService {
 	 */
 	@Override
 	public String between(String index, long lower, long upper) throws IndexingException {
-		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-		String indexName = index;
-		if (index != null) {
-			indexName = flattenizeIndexName(indexName);
-		} else {
-			throw new IndexingException("Index name may not be null");
+		Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
+		return search(getIndex(index), query);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.indexing.api.IIndexingCoreService#commit(java.lang.String)
+	 */
+	@Override
+	public void commit(String index) throws IndexingException {
+		try {
+			getIndex(index).commit();
+		} catch (IOException e) {
+			throw new IndexingException(e);
 		}
+	}
+
+	/**
+	 * Search the index with a searcher, which sees all the documents added so far.
+	 *
+	 * @param managedIndex
+	 *            the managed index
+	 * @param query
+	 *            the query
+	 * @return the values as JSON
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	private String search(ManagedIndex managedIndex, Query query) throws IndexingException {
+		List<Map<String, String>> results = new ArrayList<Map<String, String>>();
 		try {
-			Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-			IndexReader reader = null;
+			IndexSearcher searcher = managedIndex.acquireSearcher();
 			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
 				TopDocs topDocs = searcher.search(query, MAX_RESULTS);
 				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
 					Document document = searcher.doc(scoreDoc.doc);
@@ -209,9 +239,7 @@ public class IndexingCoreService implements IIndexingCoreService {
 					results.add(map);
 				}
 			} finally {
-				if (reader != null) {
-					reader.close();
-				}
+				managedIndex.releaseSearcher(searcher);
 			}
 			return GsonHelper.GSON.toJson(results);
 		} catch (IOException e) {
@@ -219,6 +247,83 @@ public class IndexingCoreService implements IIndexingCoreService {
 		}
 	}
 
+	/**
+	 * Gets the managed index by name, opening it on the first access or after its writer has been closed by a failure.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the managed index
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	private ManagedIndex getIndex(String index) throws IndexingException {
+		if (index == null) {
+			throw new IndexingException("Index name may not be null");
+		}
+		String indexName = flattenizeIndexName(index);
+		ManagedIndex managedIndex = INDICES.get(indexName);
+		if ((managedIndex != null) && managedIndex.isOpen()) {
+			return managedIndex;
+		}
+		synchronized (INDICES) {
+			managedIndex = INDICES.get(indexName);
+			if ((managedIndex != null) && managedIndex.isOpen()) {
+				return managedIndex;
+			}
+			if (managedIndex != null) {
+				closeQuietly(indexName, managedIndex);
+			}
+			try {
+				managedIndex = new ManagedIndex(Paths.get(ROOT_FOLDER + File.separator + indexName));
+			} catch (IOException e) {
+				throw new IndexingException(e);
+			}
+			INDICES.put(indexName, managedIndex);
+			return managedIndex;
+		}
+	}
+
+	/**
+	 * Commit the pending changes of all the opened indices.
+	 */
+	private static void commitAll() {
+		for (Map.Entry<String, ManagedIndex> entry : INDICES.entrySet()) {
+			try {
+				entry.getValue().commit();
+			} catch (IOException | RuntimeException e) {
+				logger.error("Committing the index [" + entry.getKey() + "] failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Commit and close all the opened indices.
+	 */
+	private static void closeAll() {
+		synchronized (INDICES) {
+			for (Map.Entry<String, ManagedIndex> entry : INDICES.entrySet()) {
+				closeQuietly(entry.getKey(), entry.getValue());
+			}
+			INDICES.clear();
+		}
+	}
+
+	/**
+	 * Close the index, logging the failures.
+	 *
+	 * @param indexName
+	 *            the index name
+	 * @param managedIndex
+	 *            the managed index
+	 */
+	private static void closeQuietly(String indexName, ManagedIndex managedIndex) {
+		try {
+			managedIndex.close();
+		} catch (IOException | RuntimeException e) {
+			logger.error("Closing the index [" + indexName + "] failed", e);
+		}
+	}
+
 	/**
 	 * Flattenize index name.
 	 *
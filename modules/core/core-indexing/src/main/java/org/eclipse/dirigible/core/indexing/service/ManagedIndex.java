@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.indexing.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * A named Lucene index with a long-lived writer and a near-real-time searcher manager on top of it. The changes are
+ * visible to the searches as soon as they are added - the searcher is refreshed on the first search after a change,
+ * while they are committed to the disk periodically by the {@link IndexingCoreService}.
+ */
+public class ManagedIndex {
+
+	private final Directory directory;
+
+	private final IndexWriter writer;
+
+	private final SearcherManager searcherManager;
+
+	private final AtomicBoolean changed = new AtomicBoolean();
+
+	/**
+	 * Instantiates a new managed index.
+	 *
+	 * @param path
+	 *            the path of the index folder
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public ManagedIndex(Path path) throws IOException {
+		this.directory = FSDirectory.open(path);
+		IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+		iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+		this.writer = new IndexWriter(directory, iwc);
+		try {
+			this.searcherManager = new SearcherManager(writer, null);
+		} catch (IOException e) {
+			writer.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Adds or replaces the document with the given location.
+	 *
+	 * @param location
+	 *            the location
+	 * @param document
+	 *            the document
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void update(String location, Document document) throws IOException {
+		writer.updateDocument(new Term(IndexingCoreService.FIELD_LOCATION, location), document);
+		changed.set(true);
+	}
+
+	/**
+	 * Acquire a searcher, which sees all the changes added so far. It has to be released after use.
+	 *
+	 * @return the index searcher
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public IndexSearcher acquireSearcher() throws IOException {
+		if (changed.compareAndSet(true, false)) {
+			searcherManager.maybeRefreshBlocking();
+		}
+		return searcherManager.acquire();
+	}
+
+	/**
+	 * Release the searcher.
+	 *
+	 * @param searcher
+	 *            the searcher
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void releaseSearcher(IndexSearcher searcher) throws IOException {
+		searcherManager.release(searcher);
+	}
+
+	/**
+	 * Commit the pending changes, if any.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void commit() throws IOException {
+		if (writer.hasUncommittedChanges()) {
+			writer.commit();
+		}
+	}
+
+	/**
+	 * Checks if the writer is still open - it is closed by Lucene on unrecoverable errors.
+	 *
+	 * @return true, if is open
+	 */
+	public boolean isOpen() {
+		return writer.isOpen();
+	}
+
+	/**
+	 * Commit the pending changes and close the index.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void close() throws IOException {
+		try {
+			searcherManager.close();
+		} finally {
+			try {
+				if (writer.isOpen()) {
+					writer.close();
+				}
+			} finally {
+				directory.close();
+			}
+		}
+	}
+
+}
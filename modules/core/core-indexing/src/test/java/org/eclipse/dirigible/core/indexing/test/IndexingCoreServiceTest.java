@@ -13,6 +13,7 @@ package org.eclipse.dirigible.core.indexing.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import javax.inject.Inject;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.core.indexing.api.IIndexingCoreService;
+import org.eclipse.dirigible.core.indexing.api.IndexingDocument;
 import org.eclipse.dirigible.core.indexing.api.IndexingException;
 import org.eclipse.dirigible.core.indexing.service.IndexingCoreService;
 import org.eclipse.dirigible.core.test.AbstractGuiceTest;
@@ -114,4 +116,34 @@ public class IndexingCoreServiceTest extends AbstractGuiceTest {
 		assertEquals(1, matches.size());
 	}
 
+	/**
+	 * Add all test.
+	 *
+	 * @throws IndexingException
+	 *             the indexing exception
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void addAllTest() throws IndexingException {
+
+		List<IndexingDocument> documents = new ArrayList<IndexingDocument>();
+		for (int i = 0; i < 100; i++) {
+			documents.add(new IndexingDocument("/root/folder/batch/file" + i + ".txt", ("Batch document number" + i).getBytes(), new Date().getTime(),
+					new HashMap<String, String>()));
+		}
+		documents.add(new IndexingDocument("/root/folder/batch/file0.txt", "Replaced batch document".getBytes(), new Date().getTime(),
+				new HashMap<String, String>()));
+		indexingCoreService.addAll("batch_index", documents);
+
+		List matches = GsonHelper.GSON.fromJson(indexingCoreService.search("batch_index", "batch"), List.class);
+		assertNotNull(matches);
+		assertEquals(100, matches.size());
+
+		matches = GsonHelper.GSON.fromJson(indexingCoreService.search("batch_index", "replaced"), List.class);
+		assertNotNull(matches);
+		assertEquals(1, matches.size());
+
+		indexingCoreService.commit("batch_index");
+	}
+
 }
@@ -47,6 +47,32 @@ public interface IMessagingCoreService extends ICoreService {
 	 */
 	public ListenerDefinition createListener(String location, String name, char type, String handler, String description) throws MessagingException;
 
+	/**
+	 * Creates the listener with the consumer settings.
+	 *
+	 * @param location
+	 *            the location
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param description
+	 *            the description
+	 * @param concurrency
+	 *            the number of the consumer workers
+	 * @param prefetch
+	 *            the number of the messages dispatched in advance to each worker
+	 * @param batchAck
+	 *            the number of the processed messages acknowledged at once
+	 * @return the listener definition
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	public ListenerDefinition createListener(String location, String name, char type, String handler, String description, int concurrency,
+			int prefetch, int batchAck) throws MessagingException;
+
 	/**
 	 * Gets the listener.
 	 *
@@ -108,6 +134,31 @@ public interface IMessagingCoreService extends ICoreService {
 	 */
 	public void updateListener(String location, String name, char type, String handler, String description) throws MessagingException;
 
+	/**
+	 * Update listener with the consumer settings.
+	 *
+	 * @param location
+	 *            the location
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param description
+	 *            the description
+	 * @param concurrency
+	 *            the number of the consumer workers
+	 * @param prefetch
+	 *            the number of the messages dispatched in advance to each worker
+	 * @param batchAck
+	 *            the number of the processed messages acknowledged at once
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	public void updateListener(String location, String name, char type, String handler, String description, int concurrency, int prefetch,
+			int batchAck) throws MessagingException;
+
 	/**
 	 * Gets the listeners.
 	 *
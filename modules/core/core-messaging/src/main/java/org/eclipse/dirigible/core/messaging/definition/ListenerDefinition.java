@@ -40,6 +40,15 @@ public class ListenerDefinition {
 	@Column(name = "LISTENER_DESCRIPTION", columnDefinition = "VARCHAR", nullable = true, length = 1024)
 	private String description;
 
+	@Column(name = "LISTENER_CONCURRENCY", columnDefinition = "INTEGER", nullable = true)
+	private int concurrency;
+
+	@Column(name = "LISTENER_PREFETCH", columnDefinition = "INTEGER", nullable = true)
+	private int prefetch;
+
+	@Column(name = "LISTENER_BATCH_ACK", columnDefinition = "INTEGER", nullable = true)
+	private int batchAck;
+
 	@Column(name = "LISTENER_CREATED_BY", columnDefinition = "VARCHAR", nullable = false, length = 32)
 	private String createdBy;
 
@@ -141,6 +150,64 @@ public class ListenerDefinition {
 		this.description = description;
 	}
 
+	/**
+	 * Gets the number of the consumer workers, 0 for the default of a single one. The topic listeners have always a
+	 * single worker.
+	 *
+	 * @return the concurrency
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * Sets the number of the consumer workers.
+	 *
+	 * @param concurrency
+	 *            the new concurrency
+	 */
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Gets the number of the messages dispatched in advance to each worker, 0 for the default of the broker.
+	 *
+	 * @return the prefetch
+	 */
+	public int getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * Sets the number of the messages dispatched in advance to each worker.
+	 *
+	 * @param prefetch
+	 *            the new prefetch
+	 */
+	public void setPrefetch(int prefetch) {
+		this.prefetch = prefetch;
+	}
+
+	/**
+	 * Gets the number of the processed messages acknowledged at once, 0 or 1 for acknowledging each one on receive.
+	 *
+	 * @return the batch ack
+	 */
+	public int getBatchAck() {
+		return batchAck;
+	}
+
+	/**
+	 * Sets the number of the processed messages acknowledged at once.
+	 *
+	 * @param batchAck
+	 *            the new batch ack
+	 */
+	public void setBatchAck(int batchAck) {
+		this.batchAck = batchAck;
+	}
+
 	/**
 	 * Gets the created by.
 	 *
@@ -228,6 +295,9 @@ public class ListenerDefinition {
 		result = (prime * result) + ((handler == null) ? 0 : handler.hashCode());
 		result = (prime * result) + ((name == null) ? 0 : name.hashCode());
 		result = (prime * result) + type;
+		result = (prime * result) + concurrency;
+		result = (prime * result) + prefetch;
+		result = (prime * result) + batchAck;
 		return result;
 	}
 
@@ -278,6 +348,15 @@ public class ListenerDefinition {
 		if (type != other.type) {
 			return false;
 		}
+		if (concurrency != other.concurrency) {
+			return false;
+		}
+		if (prefetch != other.prefetch) {
+			return false;
+		}
+		if (batchAck != other.batchAck) {
+			return false;
+		}
 		return true;
 	}
 
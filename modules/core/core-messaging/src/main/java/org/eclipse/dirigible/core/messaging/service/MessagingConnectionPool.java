@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.messaging.service;
+
+import static java.text.MessageFormat.format;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pool of the sessions to the embedded broker used for sending and synchronous receiving of messages. All the
+ * sessions are created by a single shared connection, which is reopened on the next use after a failure. The idle
+ * sessions are kept in two deques - for the non-transacted and for the transacted ones - and each of them caches its
+ * producers by destination.
+ */
+public class MessagingConnectionPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(MessagingConnectionPool.class);
+
+	private final String url;
+
+	private final int maxIdleSessions;
+
+	private final ConcurrentLinkedDeque<PooledSession> idleSessions = new ConcurrentLinkedDeque<PooledSession>();
+
+	private final ConcurrentLinkedDeque<PooledSession> idleTransactedSessions = new ConcurrentLinkedDeque<PooledSession>();
+
+	private final AtomicInteger activeSessions = new AtomicInteger();
+
+	private volatile Connection connection;
+
+	private volatile int generation;
+
+	/**
+	 * Instantiates a new messaging connection pool.
+	 *
+	 * @param url
+	 *            the broker url
+	 * @param maxIdleSessions
+	 *            the maximum number of idle sessions kept per kind
+	 */
+	public MessagingConnectionPool(String url, int maxIdleSessions) {
+		this.url = url;
+		this.maxIdleSessions = maxIdleSessions;
+	}
+
+	/**
+	 * Borrow a session. It has to be returned with {@link #release(PooledSession, boolean)} after use.
+	 *
+	 * @param transacted
+	 *            whether a transacted session is needed
+	 * @return the pooled session
+	 * @throws JMSException
+	 *             the JMS exception
+	 */
+	public PooledSession borrow(boolean transacted) throws JMSException {
+		ConcurrentLinkedDeque<PooledSession> idle = transacted ? idleTransactedSessions : idleSessions;
+		PooledSession pooledSession;
+		while ((pooledSession = idle.pollFirst()) != null) {
+			if (pooledSession.generation == generation) {
+				activeSessions.incrementAndGet();
+				return pooledSession;
+			}
+			pooledSession.close();
+		}
+		// the generation is read first, so that a session of a connection failing meanwhile is not kept
+		int currentGeneration = generation;
+		Connection current = getConnection();
+		Session session = current.createSession(transacted, transacted ? Session.SESSION_TRANSACTED : Session.AUTO_ACKNOWLEDGE);
+		activeSessions.incrementAndGet();
+		return new PooledSession(session, currentGeneration);
+	}
+
+	/**
+	 * Return the session to the pool. A session, which failed, is closed instead.
+	 *
+	 * @param pooledSession
+	 *            the pooled session
+	 * @param reusable
+	 *            whether the session can be used again
+	 */
+	public void release(PooledSession pooledSession, boolean reusable) {
+		activeSessions.decrementAndGet();
+		ConcurrentLinkedDeque<PooledSession> idle = pooledSession.transacted ? idleTransactedSessions : idleSessions;
+		if (reusable && (pooledSession.generation == generation) && (idle.size() < maxIdleSessions)) {
+			idle.offerFirst(pooledSession);
+		} else {
+			pooledSession.close();
+		}
+	}
+
+	/**
+	 * Gets the shared connection, opening it if needed.
+	 *
+	 * @return the connection
+	 * @throws JMSException
+	 *             the JMS exception
+	 */
+	private Connection getConnection() throws JMSException {
+		Connection current = connection;
+		if (current == null) {
+			synchronized (this) {
+				current = connection;
+				if (current == null) {
+					ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(url);
+					current = connectionFactory.createConnection();
+					final Connection opened = current;
+					current.setExceptionListener(exception -> {
+						logger.error(format("Pooled messaging connection failed: {0}", exception.getMessage()), exception);
+						invalidate(opened);
+					});
+					current.start();
+					connection = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Drop the failed connection together with all the sessions created by it.
+	 *
+	 * @param failed
+	 *            the failed connection
+	 */
+	private synchronized void invalidate(Connection failed) {
+		if (connection == failed) {
+			connection = null;
+			generation++;
+			closeIdle();
+			closeQuietly(failed);
+		}
+	}
+
+	/**
+	 * Close the idle sessions and the shared connection.
+	 */
+	public synchronized void close() {
+		generation++;
+		closeIdle();
+		if (connection != null) {
+			closeQuietly(connection);
+			connection = null;
+		}
+	}
+
+	/**
+	 * Close the idle sessions.
+	 */
+	private void closeIdle() {
+		PooledSession pooledSession;
+		while ((pooledSession = idleSessions.pollFirst()) != null) {
+			pooledSession.close();
+		}
+		while ((pooledSession = idleTransactedSessions.pollFirst()) != null) {
+			pooledSession.close();
+		}
+	}
+
+	/**
+	 * Close the connection, logging the failures.
+	 *
+	 * @param connection
+	 *            the connection
+	 */
+	private static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		} catch (JMSException | RuntimeException e) {
+			logger.debug(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the number of the borrowed sessions.
+	 *
+	 * @return the active sessions
+	 */
+	public int getActiveSessions() {
+		return activeSessions.get();
+	}
+
+	/**
+	 * Gets the number of the idle sessions.
+	 *
+	 * @return the idle sessions
+	 */
+	public int getIdleSessions() {
+		return idleSessions.size() + idleTransactedSessions.size();
+	}
+
+	/**
+	 * A pooled session with its producers cached by destination. It must be used by one thread at a time.
+	 */
+	public static final class PooledSession {
+
+		private final Session session;
+
+		private final boolean transacted;
+
+		private final int generation;
+
+		private final Map<String, MessageProducer> producers = new HashMap<String, MessageProducer>();
+
+		/**
+		 * Instantiates a new pooled session.
+		 *
+		 * @param session
+		 *            the session
+		 * @param generation
+		 *            the generation of the connection
+		 * @throws JMSException
+		 *             the JMS exception
+		 */
+		PooledSession(Session session, int generation) throws JMSException {
+			this.session = session;
+			this.transacted = session.getTransacted();
+			this.generation = generation;
+		}
+
+		/**
+		 * Gets the session.
+		 *
+		 * @return the session
+		 */
+		public Session getSession() {
+			return session;
+		}
+
+		/**
+		 * Creates the destination.
+		 *
+		 * @param name
+		 *            the name
+		 * @param type
+		 *            the type - queue or topic
+		 * @return the destination
+		 * @throws JMSException
+		 *             the JMS exception
+		 * @throws MessagingException
+		 *             in case of invalid type
+		 */
+		public Destination createDestination(String name, char type) throws JMSException, MessagingException {
+			if (type == IMessagingCoreService.QUEUE) {
+				return session.createQueue(name);
+			} else if (type == IMessagingCoreService.TOPIC) {
+				return session.createTopic(name);
+			}
+			throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", type, name));
+		}
+
+		/**
+		 * Gets the cached persistent producer for the destination, creating it on the first use.
+		 *
+		 * @param name
+		 *            the name
+		 * @param type
+		 *            the type - queue or topic
+		 * @return the producer
+		 * @throws JMSException
+		 *             the JMS exception
+		 * @throws MessagingException
+		 *             in case of invalid type
+		 */
+		public MessageProducer getProducer(String name, char type) throws JMSException, MessagingException {
+			String key = type + name;
+			MessageProducer producer = producers.get(key);
+			if (producer == null) {
+				producer = session.createProducer(createDestination(name, type));
+				producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+				producers.put(key, producer);
+			}
+			return producer;
+		}
+
+		/**
+		 * Close the session together with its producers.
+		 */
+		void close() {
+			try {
+				session.close();
+			} catch (JMSException | RuntimeException e) {
+				logger.debug(e.getMessage(), e);
+			}
+			producers.clear();
+		}
+
+	}
+
+}
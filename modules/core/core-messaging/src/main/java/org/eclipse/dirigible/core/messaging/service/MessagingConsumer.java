@@ -12,6 +12,11 @@ package org.eclipse.dirigible.core.messaging.service;
 
 import static java.text.MessageFormat.format;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.jms.Connection;
 import javax.jms.Destination;
 import javax.jms.ExceptionListener;
@@ -25,6 +30,7 @@ import org.apache.activemq.ActiveMQConnectionFactory;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
 import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
 import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.eclipse.dirigible.core.messaging.service.MessagingConnectionPool.PooledSession;
 import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
 import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
 import org.slf4j.Logger;
@@ -37,11 +43,26 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 
 	private static final Logger logger = LoggerFactory.getLogger(MessagingConsumer.class);
 
+	/** The wrapper module, which passes the message from the execution context to the handler. */
+	static final String WRAPPER_ON_MESSAGE = "messaging/wrappers/onMessage.js";
+
+	/** The wrapper module, which passes the error from the execution context to the handler. */
+	static final String WRAPPER_ON_ERROR = "messaging/wrappers/onError.js";
+
+	private static final String CONTEXT_HANDLER = "handler";
+	private static final String CONTEXT_MESSAGES = "messages";
+	private static final String CONTEXT_ERROR = "error";
+
+	/** The maximum number of the already received messages passed to the handler at once, if not batch acknowledged. */
+	private static final int DEFAULT_BATCH_SIZE = 10;
+
 	private String name;
 	private char type;
 	private String handler;
 	private int timeout = 1000;
-	private boolean stopped;
+	private int prefetch;
+	private int batchAck;
+	private volatile boolean stopped;
 
 	/**
 	 * Instantiates a new messaging consumer.
@@ -62,6 +83,29 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 		this.timeout = timeout;
 	}
 
+	/**
+	 * Instantiates a new messaging consumer worker of a listener.
+	 *
+	 * @param name
+	 *            the name
+	 * @param type
+	 *            the type
+	 * @param handler
+	 *            the handler
+	 * @param timeout
+	 *            the timeout
+	 * @param prefetch
+	 *            the number of the messages dispatched in advance, 0 for the default of the broker
+	 * @param batchAck
+	 *            the number of the processed messages acknowledged at once, 0 or 1 for acknowledging each one on
+	 *            receive
+	 */
+	public MessagingConsumer(String name, char type, String handler, int timeout, int prefetch, int batchAck) {
+		this(name, type, handler, timeout);
+		this.prefetch = prefetch;
+		this.batchAck = batchAck;
+	}
+
 	/**
 	 * Instantiates a new messaging consumer.
 	 *
@@ -95,22 +139,38 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 	}
 
 	/**
-	 * Receive message.
+	 * Receive message. With a handler, the messages are received and passed to it until the consumer is stopped,
+	 * otherwise a single message is received within the timeout over a pooled session.
 	 *
 	 * @return the string
 	 */
 	public String receiveMessage() {
+		if (this.handler == null) {
+			try {
+				return receivePooled();
+			} catch (Exception e) {
+				logger.error(e.getMessage(), e);
+			}
+			return null;
+		}
 		try {
 			logger.info("Starting a message listener for " + this.name);
 
 			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
+			if (this.prefetch > 0) {
+				connectionFactory.getPrefetchPolicy().setQueuePrefetch(this.prefetch);
+				connectionFactory.getPrefetchPolicy().setTopicPrefetch(this.prefetch);
+			}
 
 			Connection connection = connectionFactory.createConnection();
 			connection.start();
 
 			connection.setExceptionListener(this);
 
-			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+			// in batch mode the processed messages are acknowledged at once - on a redelivery after a failure
+			// up to batchAck messages can be received again
+			boolean batched = this.batchAck > 1;
+			Session session = connection.createSession(false, batched ? Session.CLIENT_ACKNOWLEDGE : Session.AUTO_ACKNOWLEDGE);
 
 			Destination destination = null;
 			if (type == IMessagingCoreService.QUEUE) {
@@ -122,34 +182,48 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 			}
 
 			MessageConsumer consumer = session.createConsumer(destination);
+			// the messages already dispatched to the consumer are passed to the handler at once, up to the batch size
+			int batchSize = batched ? this.batchAck : (this.prefetch > 0 ? Math.min(this.prefetch, DEFAULT_BATCH_SIZE) : DEFAULT_BATCH_SIZE);
+			List<Message> messages = new ArrayList<Message>(batchSize);
+			Message unacknowledged = null;
+			int pending = 0;
 			try {
 				Message message = null;
-				if (this.handler != null) {
-					while (!this.stopped) {
-						message = consumer.receive(this.timeout);
-						if (message == null) {
-							continue;
+				while (!this.stopped) {
+					message = consumer.receive(this.timeout);
+					if (message == null) {
+						// nothing more to process for now, so do not keep the batch open
+						if (unacknowledged != null) {
+							unacknowledged.acknowledge();
+							unacknowledged = null;
+							pending = 0;
 						}
-						logger.trace(format("Start processing a received message in [{0}] by [{1}] ...", this.name, this.handler));
-						if (message instanceof TextMessage) {
-							TextMessage textMessage = (TextMessage) message;
-							String text = textMessage.getText();
-							String wrapper = generateWrapperOnMessage(text);
-							ScriptEngineExecutorsManager.executeServiceCode(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, wrapper, null);
-						} else {
-							throw new MessagingException(format("Invalid message [{0}] has been received in destination [{1}]", message, this.name));
+						continue;
+					}
+					messages.add(message);
+					// the batch does not go beyond the next acknowledgement
+					int limit = batched ? (this.batchAck - pending) : batchSize;
+					while (messages.size() < limit) {
+						message = consumer.receiveNoWait();
+						if (message == null) {
+							break;
 						}
-						logger.trace(format("Done processing the received message in [{0}] by [{1}]", this.name, this.handler));
+						messages.add(message);
 					}
-				} else {
-					message = consumer.receive(this.timeout);
-					logger.debug(format("Received message in [{0}] by synchronous consumer.", this.name));
-					if (message instanceof TextMessage) {
-						TextMessage textMessage = (TextMessage) message;
-						String text = textMessage.getText();
-						return text;
+					handleMessages(messages);
+					if (batched) {
+						unacknowledged = messages.get(messages.size() - 1);
+						pending += messages.size();
+						if (pending >= this.batchAck) {
+							unacknowledged.acknowledge();
+							unacknowledged = null;
+							pending = 0;
+						}
 					}
-					return null;
+					messages.clear();
+				}
+				if (unacknowledged != null) {
+					unacknowledged.acknowledge();
 				}
 			} finally {
 				consumer.close();
@@ -164,55 +238,89 @@ public class MessagingConsumer implements Runnable, ExceptionListener {
 		return null;
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see javax.jms.ExceptionListener#onException(javax.jms.JMSException)
+	/**
+	 * Pass the received messages to the handler. The messages are put in the execution context of the wrapper module,
+	 * which is the same for all the listeners, so that neither the wrapper nor the handler are compiled per message, and
+	 * the handler is resolved once for all of them. A failure of the handler is logged and does not stop the consumer.
+	 *
+	 * @param messages
+	 *            the messages
+	 * @throws JMSException
+	 *             the JMS exception
 	 */
-	@Override
-	public synchronized void onException(JMSException exception) {
-		String wrapper = generateWrapperOnError(exception.getMessage());
+	private void handleMessages(List<Message> messages) throws JMSException {
+		List<String> texts = new ArrayList<String>(messages.size());
+		for (Message message : messages) {
+			if (message instanceof TextMessage) {
+				texts.add(((TextMessage) message).getText());
+			} else {
+				logger.error(format("Invalid message [{0}] has been received in destination [{1}]", message, this.name));
+			}
+		}
+		if (texts.isEmpty()) {
+			return;
+		}
+		logger.trace(format("Start processing [{0}] received messages in [{1}] by [{2}] ...", texts.size(), this.name, this.handler));
+		Map<Object, Object> executionContext = new HashMap<Object, Object>();
+		executionContext.put(CONTEXT_HANDLER, this.handler);
+		executionContext.put(CONTEXT_MESSAGES, texts);
 		try {
-			ScriptEngineExecutorsManager.executeServiceCode(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, wrapper, null);
+			ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, WRAPPER_ON_MESSAGE, executionContext);
 		} catch (ScriptingException e) {
-			logger.error(e.getMessage(), e);
+			logger.error(format("Processing the messages in [{0}] by [{1}] failed: {2}", this.name, this.handler, e.getMessage()), e);
 		}
-		logger.error(exception.getMessage(), exception);
+		logger.trace(format("Done processing the received messages in [{0}] by [{1}]", this.name, this.handler));
 	}
 
 	/**
-	 * Generate wrapper on message.
+	 * Receive a single message over a pooled session. The consumer itself is not cached, so that it does not hold
+	 * prefetched messages or topic subscriptions while the session is idle.
 	 *
-	 * @param message
-	 *            the message
-	 * @return the string
+	 * @return the text of the message or null, if there is no message within the timeout
+	 * @throws JMSException
+	 *             the JMS exception
+	 * @throws MessagingException
+	 *             in case of invalid destination type
 	 */
-	private String generateWrapperOnMessage(String message) {
-		String wrapper = new StringBuilder().append("var handler = require('").append(escapeCodeString(this.handler))
-				.append("');handler.onMessage('" + escapeCodeString(message) + "');").toString();
-		return wrapper;
+	private String receivePooled() throws JMSException, MessagingException {
+		MessagingConnectionPool pool = SchedulerManager.getConnectionPool();
+		PooledSession pooledSession = pool.borrow(false);
+		boolean reusable = false;
+		try {
+			MessageConsumer consumer = pooledSession.getSession().createConsumer(pooledSession.createDestination(this.name, this.type));
+			try {
+				Message message = consumer.receive(this.timeout);
+				logger.debug(format("Received message in [{0}] by synchronous consumer.", this.name));
+				reusable = true;
+				if (message instanceof TextMessage) {
+					TextMessage textMessage = (TextMessage) message;
+					String text = textMessage.getText();
+					return text;
+				}
+				return null;
+			} finally {
+				consumer.close();
+			}
+		} finally {
+			pool.release(pooledSession, reusable);
+		}
 	}
 
-	/**
-	 * Generate wrapper on error.
-	 *
-	 * @param error
-	 *            the error
-	 * @return the string
+	/*
+	 * (non-Javadoc)
+	 * @see javax.jms.ExceptionListener#onException(javax.jms.JMSException)
 	 */
-	private String generateWrapperOnError(String error) {
-		String wrapper = new StringBuilder().append("var handler = require('").append(escapeCodeString(this.handler))
-				.append("');handler.onError('" + escapeCodeString(error) + "');").toString();
-		return wrapper;
+	@Override
+	public synchronized void onException(JMSException exception) {
+		Map<Object, Object> executionContext = new HashMap<Object, Object>();
+		executionContext.put(CONTEXT_HANDLER, this.handler);
+		executionContext.put(CONTEXT_ERROR, exception.getMessage());
+		try {
+			ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, WRAPPER_ON_ERROR, executionContext);
+		} catch (ScriptingException e) {
+			logger.error(e.getMessage(), e);
+		}
+		logger.error(exception.getMessage(), exception);
 	}
 
-	/**
-	 * Escape code string.
-	 *
-	 * @param raw
-	 *            the raw
-	 * @return the string
-	 */
-	private String escapeCodeString(String raw) {
-		return raw.replace("'", "&amp;");
-	}
 }
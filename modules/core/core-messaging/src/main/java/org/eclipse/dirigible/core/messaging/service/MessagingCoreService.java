@@ -54,12 +54,26 @@ public class MessagingCoreService implements IMessagingCoreService {
 	 */
 	@Override
 	public ListenerDefinition createListener(String location, String name, char type, String handler, String description) throws MessagingException {
+		return createListener(location, name, type, handler, description, 0, 0, 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.messaging.api.IMessagingCoreService#createListener(java.lang.String,
+	 * java.lang.String, char, java.lang.String, java.lang.String, int, int, int)
+	 */
+	@Override
+	public ListenerDefinition createListener(String location, String name, char type, String handler, String description, int concurrency,
+			int prefetch, int batchAck) throws MessagingException {
 		ListenerDefinition listenerDefinition = new ListenerDefinition();
 		listenerDefinition.setLocation(location);
 		listenerDefinition.setName(name);
 		listenerDefinition.setType(type);
 		listenerDefinition.setHandler(handler);
 		listenerDefinition.setDescription(description);
+		listenerDefinition.setConcurrency(concurrency);
+		listenerDefinition.setPrefetch(prefetch);
+		listenerDefinition.setBatchAck(batchAck);
 		listenerDefinition.setCreatedBy(UserFacade.getName());
 		listenerDefinition.setCreatedAt(new Timestamp(new java.util.Date().getTime()));
 
@@ -159,6 +173,17 @@ public class MessagingCoreService implements IMessagingCoreService {
 	 */
 	@Override
 	public void updateListener(String location, String name, char type, String handler, String description) throws MessagingException {
+		updateListener(location, name, type, handler, description, 0, 0, 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.messaging.api.IMessagingCoreService#updateListener(java.lang.String,
+	 * java.lang.String, char, java.lang.String, java.lang.String, int, int, int)
+	 */
+	@Override
+	public void updateListener(String location, String name, char type, String handler, String description, int concurrency, int prefetch,
+			int batchAck) throws MessagingException {
 		try {
 			Connection connection = null;
 			try {
@@ -168,6 +193,9 @@ public class MessagingCoreService implements IMessagingCoreService {
 				listenerDefinition.setType(type);
 				listenerDefinition.setHandler(handler);
 				listenerDefinition.setDescription(description);
+				listenerDefinition.setConcurrency(concurrency);
+				listenerDefinition.setPrefetch(prefetch);
+				listenerDefinition.setBatchAck(batchAck);
 				listenerPersistenceManager.update(connection, listenerDefinition);
 			} finally {
 				if (connection != null) {
@@ -12,16 +12,15 @@ package org.eclipse.dirigible.core.messaging.service;
 
 import static java.text.MessageFormat.format;
 
-import javax.jms.Connection;
-import javax.jms.DeliveryMode;
-import javax.jms.Destination;
+import java.util.List;
+
+import javax.jms.JMSException;
 import javax.jms.MessageProducer;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 
-import org.apache.activemq.ActiveMQConnectionFactory;
-import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
 import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.eclipse.dirigible.core.messaging.service.MessagingConnectionPool.PooledSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,35 +58,92 @@ public class MessagingProducer implements Runnable {
 	@Override
 	public void run() {
 		try {
-			ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(SchedulerManager.CONNECTOR_URL_ATTACH);
+			send(this.name, this.type, this.message);
+		} catch (Exception e) {
+			logger.error(e.getMessage(), e);
+		}
+	}
 
-			Connection connection = connectionFactory.createConnection();
-			connection.start();
+	/**
+	 * Send a message over a pooled session.
+	 *
+	 * @param name
+	 *            the name of the destination
+	 * @param type
+	 *            the type of the destination
+	 * @param message
+	 *            the message
+	 * @throws MessagingException
+	 *             in case the message cannot be sent
+	 */
+	public static void send(String name, char type, String message) throws MessagingException {
+		MessagingConnectionPool pool = SchedulerManager.getConnectionPool();
+		try {
+			PooledSession pooledSession = pool.borrow(false);
+			boolean reusable = false;
+			try {
+				MessageProducer producer = pooledSession.getProducer(name, type);
+				TextMessage textMessage = pooledSession.getSession().createTextMessage(message);
+				producer.send(textMessage);
+				reusable = true;
+				logger.trace(format("Message sent in [{0}]", name));
+			} finally {
+				pool.release(pooledSession, reusable);
+			}
+		} catch (JMSException e) {
+			throw new MessagingException(e);
+		}
+	}
 
-			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+	/**
+	 * Send the messages in a single transaction over a pooled session - either all of them are sent or none.
+	 *
+	 * @param name
+	 *            the name of the destination
+	 * @param type
+	 *            the type of the destination
+	 * @param messages
+	 *            the messages
+	 * @throws MessagingException
+	 *             in case the messages cannot be sent
+	 */
+	public static void sendBatch(String name, char type, List<String> messages) throws MessagingException {
+		MessagingConnectionPool pool = SchedulerManager.getConnectionPool();
+		try {
+			PooledSession pooledSession = pool.borrow(true);
+			Session session = pooledSession.getSession();
+			boolean reusable = false;
 			try {
-				Destination destination = null;
-				if (type == IMessagingCoreService.QUEUE) {
-					destination = session.createQueue(this.name);
-				} else if (type == IMessagingCoreService.TOPIC) {
-					destination = session.createTopic(this.name);
-				} else {
-					throw new MessagingException(format("Invalid Destination Type [{0}] for destination [{1}]", this.type, this.name));
+				MessageProducer producer = pooledSession.getProducer(name, type);
+				for (String message : messages) {
+					producer.send(session.createTextMessage(message));
 				}
-
-				MessageProducer producer = session.createProducer(destination);
-				producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-
-				TextMessage textMessage = session.createTextMessage(this.message);
-
-				producer.send(textMessage);
-				logger.trace(format("Message sent in [{0}]", this.name));
+				session.commit();
+				reusable = true;
+				logger.trace(format("{0} messages sent in [{1}]", messages.size(), name));
 			} finally {
-				session.close();
-				connection.close();
+				if (!reusable) {
+					rollbackQuietly(session);
+				}
+				pool.release(pooledSession, reusable);
 			}
-		} catch (Exception e) {
-			logger.error(e.getMessage(), e);
+		} catch (JMSException e) {
+			throw new MessagingException(e);
+		}
+	}
+
+	/**
+	 * Rollback the session, logging the failures.
+	 *
+	 * @param session
+	 *            the session
+	 */
+	private static void rollbackQuietly(Session session) {
+		try {
+			session.rollback();
+		} catch (JMSException | RuntimeException e) {
+			logger.debug(e.getMessage(), e);
 		}
 	}
+
 }
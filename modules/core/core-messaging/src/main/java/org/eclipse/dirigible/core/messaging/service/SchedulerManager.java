@@ -29,6 +29,7 @@ import org.apache.activemq.store.PersistenceAdapter;
 import org.apache.activemq.store.jdbc.JDBCPersistenceAdapter;
 import org.apache.activemq.store.kahadb.plist.PListStoreImpl;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
 import org.eclipse.dirigible.core.messaging.definition.ListenerDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +47,9 @@ public class SchedulerManager {
 	/** The Constant CONNECTOR_URL. */
 	private static final String CONNECTOR_URL = "vm://localhost";
 
+	/** The Constant DIRIGIBLE_MESSAGING_POOL_MAX_IDLE_SESSIONS. */
+	public static final String DIRIGIBLE_MESSAGING_POOL_MAX_IDLE_SESSIONS = "DIRIGIBLE_MESSAGING_POOL_MAX_IDLE_SESSIONS";
+
 	/** The Constant LOCATION_TEMP_STORE. */
 	private static final String LOCATION_TEMP_STORE = "./target/temp/kahadb";
 
@@ -54,7 +58,9 @@ public class SchedulerManager {
 
 	private static BrokerService broker;
 
-	private static Map<String, MessagingConsumer> LISTENERS = Collections.synchronizedMap(new HashMap<String, MessagingConsumer>());
+	private static Map<String, List<MessagingConsumer>> LISTENERS = Collections.synchronizedMap(new HashMap<String, List<MessagingConsumer>>());
+
+	private static volatile MessagingConnectionPool connectionPool;
 
 	/**
 	 * Initialize.
@@ -90,12 +96,47 @@ public class SchedulerManager {
 	 *             the exception
 	 */
 	public static void shutdown() throws Exception {
-		for (MessagingConsumer consumer : LISTENERS.values()) {
-			consumer.stop();
+		synchronized (LISTENERS) {
+			for (List<MessagingConsumer> workers : LISTENERS.values()) {
+				for (MessagingConsumer consumer : workers) {
+					consumer.stop();
+				}
+			}
+		}
+		synchronized (SchedulerManager.class) {
+			if (connectionPool != null) {
+				connectionPool.close();
+				connectionPool = null;
+			}
+		}
+		synchronized (SchedulerManager.class) {
+			if (broker != null) {
+				broker.stop();
+				// a new broker is started on the next initialization
+				broker = null;
+			}
 		}
-		if (broker != null) {
-			broker.stop();
+	}
+
+	/**
+	 * Gets the pool of the sessions to the embedded broker used by the producers and the synchronous consumers.
+	 *
+	 * @return the connection pool
+	 */
+	public static MessagingConnectionPool getConnectionPool() {
+		MessagingConnectionPool pool = connectionPool;
+		if (pool == null) {
+			synchronized (SchedulerManager.class) {
+				pool = connectionPool;
+				if (pool == null) {
+					Configuration.load("/dirigible-messaging.properties");
+					pool = new MessagingConnectionPool(CONNECTOR_URL_ATTACH,
+							Integer.parseInt(Configuration.get(DIRIGIBLE_MESSAGING_POOL_MAX_IDLE_SESSIONS, "16")));
+					connectionPool = pool;
+				}
+			}
 		}
+		return pool;
 	}
 
 	/**
@@ -108,19 +149,31 @@ public class SchedulerManager {
 	}
 
 	/**
-	 * Adds listener.
+	 * Adds listener. The configured number of consumer workers are started for a queue, while a topic has always a
+	 * single one, as each of them would receive every message.
 	 *
 	 * @param listener
 	 *            the listener
 	 */
 	public void startListener(ListenerDefinition listener) {
 		if (!LISTENERS.keySet().contains(listener.getLocation())) {
-			MessagingConsumer consumer = new MessagingConsumer(listener.getName(), listener.getType(), listener.getHandler(), 1000);
-			Thread consumerThread = new Thread(consumer);
-			consumerThread.setDaemon(false);
-			consumerThread.start();
-			LISTENERS.put(listener.getLocation(), consumer);
-			logger.info("Listener started: " + listener.getLocation());
+			int concurrency = Math.max(1, listener.getConcurrency());
+			if ((concurrency > 1) && (listener.getType() == IMessagingCoreService.TOPIC)) {
+				logger.warn(format("Listener at [{0}] is for a topic and will be started with a single consumer instead of {1}", listener.getLocation(),
+						concurrency));
+				concurrency = 1;
+			}
+			List<MessagingConsumer> workers = new ArrayList<MessagingConsumer>(concurrency);
+			for (int i = 0; i < concurrency; i++) {
+				MessagingConsumer consumer = new MessagingConsumer(listener.getName(), listener.getType(), listener.getHandler(), 1000,
+						listener.getPrefetch(), listener.getBatchAck());
+				Thread consumerThread = new Thread(consumer, "dirigible-listener-" + listener.getName() + "-" + i);
+				consumerThread.setDaemon(false);
+				consumerThread.start();
+				workers.add(consumer);
+			}
+			LISTENERS.put(listener.getLocation(), workers);
+			logger.info(format("Listener started: {0} with {1} consumer(s)", listener.getLocation(), concurrency));
 		} else {
 			logger.warn(format("Message consumer for listener at [{0}] already running!", listener.getLocation()));
 		}
@@ -133,10 +186,11 @@ public class SchedulerManager {
 	 *            the listener
 	 */
 	public void stopListener(ListenerDefinition listener) {
-		MessagingConsumer consumer = LISTENERS.get(listener.getLocation());
-		if (consumer != null) {
-			consumer.stop();
-			LISTENERS.remove(listener.getLocation());
+		List<MessagingConsumer> workers = LISTENERS.remove(listener.getLocation());
+		if (workers != null) {
+			for (MessagingConsumer consumer : workers) {
+				consumer.stop();
+			}
 			logger.info("Listener stopped: " + listener.getLocation());
 		} else {
 			logger.warn(format("There is no a message consumer for listener at [{0}] running!", listener.getLocation()));
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.api.MessagingException;
+import org.eclipse.dirigible.core.messaging.service.MessagingConnectionPool;
+import org.eclipse.dirigible.core.messaging.service.MessagingConnectionPool.PooledSession;
+import org.eclipse.dirigible.core.messaging.service.MessagingConsumer;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
+import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class MessagingConnectionPoolTest.
+ */
+public class MessagingConnectionPoolTest extends AbstractGuiceTest {
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		getInjector().getInstance(SchedulerManager.class).initialize();
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		SchedulerManager.shutdown();
+	}
+
+	/**
+	 * The session and its producer are reused by the subsequent sends.
+	 *
+	 * @throws JMSException
+	 *             the JMS exception
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	@Test
+	public void sessionReuseTest() throws JMSException, MessagingException {
+		drain("pool_reuse");
+		MessagingConnectionPool pool = SchedulerManager.getConnectionPool();
+		PooledSession first = pool.borrow(false);
+		Session session = first.getSession();
+		MessageProducer producer = first.getProducer("pool_reuse", IMessagingCoreService.QUEUE);
+		assertEquals(1, pool.getActiveSessions());
+		pool.release(first, true);
+		assertEquals(0, pool.getActiveSessions());
+		assertEquals(1, pool.getIdleSessions());
+
+		// the sends borrow the idle session, instead of creating a new one
+		MessagingProducer.send("pool_reuse", IMessagingCoreService.QUEUE, "first");
+		MessagingProducer.send("pool_reuse", IMessagingCoreService.QUEUE, "second");
+		assertEquals(0, pool.getActiveSessions());
+		assertEquals(1, pool.getIdleSessions());
+
+		PooledSession second = pool.borrow(false);
+		try {
+			assertSame(session, second.getSession());
+			assertSame(producer, second.getProducer("pool_reuse", IMessagingCoreService.QUEUE));
+		} finally {
+			pool.release(second, true);
+		}
+
+		assertEquals("first", new MessagingConsumer("pool_reuse", IMessagingCoreService.QUEUE, 1000).receiveMessage());
+		assertEquals("second", new MessagingConsumer("pool_reuse", IMessagingCoreService.QUEUE, 1000).receiveMessage());
+	}
+
+	/**
+	 * A batch failing in the middle is rolled back and its session is not reused.
+	 *
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	@Test
+	public void batchRollbackTest() throws MessagingException {
+		drain("pool_batch");
+		MessagingConnectionPool pool = SchedulerManager.getConnectionPool();
+		List<String> failing = new AbstractList<String>() {
+
+			@Override
+			public String get(int index) {
+				if (index == 2) {
+					throw new IllegalStateException("The third message cannot be created");
+				}
+				return "message" + index;
+			}
+
+			@Override
+			public int size() {
+				return 3;
+			}
+		};
+		try {
+			MessagingProducer.sendBatch("pool_batch", IMessagingCoreService.QUEUE, failing);
+			fail("The batch is expected to fail");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		// the transacted session is discarded - only the one used for draining the queue is idle
+		assertEquals(0, pool.getActiveSessions());
+		assertEquals(1, pool.getIdleSessions());
+		// none of the messages sent before the failure are delivered
+		assertNull(new MessagingConsumer("pool_batch", IMessagingCoreService.QUEUE, 500).receiveMessage());
+
+		// the transacted session of a successful batch is kept for reuse
+		int idle = pool.getIdleSessions();
+		MessagingProducer.sendBatch("pool_batch", IMessagingCoreService.QUEUE, Arrays.asList("first", "second"));
+		assertEquals(idle + 1, pool.getIdleSessions());
+		assertEquals("first", new MessagingConsumer("pool_batch", IMessagingCoreService.QUEUE, 1000).receiveMessage());
+		assertEquals("second", new MessagingConsumer("pool_batch", IMessagingCoreService.QUEUE, 1000).receiveMessage());
+	}
+
+	/**
+	 * Remove the messages left in the persistent queue by a previous run.
+	 *
+	 * @param name
+	 *            the name of the queue
+	 */
+	private void drain(String name) {
+		while (new MessagingConsumer(name, IMessagingCoreService.QUEUE, 100).receiveMessage() != null) {
+			// skip
+		}
+	}
+
+}
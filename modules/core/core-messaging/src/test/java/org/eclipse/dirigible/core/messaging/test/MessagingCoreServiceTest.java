@@ -61,6 +61,23 @@ public class MessagingCoreServiceTest extends AbstractGuiceTest {
 		messagingCoreService.removeListener("/test_listener1");
 	}
 
+	/**
+	 * Creates the listener with consumer settings test.
+	 *
+	 * @throws MessagingException
+	 *             the messaging exception
+	 */
+	@Test
+	public void createListenerWithSettingsTest() throws MessagingException {
+		messagingCoreService.removeListener("/test_listener1");
+		messagingCoreService.createListener("/test_listener1", "test_listener1", IMessagingCoreService.QUEUE, "test_handler1", "Test", 4, 10, 5);
+		ListenerDefinition listenerDefinition = messagingCoreService.getListener("/test_listener1");
+		assertEquals(4, listenerDefinition.getConcurrency());
+		assertEquals(10, listenerDefinition.getPrefetch());
+		assertEquals(5, listenerDefinition.getBatchAck());
+		messagingCoreService.removeListener("/test_listener1");
+	}
+
 	/**
 	 * Gets the listener test.
 	 *
@@ -75,6 +75,15 @@ public class RegistrySynchronizer extends AbstractSynchronizer {
 		targetLocations.put(targetLocation, true);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#isIncrementalSynchronizationSupported()
+	 */
+	@Override
+	protected boolean isIncrementalSynchronizationSupported() {
+		// the target files not found on each walk of the registry are removed
+		return false;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#cleanup()
 	 */
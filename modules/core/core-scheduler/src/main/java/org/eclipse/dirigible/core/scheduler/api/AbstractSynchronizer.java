@@ -12,27 +12,45 @@ package org.eclipse.dirigible.core.scheduler.api;
 
 import static java.text.MessageFormat.format;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The AbstractSynchronizer.
+ * The AbstractSynchronizer. The registry is walked fully only on the first run, periodically and after removals in it
+ * - otherwise only the resources changed since the previous run are synchronized, as recorded in the journal of the
+ * repository. The steps of the subclasses, which rely on all the artefacts being enumerated, such as the cleanup, have
+ * to be performed only when {@link #isFullSynchronization()} is true.
  */
 public abstract class AbstractSynchronizer implements ISynchronizer {
 
 	private static final Logger logger = LoggerFactory.getLogger(AbstractSynchronizer.class);
 
+	/** The Constant DIRIGIBLE_SYNCHRONIZER_FULL_SCAN_INTERVAL. */
+	public static final String DIRIGIBLE_SYNCHRONIZER_FULL_SCAN_INTERVAL = "DIRIGIBLE_SYNCHRONIZER_FULL_SCAN_INTERVAL"; //$NON-NLS-1$
+
+	private static final String DEFAULT_FULL_SCAN_INTERVAL = "300000"; //$NON-NLS-1$
+
 	@Inject
 	private IRepository repository;
 
+	private long checkpoint = -1;
+
+	private long lastFullSynchronization;
+
+	private boolean fullSynchronization = true;
+
 	/**
 	 * Gets the repository.
 	 *
@@ -49,12 +67,127 @@ public abstract class AbstractSynchronizer implements ISynchronizer {
 	 *             the synchronization exception
 	 */
 	protected void synchronizeRegistry() throws SynchronizationException {
-		ICollection collection = getRepository().getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
-		if (collection.exists()) {
-			synchronizeCollection(collection);
+		RepositoryJournal journal = getRepository().getRepositoryJournal();
+		// taken before the walk, so that the changes made meanwhile are synchronized again on the next run
+		long sequence = (journal != null) ? journal.getSequence() : -1;
+		List<RepositoryJournal.Entry> entries = null;
+		if ((journal != null) && isIncrementalSynchronizationSupported() && !isFullSynchronizationDue()) {
+			entries = journal.getEntries(checkpoint);
+			if (entries != null) {
+				for (RepositoryJournal.Entry entry : entries) {
+					if (entry.getKind().isRemoval() && isRegistryPath(entry.getPath())) {
+						// the removed artefacts are found only by a cleanup after a full walk
+						entries = null;
+						break;
+					}
+				}
+			}
+		}
+
+		fullSynchronization = (entries == null);
+		if (fullSynchronization) {
+			ICollection collection = getRepository().getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+			if (collection.exists()) {
+				synchronizeCollection(collection);
+			}
+			lastFullSynchronization = System.currentTimeMillis();
+		} else {
+			synchronizeChanges(entries);
+		}
+		checkpoint = sequence;
+	}
+
+	/**
+	 * Synchronize the resources and the collections in the registry changed according to the journal entries.
+	 *
+	 * @param entries
+	 *            the journal entries
+	 * @throws SynchronizationException
+	 *             the synchronization exception
+	 */
+	private void synchronizeChanges(List<RepositoryJournal.Entry> entries) throws SynchronizationException {
+		Set<String> synchronizedPaths = new HashSet<String>();
+		for (RepositoryJournal.Entry entry : entries) {
+			String path = entry.getPath();
+			if (!isRegistryPath(path) || !synchronizedPaths.add(path)) {
+				continue;
+			}
+			if (entry.getKind() == RepositoryJournal.Kind.COLLECTION_CHANGED) {
+				if (isRegistryParentPath(path)) {
+					// the whole registry is beneath the changed collection
+					path = IRepositoryStructure.PATH_REGISTRY_PUBLIC;
+				}
+				ICollection collection = getRepository().getCollection(path);
+				if (collection.exists()) {
+					synchronizeCollection(collection);
+				}
+			} else {
+				IResource resource = getRepository().getResource(path);
+				if (resource.exists()) {
+					try {
+						synchronizeResource(resource);
+					} catch (Exception e) {
+						logger.error(format("Resource [{0}] skipped due to an error: {1}", resource.getPath(), e.getMessage()), e);
+					}
+				}
+			}
 		}
 	}
 
+	/**
+	 * Checks whether the path is in the registry or is one of its parent collections.
+	 *
+	 * @param path
+	 *            the path
+	 * @return true, if a change of the path affects the registry
+	 */
+	private boolean isRegistryPath(String path) {
+		return path.equals(IRepositoryStructure.PATH_REGISTRY_PUBLIC) || path.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC + IRepository.SEPARATOR)
+				|| isRegistryParentPath(path);
+	}
+
+	/**
+	 * Checks whether the path is one of the parent collections of the registry.
+	 *
+	 * @param path
+	 *            the path
+	 * @return true, if the whole registry is beneath the path
+	 */
+	private boolean isRegistryParentPath(String path) {
+		return path.equals(IRepository.SEPARATOR) || IRepositoryStructure.PATH_REGISTRY_PUBLIC.startsWith(path + IRepository.SEPARATOR);
+	}
+
+	/**
+	 * Checks whether the periodic full walk of the registry is due. It covers the changes not recorded in the journal of
+	 * this process, e.g. the ones made by the other nodes of a cluster.
+	 *
+	 * @return true, if the full synchronization is due
+	 */
+	private boolean isFullSynchronizationDue() {
+		long interval = Long.parseLong(Configuration.get(DIRIGIBLE_SYNCHRONIZER_FULL_SCAN_INTERVAL, DEFAULT_FULL_SCAN_INTERVAL));
+		return (checkpoint < 0) || (interval <= 0) || ((System.currentTimeMillis() - lastFullSynchronization) >= interval);
+	}
+
+	/**
+	 * Checks whether the last run of {@link #synchronizeRegistry()} has walked the whole registry, so that all the
+	 * artefacts in it have been enumerated.
+	 *
+	 * @return true, if it was a full synchronization
+	 */
+	protected boolean isFullSynchronization() {
+		return fullSynchronization;
+	}
+
+	/**
+	 * Checks whether the synchronizer can process only the changed resources. The synchronizers, which rely on the whole
+	 * registry being walked on each run, have to return false.
+	 *
+	 * @return true, if the incremental synchronization is supported
+	 */
+	protected boolean isIncrementalSynchronizationSupported() {
+		return true;
+	}
+
 	/**
 	 * Synchronize collection.
 	 *
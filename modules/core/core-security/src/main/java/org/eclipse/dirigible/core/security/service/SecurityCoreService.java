@@ -34,6 +34,7 @@ import org.eclipse.dirigible.core.security.api.ISecurityCoreService;
 import org.eclipse.dirigible.core.security.definition.AccessArtifact;
 import org.eclipse.dirigible.core.security.definition.AccessDefinition;
 import org.eclipse.dirigible.core.security.definition.RoleDefinition;
+import org.eclipse.dirigible.core.security.verifier.AccessVerifier;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 
@@ -327,6 +328,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 			try {
 				connection = dataSource.getConnection();
 				accessPersistenceManager.delete(connection, AccessDefinition.class, id);
+				clearCache();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -375,7 +377,8 @@ public class SecurityCoreService implements ISecurityCoreService {
 	@Override
 	public List<AccessDefinition> getAccessDefinitions() throws AccessException {
 		if (!CACHE.isEmpty()) {
-			return Collections.unmodifiableList(CACHE);
+			// a copy, as the cache is cleared when an access definition is removed
+			return Collections.unmodifiableList(new ArrayList<AccessDefinition>(CACHE));
 		}
 		try {
 			Connection connection = null;
@@ -504,6 +507,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 	 */
 	public void clearCache() {
 		CACHE.clear();
+		AccessVerifier.invalidate();
 	}
 
 	public void dropModifiedAccessDefinitions(String location, String hash) throws AccessException {
@@ -520,6 +524,7 @@ public class SecurityCoreService implements ISecurityCoreService {
 				} finally {
 					statement.close();
 				}
+				clearCache();
 			} finally {
 				if (connection != null) {
 					connection.close();
@@ -42,6 +42,7 @@ import org.eclipse.dirigible.core.security.api.ISecurityCoreService;
 import org.eclipse.dirigible.core.security.definition.AccessDefinition;
 import org.eclipse.dirigible.core.security.definition.RoleDefinition;
 import org.eclipse.dirigible.core.security.service.SecurityCoreService;
+import org.eclipse.dirigible.core.security.verifier.AccessVerifier;
 import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
@@ -140,6 +141,8 @@ public class SecuritySynchronizer extends AbstractSynchronizer {
 	public void synchronize() {
 		synchronized (SecuritySynchronizer.class) {
 			logger.trace("Synchronizing Roles and Access artifacts...");
+			// the security filter keeps checking against the previous definitions until all of them are synchronized
+			AccessVerifier.startUpdate();
 			try {
 				if (!upgradePassed) {
 					upgradePassed = checkUpgrade();
@@ -147,10 +150,14 @@ public class SecuritySynchronizer extends AbstractSynchronizer {
 				clearCache();
 				synchronizePredelivered();
 				synchronizeRegistry();
-				cleanup();
+				if (isFullSynchronization()) {
+					cleanup();
+				}
 				clearCache();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for Roles and Access artifacts failed.", e);
+			} finally {
+				AccessVerifier.finishUpdate(securityCoreService);
 			}
 			logger.trace("Done synchronizing Roles and Access artifacts.");
 		}
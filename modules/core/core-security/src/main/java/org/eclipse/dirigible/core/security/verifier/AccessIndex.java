@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.dirigible.core.security.definition.AccessDefinition;
+
+/**
+ * Immutable index of the access definitions - a prefix trie of the paths per scope. Each node holds the definitions,
+ * which path ends at it, so that the most specific definitions for a given path are found in a single walk along its
+ * characters.
+ */
+public class AccessIndex {
+
+	private static final String METHOD_ANY = "*";
+
+	private static final Node EMPTY = new Node(new char[0], new Node[0], new AccessDefinition[0]);
+
+	private final Map<String, Node> roots;
+
+	private final long version;
+
+	/**
+	 * Instantiates a new access index.
+	 *
+	 * @param accessDefinitions
+	 *            the access definitions
+	 * @param version
+	 *            the version of the access definitions
+	 */
+	public AccessIndex(List<AccessDefinition> accessDefinitions, long version) {
+		Map<String, NodeBuilder> builders = new HashMap<String, NodeBuilder>();
+		for (AccessDefinition accessDefinition : accessDefinitions) {
+			if ((accessDefinition.getScope() == null) || (accessDefinition.getPath() == null) || (accessDefinition.getMethod() == null)) {
+				continue;
+			}
+			String scope = normalizeScope(accessDefinition.getScope());
+			NodeBuilder root = builders.get(scope);
+			if (root == null) {
+				root = new NodeBuilder();
+				builders.put(scope, root);
+			}
+			root.add(accessDefinition);
+		}
+		Map<String, Node> built = new HashMap<String, Node>();
+		for (Map.Entry<String, NodeBuilder> entry : builders.entrySet()) {
+			built.put(entry.getKey(), entry.getValue().build());
+		}
+		this.roots = built;
+		this.version = version;
+	}
+
+	/**
+	 * Gets the version of the access definitions the index has been built from.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the most specific access definitions matching the path - the ones with the longest path, which is a prefix of
+	 * the given one, and with the same or any method.
+	 *
+	 * @param scope
+	 *            the scope
+	 * @param path
+	 *            the path
+	 * @param method
+	 *            the method
+	 * @return the matching access definitions
+	 */
+	public List<AccessDefinition> getMatchingAccessDefinitions(String scope, String path, String method) {
+		Node node = roots.get(normalizeScope(scope));
+		Node best = null;
+		int index = 0;
+		while (node != null) {
+			if (node.matches(method)) {
+				best = node;
+			}
+			if (index == path.length()) {
+				break;
+			}
+			node = node.getChild(path.charAt(index++));
+		}
+		List<AccessDefinition> matching = new ArrayList<AccessDefinition>();
+		if (best != null) {
+			for (AccessDefinition accessDefinition : best.definitions) {
+				if (matches(accessDefinition, method)) {
+					matching.add(accessDefinition);
+				}
+			}
+		}
+		return matching;
+	}
+
+	/**
+	 * Normalize the scope, as it is not case sensitive.
+	 *
+	 * @param scope
+	 *            the scope
+	 * @return the normalized scope
+	 */
+	private static String normalizeScope(String scope) {
+		return scope.toUpperCase(Locale.ENGLISH);
+	}
+
+	/**
+	 * Checks whether the access definition is for the method.
+	 *
+	 * @param accessDefinition
+	 *            the access definition
+	 * @param method
+	 *            the method
+	 * @return true, if it matches
+	 */
+	private static boolean matches(AccessDefinition accessDefinition, String method) {
+		return METHOD_ANY.equals(accessDefinition.getMethod()) || accessDefinition.getMethod().equals(method);
+	}
+
+	/**
+	 * The immutable node of the trie with the children sorted by their character.
+	 */
+	private static final class Node {
+
+		private final char[] keys;
+
+		private final Node[] children;
+
+		private final AccessDefinition[] definitions;
+
+		/**
+		 * Instantiates a new node.
+		 *
+		 * @param keys
+		 *            the sorted characters of the children
+		 * @param children
+		 *            the children
+		 * @param definitions
+		 *            the definitions
+		 */
+		Node(char[] keys, Node[] children, AccessDefinition[] definitions) {
+			this.keys = keys;
+			this.children = children;
+			this.definitions = definitions;
+		}
+
+		/**
+		 * Gets the child for the next character of the path.
+		 *
+		 * @param key
+		 *            the character
+		 * @return the child or null
+		 */
+		Node getChild(char key) {
+			int position = Arrays.binarySearch(keys, key);
+			return (position >= 0) ? children[position] : null;
+		}
+
+		/**
+		 * Checks whether any of the definitions is for the method.
+		 *
+		 * @param method
+		 *            the method
+		 * @return true, if there is a matching definition
+		 */
+		boolean matches(String method) {
+			for (AccessDefinition accessDefinition : definitions) {
+				if (AccessIndex.matches(accessDefinition, method)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * The mutable node used while building the trie.
+	 */
+	private static final class NodeBuilder {
+
+		private final TreeMap<Character, NodeBuilder> children = new TreeMap<Character, NodeBuilder>();
+
+		private final List<AccessDefinition> definitions = new ArrayList<AccessDefinition>();
+
+		/**
+		 * Adds the access definition under its path.
+		 *
+		 * @param accessDefinition
+		 *            the access definition
+		 */
+		void add(AccessDefinition accessDefinition) {
+			NodeBuilder current = this;
+			String path = accessDefinition.getPath();
+			for (int i = 0; i < path.length(); i++) {
+				Character key = path.charAt(i);
+				NodeBuilder child = current.children.get(key);
+				if (child == null) {
+					child = new NodeBuilder();
+					current.children.put(key, child);
+				}
+				current = child;
+			}
+			current.definitions.add(accessDefinition);
+		}
+
+		/**
+		 * Build the immutable node.
+		 *
+		 * @return the node
+		 */
+		Node build() {
+			if (children.isEmpty() && definitions.isEmpty()) {
+				return EMPTY;
+			}
+			char[] keys = new char[children.size()];
+			Node[] nodes = new Node[children.size()];
+			int i = 0;
+			for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+				keys[i] = entry.getKey();
+				nodes[i] = entry.getValue().build();
+				i++;
+			}
+			return new Node(keys, nodes, definitions.toArray(new AccessDefinition[definitions.size()]));
+		}
+
+	}
+
+}
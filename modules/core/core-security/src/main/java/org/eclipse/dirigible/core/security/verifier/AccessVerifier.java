@@ -10,8 +10,9 @@
  */
 package org.eclipse.dirigible.core.security.verifier;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.servlet.ServletException;
 
@@ -22,12 +23,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Utility class that checks whether the location is secured via the *.access file
+ * Utility class that checks whether the location is secured via the *.access file. The checks are served by an
+ * immutable {@link AccessIndex}, which is replaced as a whole after the access definitions are changed.
  */
 public class AccessVerifier {
 
 	private static final Logger logger = LoggerFactory.getLogger(AccessVerifier.class);
 
+	private static final AtomicReference<AccessIndex> INDEX = new AtomicReference<AccessIndex>();
+
+	private static final AtomicLong VERSION = new AtomicLong();
+
+	private static volatile boolean updating;
+
 	/**
 	 * Checks whether the URI is secured via the *.access file or not
 	 *
@@ -47,26 +55,83 @@ public class AccessVerifier {
 	 */
 	public static List<AccessDefinition> getMatchingAccessDefinitions(ISecurityCoreService securityCoreService, String scope, String path, String method)
 			throws ServletException, AccessException {
-		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
-		AccessDefinition current = null;
-		for (AccessDefinition accessDefinition : securityCoreService.getAccessDefinitions()) {
-			if (scope.equalsIgnoreCase(accessDefinition.getScope()) && path.startsWith(accessDefinition.getPath())
-					&& (accessDefinition.getMethod().equals("*") || method.equals(accessDefinition.getMethod()))) {
+		List<AccessDefinition> accessDefinitions = getIndex(securityCoreService).getMatchingAccessDefinitions(scope, path, method);
+		if (accessDefinitions.isEmpty()) {
+			logger.trace(String.format("URI [%s] with HTTP method [%s] is NOT secured", path, method));
+		} else if (logger.isDebugEnabled()) {
+			for (AccessDefinition accessDefinition : accessDefinitions) {
 				logger.debug(String.format("URI [%s] with HTTP method [%s] is secured because of definition: %s", path, method,
 						accessDefinition.getLocation()));
-				if ((current == null) || (accessDefinition.getPath().length() > current.getPath().length())) {
-					current = accessDefinition;
-					accessDefinitions.clear();
-					accessDefinitions.add(accessDefinition);
-				} else if (accessDefinition.getPath().length() == current.getPath().length()) {
-					accessDefinitions.add(accessDefinition);
-				}
 			}
 		}
-		if (accessDefinitions.isEmpty()) {
-			logger.trace(String.format("URI [%s] with HTTP method [%s] is NOT secured", path, method));
-		}
 		return accessDefinitions;
 	}
 
+	/**
+	 * Invalidate the index after a change of the access definitions. It is rebuilt on the next check, unless an update
+	 * is in progress - then the current index is kept until the update is finished.
+	 */
+	public static void invalidate() {
+		VERSION.incrementAndGet();
+	}
+
+	/**
+	 * Start a bulk update of the access definitions - the checks keep using the current index in the meantime.
+	 */
+	public static void startUpdate() {
+		updating = true;
+	}
+
+	/**
+	 * Finish a bulk update of the access definitions by replacing the index with one built from the updated definitions.
+	 *
+	 * @param securityCoreService
+	 *            the security core service
+	 */
+	public static void finishUpdate(ISecurityCoreService securityCoreService) {
+		try {
+			rebuild(securityCoreService);
+		} catch (AccessException e) {
+			// the index is rebuilt on the next check
+			logger.error("Rebuilding the index of the access definitions failed: " + e.getMessage(), e);
+		} finally {
+			updating = false;
+		}
+	}
+
+	/**
+	 * Gets the current index, building it if there is none or if it is outdated.
+	 *
+	 * @param securityCoreService
+	 *            the security core service
+	 * @return the index
+	 * @throws AccessException
+	 *             the access exception
+	 */
+	private static AccessIndex getIndex(ISecurityCoreService securityCoreService) throws AccessException {
+		AccessIndex index = INDEX.get();
+		if ((index == null) || (!updating && (index.getVersion() != VERSION.get()))) {
+			index = rebuild(securityCoreService);
+		}
+		return index;
+	}
+
+	/**
+	 * Build a new index from the current access definitions and publish it.
+	 *
+	 * @param securityCoreService
+	 *            the security core service
+	 * @return the index
+	 * @throws AccessException
+	 *             the access exception
+	 */
+	private static AccessIndex rebuild(ISecurityCoreService securityCoreService) throws AccessException {
+		// the version is taken before reading the definitions, so that a concurrent change leaves the index outdated
+		long version = VERSION.get();
+		AccessIndex index = new AccessIndex(securityCoreService.getAccessDefinitions(), version);
+		INDEX.set(index);
+		logger.trace("Index of the access definitions rebuilt, version: " + version);
+		return index;
+	}
+
 }
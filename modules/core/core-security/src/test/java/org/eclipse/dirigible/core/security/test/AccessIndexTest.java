@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.core.security.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.core.security.definition.AccessDefinition;
+import org.eclipse.dirigible.core.security.verifier.AccessIndex;
+import org.junit.Test;
+
+/**
+ * The Class AccessIndexTest.
+ */
+public class AccessIndexTest {
+
+	/**
+	 * Longest prefix test.
+	 */
+	@Test
+	public void longestPrefixTest() {
+		List<AccessDefinition> accessDefinitions = new ArrayList<AccessDefinition>();
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d", "GET", "role1"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d", "GET", "role2"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d/", "GET", "role1"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d/", "*", "role2"));
+		accessDefinitions.add(createAccessDefinition("HTTP", "/a/b/c/d/e/f", "POST", "role3"));
+		accessDefinitions.add(createAccessDefinition("CMIS", "/a/b", "*", "role4"));
+		AccessIndex index = new AccessIndex(accessDefinitions, 0);
+
+		assertTrue(index.getMatchingAccessDefinitions("HTTP", "/a/b", "GET").isEmpty());
+		assertEquals(2, index.getMatchingAccessDefinitions("HTTP", "/a/b/c/d", "GET").size());
+		assertEquals(2, index.getMatchingAccessDefinitions("http", "/a/b/c/d/e", "GET").size());
+		assertEquals(1, index.getMatchingAccessDefinitions("HTTP", "/a/b/c/d/e", "PUT").size());
+		// the longer path is not for this method, so the shorter one applies
+		assertEquals(2, index.getMatchingAccessDefinitions("HTTP", "/a/b/c/d/e/f", "GET").size());
+		List<AccessDefinition> matching = index.getMatchingAccessDefinitions("HTTP", "/a/b/c/d/e/f/g", "POST");
+		assertEquals(1, matching.size());
+		assertEquals("role3", matching.get(0).getRole());
+		assertEquals(1, index.getMatchingAccessDefinitions("CMIS", "/a/b/c", "GET").size());
+		assertTrue(index.getMatchingAccessDefinitions("OTHER", "/a/b/c/d", "GET").isEmpty());
+	}
+
+	private AccessDefinition createAccessDefinition(String scope, String path, String method, String role) {
+		AccessDefinition accessDefinition = new AccessDefinition();
+		accessDefinition.setScope(scope);
+		accessDefinition.setPath(path);
+		accessDefinition.setMethod(method);
+		accessDefinition.setRole(role);
+		return accessDefinition;
+	}
+
+}
@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.core.workspace.service;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.eclipse.dirigible.core.workspace.api.IFile;
@@ -66,6 +67,15 @@ public class File implements IFile {
 		return internal.getContent();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentStream()
+	 */
+	@Override
+	public InputStream getContentStream() throws RepositoryReadException {
+		return internal.getContentStream();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IEntity#getName()
@@ -102,6 +112,25 @@ public class File implements IFile {
 		internal.setContent(content, isBinary, contentType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long)
+	 */
+	@Override
+	public void setContent(InputStream content, long length) throws RepositoryWriteException {
+		internal.setContent(content, length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long, boolean,
+	 * java.lang.String)
+	 */
+	@Override
+	public void setContent(InputStream content, long length, boolean isBinary, String contentType) throws RepositoryWriteException {
+		internal.setContent(content, length, isBinary, contentType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IEntity#getParent()
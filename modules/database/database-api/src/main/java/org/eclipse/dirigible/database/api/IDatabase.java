@@ -36,6 +36,20 @@ public interface IDatabase {
 
 	public static final String DIRIGIBLE_DATABASE_DEFAULT_WAIT_COUNT = "DIRIGIBLE_DATABASE_DEFAULT_WAIT_COUNT"; //$NON-NLS-1$
 
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED = "DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_ACQUIRE_TIMEOUT = "DIRIGIBLE_DATABASE_DEFAULT_ACQUIRE_TIMEOUT"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_INTERVAL = "DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_INTERVAL"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_TIMEOUT = "DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_TIMEOUT"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_ENABLED = "DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_ENABLED"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_THRESHOLD = "DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_THRESHOLD"; //$NON-NLS-1$
+
+	public static final String DIRIGIBLE_DATABASE_DEFAULT_STACK_TRACE_SAMPLE_RATE = "DIRIGIBLE_DATABASE_DEFAULT_STACK_TRACE_SAMPLE_RATE"; //$NON-NLS-1$
+
 	public static final String DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT = "DIRIGIBLE_DATABASE_DATASOURCE_NAME_DEFAULT"; //$NON-NLS-1$
 
 	public static final String DIRIGIBLE_DATABASE_DATASOURCE_DEFAULT = "DefaultDB"; //$NON-NLS-1$
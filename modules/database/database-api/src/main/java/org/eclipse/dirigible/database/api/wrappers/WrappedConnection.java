@@ -25,21 +25,29 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.dialects.ISqlDialectProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The Wrapped Connection of the standard JDBC {@link Connection} object with added some additional capabilities.
  */
-public class WrappedConnection implements Connection {
+public class WrappedConnection implements Connection, ISqlDialectProvider {
 
 	private static final Logger logger = LoggerFactory.getLogger(WrappedConnection.class);
 
+	private static final String CONNECTION_CLOSED = "connection is closed"; //$NON-NLS-1$
+
+	private static final int STATEMENTS_PRUNE_THRESHOLD = 16;
+
 	private Connection originalConnection;
 
 	private WrappedDataSource dataSource;
@@ -48,6 +56,24 @@ public class WrappedConnection implements Connection {
 
 	private String operationalInfo;
 
+	private boolean pooled;
+
+	private volatile boolean closed;
+
+	private final List<Statement> statements = new ArrayList<Statement>();
+
+	private int statementsPruneThreshold = STATEMENTS_PRUNE_THRESHOLD;
+
+	private boolean defaultAutoCommit;
+
+	private boolean defaultReadOnly;
+
+	private int defaultTransactionIsolation;
+
+	private String defaultCatalog;
+
+	private String defaultSchema;
+
 	/**
 	 * Instantiates a new wrapped connection.
 	 *
@@ -91,7 +117,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void clearWarnings() throws SQLException {
 		logger.trace("entering - clearWarnings()");
-		originalConnection.clearWarnings();
+		getOriginalConnection().clearWarnings();
 		logger.trace("exiting - clearWarnings()");
 	}
 
@@ -102,6 +128,28 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void close() throws SQLException {
 		logger.trace("entering - close()");
+		if (pooled) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			Connection physicalConnection = originalConnection;
+			// the physical connection belongs to the pool from now on
+			originalConnection = null;
+			boolean reusable = false;
+			try {
+				closeStatements();
+				if (!physicalConnection.getAutoCommit()) {
+					physicalConnection.commit();
+				}
+				restoreSessionDefaults(physicalConnection);
+				reusable = true;
+			} finally {
+				dataSource.releasePooledConnection(this, physicalConnection, reusable);
+			}
+			logger.trace("exiting - close()");
+			return;
+		}
 		if (!originalConnection.getAutoCommit()) {
 			originalConnection.commit();
 		}
@@ -117,8 +165,8 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void commit() throws SQLException {
 		logger.trace("entering - commit()");
-		if (!originalConnection.getAutoCommit()) {
-			originalConnection.commit();
+		if (!getOriginalConnection().getAutoCommit()) {
+			getOriginalConnection().commit();
 		}
 		logger.trace("exiting - commit()");
 	}
@@ -130,7 +178,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
 		logger.trace("called - createArrayOf(String typeName, Object[] elements)");
-		return originalConnection.createArrayOf(typeName, elements);
+		return getOriginalConnection().createArrayOf(typeName, elements);
 	}
 
 	/*
@@ -140,7 +188,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Blob createBlob() throws SQLException {
 		logger.trace("called - createBlob()");
-		return originalConnection.createBlob();
+		return getOriginalConnection().createBlob();
 	}
 
 	/*
@@ -150,7 +198,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Clob createClob() throws SQLException {
 		logger.trace("called - createClob()");
-		return originalConnection.createClob();
+		return getOriginalConnection().createClob();
 	}
 
 	/*
@@ -160,7 +208,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public NClob createNClob() throws SQLException {
 		logger.trace("called - createNClob()");
-		return originalConnection.createNClob();
+		return getOriginalConnection().createNClob();
 	}
 
 	/*
@@ -170,7 +218,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public SQLXML createSQLXML() throws SQLException {
 		logger.trace("called - createSQLXML()");
-		return originalConnection.createSQLXML();
+		return getOriginalConnection().createSQLXML();
 	}
 
 	/*
@@ -180,7 +228,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Statement createStatement() throws SQLException {
 		logger.warn("called unsecured [createStatement()]");
-		return originalConnection.createStatement();
+		return track(getOriginalConnection().createStatement());
 	}
 
 	/*
@@ -190,7 +238,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
 		logger.warn("called unsecured [createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)]");
-		return originalConnection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		return track(getOriginalConnection().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
 	}
 
 	/*
@@ -200,7 +248,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
 		logger.warn("called unsecured [createStatement(int resultSetType, int resultSetConcurrency)]");
-		return originalConnection.createStatement(resultSetType, resultSetConcurrency);
+		return track(getOriginalConnection().createStatement(resultSetType, resultSetConcurrency));
 	}
 
 	/*
@@ -210,7 +258,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
 		logger.trace("called - createStatement(String typeName, Object[] attributes)");
-		return originalConnection.createStruct(typeName, attributes);
+		return getOriginalConnection().createStruct(typeName, attributes);
 	}
 
 	/*
@@ -220,7 +268,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public boolean getAutoCommit() throws SQLException {
 		logger.trace("called - getAutoCommit()");
-		return originalConnection.getAutoCommit();
+		return getOriginalConnection().getAutoCommit();
 	}
 
 	/*
@@ -230,7 +278,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public String getCatalog() throws SQLException {
 		logger.trace("called - getCatalog()");
-		return originalConnection.getCatalog();
+		return getOriginalConnection().getCatalog();
 	}
 
 	/*
@@ -240,7 +288,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Properties getClientInfo() throws SQLException {
 		logger.trace("called - getClientInfo()");
-		return originalConnection.getClientInfo();
+		return getOriginalConnection().getClientInfo();
 	}
 
 	/*
@@ -250,7 +298,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public String getClientInfo(String name) throws SQLException {
 		logger.trace("called - getClientInfo(String name)");
-		return originalConnection.getClientInfo(name);
+		return getOriginalConnection().getClientInfo(name);
 	}
 
 	/*
@@ -260,7 +308,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public int getHoldability() throws SQLException {
 		logger.trace("called - getHoldability()");
-		return originalConnection.getHoldability();
+		return getOriginalConnection().getHoldability();
 	}
 
 	/*
@@ -270,7 +318,16 @@ public class WrappedConnection implements Connection {
 	@Override
 	public DatabaseMetaData getMetaData() throws SQLException {
 		logger.trace("called - getMetaData()");
-		return originalConnection.getMetaData();
+		return getOriginalConnection().getMetaData();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.sql.dialects.ISqlDialectProvider#getDialect()
+	 */
+	@Override
+	public ISqlDialect getDialect() throws SQLException {
+		return dataSource.getDialect(getOriginalConnection());
 	}
 
 	/*
@@ -280,7 +337,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public int getTransactionIsolation() throws SQLException {
 		logger.trace("called - getTransactionIsolation()");
-		return originalConnection.getTransactionIsolation();
+		return getOriginalConnection().getTransactionIsolation();
 	}
 
 	/*
@@ -290,7 +347,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Map<String, Class<?>> getTypeMap() throws SQLException {
 		logger.trace("called - getTypeMap()");
-		return originalConnection.getTypeMap();
+		return getOriginalConnection().getTypeMap();
 	}
 
 	/*
@@ -300,7 +357,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public SQLWarning getWarnings() throws SQLException {
 		logger.trace("called - getWarnings()");
-		return originalConnection.getWarnings();
+		return getOriginalConnection().getWarnings();
 	}
 
 	/*
@@ -310,7 +367,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public boolean isClosed() throws SQLException {
 		logger.trace("called - isClosed()");
-		return originalConnection.isClosed();
+		return closed || (originalConnection == null) || originalConnection.isClosed();
 	}
 
 	/*
@@ -320,7 +377,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public boolean isReadOnly() throws SQLException {
 		logger.trace("called - isReadOnly()");
-		return originalConnection.isReadOnly();
+		return getOriginalConnection().isReadOnly();
 	}
 
 	/*
@@ -330,7 +387,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public boolean isValid(int timeout) throws SQLException {
 		logger.trace("called - isValid(int timeout)");
-		return originalConnection.isValid(timeout);
+		return !closed && originalConnection.isValid(timeout);
 	}
 
 	/*
@@ -340,7 +397,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public boolean isWrapperFor(Class<?> iface) throws SQLException {
 		logger.trace("called - isWrapperFor(Class<?> iface)");
-		return originalConnection.isWrapperFor(iface);
+		return getOriginalConnection().isWrapperFor(iface);
 	}
 
 	/*
@@ -350,7 +407,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public String nativeSQL(String sql) throws SQLException {
 		logger.trace("called - nativeSQL(String sql): " + sql);
-		return originalConnection.nativeSQL(sql);
+		return getOriginalConnection().nativeSQL(sql);
 	}
 
 	/*
@@ -360,7 +417,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
 		logger.trace("called - prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability): " + sql);
-		return originalConnection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return track(getOriginalConnection().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
 	}
 
 	/*
@@ -370,7 +427,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
 		logger.trace("called - prepareCall(String sql, int resultSetType, int resultSetConcurrency): " + sql);
-		return originalConnection.prepareCall(sql, resultSetType, resultSetConcurrency);
+		return track(getOriginalConnection().prepareCall(sql, resultSetType, resultSetConcurrency));
 	}
 
 	/*
@@ -380,7 +437,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public CallableStatement prepareCall(String sql) throws SQLException {
 		logger.trace("called - prepareCall(String sql): " + sql);
-		return originalConnection.prepareCall(sql);
+		return track(getOriginalConnection().prepareCall(sql));
 	}
 
 	/*
@@ -390,7 +447,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
 		logger.trace("called - prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability): " + sql);
-		return originalConnection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return track(getOriginalConnection().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
 	}
 
 	/*
@@ -400,7 +457,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
 		logger.trace("called - prepareStatement(String sql, int resultSetType, int resultSetConcurrency): " + sql);
-		return originalConnection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		return track(getOriginalConnection().prepareStatement(sql, resultSetType, resultSetConcurrency));
 	}
 
 	/*
@@ -410,7 +467,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
 		logger.trace("called - prepareStatement(String sql, int autoGeneratedKeys): " + sql);
-		return originalConnection.prepareStatement(sql, autoGeneratedKeys);
+		return track(getOriginalConnection().prepareStatement(sql, autoGeneratedKeys));
 	}
 
 	/*
@@ -420,7 +477,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
 		logger.trace("called - prepareStatement(String sql, int[] columnIndexes): " + sql);
-		return originalConnection.prepareStatement(sql, columnIndexes);
+		return track(getOriginalConnection().prepareStatement(sql, columnIndexes));
 	}
 
 	/*
@@ -430,7 +487,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
 		logger.trace("called - prepareStatement(String sql, String[] columnNames): " + sql);
-		return originalConnection.prepareStatement(sql, columnNames);
+		return track(getOriginalConnection().prepareStatement(sql, columnNames));
 	}
 
 	/*
@@ -440,7 +497,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public PreparedStatement prepareStatement(String sql) throws SQLException {
 		logger.trace("called - prepareStatement(String sql): " + sql);
-		return originalConnection.prepareStatement(sql);
+		return track(getOriginalConnection().prepareStatement(sql));
 	}
 
 	/*
@@ -450,7 +507,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
 		logger.trace("called - releaseSavepoint(Savepoint savepoint)");
-		originalConnection.releaseSavepoint(savepoint);
+		getOriginalConnection().releaseSavepoint(savepoint);
 	}
 
 	/*
@@ -460,8 +517,8 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void rollback() throws SQLException {
 		logger.trace("called - rollback()");
-		if (!originalConnection.getAutoCommit()) {
-			originalConnection.rollback();
+		if (!getOriginalConnection().getAutoCommit()) {
+			getOriginalConnection().rollback();
 		}
 	}
 
@@ -472,8 +529,8 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void rollback(Savepoint savepoint) throws SQLException {
 		logger.trace("called - rollback(Savepoint savepoint)");
-		if (!originalConnection.getAutoCommit()) {
-			originalConnection.rollback(savepoint);
+		if (!getOriginalConnection().getAutoCommit()) {
+			getOriginalConnection().rollback(savepoint);
 		}
 	}
 
@@ -484,7 +541,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setAutoCommit(boolean autoCommit) throws SQLException {
 		logger.trace("called - setAutoCommit(boolean autoCommit)");
-		originalConnection.setAutoCommit(autoCommit);
+		getOriginalConnection().setAutoCommit(autoCommit);
 	}
 
 	/*
@@ -494,7 +551,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setCatalog(String catalog) throws SQLException {
 		logger.trace("called - setCatalog(String catalog)");
-		originalConnection.setCatalog(catalog);
+		getOriginalConnection().setCatalog(catalog);
 	}
 
 	/*
@@ -504,6 +561,9 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setClientInfo(Properties properties) throws SQLClientInfoException {
 		logger.trace("called - setClientInfo(Properties properties)");
+		if (closed) {
+			throw new SQLClientInfoException(CONNECTION_CLOSED, null);
+		}
 		originalConnection.setClientInfo(properties);
 	}
 
@@ -514,6 +574,9 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setClientInfo(String name, String value) throws SQLClientInfoException {
 		logger.trace("called - setClientInfo(String name, String value)");
+		if (closed) {
+			throw new SQLClientInfoException(CONNECTION_CLOSED, null);
+		}
 		originalConnection.setClientInfo(name, value);
 	}
 
@@ -524,7 +587,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setHoldability(int holdability) throws SQLException {
 		logger.trace("called - setHoldability(int holdability)");
-		originalConnection.setHoldability(holdability);
+		getOriginalConnection().setHoldability(holdability);
 	}
 
 	/*
@@ -534,7 +597,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setReadOnly(boolean readOnly) throws SQLException {
 		logger.trace("called - setReadOnly(boolean readOnly)");
-		originalConnection.setReadOnly(readOnly);
+		getOriginalConnection().setReadOnly(readOnly);
 	}
 
 	/*
@@ -544,7 +607,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Savepoint setSavepoint() throws SQLException {
 		logger.trace("called - setSavepoint()");
-		return originalConnection.setSavepoint();
+		return getOriginalConnection().setSavepoint();
 	}
 
 	/*
@@ -554,7 +617,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public Savepoint setSavepoint(String name) throws SQLException {
 		logger.trace("called - setSavepoint(String name)");
-		return originalConnection.setSavepoint(name);
+		return getOriginalConnection().setSavepoint(name);
 	}
 
 	/*
@@ -564,7 +627,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setTransactionIsolation(int level) throws SQLException {
 		logger.trace("called - setTransactionIsolation(int level): " + level);
-		originalConnection.setTransactionIsolation(level);
+		getOriginalConnection().setTransactionIsolation(level);
 	}
 
 	/*
@@ -574,7 +637,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
 		logger.trace("called - setTypeMap(Map<String, Class<?>> map)");
-		originalConnection.setTypeMap(map);
+		getOriginalConnection().setTypeMap(map);
 	}
 
 	/*
@@ -584,7 +647,7 @@ public class WrappedConnection implements Connection {
 	@Override
 	public <T> T unwrap(Class<T> iface) throws SQLException {
 		logger.trace("called - unwrap(Class<T> iface)");
-		return originalConnection.unwrap(iface);
+		return getOriginalConnection().unwrap(iface);
 	}
 
 	/*
@@ -634,6 +697,142 @@ public class WrappedConnection implements Connection {
 		logger.warn("called - setNetworkTimeout()");
 	}
 
+	/**
+	 * Gets the physical connection. In pooled mode it is handed back to the pool on close, so any further call on this
+	 * wrapper fails instead of using a connection leased to someone else.
+	 *
+	 * @return the original connection
+	 * @throws SQLException
+	 *             if the connection is closed
+	 */
+	private Connection getOriginalConnection() throws SQLException {
+		Connection connection = originalConnection;
+		if (closed || (connection == null)) {
+			throw new SQLException(CONNECTION_CLOSED);
+		}
+		return connection;
+	}
+
+	/**
+	 * Keeps the statement created on a pooled connection, so that it is closed before the physical connection is handed
+	 * back to the pool. The statements already closed by the caller are dropped from time to time.
+	 *
+	 * @param <T>
+	 *            the type of the statement
+	 * @param statement
+	 *            the statement
+	 * @return the statement
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	private <T extends Statement> T track(T statement) throws SQLException {
+		if (pooled) {
+			synchronized (statements) {
+				if (statements.size() >= statementsPruneThreshold) {
+					List<Statement> open = new ArrayList<Statement>(statements.size());
+					for (Statement next : statements) {
+						if (!next.isClosed()) {
+							open.add(next);
+						}
+					}
+					statements.clear();
+					statements.addAll(open);
+					statementsPruneThreshold = Math.max(STATEMENTS_PRUNE_THRESHOLD, open.size() * 2);
+				}
+				statements.add(statement);
+			}
+		}
+		return statement;
+	}
+
+	/**
+	 * Closes the statements left open by the caller, together with their result sets.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	private void closeStatements() throws SQLException {
+		SQLException failure = null;
+		synchronized (statements) {
+			for (Statement statement : statements) {
+				try {
+					if (!statement.isClosed()) {
+						statement.close();
+					}
+				} catch (SQLException e) {
+					if (failure == null) {
+						failure = e;
+					} else {
+						failure.addSuppressed(e);
+					}
+				}
+			}
+			statements.clear();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Records the session state of the physical connection, as it is borrowed from the pool, so that it can be restored
+	 * on close and the next borrower does not inherit the changes of this one.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	void recordSessionDefaults() throws SQLException {
+		Connection connection = getOriginalConnection();
+		defaultAutoCommit = connection.getAutoCommit();
+		defaultReadOnly = connection.isReadOnly();
+		defaultTransactionIsolation = connection.getTransactionIsolation();
+		defaultCatalog = connection.getCatalog();
+		defaultSchema = getSchema(connection);
+	}
+
+	/**
+	 * Restores the session state recorded when the physical connection was borrowed from the pool.
+	 *
+	 * @param connection
+	 *            the physical connection
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	private void restoreSessionDefaults(Connection connection) throws SQLException {
+		if (connection.getAutoCommit() != defaultAutoCommit) {
+			connection.setAutoCommit(defaultAutoCommit);
+		}
+		if (connection.isReadOnly() != defaultReadOnly) {
+			connection.setReadOnly(defaultReadOnly);
+		}
+		if (connection.getTransactionIsolation() != defaultTransactionIsolation) {
+			connection.setTransactionIsolation(defaultTransactionIsolation);
+		}
+		if ((defaultCatalog != null) && !defaultCatalog.equals(connection.getCatalog())) {
+			connection.setCatalog(defaultCatalog);
+		}
+		if ((defaultSchema != null) && !defaultSchema.equals(getSchema(connection))) {
+			connection.setSchema(defaultSchema);
+		}
+		connection.clearWarnings();
+	}
+
+	/**
+	 * Gets the current schema of the physical connection, if supported by the driver.
+	 *
+	 * @param connection
+	 *            the physical connection
+	 * @return the schema or null
+	 */
+	private String getSchema(Connection connection) {
+		try {
+			return connection.getSchema();
+		} catch (SQLException | AbstractMethodError e) {
+			// the driver does not support the current schema
+			return null;
+		}
+	}
+
 	/**
 	 * Gets the operational info.
 	 *
@@ -653,4 +852,23 @@ public class WrappedConnection implements Connection {
 		this.operationalInfo = operationalInfo;
 	}
 
+	/**
+	 * Checks if the physical connection is borrowed from the pool of the data source.
+	 *
+	 * @return true, if is pooled
+	 */
+	public boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * Sets whether the physical connection is borrowed from the pool of the data source.
+	 *
+	 * @param pooled
+	 *            the new pooled
+	 */
+	void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
+
 }
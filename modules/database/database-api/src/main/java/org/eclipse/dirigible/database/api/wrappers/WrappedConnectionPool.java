@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.api.wrappers;
+
+import static java.text.MessageFormat.format;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pool of the physical connections used by the {@link WrappedDataSource} in pooled mode. The number of the leased
+ * connections is bounded by a fair semaphore, so that the waiting threads are served in order, while the idle
+ * connections are kept in a lock-free deque - the most recently used ones are handed out first. A connection, which has
+ * been idle longer than the validation interval, is validated before it is handed out.
+ */
+public class WrappedConnectionPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(WrappedConnectionPool.class);
+
+	private final DataSource dataSource;
+
+	private final int maxConnections;
+
+	private final long acquireTimeout;
+
+	private final long validationInterval;
+
+	private final int validationTimeout;
+
+	private final Semaphore permits;
+
+	private final ConcurrentLinkedDeque<IdleConnection> idle = new ConcurrentLinkedDeque<IdleConnection>();
+
+	private final AtomicInteger active = new AtomicInteger();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	private final AtomicInteger opened = new AtomicInteger();
+
+	private final LongAdder acquires = new LongAdder();
+
+	private final LongAdder timeouts = new LongAdder();
+
+	private final LongAdder acquireNanos = new LongAdder();
+
+	private final AtomicLong maxAcquireNanos = new AtomicLong();
+
+	/**
+	 * Instantiates a new wrapped connection pool.
+	 *
+	 * @param dataSource
+	 *            the data source of the physical connections
+	 * @param maxConnections
+	 *            the maximum number of connections
+	 * @param acquireTimeout
+	 *            the acquire timeout in milliseconds
+	 * @param validationInterval
+	 *            the idle time in milliseconds after which a connection is validated
+	 * @param validationTimeout
+	 *            the validation timeout in seconds
+	 */
+	public WrappedConnectionPool(DataSource dataSource, int maxConnections, long acquireTimeout, long validationInterval, int validationTimeout) {
+		this.dataSource = dataSource;
+		this.maxConnections = maxConnections;
+		this.acquireTimeout = acquireTimeout;
+		this.validationInterval = validationInterval;
+		this.validationTimeout = validationTimeout;
+		this.permits = new Semaphore(maxConnections, true);
+	}
+
+	/**
+	 * Acquire a physical connection - an idle one or a newly opened one, if there is no idle one.
+	 *
+	 * @return the connection
+	 * @throws SQLException
+	 *             the SQL exception, or {@link SQLTimeoutException} if no connection is released within the acquire
+	 *             timeout
+	 */
+	public Connection acquire() throws SQLException {
+		long start = System.nanoTime();
+		try {
+			// the timed variant honors the fairness, so that the new comers do not overtake the waiters
+			if (!permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+				waiters.incrementAndGet();
+				try {
+					if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+						timeouts.increment();
+						throw new SQLTimeoutException(format("Timeout of {0}ms while waiting for a connection, active: {1}, waiters: {2}", acquireTimeout,
+								active.get(), waiters.get()));
+					}
+				} finally {
+					waiters.decrementAndGet();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException(e);
+		}
+		try {
+			Connection connection = takeIdle();
+			if (connection == null) {
+				connection = dataSource.getConnection();
+				opened.incrementAndGet();
+			}
+			active.incrementAndGet();
+			record(System.nanoTime() - start);
+			return connection;
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Release the physical connection. A reusable connection goes back to the pool, otherwise it is closed.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param reusable
+	 *            whether the connection is in a clean state
+	 */
+	public void release(Connection connection, boolean reusable) {
+		active.decrementAndGet();
+		try {
+			if (reusable && !connection.isClosed()) {
+				connection.clearWarnings();
+				idle.offerFirst(new IdleConnection(connection, System.currentTimeMillis()));
+				return;
+			}
+			if (!connection.isClosed()) {
+				connection.rollback();
+			}
+		} catch (SQLException e) {
+			logger.warn("Connection cannot be returned to the pool and will be discarded: " + e.getMessage());
+		} finally {
+			permits.release();
+		}
+		discard(connection);
+	}
+
+	/**
+	 * Close all the idle connections.
+	 */
+	public void closeIdle() {
+		IdleConnection entry;
+		while ((entry = idle.pollFirst()) != null) {
+			discard(entry.connection);
+		}
+	}
+
+	/**
+	 * Take a usable idle connection.
+	 *
+	 * @return the connection or null, if there is no idle one
+	 */
+	private Connection takeIdle() {
+		IdleConnection entry;
+		while ((entry = idle.pollFirst()) != null) {
+			if (isUsable(entry)) {
+				return entry.connection;
+			}
+			logger.debug("Idle connection failed the validation and will be discarded: " + entry.connection.hashCode());
+			discard(entry.connection);
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if the idle connection is usable.
+	 *
+	 * @param entry
+	 *            the idle connection
+	 * @return true, if it is usable
+	 */
+	private boolean isUsable(IdleConnection entry) {
+		if ((System.currentTimeMillis() - entry.idleSince) < validationInterval) {
+			return true;
+		}
+		try {
+			return entry.connection.isValid(validationTimeout);
+		} catch (SQLException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Close the physical connection.
+	 *
+	 * @param connection
+	 *            the connection
+	 */
+	private void discard(Connection connection) {
+		opened.decrementAndGet();
+		try {
+			connection.close();
+		} catch (SQLException | RuntimeException e) {
+			logger.debug(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Record the acquire time.
+	 *
+	 * @param nanos
+	 *            the acquire time
+	 */
+	private void record(long nanos) {
+		acquires.increment();
+		acquireNanos.add(nanos);
+		long currentMax;
+		while (nanos > (currentMax = maxAcquireNanos.get())) {
+			if (maxAcquireNanos.compareAndSet(currentMax, nanos)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Gets the maximum number of connections.
+	 *
+	 * @return the max connections
+	 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Gets the number of the leased connections.
+	 *
+	 * @return the active connections
+	 */
+	public int getActive() {
+		return active.get();
+	}
+
+	/**
+	 * Gets the number of the idle connections.
+	 *
+	 * @return the idle connections
+	 */
+	public int getIdle() {
+		return idle.size();
+	}
+
+	/**
+	 * Gets the number of the physical connections currently opened by the pool.
+	 *
+	 * @return the opened connections
+	 */
+	public int getOpened() {
+		return opened.get();
+	}
+
+	/**
+	 * Gets the number of the threads waiting for a connection.
+	 *
+	 * @return the waiters
+	 */
+	public int getWaiters() {
+		return waiters.get();
+	}
+
+	/**
+	 * Gets the number of the successful acquires.
+	 *
+	 * @return the acquires
+	 */
+	public long getAcquires() {
+		return acquires.sum();
+	}
+
+	/**
+	 * Gets the number of the acquires, which timed out.
+	 *
+	 * @return the timeouts
+	 */
+	public long getTimeouts() {
+		return timeouts.sum();
+	}
+
+	/**
+	 * Gets the average acquire time in microseconds.
+	 *
+	 * @return the average acquire time
+	 */
+	public long getAcquireTimeAverage() {
+		long count = acquires.sum();
+		return (count == 0) ? 0 : TimeUnit.NANOSECONDS.toMicros(acquireNanos.sum() / count);
+	}
+
+	/**
+	 * Gets the maximum acquire time in microseconds.
+	 *
+	 * @return the maximum acquire time
+	 */
+	public long getAcquireTimeMax() {
+		return TimeUnit.NANOSECONDS.toMicros(maxAcquireNanos.get());
+	}
+
+	/**
+	 * The idle connection with the time it was returned to the pool.
+	 */
+	private static final class IdleConnection {
+
+		private final Connection connection;
+
+		private final long idleSince;
+
+		/**
+		 * Instantiates a new idle connection.
+		 *
+		 * @param connection
+		 *            the connection
+		 * @param idleSince
+		 *            the idle since
+		 */
+		IdleConnection(Connection connection, long idleSince) {
+			this.connection = connection;
+			this.idleSince = idleSince;
+		}
+
+	}
+
+}
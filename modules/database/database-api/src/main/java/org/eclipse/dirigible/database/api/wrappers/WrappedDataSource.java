@@ -14,27 +14,43 @@ import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.ArrayList;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.sql.DataSource;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+import org.eclipse.dirigible.database.sql.dialects.ISqlDialectProvider;
+import org.eclipse.dirigible.database.sql.dialects.SqlDialectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The WrappedDataSource of the standard JDBC {@link DataSource} object with added some additional capabilities..
+ * <p>
+ * In pooled mode the physical connections are kept in a {@link WrappedConnectionPool} and are reused, instead of being
+ * closed and force released when the limit is reached. The stack trace of the caller is captured for a sample of the
+ * connections only, or for all of them when the leak detection is enabled.
  */
-public class WrappedDataSource implements DataSource {
+public class WrappedDataSource implements DataSource, ISqlDialectProvider {
 
 	private static final Logger logger = LoggerFactory.getLogger(WrappedDataSource.class);
 
 	private DataSource originalDataSource;
 
-	private static final Collection<WrappedConnection> connections = Collections.synchronizedCollection(new ArrayList<WrappedConnection>());
+	private static final Collection<WrappedConnection> connections = ConcurrentHashMap.newKeySet();
+
+	private final Set<WrappedConnection> pooledConnections = ConcurrentHashMap.newKeySet();
+
+	private WrappedConnectionPool pool;
+
+	// resolved from the metadata of the first connection used for it
+	private volatile ISqlDialect dialect;
 
 	private static int MAX_CONNECTIONS_COUNT = 8;
 
@@ -45,11 +61,26 @@ public class WrappedDataSource implements DataSource {
 
 	private static boolean AUTO_COMMIT_ENABLED = false;
 
+	private static boolean LEAK_DETECTION_ENABLED = false;
+
+	// connections held longer are reported as potential leaks
+	private static long LEAK_DETECTION_THRESHOLD = 60000;
+
+	// one of that many connections gets the stack trace of the caller, 0 for none
+	private static int STACK_TRACE_SAMPLE_RATE = 100;
+
+	private static final String DEFAULT_ACQUIRE_TIMEOUT = "30000"; //$NON-NLS-1$
+
+	private static final String DEFAULT_VALIDATION_INTERVAL = "30000"; //$NON-NLS-1$
+
+	private static final String DEFAULT_VALIDATION_TIMEOUT = "5"; //$NON-NLS-1$
+
 	{
 		initAutoCommitEnabled();
 		initMaxConnectionsCount();
 		initWaitTimeout();
 		initWaitCount();
+		initLeakDetection();
 	}
 
 	/**
@@ -62,6 +93,14 @@ public class WrappedDataSource implements DataSource {
 	public WrappedDataSource(DataSource originalDataSource) {
 		super();
 		this.originalDataSource = originalDataSource;
+		if (Boolean.parseBoolean(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED, Boolean.FALSE.toString()))) {
+			long acquireTimeout = Long.parseLong(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_ACQUIRE_TIMEOUT, DEFAULT_ACQUIRE_TIMEOUT));
+			long validationInterval = Long
+					.parseLong(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_INTERVAL, DEFAULT_VALIDATION_INTERVAL));
+			int validationTimeout = Integer.parseInt(Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_VALIDATION_TIMEOUT, DEFAULT_VALIDATION_TIMEOUT));
+			this.pool = new WrappedConnectionPool(originalDataSource, MAX_CONNECTIONS_COUNT, acquireTimeout, validationInterval, validationTimeout);
+			logger.info("Connection pool created with max connections: " + MAX_CONNECTIONS_COUNT);
+		}
 	}
 
 	/**
@@ -104,6 +143,24 @@ public class WrappedDataSource implements DataSource {
 		}
 	}
 
+	/**
+	 * Inits the leak detection.
+	 */
+	protected void initLeakDetection() {
+		String param = Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_ENABLED);
+		if (param != null) {
+			LEAK_DETECTION_ENABLED = Boolean.parseBoolean(param);
+		}
+		param = Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_THRESHOLD);
+		if (param != null) {
+			LEAK_DETECTION_THRESHOLD = Long.parseLong(param);
+		}
+		param = Configuration.get(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_STACK_TRACE_SAMPLE_RATE);
+		if (param != null) {
+			STACK_TRACE_SAMPLE_RATE = Integer.parseInt(param);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see javax.sql.DataSource#getConnection()
@@ -111,15 +168,85 @@ public class WrappedDataSource implements DataSource {
 	@Override
 	public Connection getConnection() throws SQLException {
 		logger.trace("entering - getConnection()");
-		checkConnections();
-		WrappedConnection wrappedConnection = new WrappedConnection(originalDataSource.getConnection(), this);
-		addConnection(wrappedConnection);
-		wrappedConnection.setAutoCommit(AUTO_COMMIT_ENABLED);
-		logger.trace("Connection acquired: " + wrappedConnection.hashCode() + " count: " + connections.size());
+		WrappedConnection wrappedConnection;
+		if (pool != null) {
+			Connection pooledConnection = acquirePooledConnection();
+			wrappedConnection = new WrappedConnection(pooledConnection, this);
+			wrappedConnection.setPooled(true);
+			addConnection(wrappedConnection);
+			try {
+				wrappedConnection.setAutoCommit(AUTO_COMMIT_ENABLED);
+				// the state of the lease is restored on close, so the next one starts with the same
+				wrappedConnection.recordSessionDefaults();
+			} catch (SQLException | RuntimeException e) {
+				releasePooledConnection(wrappedConnection, pooledConnection, false);
+				throw e;
+			}
+		} else {
+			checkConnections();
+			wrappedConnection = new WrappedConnection(originalDataSource.getConnection(), this);
+			addConnection(wrappedConnection);
+			wrappedConnection.setAutoCommit(AUTO_COMMIT_ENABLED);
+		}
+		logger.trace("Connection acquired: " + wrappedConnection.hashCode() + " count: " + getActiveConnectionsCount());
 		logger.trace("exiting - getConnection()");
 		return wrappedConnection;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.database.sql.dialects.ISqlDialectProvider#getDialect()
+	 */
+	@Override
+	public ISqlDialect getDialect() throws SQLException {
+		ISqlDialect resolved = dialect;
+		if (resolved == null) {
+			try (Connection connection = getConnection()) {
+				resolved = ((WrappedConnection) connection).getDialect();
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Gets the dialect of the database, resolving it from the metadata of the given connection, if not yet known.
+	 *
+	 * @param connection
+	 *            the physical connection
+	 * @return the dialect
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	ISqlDialect getDialect(Connection connection) throws SQLException {
+		ISqlDialect resolved = dialect;
+		if (resolved == null) {
+			resolved = SqlDialectFactory.getDialect(connection);
+			dialect = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Acquire a physical connection from the pool. The connections held longer than the leak detection threshold are
+	 * reported, if the acquire times out.
+	 *
+	 * @return the connection
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	private Connection acquirePooledConnection() throws SQLException {
+		try {
+			return pool.acquire();
+		} catch (SQLTimeoutException e) {
+			for (WrappedConnection connection : pooledConnections) {
+				if (connection.getTimeUsed() > LEAK_DETECTION_THRESHOLD) {
+					reportLeak(connection);
+				}
+			}
+			throw e;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see javax.sql.DataSource#getConnection(java.lang.String, java.lang.String)
@@ -131,7 +258,7 @@ public class WrappedDataSource implements DataSource {
 		WrappedConnection wrappedConnection = new WrappedConnection(originalDataSource.getConnection(username, password), this);
 		addConnection(wrappedConnection);
 		wrappedConnection.setAutoCommit(AUTO_COMMIT_ENABLED);
-		logger.trace("Connection acquired: " + wrappedConnection.hashCode() + " count: " + connections.size());
+		logger.trace("Connection acquired: " + wrappedConnection.hashCode() + " count: " + getActiveConnectionsCount());
 		logger.trace("exiting - getConnection(String username, String password)");
 		return wrappedConnection;
 	}
@@ -172,9 +299,7 @@ public class WrappedDataSource implements DataSource {
 		logger.trace("entering - forceRelaseConnection()");
 		WrappedConnection oldestConnection = getOldestConnection();
 		if (oldestConnection != null) {
-			logger.error("Potential connection leak; victim connection is: " + oldestConnection.hashCode() + ", used (ms): "
-					+ oldestConnection.getTimeUsed());
-			logger.error(oldestConnection.getOperationalInfo());
+			reportLeak(oldestConnection);
 			oldestConnection.close();
 		}
 		logger.trace("exiting - forceRelaseConnection()");
@@ -187,19 +312,33 @@ public class WrappedDataSource implements DataSource {
 	 */
 	protected WrappedConnection getOldestConnection() {
 		WrappedConnection oldestConnection = null;
-		synchronized (connections) {
-			for (WrappedConnection connection : connections) {
-				if (oldestConnection == null) {
-					oldestConnection = connection;
-				}
-				if (oldestConnection.getTimeAcquired() < connection.getTimeAcquired()) {
-					oldestConnection = connection;
-				}
+		for (WrappedConnection connection : connections) {
+			if (oldestConnection == null) {
+				oldestConnection = connection;
+			}
+			if (oldestConnection.getTimeAcquired() < connection.getTimeAcquired()) {
+				oldestConnection = connection;
 			}
 		}
 		return oldestConnection;
 	}
 
+	/**
+	 * Report a potential connection leak.
+	 *
+	 * @param connection
+	 *            the connection
+	 */
+	private void reportLeak(WrappedConnection connection) {
+		logger.error("Potential connection leak; victim connection is: " + connection.hashCode() + ", used (ms): " + connection.getTimeUsed());
+		if (connection.getOperationalInfo() != null) {
+			logger.error(connection.getOperationalInfo());
+		} else {
+			logger.error("The stack trace has not been sampled for this connection, enable the leak detection with "
+					+ IDatabase.DIRIGIBLE_DATABASE_DEFAULT_LEAK_DETECTION_ENABLED);
+		}
+	}
+
 	/**
 	 * Adds the connection.
 	 *
@@ -208,9 +347,15 @@ public class WrappedDataSource implements DataSource {
 	 */
 	private void addConnection(WrappedConnection connection) {
 		logger.trace("entering - addConnection()");
-		String operationalInfo = getOperationalInfo();
-		connection.setOperationalInfo(operationalInfo);
-		connections.add(connection);
+		if (LEAK_DETECTION_ENABLED || ((STACK_TRACE_SAMPLE_RATE > 0) && (ThreadLocalRandom.current().nextInt(STACK_TRACE_SAMPLE_RATE) == 0))) {
+			String operationalInfo = getOperationalInfo();
+			connection.setOperationalInfo(operationalInfo);
+		}
+		if (connection.isPooled()) {
+			pooledConnections.add(connection);
+		} else {
+			connections.add(connection);
+		}
 		logger.trace("exiting - addConnection()");
 	}
 
@@ -249,11 +394,62 @@ public class WrappedDataSource implements DataSource {
 	public void closedConnection(WrappedConnection wrappedConnection) {
 		logger.trace("entering - closeConnection()");
 		removeConnection(wrappedConnection);
-		logger.trace("Connection released: " + wrappedConnection.hashCode() + " count: " + connections.size() + " time used: "
+		logger.trace("Connection released: " + wrappedConnection.hashCode() + " count: " + getActiveConnectionsCount() + " time used: "
 				+ wrappedConnection.getTimeUsed() + "ms");
 		logger.trace("exiting - closeConnection()");
 	}
 
+	/**
+	 * Gives the physical connection of a pooled connection back to the pool.
+	 *
+	 * @param wrappedConnection
+	 *            the wrapped connection
+	 * @param originalConnection
+	 *            the physical connection
+	 * @param reusable
+	 *            whether the physical connection can be reused
+	 */
+	void releasePooledConnection(WrappedConnection wrappedConnection, Connection originalConnection, boolean reusable) {
+		logger.trace("entering - releasePooledConnection()");
+		pooledConnections.remove(wrappedConnection);
+		long timeUsed = wrappedConnection.getTimeUsed();
+		if (LEAK_DETECTION_ENABLED && (timeUsed > LEAK_DETECTION_THRESHOLD)) {
+			logger.warn("Connection " + wrappedConnection.hashCode() + " has been held for " + timeUsed + "ms, acquired at:"
+					+ System.getProperty("line.separator") + wrappedConnection.getOperationalInfo());
+		}
+		pool.release(originalConnection, reusable);
+		logger.trace("Connection released: " + wrappedConnection.hashCode() + " count: " + getActiveConnectionsCount() + " time used: " + timeUsed
+				+ "ms");
+		logger.trace("exiting - releasePooledConnection()");
+	}
+
+	/**
+	 * Checks if the physical connections are pooled.
+	 *
+	 * @return true, if is pooled
+	 */
+	public boolean isPooled() {
+		return pool != null;
+	}
+
+	/**
+	 * Gets the connection pool.
+	 *
+	 * @return the pool or null, if the data source is not in pooled mode
+	 */
+	public WrappedConnectionPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Gets the number of the connections in use.
+	 *
+	 * @return the active connections count
+	 */
+	public int getActiveConnectionsCount() {
+		return (pool != null) ? pool.getActive() : connections.size();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see javax.sql.CommonDataSource#getLogWriter()
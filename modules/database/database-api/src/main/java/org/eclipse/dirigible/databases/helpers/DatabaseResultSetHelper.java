@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.databases.helpers;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -57,4 +59,50 @@ public class DatabaseResultSetHelper {
 		return result;
 	}
 
+	/**
+	 * Prints a page of the provided ResultSet to the {@link ResultSetJsonWriter} writer.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @param offset
+	 *            the number of the records to be skipped
+	 * @param pageSize
+	 *            the maximum number of the records, 0 for all
+	 * @return the string
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static String toJson(ResultSet resultSet, int offset, int pageSize) throws SQLException {
+		ResultSetJsonWriter writer = new ResultSetJsonWriter();
+		writer.setLimited(false);
+		writer.setOffset(offset);
+		writer.setPageSize(pageSize);
+		String result = writer.write(resultSet);
+		return result;
+	}
+
+	/**
+	 * Streams a page of the provided ResultSet as JSON to the output.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @param offset
+	 *            the number of the records to be skipped
+	 * @param pageSize
+	 *            the maximum number of the records, 0 for all
+	 * @param output
+	 *            the output
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void toJson(ResultSet resultSet, int offset, int pageSize, Writer output) throws SQLException, IOException {
+		ResultSetJsonWriter writer = new ResultSetJsonWriter();
+		writer.setLimited(false);
+		writer.setOffset(offset);
+		writer.setPageSize(pageSize);
+		writer.write(resultSet, output);
+	}
+
 }
@@ -10,17 +10,22 @@
  */
 package org.eclipse.dirigible.databases.processor.format;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
- * The ResultSet Json Writer.
+ * The ResultSet Json Writer. The records are streamed one by one to the output, while the column names and the way
+ * each column is written are resolved once per result set. Optionally only a page of the records - defined by an offset
+ * and a page size - is written.
  */
 public class ResultSetJsonWriter implements ResultSetWriter<String> {
 
@@ -28,6 +33,10 @@ public class ResultSetJsonWriter implements ResultSetWriter<String> {
 
 	private boolean limited = true;
 
+	private int offset;
+
+	private int pageSize;
+
 	/**
 	 * Checks if is limited.
 	 *
@@ -47,36 +56,243 @@ public class ResultSetJsonWriter implements ResultSetWriter<String> {
 		this.limited = limited;
 	}
 
+	/**
+	 * Gets the number of the records to be skipped.
+	 *
+	 * @return the offset
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Sets the number of the records to be skipped.
+	 *
+	 * @param offset
+	 *            the new offset
+	 */
+	public void setOffset(int offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Gets the maximum number of the records to be written, 0 for no paging.
+	 *
+	 * @return the page size
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Sets the maximum number of the records to be written, 0 for no paging. The page size takes precedence over the
+	 * limited flag.
+	 *
+	 * @param pageSize
+	 *            the new page size
+	 */
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.databases.processor.format.ResultSetWriter#write(java.sql.ResultSet)
 	 */
 	@Override
 	public String write(ResultSet resultSet) throws SQLException {
+		StringWriter output = new StringWriter();
+		try {
+			write(resultSet, output);
+		} catch (IOException e) {
+			throw new SQLException(e);
+		}
+		return output.toString();
+	}
 
-		StringBuilder tableSb = new StringBuilder();
-
+	/**
+	 * Write the provided ResultSet as a JSON array to the output.
+	 *
+	 * @param resultSet
+	 *            the result set
+	 * @param output
+	 *            the output
+	 * @throws SQLException
+	 *             the SQL exception
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void write(ResultSet resultSet, Writer output) throws SQLException, IOException {
 		ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+		int columnCount = resultSetMetaData.getColumnCount();
+		String[] names = new String[columnCount + 1];
+		ColumnWriter[] columnWriters = new ColumnWriter[columnCount + 1];
+		for (int i = 1; i <= columnCount; i++) {
+			names[i] = resultSetMetaData.getColumnName(i);
+			columnWriters[i] = ColumnWriter.forType(resultSetMetaData.getColumnType(i));
+		}
+
+		// the same settings as the default Gson instance
+		JsonWriter jsonWriter = new JsonWriter(output);
+		jsonWriter.setHtmlSafe(true);
+		jsonWriter.setSerializeNulls(false);
 
-		JsonArray records = new JsonArray();
+		jsonWriter.beginArray();
+		for (int i = 0; i < offset; i++) {
+			if (!resultSet.next()) {
+				break;
+			}
+		}
 		int count = 0;
 		while (resultSet.next()) {
-			JsonObject record = new JsonObject();
-			for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-				String name = resultSetMetaData.getColumnName(i);
-				Object value = resultSet.getObject(i);
-				record.add(name, GsonHelper.GSON.toJsonTree(value));
+			jsonWriter.beginObject();
+			for (int i = 1; i <= columnCount; i++) {
+				jsonWriter.name(names[i]);
+				columnWriters[i].write(jsonWriter, resultSet, i);
 			}
+			jsonWriter.endObject();
 
-			records.add(record);
-
-			if (this.isLimited() && (++count > LIMIT)) {
-				tableSb.append("..."); //$NON-NLS-1$
+			count++;
+			if (pageSize > 0) {
+				if (count >= pageSize) {
+					break;
+				}
+			} else if (this.isLimited() && (count > LIMIT)) {
 				break;
 			}
 		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+	}
+
+	/**
+	 * The writers of the column values by SQL type.
+	 */
+	enum ColumnWriter {
+
+		/** The boolean columns. */
+		BOOLEAN {
+			@Override
+			void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException {
+				boolean value = resultSet.getBoolean(column);
+				if (resultSet.wasNull()) {
+					jsonWriter.nullValue();
+				} else {
+					jsonWriter.value(value);
+				}
+			}
+		},
+
+		/** The integral columns. */
+		INTEGRAL {
+			@Override
+			void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException {
+				long value = resultSet.getLong(column);
+				if (resultSet.wasNull()) {
+					jsonWriter.nullValue();
+				} else {
+					jsonWriter.value(value);
+				}
+			}
+		},
+
+		/** The decimal and floating point columns. */
+		NUMBER {
+			@Override
+			void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException {
+				Object value = resultSet.getObject(column);
+				if (value instanceof Number) {
+					jsonWriter.value((Number) value);
+				} else {
+					writeObject(jsonWriter, value);
+				}
+			}
+		},
+
+		/** The character columns. */
+		STRING {
+			@Override
+			void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException {
+				jsonWriter.value(resultSet.getString(column));
+			}
+		},
+
+		/** All the other columns, serialized by Gson. */
+		OBJECT {
+			@Override
+			void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException {
+				writeObject(jsonWriter, resultSet.getObject(column));
+			}
+		};
+
+		/**
+		 * Write the value of the column of the current record.
+		 *
+		 * @param jsonWriter
+		 *            the json writer
+		 * @param resultSet
+		 *            the result set
+		 * @param column
+		 *            the column index
+		 * @throws SQLException
+		 *             the SQL exception
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		abstract void write(JsonWriter jsonWriter, ResultSet resultSet, int column) throws SQLException, IOException;
+
+		/**
+		 * Write an arbitrary value.
+		 *
+		 * @param jsonWriter
+		 *            the json writer
+		 * @param value
+		 *            the value
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		static void writeObject(JsonWriter jsonWriter, Object value) throws IOException {
+			if (value == null) {
+				jsonWriter.nullValue();
+			} else {
+				GsonHelper.GSON.toJson(value, value.getClass(), jsonWriter);
+			}
+		}
+
+		/**
+		 * The column writer for the SQL type.
+		 *
+		 * @param sqlType
+		 *            the SQL type
+		 * @return the column writer
+		 */
+		static ColumnWriter forType(int sqlType) {
+			switch (sqlType) {
+				case Types.BOOLEAN:
+					return BOOLEAN;
+				case Types.TINYINT:
+				case Types.SMALLINT:
+				case Types.INTEGER:
+				case Types.BIGINT:
+					return INTEGRAL;
+				case Types.DECIMAL:
+				case Types.NUMERIC:
+				case Types.REAL:
+				case Types.FLOAT:
+				case Types.DOUBLE:
+					return NUMBER;
+				case Types.CHAR:
+				case Types.VARCHAR:
+				case Types.LONGVARCHAR:
+				case Types.NCHAR:
+				case Types.NVARCHAR:
+				case Types.LONGNVARCHAR:
+					return STRING;
+				default:
+					return OBJECT;
+			}
+		}
 
-		return GsonHelper.GSON.toJson(records);
 	}
 
 }
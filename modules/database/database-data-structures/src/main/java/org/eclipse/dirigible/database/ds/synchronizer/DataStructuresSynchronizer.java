@@ -261,7 +261,9 @@ public class DataStructuresSynchronizer extends AbstractSynchronizer {
 				synchronizeRegistry();
 				updateDatabaseSchema();
 				updateDatabaseContent();
-				cleanup(); // TODO drop tables and views for non-existing models
+				if (isFullSynchronization()) {
+					cleanup(); // TODO drop tables and views for non-existing models
+				}
 				clearCache();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for Data Structures failed.", e);
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.api.wrappers.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import org.apache.derby.jdbc.EmbeddedDataSource;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.api.wrappers.WrappedConnection;
+import org.eclipse.dirigible.database.api.wrappers.WrappedConnectionPool;
+import org.eclipse.dirigible.database.api.wrappers.WrappedDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class WrappedConnectionPoolTest.
+ */
+public class WrappedConnectionPoolTest {
+
+	/** The data source of the physical connections. */
+	private EmbeddedDataSource dataSource;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		this.dataSource = new EmbeddedDataSource();
+		this.dataSource.setDatabaseName("target/tests/derby-pool");
+		this.dataSource.setCreateDatabase("create");
+	}
+
+	/**
+	 * Bounds and acquire timeout test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void boundsAndAcquireTimeout() throws SQLException {
+		WrappedConnectionPool pool = new WrappedConnectionPool(dataSource, 2, 200, 30000, 5);
+		Connection first = pool.acquire();
+		Connection second = pool.acquire();
+		assertEquals(2, pool.getActive());
+		assertEquals(2, pool.getOpened());
+
+		// no more connections are opened beyond the limit - the caller waits for the timeout instead
+		long start = System.currentTimeMillis();
+		try {
+			pool.acquire();
+			fail("The acquire is expected to time out");
+		} catch (SQLTimeoutException e) {
+			assertTrue((System.currentTimeMillis() - start) >= 200);
+		}
+		assertEquals(1, pool.getTimeouts());
+		assertEquals(2, pool.getOpened());
+
+		// a released connection is handed out again without opening a new one
+		pool.release(first, true);
+		assertEquals(1, pool.getIdle());
+		Connection third = pool.acquire();
+		assertSame(first, third);
+		assertEquals(2, pool.getOpened());
+		assertEquals(3, pool.getAcquires());
+
+		pool.release(second, true);
+		pool.release(third, true);
+		assertEquals(0, pool.getActive());
+		pool.closeIdle();
+		assertEquals(0, pool.getOpened());
+	}
+
+	/**
+	 * Idle validation test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void idleValidation() throws SQLException {
+		// each idle connection is validated before it is handed out
+		WrappedConnectionPool pool = new WrappedConnectionPool(dataSource, 2, 200, 0, 5);
+		Connection broken = pool.acquire();
+		Connection valid = pool.acquire();
+		pool.release(valid, true);
+		pool.release(broken, true);
+		// the connection is lost while it is idle
+		broken.close();
+
+		// the broken one is the most recently used, but it is discarded and the valid one is handed out
+		Connection acquired = pool.acquire();
+		assertSame(valid, acquired);
+		assertEquals(0, pool.getIdle());
+		assertEquals(1, pool.getOpened());
+
+		pool.release(acquired, true);
+		pool.closeIdle();
+	}
+
+	/**
+	 * Discard not reusable test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void discardNotReusable() throws SQLException {
+		WrappedConnectionPool pool = new WrappedConnectionPool(dataSource, 1, 200, 30000, 5);
+		Connection dirty = pool.acquire();
+		pool.release(dirty, false);
+		assertTrue(dirty.isClosed());
+		assertEquals(0, pool.getIdle());
+		assertEquals(0, pool.getOpened());
+
+		// the place of the discarded connection is freed for a new one
+		Connection replacement = pool.acquire();
+		assertNotSame(dirty, replacement);
+		assertEquals(1, pool.getOpened());
+
+		pool.release(replacement, true);
+		pool.closeIdle();
+	}
+
+	/**
+	 * Closed pooled connection test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void closedPooledConnection() throws SQLException {
+		Configuration.set(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED, Boolean.TRUE.toString());
+		WrappedDataSource wrappedDataSource;
+		try {
+			wrappedDataSource = new WrappedDataSource(dataSource);
+		} finally {
+			Configuration.set(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED, Boolean.FALSE.toString());
+		}
+		assertTrue(wrappedDataSource.isPooled());
+
+		Connection connection = wrappedDataSource.getConnection();
+		assertFalse(connection.isClosed());
+		assertEquals(1, wrappedDataSource.getActiveConnectionsCount());
+		connection.close();
+		assertTrue(connection.isClosed());
+		assertFalse(connection.isValid(1));
+		assertEquals(0, wrappedDataSource.getActiveConnectionsCount());
+		assertEquals(1, wrappedDataSource.getPool().getIdle());
+
+		// the physical connection is back in the pool, so it is not reachable through the closed wrapper anymore
+		try {
+			connection.createStatement();
+			fail("A closed connection is expected to fail");
+		} catch (SQLException e) {
+			assertEquals("connection is closed", e.getMessage());
+		}
+		try {
+			((WrappedConnection) connection).getDialect();
+			fail("A closed connection is expected to fail");
+		} catch (SQLException e) {
+			assertEquals("connection is closed", e.getMessage());
+		}
+		// closing again has no effect
+		connection.close();
+		assertEquals(1, wrappedDataSource.getPool().getIdle());
+
+		wrappedDataSource.getPool().closeIdle();
+	}
+
+	/**
+	 * Session state of the pooled connection test.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void sessionStateRestored() throws SQLException {
+		Configuration.set(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED, Boolean.TRUE.toString());
+		WrappedDataSource wrappedDataSource;
+		try {
+			wrappedDataSource = new WrappedDataSource(dataSource);
+		} finally {
+			Configuration.set(IDatabase.DIRIGIBLE_DATABASE_DEFAULT_POOL_ENABLED, Boolean.FALSE.toString());
+		}
+
+		Connection first = wrappedDataSource.getConnection();
+		boolean autoCommit = first.getAutoCommit();
+		int isolation = first.getTransactionIsolation();
+		Connection physical = first.unwrap(Connection.class);
+		String schema = physical.getSchema();
+
+		first.setAutoCommit(!autoCommit);
+		first.setReadOnly(true);
+		first.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+		physical.setSchema("SYS");
+		Statement statement = first.createStatement();
+		ResultSet resultSet = statement.executeQuery("SELECT 1 FROM SYSIBM.SYSDUMMY1");
+		PreparedStatement preparedStatement = first.prepareStatement("VALUES 1");
+		first.close();
+
+		// the statements left open are closed, before the physical connection goes back to the pool
+		assertTrue(statement.isClosed());
+		assertTrue(resultSet.isClosed());
+		assertTrue(preparedStatement.isClosed());
+
+		// the next borrower gets the same physical connection with the state it had on the first borrow
+		Connection second = wrappedDataSource.getConnection();
+		assertSame(physical, second.unwrap(Connection.class));
+		assertEquals(autoCommit, second.getAutoCommit());
+		assertFalse(second.isReadOnly());
+		assertEquals(isolation, second.getTransactionIsolation());
+		assertEquals(schema, physical.getSchema());
+		second.close();
+
+		wrappedDataSource.getPool().closeIdle();
+	}
+
+}
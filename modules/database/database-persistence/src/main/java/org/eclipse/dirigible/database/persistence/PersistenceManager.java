@@ -19,6 +19,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.GenerationType;
 
@@ -59,7 +61,7 @@ public class PersistenceManager<T> {
 	private static final String CONNECTION_ID_SEPARATOR = ":";
 
 	/** The Constant EXISTING_TABLES_CACHE. */
-	private static final List<String> EXISTING_TABLES_CACHE = Collections.synchronizedList(new ArrayList<String>());
+	private static final Set<String> EXISTING_TABLES_CACHE = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
 	/** The entity manager interceptor. */
 	private IEntityManagerInterceptor entityManagerInterceptor;
@@ -74,7 +76,9 @@ public class PersistenceManager<T> {
 	 * @return the result status of the create statement execution
 	 */
 	public int tableCreate(Connection connection, Class<T> clazz) {
-		logger.trace("tableCreate -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableCreate -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		}
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.getGenerated() != null) {
@@ -113,7 +117,9 @@ public class PersistenceManager<T> {
 	 * @return the result status of the drop statement execution
 	 */
 	public int tableDrop(Connection connection, Class<T> clazz) {
-		logger.trace("tableDrop -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableDrop -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		}
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (GenerationType.SEQUENCE.name().equals(columnModel.getGenerated())) {
@@ -139,7 +145,9 @@ public class PersistenceManager<T> {
 	 * @return true if exists and false otherwise
 	 */
 	public boolean tableExists(Connection connection, Class<T> clazz) {
-		logger.trace("tableExists -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableExists -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		}
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		try {
 			return SqlFactory.getNative(connection).exists(connection, tableModel.getTableName());
@@ -157,7 +165,9 @@ public class PersistenceManager<T> {
 	 *            the clazz
 	 */
 	public void tableCheck(Connection connection, Class clazz) {
-		logger.trace("tableCheck -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableCheck -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		}
 		String id = getConnectionIdentity(connection);
 		if (!EXISTING_TABLES_CACHE.contains(id + CONNECTION_ID_SEPARATOR + clazz.getCanonicalName())) {
 			if (!tableExists(connection, clazz)) {
@@ -210,13 +220,37 @@ public class PersistenceManager<T> {
 	 * @return the id of the pojo just inserted
 	 */
 	public Object insert(Connection connection, T pojo) {
-		logger.trace("tableCheck -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("tableCheck -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		}
 		tableCheck(connection, pojo.getClass());
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
 		PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
 		return insertProcessor.insert(connection, tableModel, pojo);
 	}
 
+	/**
+	 * Insert the records in the table representing the POJO instances in batches.
+	 *
+	 * @param connection
+	 *            the database connection
+	 * @param pojos
+	 *            the POJO instances of the same Class
+	 * @return the ids of the pojos just inserted
+	 */
+	public List<Object> insertAll(Connection connection, List<T> pojos) {
+		if (logger.isTraceEnabled()) {
+			logger.trace("insertAll -> connection: " + connection.hashCode() + ", pojos: " + pojos.size());
+		}
+		if (pojos.isEmpty()) {
+			return new ArrayList<Object>();
+		}
+		tableCheck(connection, pojos.get(0).getClass());
+		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojos.get(0));
+		PersistenceInsertProcessor<T> insertProcessor = new PersistenceInsertProcessor<>(getEntityManagerInterceptor());
+		return insertProcessor.insertAll(connection, tableModel, pojos);
+	}
+
 	/**
 	 * Getter for the single POJO instance.
 	 *
@@ -229,7 +263,9 @@ public class PersistenceManager<T> {
 	 * @return a POJO instance
 	 */
 	public T find(Connection connection, Class<T> clazz, Object id) {
-		logger.trace("find -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("find -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		}
 		tableCheck(connection, clazz);
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
@@ -248,7 +284,9 @@ public class PersistenceManager<T> {
 	 * @return a POJO instance
 	 */
 	public T lock(Connection connection, Class<T> clazz, Object id) {
-		logger.trace("lock -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("lock -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		}
 		tableCheck(connection, clazz);
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
@@ -265,7 +303,9 @@ public class PersistenceManager<T> {
 	 * @return a list with the POJO instances
 	 */
 	public List<T> findAll(Connection connection, Class<T> clazz) {
-		logger.trace("findAll -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("findAll -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName());
+		}
 		tableCheck(connection, clazz);
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
@@ -286,8 +326,10 @@ public class PersistenceManager<T> {
 	 * @return a list with the POJO instances
 	 */
 	public List<T> query(Connection connection, Class<T> clazz, String sql, List<Object> values) {
-		logger.trace("query -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", sql: " + sql + ", values: "
-				+ Serializer.serializeListOfObjects(values));
+		if (logger.isTraceEnabled()) {
+			logger.trace("query -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", sql: " + sql + ", values: "
+					+ Serializer.serializeListOfObjects(values));
+		}
 		tableCheck(connection, clazz);
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		PersistenceQueryProcessor<T> queryProcessor = new PersistenceQueryProcessor<>(getEntityManagerInterceptor());
@@ -323,7 +365,9 @@ public class PersistenceManager<T> {
 	 * @return a list with the POJO instances
 	 */
 	public int execute(Connection connection, String sql, List<Object> values) {
-		logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		if (logger.isTraceEnabled()) {
+			logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		}
 		PersistenceExecuteProcessor<T> executeProcessor = new PersistenceExecuteProcessor<>(getEntityManagerInterceptor());
 		return executeProcessor.execute(connection, sql, values);
 	}
@@ -355,7 +399,9 @@ public class PersistenceManager<T> {
 	 * @return the result status of the delete statement execution
 	 */
 	public int delete(Connection connection, Class<T> clazz, Object id) {
-		logger.trace("delete -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("delete -> connection: " + connection.hashCode() + ", class: " + clazz.getCanonicalName() + ", id: " + id);
+		}
 		tableCheck(connection, clazz);
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(clazz);
 		PersistenceDeleteProcessor<T> deleteProcessor = new PersistenceDeleteProcessor<>(getEntityManagerInterceptor());
@@ -372,13 +418,37 @@ public class PersistenceManager<T> {
 	 * @return the result status of the update statement execution
 	 */
 	public int update(Connection connection, T pojo) {
-		logger.trace("update -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("update -> connection: " + connection.hashCode() + ", pojo: " + Serializer.serializePojo(pojo));
+		}
 		tableCheck(connection, pojo.getClass());
 		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojo);
 		PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(getEntityManagerInterceptor());
 		return updateProcessor.update(connection, tableModel, pojo);
 	}
 
+	/**
+	 * Update the records of the POJO instances in batches.
+	 *
+	 * @param connection
+	 *            the database connection
+	 * @param pojos
+	 *            the POJO instances of the same Class
+	 * @return the result statuses of the update statement executions
+	 */
+	public int[] updateAll(Connection connection, List<T> pojos) {
+		if (logger.isTraceEnabled()) {
+			logger.trace("updateAll -> connection: " + connection.hashCode() + ", pojos: " + pojos.size());
+		}
+		if (pojos.isEmpty()) {
+			return new int[0];
+		}
+		tableCheck(connection, pojos.get(0).getClass());
+		PersistenceTableModel tableModel = PersistenceFactory.createModel(pojos.get(0));
+		PersistenceUpdateProcessor<T> updateProcessor = new PersistenceUpdateProcessor<>(getEntityManagerInterceptor());
+		return updateProcessor.updateAll(connection, tableModel, pojos);
+	}
+
 	/**
 	 * Gets the entity manager interceptor.
 	 *
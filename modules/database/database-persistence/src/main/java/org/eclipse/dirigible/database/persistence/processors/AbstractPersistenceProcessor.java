@@ -25,9 +25,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import javax.persistence.EnumType;
 
@@ -36,9 +37,9 @@ import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
-import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
 import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.sql.DataTypeUtils;
+import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +50,13 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 
 	private static final Logger logger = LoggerFactory.getLogger(AbstractPersistenceProcessor.class);
 
+	/** The maximum number of the statements sent to the database in a single batch. */
+	protected static final int BATCH_SIZE = 1000;
+
+	private static final char SCRIPT_KEY_SEPARATOR = '|';
+
+	private static final Map<String, String> SCRIPTS_CACHE = new ConcurrentHashMap<String, String>();
+
 	private IEntityManagerInterceptor entityManagerInterceptor;
 
 	/**
@@ -79,6 +87,35 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected abstract String generateScript(Connection connection, PersistenceTableModel tableModel);
 
+	/**
+	 * Gets the script of the statement for the table model, generating it only once per dialect and entity class.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param statement
+	 *            the name of the statement, unique within the processor
+	 * @param generator
+	 *            the generator of the script
+	 * @return the script
+	 */
+	protected String getScript(Connection connection, PersistenceTableModel tableModel, String statement,
+			BiFunction<Connection, PersistenceTableModel, String> generator) {
+		if (tableModel.getClassName() == null) {
+			return generator.apply(connection, tableModel);
+		}
+		String key = new StringBuilder().append(SqlFactory.deriveDialect(connection).getClass().getName()).append(SCRIPT_KEY_SEPARATOR)
+				.append(getClass().getName()).append(SCRIPT_KEY_SEPARATOR).append(statement).append(SCRIPT_KEY_SEPARATOR)
+				.append(tableModel.getClassName()).append(SCRIPT_KEY_SEPARATOR).append(tableModel.getTableName()).toString();
+		String script = SCRIPTS_CACHE.get(key);
+		if (script == null) {
+			script = generator.apply(connection, tableModel);
+			SCRIPTS_CACHE.put(key, script);
+		}
+		return script;
+	}
+
 	/**
 	 * Sets the values from pojo.
 	 *
@@ -97,8 +134,10 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValuesFromPojo(PersistenceTableModel tableModel, Object pojo, PreparedStatement preparedStatement)
 			throws SQLException, NoSuchFieldException, IllegalAccessException {
-		logger.trace("setValuesFromPojo -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
-				+ Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValuesFromPojo -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
+					+ Serializer.serializePojo(pojo));
+		}
 		int i = 1;
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (!shouldSetColumnValue(columnModel)) {
@@ -107,16 +146,8 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 			if (columnModel.isIdentity()) {
 				continue;
 			}
-			// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-			Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
 			String dataType = columnModel.getType();
-			Object valueObject = null;
-			boolean oldAccessible = setAccessible(field);
-			try {
-				valueObject = field.get(pojo);
-			} finally {
-				resetAccessible(field, oldAccessible);
-			}
+			Object valueObject = FieldAccessor.get(pojo.getClass(), columnModel.getField()).get(pojo);
 			try {
 				if ((columnModel.getEnumerated() != null) && (valueObject != null)) {
 					if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)) {
@@ -146,31 +177,6 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 		return true;
 	}
 
-	/**
-	 * Reset accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @param oldAccessible
-	 *            the old accessible
-	 */
-	private void resetAccessible(Field field, boolean oldAccessible) {
-		field.setAccessible(oldAccessible);
-	}
-
-	/**
-	 * Sets the accessible.
-	 *
-	 * @param field
-	 *            the field
-	 * @return true, if successful
-	 */
-	private boolean setAccessible(Field field) {
-		boolean oldAccessible = field.isAccessible();
-		field.setAccessible(true);
-		return oldAccessible;
-	}
-
 	/**
 	 * Sets the value primary key.
 	 *
@@ -189,7 +195,9 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValuePrimaryKey(PersistenceTableModel tableModel, Object id, PreparedStatement preparedStatement)
 			throws SQLException, NoSuchFieldException, IllegalAccessException {
-		logger.trace("setValuePrimaryKey -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValuePrimaryKey -> tableModel: " + Serializer.serializeTableModel(tableModel) + ", id: " + id);
+		}
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isPrimaryKey()) {
 				String dataType = columnModel.getType();
@@ -212,7 +220,9 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 *             the SQL exception
 	 */
 	protected void setValue(PreparedStatement preparedStatement, int i, Object value) throws SQLException {
-		logger.trace("setValue -> i: " + i + ", value: " + value);
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValue -> i: " + i + ", value: " + value);
+		}
 		setValue(preparedStatement, i, DataTypeUtils.getDatabaseTypeNameByJavaType(value.getClass()), value);
 	}
 
@@ -232,7 +242,9 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValue(PreparedStatement preparedStatement, int i, String dataType, Object value)
 			throws SQLException {
-		logger.trace("setValue -> i: " + i + ", dataType: " + dataType + ", value: " + value);
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValue -> i: " + i + ", dataType: " + dataType + ", value: " + value);
+		}
 		if (getEntityManagerInterceptor() != null) {
 			value = getEntityManagerInterceptor().onGetValueBeforeUpdate(i, dataType, value);
 		}
@@ -350,49 +362,47 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected void setValueToPojo(Object pojo, Object value, PersistenceTableColumnModel columnModel)
 			throws NoSuchFieldException, SQLException, IllegalAccessException, IOException {
-		logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value
-				+ ", columnModel: " + Serializer.serializeColumnModel(columnModel));
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			if (columnModel.getEnumerated() != null) {
-				if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
-						&& (value instanceof Integer)) {
-					if (field.getType().isEnum()) {
-						value = field.getType().getEnumConstants()[(Integer) value];
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
-						&& (value instanceof String)) {
-					if (field.getType().isEnum()) {
-						value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
-					} else {
-						throw new IllegalStateException(
-								"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
-					}
-				} else if (value != null) {
-					throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
+		if (logger.isTraceEnabled()) {
+			logger.trace("setValueToPojo -> pojo: " + Serializer.serializePojo(pojo) + ", value: " + value
+					+ ", columnModel: " + Serializer.serializeColumnModel(columnModel));
+		}
+		FieldAccessor accessor = FieldAccessor.get(pojo.getClass(), columnModel.getField());
+		Field field = accessor.getField();
+		if (columnModel.getEnumerated() != null) {
+			if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.ORDINAL)
+					&& (value instanceof Integer)) {
+				if (field.getType().isEnum()) {
+					value = field.getType().getEnumConstants()[(Integer) value];
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
 				}
+			} else if (EnumType.valueOf(columnModel.getEnumerated()).equals(EnumType.STRING)
+					&& (value instanceof String)) {
+				if (field.getType().isEnum()) {
+					value = Enum.valueOf((Class<Enum>) field.getType(), (String) value);
+				} else {
+					throw new IllegalStateException(
+							"The annotation @Enumerated is set to a field with a type, which is not an enum type.");
+				}
+			} else if (value != null) {
+				throw new IllegalStateException("The annotation @Enumerated is misused, the value is unknown.");
 			}
-			value = byteAdaptation(value, field);
-			value = intAdaptation(value, field);
-			value = blobAdaptation(value);
-			value = charAdaptation(value, field);
-			value = booleanAdaptation(value, field);
-			value = bigIntegerAdaptation(value, field);
-			value = shortAdaptation(value, field);
-			value = floatAdaptation(value, field);
-
-			if (getEntityManagerInterceptor() != null) {
-				value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
-			}
+		}
+		value = byteAdaptation(value, field);
+		value = intAdaptation(value, field);
+		value = blobAdaptation(value);
+		value = charAdaptation(value, field);
+		value = booleanAdaptation(value, field);
+		value = bigIntegerAdaptation(value, field);
+		value = shortAdaptation(value, field);
+		value = floatAdaptation(value, field);
 
-			field.set(pojo, value);
-		} finally {
-			resetAccessible(field, oldAccessible);
+		if (getEntityManagerInterceptor() != null) {
+			value = getEntityManagerInterceptor().onSetValueAfterQuery(pojo, field, value);
 		}
+
+		accessor.set(pojo, value);
 	}
 
 	private Object floatAdaptation(Object value, Field field) {
@@ -496,43 +506,11 @@ public abstract class AbstractPersistenceProcessor implements IPersistenceProces
 	 */
 	protected Object getValueFromPojo(Object pojo, PersistenceTableColumnModel columnModel)
 			throws NoSuchFieldException, SQLException, IllegalAccessException {
-		logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
-				+ Serializer.serializeColumnModel(columnModel));
-		// Field field = pojo.getClass().getDeclaredField(columnModel.getField());
-		Field field = getFieldFromClass(pojo.getClass(), columnModel.getField());
-		boolean oldAccessible = setAccessible(field);
-		try {
-			return field.get(pojo);
-		} finally {
-			resetAccessible(field, oldAccessible);
-		}
-	}
-
-	/**
-	 * Gets the field from class.
-	 *
-	 * @param clazz
-	 *            the clazz
-	 * @param fieldName
-	 *            the field name
-	 * @return the field from class
-	 * @throws NoSuchFieldException
-	 *             the no such field exception
-	 */
-	private Field getFieldFromClass(Class clazz, String fieldName) throws NoSuchFieldException {
-		Field field = null;
-		List<Field> fields = Arrays.asList(PersistenceAnnotationsParser.collectFields(clazz));
-		for (Field next : fields) {
-			if (next.getName().equals(fieldName)) {
-				field = next;
-				break;
-			}
-		}
-		if (field == null) {
-			throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]",
-					fieldName, clazz.getCanonicalName()));
+		if (logger.isTraceEnabled()) {
+			logger.trace("getValueFromPojo -> pojo: " + Serializer.serializePojo(pojo) + ", columnModel: "
+					+ Serializer.serializeColumnModel(columnModel));
 		}
-		return field;
+		return FieldAccessor.get(pojo.getClass(), columnModel.getField()).get(pojo);
 	}
 
 	/**
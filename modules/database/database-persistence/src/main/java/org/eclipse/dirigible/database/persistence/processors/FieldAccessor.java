@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.persistence.processors;
+
+import static java.text.MessageFormat.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.database.persistence.parser.PersistenceAnnotationsParser;
+
+/**
+ * The accessor of a field of a POJO class. The method handles for reading and writing the field are resolved once per
+ * class and field, instead of looking up the field and toggling its accessibility on each access.
+ */
+public class FieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final Map<Class<?>, Map<String, FieldAccessor>> ACCESSORS_CACHE = new ConcurrentHashMap<Class<?>, Map<String, FieldAccessor>>();
+
+	private final Field field;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle setter;
+
+	private final Class<?> valueType;
+
+	/**
+	 * Instantiates a new field accessor. A field, which cannot be accessed through a method handle - e.g. a final or a
+	 * static one, is accessed through reflection.
+	 *
+	 * @param field
+	 *            the field
+	 */
+	private FieldAccessor(Field field) {
+		field.setAccessible(true);
+		this.field = field;
+		this.getter = createHandle(field, false);
+		this.setter = createHandle(field, true);
+		this.valueType = field.getType().isPrimitive() ? MethodType.methodType(field.getType()).wrap().returnType() : field.getType();
+	}
+
+	/**
+	 * Creates the method handle for reading or writing the field.
+	 *
+	 * @param field
+	 *            the field
+	 * @param write
+	 *            whether for writing
+	 * @return the method handle or null, if the field is not accessible through a method handle
+	 */
+	private static MethodHandle createHandle(Field field, boolean write) {
+		if (Modifier.isStatic(field.getModifiers())) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			return write ? lookup.unreflectSetter(field).asType(SETTER_TYPE) : lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the accessor of the field of the class.
+	 *
+	 * @param clazz
+	 *            the class
+	 * @param fieldName
+	 *            the field name
+	 * @return the field accessor
+	 * @throws NoSuchFieldException
+	 *             the no such field exception
+	 */
+	public static FieldAccessor get(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		Map<String, FieldAccessor> accessors = ACCESSORS_CACHE.get(clazz);
+		if (accessors == null) {
+			accessors = createAccessors(clazz);
+			ACCESSORS_CACHE.put(clazz, accessors);
+		}
+		FieldAccessor accessor = accessors.get(fieldName);
+		if (accessor == null) {
+			throw new NoSuchFieldException(format("There is no a Field named [{0}] in the POJO of Class [{1}]", fieldName, clazz.getCanonicalName()));
+		}
+		return accessor;
+	}
+
+	/**
+	 * Creates the accessors of all the fields of the class, the ones declared in the class taking precedence over the
+	 * ones with the same name in its superclasses.
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the accessors by field name
+	 */
+	private static Map<String, FieldAccessor> createAccessors(Class<?> clazz) {
+		Map<String, FieldAccessor> accessors = new HashMap<String, FieldAccessor>();
+		for (Field field : PersistenceAnnotationsParser.collectFields(clazz)) {
+			if (!accessors.containsKey(field.getName())) {
+				accessors.put(field.getName(), new FieldAccessor(field));
+			}
+		}
+		return accessors;
+	}
+
+	/**
+	 * Gets the field.
+	 *
+	 * @return the field
+	 */
+	public Field getField() {
+		return field;
+	}
+
+	/**
+	 * Gets the type of the field.
+	 *
+	 * @return the type
+	 */
+	public Class<?> getType() {
+		return field.getType();
+	}
+
+	/**
+	 * Gets the value of the field.
+	 *
+	 * @param pojo
+	 *            the pojo
+	 * @return the value
+	 * @throws IllegalAccessException
+	 *             the illegal access exception
+	 */
+	public Object get(Object pojo) throws IllegalAccessException {
+		if (getter == null) {
+			return field.get(pojo);
+		}
+		try {
+			return (Object) getter.invokeExact(pojo);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Sets the value of the field. The values of the type of the field are set through the method handle. The ones,
+	 * which need a widening conversion or are null for a primitive field, are set through reflection, so that they are
+	 * converted or rejected the same way as by {@link Field#set(Object, Object)}.
+	 *
+	 * @param pojo
+	 *            the pojo
+	 * @param value
+	 *            the value
+	 * @throws IllegalAccessException
+	 *             the illegal access exception
+	 */
+	public void set(Object pojo, Object value) throws IllegalAccessException {
+		if ((setter == null) || !isAssignable(value)) {
+			field.set(pojo, value);
+			return;
+		}
+		try {
+			setter.invokeExact(pojo, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Checks whether the value can be set through the method handle without a conversion.
+	 *
+	 * @param value
+	 *            the value
+	 * @return true, if the value is of the type of the field or is null for a non-primitive field
+	 */
+	private boolean isAssignable(Object value) {
+		if (value == null) {
+			return !field.getType().isPrimitive();
+		}
+		return valueType.isInstance(value);
+	}
+
+}
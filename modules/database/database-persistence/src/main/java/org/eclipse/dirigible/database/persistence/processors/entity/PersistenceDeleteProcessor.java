@@ -104,12 +104,14 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 	 *             the persistence exception
 	 */
 	public int delete(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id) throws PersistenceException {
-		logger.trace("delete -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName() + ", id: " + id);
+		if (logger.isTraceEnabled()) {
+			logger.trace("delete -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName() + ", id: " + id);
+		}
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptDelete(connection, tableModel);
+			sql = getScript(connection, tableModel, "delete", this::generateScriptDelete);
 			preparedStatement = openPreparedStatement(connection, sql);
 			setValue(preparedStatement, 1, id);
 			return preparedStatement.executeUpdate();
@@ -136,12 +138,14 @@ public class PersistenceDeleteProcessor<T> extends AbstractPersistenceProcessor
 	 *             the persistence exception
 	 */
 	public int deleteAll(Connection connection, PersistenceTableModel tableModel, Class<T> clazz) throws PersistenceException {
-		logger.trace("deleteAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("deleteAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName());
+		}
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptDeleteAll(connection, tableModel);
+			sql = getScript(connection, tableModel, "deleteAll", this::generateScriptDeleteAll);
 			preparedStatement = openPreparedStatement(connection, sql);
 			return preparedStatement.executeUpdate();
 		} catch (Exception e) {
@@ -64,7 +64,9 @@ public class PersistenceExecuteProcessor<T> extends AbstractPersistenceProcessor
 	 * @return the int
 	 */
 	public int execute(Connection connection, String sql, List<Object> values) {
-		logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		if (logger.isTraceEnabled()) {
+			logger.trace("execute -> connection: " + connection.hashCode() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		}
 		PreparedStatement preparedStatement = null;
 		try {
 			preparedStatement = openPreparedStatement(connection, sql);
@@ -18,6 +18,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.persistence.GenerationType;
 
@@ -87,21 +89,23 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 	 *             the persistence exception
 	 */
 	public Object insert(Connection connection, PersistenceTableModel tableModel, T pojo) throws PersistenceException {
-		logger.trace("insert -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
-				+ Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("insert -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
+					+ Serializer.serializePojo(pojo));
+		}
 		Object result = 0;
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
 			boolean identified = setGeneratedValues(connection, tableModel, pojo);
 			if (identified) {
-				sql = generateScript(connection, tableModel);
+				sql = getScript(connection, tableModel, "insert", this::generateScript);
 				preparedStatement = openPreparedStatement(connection, sql);
 				setValuesFromPojo(tableModel, pojo, preparedStatement);
 				preparedStatement.executeUpdate();
 				result = getPrimaryKeyValue(tableModel, pojo);
 			} else {
-				sql = generateScript(connection, tableModel);
+				sql = getScript(connection, tableModel, "insert", this::generateScript);
 				preparedStatement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
 				setValuesFromPojo(tableModel, pojo, preparedStatement);
 				int affectedRows = preparedStatement.executeUpdate();
@@ -135,6 +139,77 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 		return result;
 	}
 
+	/**
+	 * Insert the pojos in batches of a single prepared statement. The pojos with an identity generated by the database
+	 * are inserted one by one instead, as the generated keys of a batch are not supported by all the drivers.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param pojos
+	 *            the pojos
+	 * @return the identifiers of the inserted pojos
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public List<Object> insertAll(Connection connection, PersistenceTableModel tableModel, List<T> pojos) throws PersistenceException {
+		if (logger.isTraceEnabled()) {
+			logger.trace("insertAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
+					+ ", pojos: " + pojos.size());
+		}
+		List<Object> result = new ArrayList<Object>(pojos.size());
+		if (isIdentityGenerated(tableModel)) {
+			for (T pojo : pojos) {
+				result.add(insert(connection, tableModel, pojo));
+			}
+			return result;
+		}
+		String sql = null;
+		PreparedStatement preparedStatement = null;
+		try {
+			sql = getScript(connection, tableModel, "insert", this::generateScript);
+			preparedStatement = openPreparedStatement(connection, sql);
+			int batched = 0;
+			for (T pojo : pojos) {
+				setGeneratedValues(connection, tableModel, pojo);
+				setValuesFromPojo(tableModel, pojo, preparedStatement);
+				preparedStatement.addBatch();
+				result.add(getPrimaryKeyValue(tableModel, pojo));
+				if (++batched == BATCH_SIZE) {
+					preparedStatement.executeBatch();
+					batched = 0;
+				}
+			}
+			if (batched > 0) {
+				preparedStatement.executeBatch();
+			}
+		} catch (Exception e) {
+			logger.error(sql);
+			logger.error(e.getMessage(), e);
+			throw new PersistenceException(sql, e);
+		} finally {
+			closePreparedStatement(preparedStatement);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the primary key is an identity generated by the database.
+	 *
+	 * @param tableModel
+	 *            the table model
+	 * @return true, if it is generated by the database
+	 */
+	private boolean isIdentityGenerated(PersistenceTableModel tableModel) {
+		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
+			if (columnModel.isPrimaryKey() && GenerationType.IDENTITY.name().equals(columnModel.getGenerated())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the generated values.
 	 *
@@ -154,8 +229,10 @@ public class PersistenceInsertProcessor<T> extends AbstractPersistenceProcessor
 	 */
 	private boolean setGeneratedValues(Connection connection, PersistenceTableModel tableModel, Object pojo)
 			throws NoSuchFieldException, IllegalAccessException, SQLException, IOException {
-		logger.trace("setGeneratedValues -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
-				+ ", pojo: " + Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("setGeneratedValues -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
+					+ ", pojo: " + Serializer.serializePojo(pojo));
+		}
 		for (PersistenceTableColumnModel columnModel : tableModel.getColumns()) {
 			if (columnModel.isPrimaryKey() && (columnModel.getGenerated() != null)) {
 				long id = -1;
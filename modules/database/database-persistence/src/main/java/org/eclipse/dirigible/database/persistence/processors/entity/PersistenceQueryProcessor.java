@@ -137,9 +137,11 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 *             the persistence exception
 	 */
 	public T find(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id) throws PersistenceException {
-		logger.trace("find -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName() + ", id: " + id);
-		String sql = generateScriptFind(connection, tableModel);
+		if (logger.isTraceEnabled()) {
+			logger.trace("find -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName() + ", id: " + id);
+		}
+		String sql = getScript(connection, tableModel, "find", this::generateScriptFind);
 		return get(connection, tableModel, clazz, id, sql);
 	}
 
@@ -159,9 +161,11 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 *             the persistence exception
 	 */
 	public T lock(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id) throws PersistenceException {
-		logger.trace("lock -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName() + ", id: " + id);
-		String sql = generateScriptLock(connection, tableModel);
+		if (logger.isTraceEnabled()) {
+			logger.trace("lock -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName() + ", id: " + id);
+		}
+		String sql = getScript(connection, tableModel, "lock", this::generateScriptLock);
 		return get(connection, tableModel, clazz, id, sql);
 	}
 
@@ -183,8 +187,10 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 *             the persistence exception
 	 */
 	protected T get(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, Object id, String sql) throws PersistenceException {
-		logger.trace("get -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName() + ", id: " + id + ", sql: " + sql);
+		if (logger.isTraceEnabled()) {
+			logger.trace("get -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName() + ", id: " + id + ", sql: " + sql);
+		}
 		T result = null;
 		PreparedStatement preparedStatement = null;
 		try {
@@ -228,13 +234,15 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 *             the persistence exception
 	 */
 	public List<T> findAll(Connection connection, PersistenceTableModel tableModel, Class<T> clazz) throws PersistenceException {
-		logger.trace("findAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName());
+		if (logger.isTraceEnabled()) {
+			logger.trace("findAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName());
+		}
 		List<T> result = new ArrayList<T>();
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
-			sql = generateScriptFindAll(connection, tableModel);
+			sql = getScript(connection, tableModel, "findAll", this::generateScriptFindAll);
 			preparedStatement = openPreparedStatement(connection, sql);
 			ResultSet resultSet = null;
 			try {
@@ -275,8 +283,10 @@ public class PersistenceQueryProcessor<T> extends AbstractPersistenceProcessor {
 	 * @return the list
 	 */
 	public List<T> query(Connection connection, PersistenceTableModel tableModel, Class<T> clazz, String sql, List<Object> values) {
-		logger.trace("query -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
-				+ clazz.getCanonicalName() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		if (logger.isTraceEnabled()) {
+			logger.trace("query -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", class: "
+					+ clazz.getCanonicalName() + ", sql: " + sql + ", values: " + Serializer.serializeListOfObjects(values));
+		}
 		List<T> result = new ArrayList<T>();
 		PreparedStatement preparedStatement = null;
 		try {
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.database.persistence.processors.entity;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.List;
 
 import org.eclipse.dirigible.database.persistence.IEntityManagerInterceptor;
 import org.eclipse.dirigible.database.persistence.PersistenceException;
@@ -87,8 +88,10 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 	 *             the persistence exception
 	 */
 	public int update(Connection connection, PersistenceTableModel tableModel, T pojo) throws PersistenceException {
-		logger.trace("update -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
-				+ Serializer.serializePojo(pojo));
+		if (logger.isTraceEnabled()) {
+			logger.trace("update -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel) + ", pojo: "
+					+ Serializer.serializePojo(pojo));
+		}
 		String sql = null;
 		PreparedStatement preparedStatement = null;
 		try {
@@ -97,7 +100,7 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 			if (id == null) {
 				throw new PersistenceException("The key for update cannot be null.");
 			}
-			sql = generateScript(connection, tableModel);
+			sql = getScript(connection, tableModel, "update", this::generateScript);
 			preparedStatement = openPreparedStatement(connection, sql);
 			setValuesFromPojo(tableModel, pojo, preparedStatement);
 			setValue(preparedStatement, tableModel.getColumns().size(), id);
@@ -111,6 +114,75 @@ public class PersistenceUpdateProcessor<T> extends AbstractPersistenceProcessor
 		}
 	}
 
+	/**
+	 * Update the pojos in batches of a single prepared statement.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param tableModel
+	 *            the table model
+	 * @param pojos
+	 *            the pojos
+	 * @return the update counts in the order of the pojos
+	 * @throws PersistenceException
+	 *             the persistence exception
+	 */
+	public int[] updateAll(Connection connection, PersistenceTableModel tableModel, List<T> pojos) throws PersistenceException {
+		if (logger.isTraceEnabled()) {
+			logger.trace("updateAll -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel)
+					+ ", pojos: " + pojos.size());
+		}
+		int[] result = new int[pojos.size()];
+		String sql = null;
+		PreparedStatement preparedStatement = null;
+		try {
+			PersistenceTableColumnModel primaryKeyColumnModel = getPrimaryKeyModel(tableModel);
+			sql = getScript(connection, tableModel, "update", this::generateScript);
+			preparedStatement = openPreparedStatement(connection, sql);
+			int executed = 0;
+			int batched = 0;
+			for (T pojo : pojos) {
+				Object id = getValueFromPojo(pojo, primaryKeyColumnModel);
+				if (id == null) {
+					throw new PersistenceException("The key for update cannot be null.");
+				}
+				setValuesFromPojo(tableModel, pojo, preparedStatement);
+				setValue(preparedStatement, tableModel.getColumns().size(), id);
+				preparedStatement.addBatch();
+				if (++batched == BATCH_SIZE) {
+					executed = copyUpdateCounts(preparedStatement.executeBatch(), result, executed);
+					batched = 0;
+				}
+			}
+			if (batched > 0) {
+				copyUpdateCounts(preparedStatement.executeBatch(), result, executed);
+			}
+			return result;
+		} catch (Exception e) {
+			logger.error(sql);
+			logger.error(e.getMessage(), e);
+			throw new PersistenceException(sql, e);
+		} finally {
+			closePreparedStatement(preparedStatement);
+		}
+	}
+
+	/**
+	 * Copy the update counts of a batch to the overall ones.
+	 *
+	 * @param counts
+	 *            the update counts of the batch
+	 * @param result
+	 *            the overall update counts
+	 * @param offset
+	 *            the number of the update counts already copied
+	 * @return the number of the update counts copied so far
+	 */
+	private int copyUpdateCounts(int[] counts, int[] result, int offset) {
+		System.arraycopy(counts, 0, result, offset, counts.length);
+		return offset + counts.length;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.database.persistence.processors.AbstractPersistenceProcessor#shouldSetColumnValue(org.
@@ -68,7 +68,9 @@ public class PersistenceDropSequenceProcessor extends AbstractPersistenceProcess
 	 *             the persistence exception
 	 */
 	public int drop(Connection connection, PersistenceTableModel tableModel) throws PersistenceException {
-		logger.trace("drop -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel));
+		if (logger.isTraceEnabled()) {
+			logger.trace("drop -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel));
+		}
 		int result = 0;
 		String sql = null;
 		PreparedStatement preparedStatement = null;
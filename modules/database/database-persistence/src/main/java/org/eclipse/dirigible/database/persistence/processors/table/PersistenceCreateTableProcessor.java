@@ -131,7 +131,9 @@ public class PersistenceCreateTableProcessor extends AbstractPersistenceProcesso
 	 *             the persistence exception
 	 */
 	public int create(Connection connection, PersistenceTableModel tableModel) throws PersistenceException {
-		logger.trace("create -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel));
+		if (logger.isTraceEnabled()) {
+			logger.trace("create -> connection: " + connection.hashCode() + ", tableModel: " + Serializer.serializeTableModel(tableModel));
+		}
 		int result = 0;
 		String sql = null;
 		PreparedStatement preparedStatement = null;
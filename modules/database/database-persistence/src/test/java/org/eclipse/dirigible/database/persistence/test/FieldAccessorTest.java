@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.eclipse.dirigible.database.persistence.processors.FieldAccessor;
+import org.junit.Test;
+
+/**
+ * The Class FieldAccessorTest.
+ */
+public class FieldAccessorTest {
+
+	/**
+	 * The values of the type of the field.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void exactValues() throws Exception {
+		Holder holder = new Holder();
+		FieldAccessor.get(Holder.class, "count").set(holder, Long.valueOf(5));
+		FieldAccessor.get(Holder.class, "name").set(holder, "name");
+		FieldAccessor.get(Holder.class, "boxed").set(holder, Long.valueOf(7));
+		assertEquals(5, holder.count);
+		assertEquals("name", holder.name);
+		assertEquals(Long.valueOf(7), holder.boxed);
+		assertEquals(Long.valueOf(5), FieldAccessor.get(Holder.class, "count").get(holder));
+	}
+
+	/**
+	 * The values, which need a widening conversion, and the null values.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void convertedValues() throws Exception {
+		Holder holder = new Holder();
+		FieldAccessor.get(Holder.class, "count").set(holder, Integer.valueOf(3));
+		assertEquals(3, holder.count);
+
+		holder.name = "name";
+		holder.boxed = Long.valueOf(1);
+		FieldAccessor.get(Holder.class, "name").set(holder, null);
+		FieldAccessor.get(Holder.class, "boxed").set(holder, null);
+		assertNull(holder.name);
+		assertNull(holder.boxed);
+
+		try {
+			FieldAccessor.get(Holder.class, "count").set(holder, null);
+			fail("A null value is expected to be rejected for a primitive field");
+		} catch (IllegalArgumentException e) {
+			// expected - as by Field.set()
+		}
+		try {
+			FieldAccessor.get(Holder.class, "name").set(holder, Integer.valueOf(1));
+			fail("A value of another type is expected to be rejected");
+		} catch (IllegalArgumentException e) {
+			// expected - as by Field.set()
+		}
+		assertEquals(3, holder.count);
+	}
+
+	/**
+	 * The holder of the fields.
+	 */
+	private static class Holder {
+
+		private long count;
+
+		private Long boxed;
+
+		private String name;
+
+	}
+
+}
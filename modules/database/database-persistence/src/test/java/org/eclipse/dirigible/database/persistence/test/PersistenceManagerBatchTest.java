@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.persistence.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
+import org.junit.Test;
+
+/**
+ * The Persistence Manager Batch Test.
+ */
+public class PersistenceManagerBatchTest extends AbstractPersistenceManagerTest {
+
+	/**
+	 * Batch insert and update tests.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void batchTests() throws SQLException {
+		PersistenceManager<Customer> persistenceManager = new PersistenceManager<Customer>();
+		Connection connection = null;
+		try {
+			connection = getDataSource().getConnection();
+			persistenceManager.tableCreate(connection, Customer.class);
+			try {
+				List<Customer> customers = new ArrayList<Customer>();
+				for (int i = 1; i <= 3; i++) {
+					Customer customer = new Customer();
+					customer.setId(i);
+					customer.setFirstName("First " + i);
+					customer.setLastName("Last " + i);
+					customer.setAge(20 + i);
+					customers.add(customer);
+				}
+				List<Object> ids = persistenceManager.insertAll(connection, customers);
+				assertEquals(3, ids.size());
+				assertEquals(1, ids.get(0));
+				assertEquals(3, persistenceManager.findAll(connection, Customer.class).size());
+
+				for (Customer customer : customers) {
+					customer.setAge(customer.getAge() + 10);
+				}
+				int[] results = persistenceManager.updateAll(connection, customers);
+				assertArrayEquals(new int[] { 1, 1, 1 }, results);
+				assertEquals(33, persistenceManager.find(connection, Customer.class, 3).getAge());
+			} finally {
+				persistenceManager.tableDrop(connection, Customer.class);
+			}
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * Batch insert with generated values tests.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void batchGeneratedValueTests() throws SQLException {
+		PersistenceManager<Order> persistenceManager = new PersistenceManager<Order>();
+		Connection connection = null;
+		try {
+			connection = getDataSource().getConnection();
+			persistenceManager.tableCreate(connection, Order.class);
+			try {
+				List<Order> orders = new ArrayList<Order>();
+				for (int i = 1; i <= 2; i++) {
+					Order order = new Order();
+					order.setSubject("Subject " + i);
+					orders.add(order);
+				}
+				List<Object> ids = persistenceManager.insertAll(connection, orders);
+				assertEquals(2, ids.size());
+				assertNotEquals(ids.get(0), ids.get(1));
+				assertEquals(2, persistenceManager.findAll(connection, Order.class).size());
+			} finally {
+				persistenceManager.tableDrop(connection, Order.class);
+			}
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+
+}
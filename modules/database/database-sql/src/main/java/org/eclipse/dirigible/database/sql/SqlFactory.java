@@ -13,6 +13,8 @@ package org.eclipse.dirigible.database.sql;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import javax.sql.DataSource;
+
 import org.eclipse.dirigible.database.sql.builders.CreateBranchingBuilder;
 import org.eclipse.dirigible.database.sql.builders.DropBranchingBuilder;
 import org.eclipse.dirigible.database.sql.builders.ExpressionBuilder;
@@ -95,6 +97,17 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 		return new SqlFactory(deriveDialect(connection));
 	}
 
+	/**
+	 * Gets the native.
+	 *
+	 * @param dataSource
+	 *            the data source
+	 * @return the native
+	 */
+	public static SqlFactory getNative(DataSource dataSource) {
+		return new SqlFactory(deriveDialect(dataSource));
+	}
+
 	/**
 	 * Instantiates a new sql factory.
 	 */
@@ -128,6 +141,22 @@ public class SqlFactory<SELECT extends SelectBuilder, INSERT extends InsertBuild
 
 	}
 
+	/**
+	 * Derive dialect.
+	 *
+	 * @param dataSource
+	 *            the data source
+	 * @return the i sql dialect
+	 */
+	public static ISqlDialect deriveDialect(DataSource dataSource) {
+		try {
+			return SqlDialectFactory.getDialect(dataSource);
+		} catch (SQLException e) {
+			throw new SqlException("Error on deriving the database dialect from the data source", e);
+		}
+
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.database.sql.ISqlFactory#select()
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.sql.dialects;
+
+import java.sql.SQLException;
+
+import org.eclipse.dirigible.database.sql.ISqlDialect;
+
+/**
+ * A connection or a data source, which knows the dialect of its database, so that it does not have to be derived from
+ * the database metadata on each use.
+ */
+public interface ISqlDialectProvider {
+
+	/**
+	 * Gets the dialect.
+	 *
+	 * @return the dialect or null, if the database is not supported
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public ISqlDialect getDialect() throws SQLException;
+
+}
@@ -15,6 +15,9 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.sql.DataSource;
 
 import org.eclipse.dirigible.database.sql.ISqlDialect;
 import org.eclipse.dirigible.database.sql.dialects.derby.DerbySqlDialect;
@@ -39,6 +42,48 @@ public class SqlDialectFactory {
 	 *             the SQL exception
 	 */
 	public static final ISqlDialect getDialect(Connection connection) throws SQLException {
+		if (connection instanceof ISqlDialectProvider) {
+			return ((ISqlDialectProvider) connection).getDialect();
+		}
+		return resolveDialect(connection);
+	}
+
+	/**
+	 * Gets the dialect of the database behind the data source. It is derived from the metadata of a connection only once
+	 * per data source.
+	 *
+	 * @param dataSource
+	 *            the data source
+	 * @return the dialect
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static final ISqlDialect getDialect(DataSource dataSource) throws SQLException {
+		if (dataSource instanceof ISqlDialectProvider) {
+			return ((ISqlDialectProvider) dataSource).getDialect();
+		}
+		ISqlDialect dialect = dataSourceDialects.get(dataSource);
+		if (dialect == null) {
+			try (Connection connection = dataSource.getConnection()) {
+				dialect = getDialect(connection);
+			}
+			if (dialect != null) {
+				dataSourceDialects.put(dataSource, dialect);
+			}
+		}
+		return dialect;
+	}
+
+	/**
+	 * Resolve the dialect from the metadata of the connection.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return the dialect
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	public static final ISqlDialect resolveDialect(Connection connection) throws SQLException {
 		String productName = connection.getMetaData().getDatabaseProductName();
 		return databaseTypeMappings.get(productName);
 	}
@@ -70,6 +115,9 @@ public class SqlDialectFactory {
 	// Lifted from Activiti
 	protected static final Map<String, ISqlDialect> databaseTypeMappings = getDefaultDatabaseTypeMappings();
 
+	/** The dialects of the data sources resolved so far. */
+	private static final Map<DataSource, ISqlDialect> dataSourceDialects = Collections.synchronizedMap(new WeakHashMap<DataSource, ISqlDialect>());
+
 	/**
 	 * Gets the default database type mappings.
 	 *
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.database.sql.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.dialects.SqlDialectFactory;
+import org.junit.Test;
+
+/**
+ * The Class DialectTest.
+ */
+public class DialectTest {
+
+	/**
+	 * Dialect of a data source is resolved once.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void dialectOfDataSource() throws SQLException {
+		AtomicInteger metadataCalls = new AtomicInteger();
+		DataSource dataSource = createDataSource("H2", metadataCalls);
+
+		assertSame(SqlDialectFactory.DATABASE_TYPE_H2, SqlFactory.deriveDialect(dataSource));
+		assertSame(SqlDialectFactory.DATABASE_TYPE_H2, SqlFactory.deriveDialect(dataSource));
+		assertEquals("SELECT * FROM CUSTOMERS", SqlFactory.getNative(dataSource).select().column("*").from("CUSTOMERS").build());
+		assertEquals(1, metadataCalls.get());
+	}
+
+	/**
+	 * Dialect of a connection.
+	 *
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	@Test
+	public void dialectOfConnection() throws SQLException {
+		AtomicInteger metadataCalls = new AtomicInteger();
+		DataSource dataSource = createDataSource("Apache Derby", metadataCalls);
+
+		assertSame(SqlDialectFactory.DATABASE_TYPE_DERBY, SqlFactory.deriveDialect(dataSource.getConnection()));
+		assertEquals(1, metadataCalls.get());
+	}
+
+	private DataSource createDataSource(String productName, AtomicInteger metadataCalls) {
+		DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { DatabaseMetaData.class },
+				(proxy, method, args) -> "getDatabaseProductName".equals(method.getName()) ? productName : null);
+		Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { Connection.class },
+				(proxy, method, args) -> {
+					if ("getMetaData".equals(method.getName())) {
+						metadataCalls.incrementAndGet();
+						return metaData;
+					}
+					return null;
+				});
+		return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { DataSource.class },
+				(proxy, method, args) -> {
+					if ("getConnection".equals(method.getName())) {
+						return connection;
+					}
+					if ("hashCode".equals(method.getName())) {
+						return System.identityHashCode(proxy);
+					}
+					if ("equals".equals(method.getName())) {
+						return proxy == args[0];
+					}
+					return null;
+				});
+	}
+
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.api;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The invocation statistics of an engine type - the number of the invocations and the failures, the total time and a
+ * latency histogram. The histogram buckets grow by the power of two in milliseconds - the bucket 0 counts the
+ * invocations under 1ms, the bucket i counts the ones between 2^(i-1) and 2^i ms, and the last one all the longer ones.
+ */
+public class EngineExecutionStatistics {
+
+	/** The Constant BUCKETS. */
+	public static final int BUCKETS = 18;
+
+	private static final ConcurrentMap<String, EngineExecutionStatistics> STATISTICS = new ConcurrentHashMap<String, EngineExecutionStatistics>();
+
+	private final String type;
+
+	private final LongAdder invocations = new LongAdder();
+
+	private final LongAdder failures = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * Gets the statistics of the engine type.
+	 *
+	 * @param type
+	 *            the engine type
+	 * @return the statistics
+	 */
+	public static EngineExecutionStatistics get(String type) {
+		EngineExecutionStatistics statistics = STATISTICS.get(type);
+		if (statistics == null) {
+			statistics = new EngineExecutionStatistics(type);
+			EngineExecutionStatistics existing = STATISTICS.putIfAbsent(type, statistics);
+			if (existing != null) {
+				statistics = existing;
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * Gets the statistics of all the engine types invoked so far.
+	 *
+	 * @return the statistics by engine type
+	 */
+	public static Map<String, EngineExecutionStatistics> getAll() {
+		return new TreeMap<String, EngineExecutionStatistics>(STATISTICS);
+	}
+
+	/**
+	 * Reset all the statistics.
+	 */
+	public static void clear() {
+		STATISTICS.clear();
+	}
+
+	/**
+	 * Instantiates a new engine execution statistics.
+	 *
+	 * @param type
+	 *            the type
+	 */
+	EngineExecutionStatistics(String type) {
+		this.type = type;
+	}
+
+	/**
+	 * Record an invocation.
+	 *
+	 * @param startNanos
+	 *            the start time as returned by {@link System#nanoTime()}
+	 * @param failed
+	 *            whether the invocation failed
+	 */
+	public void record(long startNanos, boolean failed) {
+		long elapsed = System.nanoTime() - startNanos;
+		invocations.increment();
+		if (failed) {
+			failures.increment();
+		}
+		totalNanos.add(elapsed);
+		histogram.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMillis(elapsed)));
+	}
+
+	/**
+	 * The bucket of the duration.
+	 *
+	 * @param millis
+	 *            the duration in milliseconds
+	 * @return the bucket index
+	 */
+	static int bucket(long millis) {
+		int bucket = 64 - Long.numberOfLeadingZeros(millis);
+		return (bucket < BUCKETS) ? bucket : BUCKETS - 1;
+	}
+
+	/**
+	 * Gets the engine type.
+	 *
+	 * @return the type
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the number of the invocations.
+	 *
+	 * @return the invocations
+	 */
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	/**
+	 * Gets the number of the failed invocations.
+	 *
+	 * @return the failures
+	 */
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	/**
+	 * Gets the total time of the invocations in milliseconds.
+	 *
+	 * @return the total time
+	 */
+	public long getTotalTime() {
+		return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+	}
+
+	/**
+	 * Gets the latency histogram.
+	 *
+	 * @return the counts per bucket
+	 */
+	public long[] getHistogram() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = histogram.get(i);
+		}
+		return counts;
+	}
+
+}
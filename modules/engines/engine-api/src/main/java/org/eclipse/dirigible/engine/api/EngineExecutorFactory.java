@@ -13,10 +13,8 @@ package org.eclipse.dirigible.engine.api;
 import static java.text.MessageFormat.format;
 
 import java.util.HashSet;
-import java.util.ServiceLoader;
 import java.util.Set;
 
-import org.eclipse.dirigible.commons.api.module.StaticInjector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +23,7 @@ import org.slf4j.LoggerFactory;
  */
 public class EngineExecutorFactory {
 
-	private static final ServiceLoader<IEngineExecutor> ENGINE_EXECUTORS = ServiceLoader.load(IEngineExecutor.class);
+	private static final EngineExecutorRegistry<IEngineExecutor> ENGINE_EXECUTORS = new EngineExecutorRegistry<IEngineExecutor>(IEngineExecutor.class);
 
 	private static final Logger logger = LoggerFactory.getLogger(EngineExecutorFactory.class);
 
@@ -37,29 +35,34 @@ public class EngineExecutorFactory {
 	 * @return the engine executor
 	 */
 	public static IEngineExecutor getEngineExecutor(String type) {
-		for (IEngineExecutor next : ENGINE_EXECUTORS) {
-			if (next.getType().equals(type)) {
-				return StaticInjector.getInjector().getInstance(next.getClass());
-			}
+		IEngineExecutor engineExecutor = ENGINE_EXECUTORS.get(type);
+		if (engineExecutor != null) {
+			return engineExecutor;
 		}
 		logger.error(format("Executor of Type {0} does not exist.", type));
 		return null;
 	}
 	
 	public static Set<String> getEnginesTypes() {
-		Set<String> engineTypes = new HashSet<String>();
-		for (IEngineExecutor next : ENGINE_EXECUTORS) {
-			engineTypes.add(next.getType());
-		}
-		return engineTypes;
+		return new HashSet<String>(ENGINE_EXECUTORS.getTypes());
 	}
 	
 	public static Set<String> getEnginesNames() {
 		Set<String> engineTypes = new HashSet<String>();
-		for (IEngineExecutor next : ENGINE_EXECUTORS) {
+		for (IEngineExecutor next : ENGINE_EXECUTORS.getAll()) {
 			engineTypes.add(next.getName());
 		}
 		return engineTypes;
 	}
 
+	/**
+	 * Register an engine executor provided by a module loaded later.
+	 *
+	 * @param engineExecutor
+	 *            the engine executor
+	 */
+	public static void registerEngineExecutor(IEngineExecutor engineExecutor) {
+		ENGINE_EXECUTORS.register(engineExecutor);
+	}
+
 }
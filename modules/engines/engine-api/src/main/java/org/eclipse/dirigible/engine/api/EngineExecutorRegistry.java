@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.api;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import org.eclipse.dirigible.commons.api.module.StaticInjector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The registry of the engine executors of a given kind, keyed by their type. The executors registered as services are
+ * resolved and instantiated by the injector only once - on the first lookup. The registry itself is an immutable map,
+ * which is replaced as a whole when an executor of a late module is registered, so that the lookups do not need any
+ * locking.
+ *
+ * @param <T>
+ *            the type of the executors
+ */
+public class EngineExecutorRegistry<T extends IEngineExecutor> {
+
+	private static final Logger logger = LoggerFactory.getLogger(EngineExecutorRegistry.class);
+
+	private final Class<T> service;
+
+	private volatile Map<String, T> executors;
+
+	/**
+	 * Instantiates a new engine executor registry.
+	 *
+	 * @param service
+	 *            the service interface of the executors
+	 */
+	public EngineExecutorRegistry(Class<T> service) {
+		this.service = service;
+	}
+
+	/**
+	 * Gets the executor by type.
+	 *
+	 * @param type
+	 *            the type
+	 * @return the executor or null, if there is no such type
+	 */
+	public T get(String type) {
+		return getExecutors().get(type);
+	}
+
+	/**
+	 * Gets all the registered executors.
+	 *
+	 * @return the executors
+	 */
+	public Collection<T> getAll() {
+		return getExecutors().values();
+	}
+
+	/**
+	 * Gets the registered types.
+	 *
+	 * @return the types
+	 */
+	public Set<String> getTypes() {
+		return getExecutors().keySet();
+	}
+
+	/**
+	 * Register an executor, which is not known as a service - e.g. one provided by a module loaded later. An already
+	 * registered executor of the same type is replaced.
+	 *
+	 * @param executor
+	 *            the executor
+	 */
+	public synchronized void register(T executor) {
+		Map<String, T> registered = new LinkedHashMap<String, T>(getExecutors());
+		T previous = registered.put(executor.getType(), executor);
+		executors = Collections.unmodifiableMap(registered);
+		if (previous != null) {
+			logger.info("Executor of Type {} replaced by {}", executor.getType(), executor.getClass().getName());
+		} else {
+			logger.info("Executor of Type {} registered: {}", executor.getType(), executor.getClass().getName());
+		}
+	}
+
+	/**
+	 * Gets the executors, loading the registered services on the first call.
+	 *
+	 * @return the executors
+	 */
+	private Map<String, T> getExecutors() {
+		Map<String, T> current = executors;
+		if (current == null) {
+			synchronized (this) {
+				current = executors;
+				if (current == null) {
+					current = load();
+					executors = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Load the executors registered as services.
+	 *
+	 * @return the executors
+	 */
+	private Map<String, T> load() {
+		Map<String, T> loaded = new LinkedHashMap<String, T>();
+		for (T next : ServiceLoader.load(service)) {
+			// the first one wins, as with the iteration over the service loader
+			if (!loaded.containsKey(next.getType())) {
+				loaded.put(next.getType(), service.cast(StaticInjector.getInjector().getInstance(next.getClass())));
+			}
+		}
+		logger.debug("Executors of {} loaded: {}", service.getName(), loaded.keySet());
+		return Collections.unmodifiableMap(loaded);
+	}
+
+}
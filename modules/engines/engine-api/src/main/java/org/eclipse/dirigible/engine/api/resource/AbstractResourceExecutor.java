@@ -18,6 +18,7 @@ import javax.inject.Inject;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.engine.api.script.AbstractScriptExecutor;
 import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
@@ -96,6 +97,24 @@ public abstract class AbstractResourceExecutor implements IResourceExecutor {
 		throw new RepositoryNotFoundException(logMsg);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.engine.api.resource.IResourceExecutor#getResourceModifiedAt(java.lang.String,
+	 * java.lang.String, java.lang.String)
+	 */
+	@Override
+	public long getResourceModifiedAt(String root, String module, String extension) throws RepositoryException {
+		String repositoryPath = createResourcePath(root, module, extension);
+		final IResource resource = repository.getResource(repositoryPath);
+		if (resource.exists()) {
+			IEntityInformation information = resource.getInformation();
+			if ((information != null) && (information.getModifiedAt() != null)) {
+				return information.getModifiedAt().getTime();
+			}
+		}
+		return 0;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.engine.api.resource.IResourceExecutor#getCollection(java.lang.String,
@@ -48,6 +48,21 @@ public interface IResourceExecutor extends IEngineExecutor {
 	 */
 	public byte[] getResourceContent(String root, String module, String extension) throws RepositoryException;
 
+	/**
+	 * Gets the last modification time of the resource.
+	 *
+	 * @param root
+	 *            the root
+	 * @param module
+	 *            the module
+	 * @param extension
+	 *            the extension
+	 * @return the modification time in milliseconds or 0 if the resource is bundled or the time is not known
+	 * @throws RepositoryException
+	 *             the repository exception
+	 */
+	public long getResourceModifiedAt(String root, String module, String extension) throws RepositoryException;
+
 	/**
 	 * Gets the collection.
 	 *
@@ -13,13 +13,13 @@ package org.eclipse.dirigible.engine.api.script;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
-import org.eclipse.dirigible.engine.api.IEngineExecutor;
+import org.eclipse.dirigible.engine.api.resource.IResourceExecutor;
 import org.eclipse.dirigible.repository.api.RepositoryException;
 
 /**
- * The Script Engine Executor interface.
+ * The Script Engine Executor interface. The script engines resolve their modules as resources of the registry.
  */
-public interface IScriptEngineExecutor extends IEngineExecutor {
+public interface IScriptEngineExecutor extends IResourceExecutor {
 
 	/**
 	 * Retrieve module.
@@ -13,10 +13,10 @@ package org.eclipse.dirigible.engine.api.script;
 import static java.text.MessageFormat.format;
 
 import java.util.HashSet;
-import java.util.ServiceLoader;
 import java.util.Set;
 
-import org.eclipse.dirigible.commons.api.module.StaticInjector;
+import org.eclipse.dirigible.engine.api.EngineExecutorFactory;
+import org.eclipse.dirigible.engine.api.EngineExecutorRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +25,8 @@ import org.slf4j.LoggerFactory;
  */
 public class ScriptEngineExecutorFactory {
 
-	private static final ServiceLoader<IScriptEngineExecutor> SCRIPT_ENGINE_EXECUTORS = ServiceLoader.load(IScriptEngineExecutor.class);
+	private static final EngineExecutorRegistry<IScriptEngineExecutor> SCRIPT_ENGINE_EXECUTORS = new EngineExecutorRegistry<IScriptEngineExecutor>(
+			IScriptEngineExecutor.class);
 
 	private static final Logger logger = LoggerFactory.getLogger(ScriptEngineExecutorFactory.class);
 
@@ -37,21 +38,28 @@ public class ScriptEngineExecutorFactory {
 	 * @return the script engine executor
 	 */
 	public static IScriptEngineExecutor getScriptEngineExecutor(String type) {
-		for (IScriptEngineExecutor next : SCRIPT_ENGINE_EXECUTORS) {
-			if (next.getType().equals(type)) {
-				return StaticInjector.getInjector().getInstance(next.getClass());
-			}
+		IScriptEngineExecutor scriptEngineExecutor = SCRIPT_ENGINE_EXECUTORS.get(type);
+		if (scriptEngineExecutor != null) {
+			return scriptEngineExecutor;
 		}
 		logger.error(format("Script Executor of Type {0} does not exist.", type));
 		return null;
 	}
 	
 	public static Set<String> getEnginesTypes() {
-		Set<String> engineTypes = new HashSet<String>();
-		for (IScriptEngineExecutor next : SCRIPT_ENGINE_EXECUTORS) {
-			engineTypes.add(next.getType());
-		}
-		return engineTypes;
+		return new HashSet<String>(SCRIPT_ENGINE_EXECUTORS.getTypes());
+	}
+
+	/**
+	 * Register a script engine executor provided by a module loaded later. It is registered as an engine executor as
+	 * well.
+	 *
+	 * @param scriptEngineExecutor
+	 *            the script engine executor
+	 */
+	public static void registerScriptEngineExecutor(IScriptEngineExecutor scriptEngineExecutor) {
+		SCRIPT_ENGINE_EXECUTORS.register(scriptEngineExecutor);
+		EngineExecutorFactory.registerEngineExecutor(scriptEngineExecutor);
 	}
 
 }
@@ -15,9 +15,12 @@ import static java.text.MessageFormat.format;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.engine.api.EngineExecutionStatistics;
 
 /**
- * The Script Engine Executors Manager.
+ * The Script Engine Executors Manager. It is the only place, where the executions are recorded in the
+ * {@link EngineExecutionStatistics} - under the type of the executor they are dispatched to. The executors delegating
+ * to another one (e.g. the default Javascript one) do not record the invocation again.
  */
 public class ScriptEngineExecutorsManager {
 
@@ -37,13 +40,40 @@ public class ScriptEngineExecutorsManager {
 	public static Object executeServiceModule(String engineType, String module, Map<Object, Object> executionContext) throws ScriptingException {
 		IScriptEngineExecutor scriptEngineExecutor = ScriptEngineExecutorFactory.getScriptEngineExecutor(engineType);
 		if (scriptEngineExecutor != null) {
-			return scriptEngineExecutor.executeServiceModule(module, executionContext);
+			return executeServiceModule(scriptEngineExecutor, module, executionContext);
 		}
 
 		throw new ScriptingException(
 				format("Script Executor of Type [{0}] does not exist, hence the Module [{1}] cannot be processed", engineType, module));
 	}
 
+	/**
+	 * Execute service module with an already resolved executor.
+	 *
+	 * @param scriptEngineExecutor
+	 *            the script engine executor
+	 * @param module
+	 *            the module
+	 * @param executionContext
+	 *            the execution context
+	 * @return the object
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	public static Object executeServiceModule(IScriptEngineExecutor scriptEngineExecutor, String module, Map<Object, Object> executionContext)
+			throws ScriptingException {
+		EngineExecutionStatistics statistics = EngineExecutionStatistics.get(scriptEngineExecutor.getType());
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Object result = scriptEngineExecutor.executeServiceModule(module, executionContext);
+			failed = false;
+			return result;
+		} finally {
+			statistics.record(start, failed);
+		}
+	}
+
 	/**
 	 * Execute service code.
 	 *
@@ -60,11 +90,38 @@ public class ScriptEngineExecutorsManager {
 	public static Object executeServiceCode(String engineType, String code, Map<Object, Object> executionContext) throws ScriptingException {
 		IScriptEngineExecutor scriptEngineExecutor = ScriptEngineExecutorFactory.getScriptEngineExecutor(engineType);
 		if (scriptEngineExecutor != null) {
-			return scriptEngineExecutor.executeServiceCode(code, executionContext);
+			return executeServiceCode(scriptEngineExecutor, code, executionContext);
 		}
 
 		throw new ScriptingException(
 				format("Script Executor of Type [{0}] does not exist, hence the code [{1}] cannot be processed", engineType, code));
 	}
 
+	/**
+	 * Execute service code with an already resolved executor.
+	 *
+	 * @param scriptEngineExecutor
+	 *            the script engine executor
+	 * @param code
+	 *            the code
+	 * @param executionContext
+	 *            the execution context
+	 * @return the object
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	public static Object executeServiceCode(IScriptEngineExecutor scriptEngineExecutor, String code, Map<Object, Object> executionContext)
+			throws ScriptingException {
+		EngineExecutionStatistics statistics = EngineExecutionStatistics.get(scriptEngineExecutor.getType());
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Object result = scriptEngineExecutor.executeServiceCode(code, executionContext);
+			failed = false;
+			return result;
+		} finally {
+			statistics.record(start, failed);
+		}
+	}
+
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.nashorn.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+
+/**
+ * The Nashorn Compiled Script Cache keeps the compiled scripts by their repository path. An entry is invalidated
+ * when the modification time of the registry resource differs from the one it has been compiled from.
+ */
+public class NashornCompiledScriptCache {
+
+	private final Map<String, CachedScript> scripts = new ConcurrentHashMap<String, CachedScript>();
+
+	private final Compilable compiler;
+
+	/**
+	 * Instantiates a new nashorn compiled script cache.
+	 *
+	 * @param compiler
+	 *            the engine used for compilation
+	 */
+	public NashornCompiledScriptCache(Compilable compiler) {
+		this.compiler = compiler;
+	}
+
+	/**
+	 * Gets the compiled script for the given path or compiles it, if there is no entry or the entry is outdated.
+	 *
+	 * @param path
+	 *            the repository path
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @param code
+	 *            the source code
+	 * @return the compiled script
+	 * @throws ScriptException
+	 *             the script exception
+	 */
+	public CompiledScript get(String path, long modifiedAt, String code) throws ScriptException {
+		CachedScript cached = scripts.get(path);
+		if ((cached != null) && (cached.modifiedAt == modifiedAt)) {
+			return cached.script;
+		}
+		CompiledScript script = compiler.compile(code);
+		scripts.put(path, new CachedScript(script, modifiedAt));
+		return script;
+	}
+
+	/**
+	 * Gets the compiled script for the given path, if it is present and up to date.
+	 *
+	 * @param path
+	 *            the repository path
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @return the compiled script or null
+	 */
+	public CompiledScript get(String path, long modifiedAt) {
+		CachedScript cached = scripts.get(path);
+		if ((cached != null) && (cached.modifiedAt == modifiedAt)) {
+			return cached.script;
+		}
+		return null;
+	}
+
+	/**
+	 * Invalidate the entry for the given path.
+	 *
+	 * @param path
+	 *            the repository path
+	 */
+	public void invalidate(String path) {
+		scripts.remove(path);
+	}
+
+	/**
+	 * Clear all the entries.
+	 */
+	public void clear() {
+		scripts.clear();
+	}
+
+	/**
+	 * Size.
+	 *
+	 * @return the number of the cached scripts
+	 */
+	public int size() {
+		return scripts.size();
+	}
+
+	/**
+	 * The Cached Script.
+	 */
+	private static class CachedScript {
+
+		private final CompiledScript script;
+
+		private final long modifiedAt;
+
+		/**
+		 * Instantiates a new cached script.
+		 *
+		 * @param script
+		 *            the script
+		 * @param modifiedAt
+		 *            the modified at
+		 */
+		CachedScript(CompiledScript script, long modifiedAt) {
+			this.script = script;
+			this.modifiedAt = modifiedAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.nashorn.processor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import javax.script.SimpleScriptContext;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Nashorn Engine Pool keeps a bounded number of engine contexts. All of them share a single Nashorn engine, so that
+ * the compiled scripts can be evaluated in any of them. Each lease runs against a fresh global scope, seeded with the
+ * compiled bootstrap - the require() function and the Mozilla compatibility layer - so no global of a previous request
+ * is visible to the next one.
+ */
+public class NashornEnginePool {
+
+	private static final Logger logger = LoggerFactory.getLogger(NashornEnginePool.class);
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED. */
+	public static final String DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED = "DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_SIZE. */
+	public static final String DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_SIZE = "DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ACQUIRE_TIMEOUT. */
+	public static final String DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ACQUIRE_TIMEOUT = "DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ACQUIRE_TIMEOUT"; //$NON-NLS-1$
+
+	private static final String DEFAULT_POOL_SIZE = "8"; //$NON-NLS-1$
+
+	private static final String DEFAULT_ACQUIRE_TIMEOUT = "30000"; //$NON-NLS-1$
+
+	private static final String MOZILLA_COMPAT_CODE = "load(\"nashorn:mozilla_compat.js\");"; //$NON-NLS-1$
+
+	private static NashornEnginePool INSTANCE;
+
+	private final ScriptEngine engine;
+
+	private final BlockingQueue<ScriptContext> idle;
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	private final int size;
+
+	private final long acquireTimeout;
+
+	private final CompiledScript bootstrapScript;
+
+	private final CompiledScript mozillaCompatScript;
+
+	private final NashornCompiledScriptCache serviceScripts;
+
+	private final NashornCompiledScriptCache moduleScripts;
+
+	/**
+	 * Checks if the pooled mode is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED, Boolean.FALSE.toString()));
+	}
+
+	/**
+	 * Gets the single instance of the pool.
+	 *
+	 * @return single instance of the pool
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	public static synchronized NashornEnginePool getInstance() throws ScriptingException {
+		if (INSTANCE == null) {
+			int size = Integer.parseInt(Configuration.get(DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_SIZE, DEFAULT_POOL_SIZE));
+			long acquireTimeout = Long.parseLong(Configuration.get(DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ACQUIRE_TIMEOUT, DEFAULT_ACQUIRE_TIMEOUT));
+			try {
+				INSTANCE = new NashornEnginePool(size, acquireTimeout);
+			} catch (ScriptException e) {
+				throw new ScriptingException(e);
+			}
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * Instantiates a new nashorn engine pool.
+	 *
+	 * @param size
+	 *            the maximum number of engine contexts
+	 * @param acquireTimeout
+	 *            the acquire timeout in milliseconds
+	 * @throws ScriptException
+	 *             the script exception
+	 */
+	public NashornEnginePool(int size, long acquireTimeout) throws ScriptException {
+		ScriptEngineManager engineManager = new ScriptEngineManager();
+		this.engine = engineManager.getEngineByName("nashorn");
+		this.size = size;
+		this.acquireTimeout = acquireTimeout;
+		this.idle = new ArrayBlockingQueue<ScriptContext>(size);
+		this.bootstrapScript = ((Compilable) engine).compile(Require.POOLED_CODE);
+		this.mozillaCompatScript = ((Compilable) engine).compile(MOZILLA_COMPAT_CODE);
+		this.serviceScripts = new NashornCompiledScriptCache((Compilable) engine);
+		this.moduleScripts = new NashornCompiledScriptCache((Compilable) engine);
+		logger.info("Nashorn engine pool created with size: " + size);
+	}
+
+	/**
+	 * Acquire an engine context with a fresh global scope. A new context is created if the pool has not reached its size
+	 * yet, otherwise the caller waits for a released one.
+	 *
+	 * @return the script context
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	public ScriptContext acquire() throws ScriptingException {
+		ScriptContext context = idle.poll();
+		if (context == null) {
+			if (created.incrementAndGet() <= size) {
+				context = new SimpleScriptContext();
+				logger.debug("Nashorn engine context created: " + context.hashCode());
+			} else {
+				created.decrementAndGet();
+				try {
+					context = idle.poll(acquireTimeout, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ScriptingException(e);
+				}
+				if (context == null) {
+					throw new ScriptingException("Timeout while waiting for a Nashorn engine from the pool: " + acquireTimeout + "ms");
+				}
+			}
+		}
+		try {
+			bootstrap(context);
+		} catch (ScriptException | RuntimeException e) {
+			release(context);
+			throw new ScriptingException(e);
+		}
+		return context;
+	}
+
+	/**
+	 * Release the engine context back to the pool. The global scope of the lease is dropped.
+	 *
+	 * @param context
+	 *            the script context
+	 */
+	public void release(ScriptContext context) {
+		context.setBindings(new SimpleBindings(), ScriptContext.ENGINE_SCOPE);
+		if (!idle.offer(context)) {
+			created.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Sets a fresh global scope in the given context and evaluates the compiled bootstrap in it.
+	 *
+	 * @param context
+	 *            the script context
+	 * @throws ScriptException
+	 *             the script exception
+	 */
+	private void bootstrap(ScriptContext context) throws ScriptException {
+		context.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+		bootstrapScript.eval(context);
+		mozillaCompatScript.eval(context);
+	}
+
+	/**
+	 * Gets the compiled services cache.
+	 *
+	 * @return the services cache
+	 */
+	public NashornCompiledScriptCache getServiceScripts() {
+		return serviceScripts;
+	}
+
+	/**
+	 * Gets the compiled modules cache.
+	 *
+	 * @return the modules cache
+	 */
+	public NashornCompiledScriptCache getModuleScripts() {
+		return moduleScripts;
+	}
+
+	/**
+	 * Gets the engine.
+	 *
+	 * @return the engine
+	 */
+	public ScriptEngine getEngine() {
+		return engine;
+	}
+
+}
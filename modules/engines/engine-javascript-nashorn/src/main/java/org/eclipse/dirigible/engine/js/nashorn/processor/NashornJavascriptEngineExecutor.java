@@ -13,6 +13,8 @@ package org.eclipse.dirigible.engine.js.nashorn.processor;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
@@ -86,6 +88,10 @@ public class NashornJavascriptEngineExecutor extends AbstractJavascriptExecutor
 			}
 		}
 
+		if (NashornEnginePool.isEnabled()) {
+			return executePooledService(moduleOrCode, executionContext, isModule);
+		}
+
 		Object result = null;
 
 		ScriptEngineManager engineManager = new ScriptEngineManager();
@@ -127,6 +133,70 @@ public class NashornJavascriptEngineExecutor extends AbstractJavascriptExecutor
 
 	}
 
+	/**
+	 * Execute service with an engine context leased from the pool, in a fresh global scope and with the compiled scripts
+	 * cache.
+	 *
+	 * @param moduleOrCode
+	 *            the module or code
+	 * @param executionContext
+	 *            the execution context
+	 * @param isModule
+	 *            the is module
+	 * @return the object
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	private Object executePooledService(String moduleOrCode, Map<Object, Object> executionContext, boolean isModule) throws ScriptingException {
+		Object result = null;
+
+		NashornEnginePool enginePool = NashornEnginePool.getInstance();
+		ScriptContext context = enginePool.acquire();
+		Bindings bindings = context.getBindings(ScriptContext.ENGINE_SCOPE);
+		try {
+			NashornRepositoryModuleSourceProvider sourceProvider = createRepositoryModuleSourceProvider();
+			bindings.put("SourceProvider", sourceProvider);
+			bindings.put("ModuleLoader", new NashornModuleLoader(sourceProvider, enginePool.getModuleScripts(), context));
+
+			bindings.put(IJavascriptEngineExecutor.JAVASCRIPT_ENGINE_TYPE, IJavascriptEngineExecutor.JAVASCRIPT_TYPE_NASHORN);
+			bindings.put(IJavascriptEngineExecutor.CONSOLE, ConsoleFacade.getConsole());
+			bindings.put(IJavascriptEngineExecutor.CONTEXT, executionContext);
+
+			try {
+				CompiledScript script;
+				if (isModule) {
+					String path = sourceProvider.getModulePath(moduleOrCode);
+					long modifiedAt = sourceProvider.getModifiedAt(moduleOrCode);
+					script = enginePool.getServiceScripts().get(path, modifiedAt);
+					if (script == null) {
+						script = enginePool.getServiceScripts().get(path, modifiedAt, sourceProvider.loadSource(moduleOrCode));
+					}
+				} else {
+					script = ((Compilable) enginePool.getEngine()).compile(moduleOrCode);
+				}
+				result = script.eval(context);
+				forceFlush();
+			} catch (ScriptException e) {
+				if ((e.getMessage() != null) && e.getMessage().contains("\"exports\" is not defined")) {
+					String message = "Requested endpoint is not a service, but rather a library.";
+					logger.warn(message);
+					return message;
+				}
+				throw new ScriptingException(e);
+			}
+		} catch (ScriptingException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new ScriptingException(e);
+		} finally {
+			enginePool.release(context);
+		}
+
+		logger.trace("exiting: executeServiceModule()");
+
+		return result;
+	}
+
 	/**
 	 * Creates the repository module source provider.
 	 *
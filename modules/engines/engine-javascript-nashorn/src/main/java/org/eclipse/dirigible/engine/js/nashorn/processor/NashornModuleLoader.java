@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.nashorn.processor;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptException;
+
+/**
+ * The Nashorn Module Loader is exposed to the pooled engines as ModuleLoader and returns the module wrapper functions
+ * from the compiled scripts cache, evaluated in the global scope of the current engine.
+ */
+public class NashornModuleLoader {
+
+	private static final String MODULE_HEAD = "(function(exports,module,require){ "; //$NON-NLS-1$
+
+	private static final String MODULE_TAIL = "\n})"; //$NON-NLS-1$
+
+	private final NashornRepositoryModuleSourceProvider sourceProvider;
+
+	private final NashornCompiledScriptCache cache;
+
+	private final ScriptContext context;
+
+	/**
+	 * Instantiates a new nashorn module loader.
+	 *
+	 * @param sourceProvider
+	 *            the source provider
+	 * @param cache
+	 *            the compiled modules cache
+	 * @param context
+	 *            the context of the pooled engine
+	 */
+	public NashornModuleLoader(NashornRepositoryModuleSourceProvider sourceProvider, NashornCompiledScriptCache cache, ScriptContext context) {
+		this.sourceProvider = sourceProvider;
+		this.cache = cache;
+		this.context = context;
+	}
+
+	/**
+	 * Load the module wrapper function.
+	 *
+	 * @param module
+	 *            the module
+	 * @return the wrapper function
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws URISyntaxException
+	 *             the URI syntax exception
+	 * @throws ScriptException
+	 *             the script exception
+	 */
+	public Object load(String module) throws IOException, URISyntaxException, ScriptException {
+		String path = sourceProvider.getModulePath(module);
+		long modifiedAt = sourceProvider.getModifiedAt(module);
+		CompiledScript script = cache.get(path, modifiedAt);
+		if (script == null) {
+			script = cache.get(path, modifiedAt, MODULE_HEAD + sourceProvider.loadSource(module) + MODULE_TAIL);
+		}
+		return script.eval(context);
+	}
+
+}
@@ -67,4 +67,32 @@ public class NashornRepositoryModuleSourceProvider {
 		return new String(sourceCode, StandardCharsets.UTF_8);
 	}
 
+	/**
+	 * Gets the registry path of the module.
+	 *
+	 * @param module
+	 *            the module
+	 * @return the registry path
+	 */
+	public String getModulePath(String module) {
+		if (module.endsWith(JS_EXTENSION)) {
+			return executor.createResourcePath(rootPath, module);
+		}
+		return executor.createResourcePath(rootPath, module, JS_EXTENSION);
+	}
+
+	/**
+	 * Gets the last modification time of the module.
+	 *
+	 * @param module
+	 *            the module
+	 * @return the modification time or 0 if not known
+	 */
+	public long getModifiedAt(String module) {
+		if (module.endsWith(JS_EXTENSION)) {
+			return executor.getResourceModifiedAt(rootPath, module, null);
+		}
+		return executor.getResourceModifiedAt(rootPath, module, JS_EXTENSION);
+	}
+
 }
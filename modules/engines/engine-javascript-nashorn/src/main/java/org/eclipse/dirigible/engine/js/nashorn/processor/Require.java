@@ -29,4 +29,19 @@ public class Require {
 			+ "   throw new Error('Error executing module ' + path + ' line #' + e.lineNumber + ' : ' + e.message, path, e.lineNumber);" + " }"
 			+ " moduleInfo.loaded = true;" + " return moduleInfo;" + "};" + "var _requireClosure = function()" + " {" + "  return function(path) {"
 			+ "  var module = _require(path);" + "  return module.exports;" + " };" + "};return _requireClosure();});" + "var require = Require();";
+
+	/**
+	 * The Constant POOLED_CODE - the require() function used by the pooled engines, where the module wrappers are
+	 * compiled once by the ModuleLoader and shared between the requests.
+	 */
+	public static final String POOLED_CODE = "var Require = (function(modulePath) {" + "	var _loadedModules = {};" + " var _require = function(path) {"
+			+ " var moduleInfo = _loadedModules[path];" + " if (moduleInfo) {" + "   return moduleInfo;" + " }" + " moduleInfo = {" + "   loaded : false,"
+			+ "   id : path," + "   exports : {}," + "   require : _requireClosure()" + " };" + " _loadedModules[path] = moduleInfo;"
+			+ " var compiledWrapper = null;" + " try {" + "   compiledWrapper = ModuleLoader.load(path);" + " } catch (e) {"
+			+ "   throw new Error('Error evaluating module ' + path + ' line #' + e.lineNumber + ' : ' + e.message, path, e.lineNumber);" + " }"
+			+ " var parameters = [ moduleInfo.exports, /* exports */" + "   moduleInfo, /* module */" + "   moduleInfo.require /* require */" + " ];"
+			+ " try {" + "   compiledWrapper.apply(moduleInfo.exports, /* this */" + "   parameters);" + " } catch (e) {"
+			+ "   throw new Error('Error executing module ' + path + ' line #' + e.lineNumber + ' : ' + e.message, path, e.lineNumber);" + " }"
+			+ " moduleInfo.loaded = true;" + " return moduleInfo;" + "};" + "var _requireClosure = function()" + " {" + "  return function(path) {"
+			+ "  var module = _require(path);" + "  return module.exports;" + " };" + "};return _requireClosure();});" + "var require = Require();";
 }
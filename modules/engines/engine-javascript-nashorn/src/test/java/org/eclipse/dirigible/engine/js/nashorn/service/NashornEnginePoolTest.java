@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.nashorn.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.engine.js.nashorn.processor.NashornEnginePool;
+import org.junit.Test;
+
+/**
+ * The Class NashornEnginePoolTest.
+ */
+public class NashornEnginePoolTest {
+
+	/**
+	 * Fresh globals for each lease test.
+	 *
+	 * @throws ScriptException
+	 *             the script exception
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void freshGlobals() throws ScriptException, ScriptingException {
+		NashornEnginePool pool = new NashornEnginePool(1, 1000);
+		ScriptEngine engine = pool.getEngine();
+
+		ScriptContext first = pool.acquire();
+		try {
+			first.getBindings(ScriptContext.ENGINE_SCOPE).put("leakedBinding", "first");
+			engine.eval("var leakedVar = 1; leakedImplicit = 2; require = null;", first);
+			assertEquals("number", engine.eval("typeof leakedVar", first));
+		} finally {
+			pool.release(first);
+		}
+
+		// the same context is leased again, but with a fresh global scope with the bootstrap only
+		ScriptContext second = pool.acquire();
+		try {
+			assertSame(first, second);
+			assertEquals("undefined", engine.eval("typeof leakedBinding", second));
+			assertEquals("undefined", engine.eval("typeof leakedVar", second));
+			assertEquals("undefined", engine.eval("typeof leakedImplicit", second));
+			assertEquals("function", engine.eval("typeof require", second));
+			assertEquals("function", engine.eval("typeof importPackage", second));
+		} finally {
+			pool.release(second);
+		}
+	}
+
+}
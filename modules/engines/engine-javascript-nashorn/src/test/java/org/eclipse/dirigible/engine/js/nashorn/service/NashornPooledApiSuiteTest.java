@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.nashorn.service;
+
+import java.io.IOException;
+
+import javax.inject.Inject;
+
+import org.eclipse.dirigible.api.v3.test.AbstractApiSuiteTest;
+import org.eclipse.dirigible.commons.api.context.ContextException;
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.extensions.api.ExtensionsException;
+import org.eclipse.dirigible.engine.js.nashorn.processor.NashornEnginePool;
+import org.eclipse.dirigible.engine.js.nashorn.processor.NashornJavascriptEngineExecutor;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryWriteException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class NashornPooledApiSuiteTest runs the API suite with the pooled engines mode enabled.
+ */
+public class NashornPooledApiSuiteTest extends AbstractApiSuiteTest {
+
+	/** The repository. */
+	@Inject
+	private IRepository repository;
+
+	/** The nashorn javascript engine executor. */
+	private NashornJavascriptEngineExecutor nashornJavascriptEngineExecutor;
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.dirigible.api.v3.test.AbstractApiSuiteTest#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		Configuration.set(NashornEnginePool.DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED, "true");
+		this.repository = getInjector().getInstance(IRepository.class);
+		this.nashornJavascriptEngineExecutor = getInjector().getInstance(NashornJavascriptEngineExecutor.class);
+	}
+
+	/**
+	 * Tear down.
+	 */
+	@After
+	public void tearDown() {
+		Configuration.set(NashornEnginePool.DIRIGIBLE_JAVASCRIPT_NASHORN_POOL_ENABLED, "false");
+	}
+
+	/**
+	 * Run suite.
+	 *
+	 * @throws RepositoryWriteException the repository write exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 * @throws ScriptingException the scripting exception
+	 * @throws ContextException the context exception
+	 * @throws ExtensionsException the extensions exception
+	 */
+	@Test
+	public void runSuite() throws RepositoryWriteException, IOException, ScriptingException, ContextException, ExtensionsException {
+		super.runSuite(this.nashornJavascriptEngineExecutor, repository);
+	}
+
+}
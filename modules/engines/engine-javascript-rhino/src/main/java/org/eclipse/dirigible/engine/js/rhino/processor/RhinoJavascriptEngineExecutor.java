@@ -26,6 +26,7 @@ import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.api.resource.ResourcePath;
+import org.eclipse.dirigible.engine.api.script.IScriptEngineExecutor;
 import org.eclipse.dirigible.engine.js.api.AbstractJavascriptExecutor;
 import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
 import org.eclipse.dirigible.engine.js.debug.model.DebugManager;
@@ -42,6 +43,8 @@ import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.EcmaError;
 import org.mozilla.javascript.ErrorReporter;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.commonjs.module.ModuleScript;
 import org.mozilla.javascript.commonjs.module.ModuleScriptProvider;
 import org.mozilla.javascript.commonjs.module.Require;
 import org.mozilla.javascript.commonjs.module.RequireBuilder;
@@ -62,8 +65,17 @@ public class RhinoJavascriptEngineExecutor extends AbstractJavascriptExecutor {
 	
 	public static final String DIRIGBLE_JAVASCRIPT_RHINO_DEBUGGER_ENABLED = "DIRIGBLE_JAVASCRIPT_RHINO_DEBUGGER_ENABLED";
 	
+	/** The Constant DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED. */
+	public static final String DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED = "DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED";
+	
 	public static final String ENGINE_NAME = "Rhino JavaScript Engine";
 
+	// the sealed standard objects, used as a prototype of the per-request scopes in the production mode
+	private static ScriptableObject sharedScope;
+
+	// the compiled module scripts, validated by the modification time of the registry resources
+	private static ModuleScriptProvider sharedScriptProvider;
+
 	static {
 		ContextFactory.initGlobal(new ContextFactory() {
 			@Override
@@ -129,18 +141,29 @@ public class RhinoJavascriptEngineExecutor extends AbstractJavascriptExecutor {
 
 		Object result = null;
 
-		ModuleSourceProvider sourceProvider = createRepositoryModuleSourceProvider();
-		ModuleScriptProvider scriptProvider = new SoftCachingModuleScriptProvider(sourceProvider);
+		List<Session> userSessions = RhinoJavascriptDebugProcessor.getUserSessions(UserFacade.getName());
+		boolean debugging = userSessions != null && !userSessions.isEmpty() 
+				&& Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_RHINO_DEBUGGER_ENABLED, "false"))
+				&& !moduleOrCode.startsWith("ide");
+		// the shared compiled scripts do not carry debug information
+		boolean productionMode = !debugging && isProductionModeEnabled();
+
+		ModuleSourceProvider sourceProvider;
+		ModuleScriptProvider scriptProvider;
+		if (productionMode) {
+			scriptProvider = getSharedScriptProvider(this);
+			sourceProvider = null;
+		} else {
+			sourceProvider = createRepositoryModuleSourceProvider();
+			scriptProvider = new SoftCachingModuleScriptProvider(sourceProvider);
+		}
 		RequireBuilder builder = new RequireBuilder();
 		builder.setModuleScriptProvider(scriptProvider);
 		builder.setSandboxed(false);
 
 		Context context = Context.enter();
 		
-		List<Session> userSessions = RhinoJavascriptDebugProcessor.getUserSessions(UserFacade.getName());
-		if (userSessions != null && !userSessions.isEmpty() 
-				&& Boolean.parseBoolean(Configuration.get(DIRIGBLE_JAVASCRIPT_RHINO_DEBUGGER_ENABLED, "false"))
-				&& !moduleOrCode.startsWith("ide")) {
+		if (debugging) {
 			enableDebugger(HttpRequestFacade.getRequest(), HttpResponseFacade.getResponse(), moduleOrCode, context);
 		}
 		
@@ -148,7 +171,7 @@ public class RhinoJavascriptEngineExecutor extends AbstractJavascriptExecutor {
 			try {
 				context.setLanguageVersion(Context.VERSION_ES6);
 				context.getWrapFactory().setJavaPrimitiveWrap(false);
-				Scriptable topLevelScope = context.initStandardObjects();
+				Scriptable topLevelScope = (productionMode ? createRequestScope(context) : context.initStandardObjects());
 				Require require = builder.createRequire(context, topLevelScope);
 	
 				require.install(topLevelScope);
@@ -158,9 +181,11 @@ public class RhinoJavascriptEngineExecutor extends AbstractJavascriptExecutor {
 				topLevelScope.put(IJavascriptEngineExecutor.CONTEXT, topLevelScope, executionContext);
 	
 				try {
-					ModuleSource moduleSource = (isModule ? sourceProvider.loadSource(moduleOrCode, null, null) : null);
+					ModuleSource moduleSource = ((isModule && !productionMode) ? sourceProvider.loadSource(moduleOrCode, null, null) : null);
 					try {
-						if (moduleSource != null) {
+						if (isModule && productionMode) {
+							result = getModuleScript(scriptProvider, context, moduleOrCode).getScript().exec(context, topLevelScope);
+						} else if (moduleSource != null) {
 							result = context.evaluateReader(topLevelScope, moduleSource.getReader(), moduleOrCode, -1, null);
 						} else {
 							result = context.evaluateString(topLevelScope, moduleOrCode, "dynamic", -1, null);
@@ -191,6 +216,84 @@ public class RhinoJavascriptEngineExecutor extends AbstractJavascriptExecutor {
 		return result;
 	}
 
+	/**
+	 * Checks if the production mode with the shared scope and the shared module scripts is enabled.
+	 *
+	 * @return true, if is production mode enabled
+	 */
+	public static boolean isProductionModeEnabled() {
+		return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED, "false"));
+	}
+
+	/**
+	 * Creates the per-request scope, which holds the request specific variables and inherits the standard objects
+	 * from the shared sealed scope.
+	 *
+	 * @param context
+	 *            the context
+	 * @return the request scope
+	 */
+	private Scriptable createRequestScope(Context context) {
+		Scriptable requestScope = context.newObject(getSharedScope(context));
+		requestScope.setPrototype(getSharedScope(context));
+		requestScope.setParentScope(null);
+		return requestScope;
+	}
+
+	/**
+	 * Gets the shared sealed scope with the standard objects.
+	 *
+	 * @param context
+	 *            the context
+	 * @return the shared scope
+	 */
+	private static synchronized ScriptableObject getSharedScope(Context context) {
+		if (sharedScope == null) {
+			ScriptableObject scope = context.initStandardObjects(null, true);
+			scope.sealObject();
+			sharedScope = scope;
+		}
+		return sharedScope;
+	}
+
+	/**
+	 * Gets the process-wide module script provider.
+	 *
+	 * @param executor
+	 *            the executor
+	 * @return the shared module script provider
+	 */
+	private static synchronized ModuleScriptProvider getSharedScriptProvider(IScriptEngineExecutor executor) {
+		if (sharedScriptProvider == null) {
+			sharedScriptProvider = new SoftCachingModuleScriptProvider(
+					new RhinoRepositoryModuleSourceProvider(executor, IRepositoryStructure.PATH_REGISTRY_PUBLIC));
+		}
+		return sharedScriptProvider;
+	}
+
+	/**
+	 * Gets the compiled module script from the provider.
+	 *
+	 * @param scriptProvider
+	 *            the script provider
+	 * @param context
+	 *            the context
+	 * @param module
+	 *            the module
+	 * @return the module script
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	private ModuleScript getModuleScript(ModuleScriptProvider scriptProvider, Context context, String module) throws ScriptingException {
+		try {
+			return scriptProvider.getModuleScript(context, module, null, null, null);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ScriptingException(e);
+		}
+	}
+
 	private void enableDebugger(HttpServletRequest request, HttpServletResponse response, String moduleOrCode, Context context) {
 		Context rhinoContext = (Context) context;
 		ErrorReporter reporter = new RhinoJavascriptDebugInvocationErrorReporter();
@@ -66,7 +66,13 @@ public class RhinoRepositoryModuleSourceProvider extends ModuleSourceProviderBas
 		if (!module.endsWith(JS_EXTENSION)) {
 			module += JS_EXTENSION;
 		}
-		moduleSource = createModule(module);
+
+		// the modification time is used as a validator by the caching module script providers
+		Long modifiedAt = executor.getResourceModifiedAt(root, module, null);
+		if ((validator != null) && validator.equals(modifiedAt)) {
+			return NOT_MODIFIED;
+		}
+		moduleSource = createModule(module, modifiedAt);
 
 		return moduleSource;
 	}
@@ -76,11 +82,13 @@ public class RhinoRepositoryModuleSourceProvider extends ModuleSourceProviderBas
 	 *
 	 * @param module
 	 *            the module
+	 * @param validator
+	 *            the validator
 	 * @return the module source
 	 * @throws URISyntaxException
 	 *             the URI syntax exception
 	 */
-	private ModuleSource createModule(String module) throws URISyntaxException {
+	private ModuleSource createModule(String module, Object validator) throws URISyntaxException {
 		byte[] sourceCode;
 		ModuleSource moduleSource;
 		try {
@@ -89,7 +97,7 @@ public class RhinoRepositoryModuleSourceProvider extends ModuleSourceProviderBas
 			throw new EcmaError(null, module, 0, 0, e.getMessage());
 		}
 		moduleSource = new ModuleSource(new InputStreamReader(new ByteArrayInputStream(sourceCode), StandardCharsets.UTF_8), null, new URI(module),
-				null, null);
+				null, validator);
 		return moduleSource;
 	}
 
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.rhino.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import javax.inject.Inject;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.eclipse.dirigible.engine.api.script.Module;
+import org.eclipse.dirigible.engine.js.rhino.processor.RhinoJavascriptEngineExecutor;
+import org.eclipse.dirigible.engine.js.rhino.processor.RhinoRepositoryModuleSourceProvider;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.commonjs.module.ModuleScript;
+import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
+
+/**
+ * The Class RhinoProductionModeTest.
+ */
+public class RhinoProductionModeTest extends AbstractGuiceTest {
+
+	/** The repository. */
+	@Inject
+	private IRepository repository;
+
+	/** The rhino javascript engine executor. */
+	private RhinoJavascriptEngineExecutor rhinoJavascriptEngineExecutor;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.repository = getInjector().getInstance(IRepository.class);
+		this.rhinoJavascriptEngineExecutor = getInjector().getInstance(RhinoJavascriptEngineExecutor.class);
+	}
+
+	/**
+	 * Production mode script.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void productionModeScript() throws IOException, ScriptingException {
+		repository.createResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/tests/rhino/testProduction.js",
+				"var testProduction = function(){ return 3 * 3; }; testProduction(); ".getBytes());
+
+		Configuration.set(RhinoJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED, "true");
+		try {
+			assertEquals(9, ((Number) rhinoJavascriptEngineExecutor.executeServiceModule("tests/rhino/testProduction", null)).intValue());
+			// the second execution is served by the shared compiled script
+			assertEquals(9, ((Number) rhinoJavascriptEngineExecutor.executeServiceModule("tests/rhino/testProduction", null)).intValue());
+		} finally {
+			Configuration.set(RhinoJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_RHINO_PRODUCTION_MODE_ENABLED, "false");
+		}
+	}
+
+	/**
+	 * Cached module source test.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void cachedModuleSource() throws Exception {
+		CountingExecutor executor = new CountingExecutor();
+		executor.modifiedAt = 1;
+		executor.content = "40 + 2";
+		// the same providers as the ones shared in the production mode
+		SoftCachingModuleScriptProvider scriptProvider = new SoftCachingModuleScriptProvider(
+				new RhinoRepositoryModuleSourceProvider(executor, IRepositoryStructure.PATH_REGISTRY_PUBLIC));
+
+		Context context = Context.enter();
+		try {
+			Scriptable scope = context.initStandardObjects();
+			ModuleScript first = scriptProvider.getModuleScript(context, "tests/rhino/cached", null, null, null);
+			assertEquals(42, ((Number) first.getScript().exec(context, scope)).intValue());
+			assertEquals(1, executor.loads);
+
+			// not modified - the compiled script is reused without loading the source again
+			ModuleScript second = scriptProvider.getModuleScript(context, "tests/rhino/cached", null, null, null);
+			assertSame(first.getScript(), second.getScript());
+			assertEquals(1, executor.loads);
+
+			// modified - the source is loaded and compiled again
+			executor.modifiedAt = 2;
+			executor.content = "40 + 3";
+			ModuleScript third = scriptProvider.getModuleScript(context, "tests/rhino/cached", null, null, null);
+			assertNotSame(first.getScript(), third.getScript());
+			assertEquals(43, ((Number) third.getScript().exec(context, scope)).intValue());
+			assertEquals(2, executor.loads);
+		} finally {
+			Context.exit();
+		}
+	}
+
+	/**
+	 * The executor serving a single module, which counts the loadings of its source.
+	 */
+	private static class CountingExecutor extends RhinoJavascriptEngineExecutor {
+
+		private long modifiedAt;
+
+		private String content;
+
+		private int loads;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.resource.AbstractResourceExecutor#getResourceModifiedAt(java.lang.String,
+		 * java.lang.String, java.lang.String)
+		 */
+		@Override
+		public long getResourceModifiedAt(String root, String module, String extension) throws RepositoryException {
+			return modifiedAt;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.script.IScriptEngineExecutor#retrieveModule(java.lang.String,
+		 * java.lang.String)
+		 */
+		@Override
+		public Module retrieveModule(String root, String module) throws RepositoryException {
+			loads++;
+			return new Module(module, content.getBytes());
+		}
+
+	}
+
+}
@@ -100,6 +100,10 @@ public class V8JavascriptEngineExecutor extends AbstractJavascriptExecutor {
 			}
 		}
 
+		if (V8RuntimePool.isEnabled()) {
+			return executePooledService(moduleOrCode, executionContext, isModule);
+		}
+
 		Object result = null;
 
 		V8RepositoryModuleSourceProvider sourceProvider = createRepositoryModuleSourceProvider();
@@ -157,6 +161,62 @@ public class V8JavascriptEngineExecutor extends AbstractJavascriptExecutor {
 		return result;
 	}
 
+	/**
+	 * Execute service in a bootstrapped runtime leased from the pool.
+	 *
+	 * @param moduleOrCode
+	 *            the module or code
+	 * @param executionContext
+	 *            the execution context
+	 * @param isModule
+	 *            the is module
+	 * @return the object
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	private Object executePooledService(String moduleOrCode, Map<Object, Object> executionContext, boolean isModule) throws ScriptingException {
+		Object result = null;
+
+		V8RuntimePool runtimePool = V8RuntimePool.getInstance(createRepositoryModuleSourceProvider());
+		V8 v8 = runtimePool.acquire();
+		V8Object v8Map = null;
+		try {
+			Map<String, Object> preparedMap = new HashMap<>();
+			if (executionContext != null) {
+				for (Map.Entry<Object, Object> entry : executionContext.entrySet()) {
+					preparedMap.put(entry.getKey().toString(), entry.getValue());
+				}
+			}
+			v8Map = V8ObjectUtils.toV8Object(v8, preparedMap);
+			v8.add(IJavascriptEngineExecutor.CONTEXT, v8Map);
+
+			String source = (isModule ? runtimePool.loadSource(moduleOrCode) : moduleOrCode);
+			if (isModule) {
+				result = v8.executeScript(source);
+			} else {
+				result = v8.executeScript(source, moduleOrCode, 0);
+			}
+			forceFlush();
+			if (executionContext != null) {
+				executionContext.putAll(V8ObjectUtils.toMap(v8Map));
+			}
+		} catch (Exception e) {
+			throw new ScriptingException(e);
+		} finally {
+			if (v8Map != null) {
+				v8Map.release();
+			}
+			if (result instanceof Releasable) {
+				((Releasable) result).release();
+			}
+			runtimePool.release(v8);
+		}
+
+		logger.trace("exiting: executeServiceModule()");
+
+		return result;
+	}
+
 	/**
 	 * Creates the repository module source provider.
 	 *
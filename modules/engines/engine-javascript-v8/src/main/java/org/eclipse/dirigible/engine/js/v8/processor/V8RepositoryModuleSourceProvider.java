@@ -67,4 +67,18 @@ public class V8RepositoryModuleSourceProvider {
 		return new String(sourceCode, StandardCharsets.UTF_8);
 	}
 
+	/**
+	 * Gets the last modification time of the module.
+	 *
+	 * @param module
+	 *            the module
+	 * @return the modification time or 0 if not known
+	 */
+	public long getModifiedAt(String module) {
+		if (module.endsWith(JS_EXTENSION)) {
+			return executor.getResourceModifiedAt(root, module, null);
+		}
+		return executor.getResourceModifiedAt(root, module, JS_EXTENSION);
+	}
+
 }
@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.v8.processor;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+import org.eclipse.dirigible.engine.js.v8.callbacks.JavaV8CallInstance;
+import org.eclipse.dirigible.engine.js.v8.callbacks.JavaV8CallStatic;
+import org.eclipse.dirigible.engine.js.v8.callbacks.JavaV8NewInstance;
+import org.eclipse.dirigible.engine.js.v8.callbacks.Require;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.eclipsesource.v8.JavaCallback;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+
+/**
+ * The V8 Runtime Pool keeps a bounded number of bootstrapped V8 runtimes - with the Java callbacks registered, the
+ * require() function and the console already loaded. A runtime is leased by a single thread at a time, which holds
+ * its locker. A V8 runtime has a single context, so the globals of a lease cannot be cleared reliably - a released
+ * runtime is disposed instead and a fresh one is bootstrapped in its place by the releasing thread, after the response
+ * is written. The pool prefers to hand the runtime to the thread which prepared it. The sources of the modules are kept
+ * by version, so they are not read again from the repository for each runtime. The runtimes are tracked by identity,
+ * as the equality of a V8 runtime is checked in the isolate, which is accessible only by the thread holding its
+ * locker.
+ */
+public class V8RuntimePool {
+
+	private static final Logger logger = LoggerFactory.getLogger(V8RuntimePool.class);
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_V8_POOL_ENABLED. */
+	public static final String DIRIGIBLE_JAVASCRIPT_V8_POOL_ENABLED = "DIRIGIBLE_JAVASCRIPT_V8_POOL_ENABLED"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_V8_POOL_SIZE. */
+	public static final String DIRIGIBLE_JAVASCRIPT_V8_POOL_SIZE = "DIRIGIBLE_JAVASCRIPT_V8_POOL_SIZE"; //$NON-NLS-1$
+
+	/** The Constant DIRIGIBLE_JAVASCRIPT_V8_POOL_ACQUIRE_TIMEOUT. */
+	public static final String DIRIGIBLE_JAVASCRIPT_V8_POOL_ACQUIRE_TIMEOUT = "DIRIGIBLE_JAVASCRIPT_V8_POOL_ACQUIRE_TIMEOUT"; //$NON-NLS-1$
+
+	private static final String DEFAULT_POOL_SIZE = "8"; //$NON-NLS-1$
+
+	private static final String DEFAULT_ACQUIRE_TIMEOUT = "30000"; //$NON-NLS-1$
+
+	static final String J2V8_CALL_STATIC_FUNCTION_NAME = "j2v8call"; //$NON-NLS-1$
+
+	static final String J2V8_NEW_INSTANCE_FUNCTION_NAME = "j2v8instantiate"; //$NON-NLS-1$
+
+	static final String J2V8_CALL_INSTANCE_FUNCTION_NAME = "j2v8invoke"; //$NON-NLS-1$
+
+	static final String J2V8_LOAD_SOURCE_FUNCTION_NAME = "_j2v8loadSource"; //$NON-NLS-1$
+
+	private static final String CONSOLE_CODE = "var console = require('core/v3/console')"; //$NON-NLS-1$
+
+	private static V8RuntimePool INSTANCE;
+
+	private final V8RepositoryModuleSourceProvider sourceProvider;
+
+	private final LinkedBlockingDeque<PooledRuntime> idle;
+
+	private final Map<V8, PooledRuntime> runtimes = Collections.synchronizedMap(new IdentityHashMap<V8, PooledRuntime>());
+
+	private final Map<String, ModuleSource> sources = new ConcurrentHashMap<String, ModuleSource>();
+
+	private final ThreadLocal<PooledRuntime> lastUsed = new ThreadLocal<PooledRuntime>();
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	private final int size;
+
+	private final long acquireTimeout;
+
+	/**
+	 * Checks if the pooled mode is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_JAVASCRIPT_V8_POOL_ENABLED, Boolean.FALSE.toString()));
+	}
+
+	/**
+	 * Gets the single instance of the pool.
+	 *
+	 * @param sourceProvider
+	 *            the source provider used by the runtimes
+	 * @return single instance of the pool
+	 */
+	public static synchronized V8RuntimePool getInstance(V8RepositoryModuleSourceProvider sourceProvider) {
+		if (INSTANCE == null) {
+			int size = Integer.parseInt(Configuration.get(DIRIGIBLE_JAVASCRIPT_V8_POOL_SIZE, DEFAULT_POOL_SIZE));
+			long acquireTimeout = Long.parseLong(Configuration.get(DIRIGIBLE_JAVASCRIPT_V8_POOL_ACQUIRE_TIMEOUT, DEFAULT_ACQUIRE_TIMEOUT));
+			INSTANCE = new V8RuntimePool(sourceProvider, size, acquireTimeout);
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * Instantiates a new v8 runtime pool.
+	 *
+	 * @param sourceProvider
+	 *            the source provider
+	 * @param size
+	 *            the maximum number of runtimes
+	 * @param acquireTimeout
+	 *            the acquire timeout in milliseconds
+	 */
+	public V8RuntimePool(V8RepositoryModuleSourceProvider sourceProvider, int size, long acquireTimeout) {
+		this.sourceProvider = sourceProvider;
+		this.size = size;
+		this.acquireTimeout = acquireTimeout;
+		this.idle = new LinkedBlockingDeque<PooledRuntime>(size);
+		logger.info("V8 runtime pool created with size: " + size);
+	}
+
+	/**
+	 * Acquire a runtime and lock it for the current thread.
+	 *
+	 * @return the runtime
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	public V8 acquire() throws ScriptingException {
+		PooledRuntime runtime = lastUsed.get();
+		if ((runtime == null) || !idle.remove(runtime)) {
+			runtime = idle.pollFirst();
+		}
+		if (runtime == null) {
+			if (created.incrementAndGet() <= size) {
+				try {
+					V8 v8 = createRuntime();
+					runtimes.put(v8, new PooledRuntime(v8));
+					return v8;
+				} catch (RuntimeException | Error e) {
+					created.decrementAndGet();
+					throw new ScriptingException(e);
+				}
+			}
+			created.decrementAndGet();
+			try {
+				runtime = idle.pollFirst(acquireTimeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ScriptingException(e);
+			}
+			if (runtime == null) {
+				throw new ScriptingException("Timeout while waiting for a V8 runtime from the pool: " + acquireTimeout + "ms");
+			}
+		}
+		runtime.getV8().getLocker().acquire();
+		return runtime.getV8();
+	}
+
+	/**
+	 * Dispose the runtime, together with the state left by the lease, and give a fresh one back to the pool in its
+	 * place. The place is freed, if a fresh runtime cannot be created.
+	 *
+	 * @param v8
+	 *            the runtime
+	 */
+	public void release(V8 v8) {
+		if (!runtimes.containsKey(v8)) {
+			logger.warn("V8 runtime does not belong to the pool: " + System.identityHashCode(v8));
+			return;
+		}
+		dispose(v8);
+		V8 fresh;
+		try {
+			fresh = createRuntime();
+		} catch (RuntimeException | Error e) {
+			created.decrementAndGet();
+			logger.error("V8 runtime cannot be created in the place of a released one: " + e.getMessage(), e);
+			return;
+		}
+		PooledRuntime runtime = new PooledRuntime(fresh);
+		runtimes.put(fresh, runtime);
+		fresh.getLocker().release();
+		lastUsed.set(runtime);
+		if (!idle.offerFirst(runtime)) {
+			fresh.getLocker().acquire();
+			discard(fresh);
+		}
+	}
+
+	/**
+	 * Load the source of a module, reusing the one loaded for the same version of the module.
+	 *
+	 * @param module
+	 *            the module
+	 * @return the source
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws URISyntaxException
+	 *             the URI syntax exception
+	 */
+	public String loadSource(String module) throws IOException, URISyntaxException {
+		long version = sourceProvider.getModifiedAt(module);
+		if (version == 0) {
+			// no information about the module - it is not kept
+			return sourceProvider.loadSource(module);
+		}
+		ModuleSource moduleSource = sources.get(module);
+		if ((moduleSource == null) || (moduleSource.version != version)) {
+			moduleSource = new ModuleSource(version, sourceProvider.loadSource(module));
+			sources.put(module, moduleSource);
+		}
+		return moduleSource.source;
+	}
+
+	/**
+	 * Release the native runtime, which is locked by the current thread, and free its place in the pool.
+	 *
+	 * @param v8
+	 *            the runtime
+	 */
+	private void discard(V8 v8) {
+		dispose(v8);
+		created.decrementAndGet();
+	}
+
+	/**
+	 * Release the native runtime, which is locked by the current thread, keeping its place in the pool.
+	 *
+	 * @param v8
+	 *            the runtime
+	 */
+	private void dispose(V8 v8) {
+		runtimes.remove(v8);
+		try {
+			if (!v8.isReleased()) {
+				v8.release();
+			}
+		} catch (RuntimeException | Error e) {
+			logger.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Creates and bootstraps a runtime, which remains locked by the current thread.
+	 *
+	 * @return the runtime
+	 */
+	private V8 createRuntime() {
+		V8 v8 = V8.createV8Runtime();
+		try {
+			v8.add(IJavascriptEngineExecutor.JAVASCRIPT_ENGINE_TYPE, IJavascriptEngineExecutor.JAVASCRIPT_TYPE_V8);
+			v8.registerJavaMethod(new JavaV8CallStatic(), J2V8_CALL_STATIC_FUNCTION_NAME);
+			v8.registerJavaMethod(new JavaV8NewInstance(), J2V8_NEW_INSTANCE_FUNCTION_NAME);
+			v8.registerJavaMethod(new JavaV8CallInstance(), J2V8_CALL_INSTANCE_FUNCTION_NAME);
+			v8.registerJavaMethod(new JavaCallback() {
+
+				@Override
+				public Object invoke(V8Object receiver, V8Array parameters) {
+					Object modulename = parameters.get(0);
+					try {
+						return loadSource((String) modulename);
+					} catch (IOException | URISyntaxException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			}, J2V8_LOAD_SOURCE_FUNCTION_NAME);
+			v8.executeVoidScript(Require.CODE);
+			v8.executeVoidScript(CONSOLE_CODE);
+		} catch (RuntimeException | Error e) {
+			v8.release();
+			throw e;
+		}
+		logger.debug("V8 runtime created: " + System.identityHashCode(v8));
+		return v8;
+	}
+
+	/**
+	 * Gets the source provider.
+	 *
+	 * @return the source provider
+	 */
+	public V8RepositoryModuleSourceProvider getSourceProvider() {
+		return sourceProvider;
+	}
+
+	/**
+	 * The source of a module with its version.
+	 */
+	private static class ModuleSource {
+
+		private final long version;
+
+		private final String source;
+
+		/**
+		 * Instantiates a new module source.
+		 *
+		 * @param version
+		 *            the version
+		 * @param source
+		 *            the source
+		 */
+		ModuleSource(long version, String source) {
+			this.version = version;
+			this.source = source;
+		}
+
+	}
+
+	/**
+	 * A runtime kept in the pool. It is compared by identity, without accessing the isolate.
+	 */
+	private static class PooledRuntime {
+
+		private final V8 v8;
+
+		/**
+		 * Instantiates a new pooled runtime.
+		 *
+		 * @param v8
+		 *            the runtime
+		 */
+		PooledRuntime(V8 v8) {
+			this.v8 = v8;
+		}
+
+		/**
+		 * Gets the runtime.
+		 *
+		 * @return the runtime
+		 */
+		V8 getV8() {
+			return v8;
+		}
+
+	}
+
+}
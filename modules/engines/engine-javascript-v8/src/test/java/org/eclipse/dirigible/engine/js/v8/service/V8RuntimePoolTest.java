@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.v8.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+import org.eclipse.dirigible.engine.js.v8.processor.V8JavascriptEngineExecutor;
+import org.eclipse.dirigible.engine.js.v8.processor.V8RepositoryModuleSourceProvider;
+import org.eclipse.dirigible.engine.js.v8.processor.V8RuntimePool;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+
+/**
+ * The Class V8RuntimePoolTest.
+ */
+public class V8RuntimePoolTest extends AbstractGuiceTest {
+
+	private static final String POOLED_MODULE = "tests/v8/pooled"; //$NON-NLS-1$
+
+	/** The v 8 javascript engine executor. */
+	private V8JavascriptEngineExecutor v8JavascriptEngineExecutor;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.v8JavascriptEngineExecutor = getInjector().getInstance(V8JavascriptEngineExecutor.class);
+	}
+
+	/**
+	 * Fresh globals for each lease test.
+	 *
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void freshGlobals() throws ScriptingException {
+		CountingSourceProvider sourceProvider = new CountingSourceProvider(v8JavascriptEngineExecutor);
+		V8RuntimePool pool = new V8RuntimePool(sourceProvider, 1, 1000);
+
+		V8 first = pool.acquire();
+		try {
+			first.add(IJavascriptEngineExecutor.CONTEXT, "first");
+			first.executeVoidScript("var leakedVar = 1; leakedImplicit = 2;");
+			// the block scoped declarations are supported only in strict mode by this version of V8
+			first.executeVoidScript("'use strict'; let leakedLet = 3; const leakedConst = 4;");
+			assertEquals("number", first.executeStringScript("typeof leakedLet"));
+			assertEquals(1, first.executeIntegerScript("require('" + POOLED_MODULE + "').next()"));
+			assertEquals(2, first.executeIntegerScript("require('" + POOLED_MODULE + "').next()"));
+		} finally {
+			pool.release(first);
+		}
+
+		// the next lease gets a bootstrapped runtime without any of the globals of the previous one
+		V8 second = pool.acquire();
+		try {
+			assertNotSame(first, second);
+			assertEquals("undefined", second.executeStringScript("typeof " + IJavascriptEngineExecutor.CONTEXT));
+			assertEquals("undefined", second.executeStringScript("typeof leakedVar"));
+			assertEquals("undefined", second.executeStringScript("typeof leakedLet"));
+			assertEquals("undefined", second.executeStringScript("typeof leakedConst"));
+			assertEquals("undefined", second.executeStringScript("typeof leakedImplicit"));
+			assertEquals("function", second.executeStringScript("typeof require"));
+			assertEquals(1, second.executeIntegerScript("require('" + POOLED_MODULE + "').next()"));
+			// the source of the module is kept until its version changes
+			assertEquals(1, sourceProvider.loads);
+		} finally {
+			pool.release(second);
+		}
+
+		sourceProvider.modifiedAt = 2;
+		V8 third = pool.acquire();
+		try {
+			assertEquals(1, third.executeIntegerScript("require('" + POOLED_MODULE + "').next()"));
+			assertEquals(2, sourceProvider.loads);
+		} finally {
+			pool.release(third);
+		}
+		shutdown(pool);
+	}
+
+	/**
+	 * Bounds and acquire timeout test.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void boundsAndAcquireTimeout() throws Exception {
+		V8RuntimePool pool = new V8RuntimePool(new CountingSourceProvider(v8JavascriptEngineExecutor), 1, 200);
+		V8 leased = pool.acquire();
+		try {
+			// the only runtime is leased, so another thread waits for the timeout instead of creating a new one
+			AtomicReference<Exception> failure = new AtomicReference<Exception>();
+			Thread other = new Thread(() -> {
+				try {
+					V8 v8 = pool.acquire();
+					pool.release(v8);
+				} catch (ScriptingException e) {
+					failure.set(e);
+				}
+			});
+			long start = System.currentTimeMillis();
+			other.start();
+			other.join();
+			assertTrue(failure.get() instanceof ScriptingException);
+			assertTrue((System.currentTimeMillis() - start) >= 200);
+		} finally {
+			pool.release(leased);
+		}
+		shutdown(pool);
+	}
+
+	/**
+	 * Discard test.
+	 *
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void discardNotReusable() throws ScriptingException {
+		V8RuntimePool pool = new V8RuntimePool(new CountingSourceProvider(v8JavascriptEngineExecutor), 1, 200);
+		V8 broken = pool.acquire();
+		// a runtime, which cannot be reset, is discarded and its place in the pool is freed
+		broken.release();
+		pool.release(broken);
+
+		V8 replacement = pool.acquire();
+		try {
+			assertNotSame(broken, replacement);
+			assertEquals(4, replacement.executeIntegerScript("2 + 2"));
+		} finally {
+			pool.release(replacement);
+		}
+		shutdown(pool);
+	}
+
+	/**
+	 * Release the native runtime kept in the pool.
+	 *
+	 * @param pool
+	 *            the pool
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	private void shutdown(V8RuntimePool pool) throws ScriptingException {
+		V8 v8 = pool.acquire();
+		v8.release();
+	}
+
+	/**
+	 * The source provider serving the pooled test module, which counts the loadings of its source.
+	 */
+	private static class CountingSourceProvider extends V8RepositoryModuleSourceProvider {
+
+		private long modifiedAt = 1;
+
+		private int loads;
+
+		/**
+		 * Instantiates a new counting source provider.
+		 *
+		 * @param executor
+		 *            the executor
+		 */
+		CountingSourceProvider(V8JavascriptEngineExecutor executor) {
+			super(executor, IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.js.v8.processor.V8RepositoryModuleSourceProvider#loadSource(java.lang.String)
+		 */
+		@Override
+		public String loadSource(String module) throws IOException, URISyntaxException {
+			if (POOLED_MODULE.equals(module)) {
+				loads++;
+				return "var count = 0; exports.next = function() { return ++count; };";
+			}
+			return super.loadSource(module);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see
+		 * org.eclipse.dirigible.engine.js.v8.processor.V8RepositoryModuleSourceProvider#getModifiedAt(java.lang.String)
+		 */
+		@Override
+		public long getModifiedAt(String module) {
+			if (POOLED_MODULE.equals(module)) {
+				return modifiedAt;
+			}
+			return super.getModifiedAt(module);
+		}
+
+	}
+
+}
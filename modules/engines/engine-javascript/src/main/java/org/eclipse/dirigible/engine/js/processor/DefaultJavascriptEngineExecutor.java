@@ -11,21 +11,18 @@
 package org.eclipse.dirigible.engine.js.processor;
 
 import java.util.Map;
-import java.util.ServiceLoader;
 
-import org.eclipse.dirigible.commons.api.module.StaticInjector;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.js.api.AbstractJavascriptExecutor;
 import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
 
 /**
- * The Default Javascript Engine Executor.
+ * The Default Javascript Engine Executor. The invocations are delegated to the engine configured as default. They are
+ * recorded in the statistics only once - under the default type by the caller.
  */
 public class DefaultJavascriptEngineExecutor extends AbstractJavascriptExecutor implements IJavascriptEngineExecutor {
 
-	private static final ServiceLoader<IJavascriptEngineExecutor> JAVASCRIPT_ENGINE_EXECUTORS = ServiceLoader.load(IJavascriptEngineExecutor.class);
-	
 	public static final String ENGINE_NAME = "Default JavaScript Engine";
 
 	/*
@@ -55,10 +52,9 @@ public class DefaultJavascriptEngineExecutor extends AbstractJavascriptExecutor
 	public Object executeServiceModule(String module, Map<Object, Object> executionContext) throws ScriptingException {
 		String javascriptEngineType = Configuration.get(IJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT,
 				IJavascriptEngineExecutor.JAVASCRIPT_TYPE_RHINO);
-		for (IJavascriptEngineExecutor next : JAVASCRIPT_ENGINE_EXECUTORS) {
-			if (next.getType().equals(javascriptEngineType)) {
-				return StaticInjector.getInjector().getInstance(next.getClass()).executeServiceModule(module, executionContext);
-			}
+		IJavascriptEngineExecutor javascriptEngineExecutor = JavascriptEngineExecutorFactory.getJavascriptEngineExecutor(javascriptEngineType);
+		if (javascriptEngineExecutor != null) {
+			return javascriptEngineExecutor.executeServiceModule(module, executionContext);
 		}
 		throw new ScriptingException("No Javascript Engine registered");
 	}
@@ -72,10 +68,9 @@ public class DefaultJavascriptEngineExecutor extends AbstractJavascriptExecutor
 	public Object executeServiceCode(String code, Map<Object, Object> executionContext) throws ScriptingException {
 		String javascriptEngineType = Configuration.get(IJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT,
 				IJavascriptEngineExecutor.JAVASCRIPT_TYPE_RHINO);
-		for (IJavascriptEngineExecutor next : JAVASCRIPT_ENGINE_EXECUTORS) {
-			if (next.getType().equals(javascriptEngineType)) {
-				return StaticInjector.getInjector().getInstance(next.getClass()).executeServiceCode(code, executionContext);
-			}
+		IJavascriptEngineExecutor javascriptEngineExecutor = JavascriptEngineExecutorFactory.getJavascriptEngineExecutor(javascriptEngineType);
+		if (javascriptEngineExecutor != null) {
+			return javascriptEngineExecutor.executeServiceCode(code, executionContext);
 		}
 		throw new ScriptingException("No Javascript Engine registered");
 	}
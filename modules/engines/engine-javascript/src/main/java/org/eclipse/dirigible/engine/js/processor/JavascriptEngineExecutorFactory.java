@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.processor;
+
+import org.eclipse.dirigible.engine.api.EngineExecutorRegistry;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+
+/**
+ * A factory for the Javascript engine executors by type.
+ */
+public class JavascriptEngineExecutorFactory {
+
+	private static final EngineExecutorRegistry<IJavascriptEngineExecutor> JAVASCRIPT_ENGINE_EXECUTORS = new EngineExecutorRegistry<IJavascriptEngineExecutor>(
+			IJavascriptEngineExecutor.class);
+
+	/**
+	 * Gets the javascript engine executor.
+	 *
+	 * @param type
+	 *            the type
+	 * @return the javascript engine executor or null, if there is no such type
+	 */
+	public static IJavascriptEngineExecutor getJavascriptEngineExecutor(String type) {
+		return JAVASCRIPT_ENGINE_EXECUTORS.get(type);
+	}
+
+	/**
+	 * Register a javascript engine executor provided by a module loaded later.
+	 *
+	 * @param javascriptEngineExecutor
+	 *            the javascript engine executor
+	 */
+	public static void registerJavascriptEngineExecutor(IJavascriptEngineExecutor javascriptEngineExecutor) {
+		JAVASCRIPT_ENGINE_EXECUTORS.register(javascriptEngineExecutor);
+	}
+
+}
@@ -12,13 +12,13 @@ package org.eclipse.dirigible.engine.js.processor;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 import javax.inject.Inject;
 
 import org.apache.cxf.common.util.StringUtils;
 import org.eclipse.dirigible.api.v3.http.HttpRequestFacade;
 import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
 import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
 import org.eclipse.dirigible.engine.js.api.IJavascriptEngineProcessor;
 
@@ -27,8 +27,6 @@ import org.eclipse.dirigible.engine.js.api.IJavascriptEngineProcessor;
  */
 public class JavascriptEngineProcessor implements IJavascriptEngineProcessor {
 
-	private static final ServiceLoader<IJavascriptEngineExecutor> JAVASCRIPT_ENGINE_EXECUTORS = ServiceLoader.load(IJavascriptEngineExecutor.class);
-
 	@Inject
 	private IJavascriptEngineExecutor engineExecutor;
 
@@ -39,7 +37,7 @@ public class JavascriptEngineProcessor implements IJavascriptEngineProcessor {
 	@Override
 	public void executeService(String module) throws ScriptingException {
 		Map<Object, Object> executionContext = new HashMap<Object, Object>();
-		getEngineExecutor().executeServiceModule(module, executionContext);
+		ScriptEngineExecutorsManager.executeServiceModule(getEngineExecutor(), module, executionContext);
 	}
 
 	/**
@@ -51,10 +49,9 @@ public class JavascriptEngineProcessor implements IJavascriptEngineProcessor {
 		if (HttpRequestFacade.isValid()) {
 			String headerEngineType =  HttpRequestFacade.getHeader(IJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_HEADER);
 			if (!StringUtils.isEmpty(headerEngineType)) {
-				for (IJavascriptEngineExecutor next : JAVASCRIPT_ENGINE_EXECUTORS) {
-					if (next.getType().equals(headerEngineType)) {
-						return next;
-					}
+				IJavascriptEngineExecutor headerEngineExecutor = JavascriptEngineExecutorFactory.getJavascriptEngineExecutor(headerEngineType);
+				if (headerEngineExecutor != null) {
+					return headerEngineExecutor;
 				}
 			}
 		}
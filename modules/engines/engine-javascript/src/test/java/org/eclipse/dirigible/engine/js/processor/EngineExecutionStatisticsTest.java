@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.js.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.module.StaticInjector;
+import org.eclipse.dirigible.commons.api.scripting.ScriptingException;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.engine.api.EngineExecutionStatistics;
+import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorFactory;
+import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
+import org.eclipse.dirigible.engine.js.api.AbstractJavascriptExecutor;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+/**
+ * The Class EngineExecutionStatisticsTest.
+ */
+public class EngineExecutionStatisticsTest {
+
+	private static final String STUB_TYPE = "statistics-stub"; //$NON-NLS-1$
+
+	private static final String FAILING = "failing"; //$NON-NLS-1$
+
+	/** The stub executor. */
+	private StubExecutor stubExecutor;
+
+	/**
+	 * Sets the up.
+	 */
+	@Before
+	public void setUp() {
+		if (StaticInjector.getInjector() == null) {
+			// the executors loaded as services are not used, so they get a repository, which is never called
+			IRepository repository = (IRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { IRepository.class },
+					(proxy, method, args) -> {
+						throw new UnsupportedOperationException(method.getName());
+					});
+			StaticInjector.setInjector(Guice.createInjector(binder -> binder.bind(IRepository.class).toInstance(repository)));
+		}
+		this.stubExecutor = new StubExecutor();
+		ScriptEngineExecutorFactory.registerScriptEngineExecutor(stubExecutor);
+		JavascriptEngineExecutorFactory.registerJavascriptEngineExecutor(stubExecutor);
+		EngineExecutionStatistics.clear();
+	}
+
+	/**
+	 * Counts and failures test.
+	 *
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void countsAndFailures() throws ScriptingException {
+		ScriptEngineExecutorsManager.executeServiceModule(STUB_TYPE, "module", null);
+		ScriptEngineExecutorsManager.executeServiceCode(STUB_TYPE, "code", null);
+		try {
+			ScriptEngineExecutorsManager.executeServiceModule(STUB_TYPE, FAILING, null);
+			fail("The failing module is expected to throw");
+		} catch (ScriptingException e) {
+			// expected
+		}
+
+		EngineExecutionStatistics statistics = EngineExecutionStatistics.get(STUB_TYPE);
+		assertEquals(3, stubExecutor.executions);
+		assertEquals(3, statistics.getInvocations());
+		assertEquals(1, statistics.getFailures());
+		long histogramTotal = 0;
+		for (long count : statistics.getHistogram()) {
+			histogramTotal += count;
+		}
+		assertEquals(3, histogramTotal);
+	}
+
+	/**
+	 * Default executor recorded once test.
+	 *
+	 * @throws ScriptingException
+	 *             the scripting exception
+	 */
+	@Test
+	public void defaultExecutorRecordedOnce() throws ScriptingException {
+		Configuration.set(IJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT, STUB_TYPE);
+		try {
+			ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, "module", null);
+			ScriptEngineExecutorsManager.executeServiceModule(new DefaultJavascriptEngineExecutor(), "module", null);
+		} finally {
+			Configuration.set(IJavascriptEngineExecutor.DIRIGIBLE_JAVASCRIPT_ENGINE_TYPE_DEFAULT,
+					IJavascriptEngineExecutor.JAVASCRIPT_TYPE_RHINO);
+		}
+
+		// both the executions are delegated to the stub, but recorded only under the type they are dispatched to
+		assertEquals(2, stubExecutor.executions);
+		assertEquals(2, EngineExecutionStatistics.get(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT).getInvocations());
+		assertFalse(EngineExecutionStatistics.getAll().containsKey(STUB_TYPE));
+	}
+
+	/**
+	 * The executor counting its executions, which fails the module with the failing name.
+	 */
+	private static class StubExecutor extends AbstractJavascriptExecutor {
+
+		private int executions;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.script.IScriptEngineExecutor#executeServiceModule(java.lang.String,
+		 * java.util.Map)
+		 */
+		@Override
+		public Object executeServiceModule(String module, Map<Object, Object> executionContext) throws ScriptingException {
+			executions++;
+			if (FAILING.equals(module)) {
+				throw new ScriptingException(module);
+			}
+			return module;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.script.IScriptEngineExecutor#executeServiceCode(java.lang.String,
+		 * java.util.Map)
+		 */
+		@Override
+		public Object executeServiceCode(String code, Map<Object, Object> executionContext) throws ScriptingException {
+			return executeServiceModule(code, executionContext);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.IEngineExecutor#getType()
+		 */
+		@Override
+		public String getType() {
+			return STUB_TYPE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.eclipse.dirigible.engine.api.IEngineExecutor#getName()
+		 */
+		@Override
+		public String getName() {
+			return STUB_TYPE;
+		}
+
+	}
+
+}
@@ -98,7 +98,9 @@ public class JobSynchronizer extends AbstractSynchronizer {
 				synchronizePredelivered();
 				synchronizeRegistry();
 				startJobs();
-				cleanup();
+				if (isFullSynchronization()) {
+					cleanup();
+				}
 				clearCache();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for Jobs failed.", e);
@@ -174,13 +176,15 @@ public class JobSynchronizer extends AbstractSynchronizer {
 		}
 
 		Set<TriggerKey> runningJobs = SchedulerManager.listJobs();
-		for (TriggerKey jobKey : runningJobs) {
-			try {
-				if (!JOBS_SYNCHRONIZED.contains(jobKey.getName())) {
-					SchedulerManager.unscheduleJob(jobKey.getName(), jobKey.getGroup());
+		if (isFullSynchronization()) {
+			for (TriggerKey jobKey : runningJobs) {
+				try {
+					if (!JOBS_SYNCHRONIZED.contains(jobKey.getName())) {
+						SchedulerManager.unscheduleJob(jobKey.getName(), jobKey.getGroup());
+					}
+				} catch (SchedulerException e) {
+					logger.error(e.getMessage(), e);
 				}
-			} catch (SchedulerException e) {
-				logger.error(e.getMessage(), e);
 			}
 		}
 
@@ -13,6 +13,11 @@ package org.eclipse.dirigible.engine.messaging.synchronizer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +26,7 @@ import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.sql.DataSource;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.api.module.StaticInjector;
@@ -31,6 +37,7 @@ import org.eclipse.dirigible.core.messaging.service.MessagingCoreService;
 import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
 import org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer;
 import org.eclipse.dirigible.core.scheduler.api.SynchronizationException;
+import org.eclipse.dirigible.database.persistence.PersistenceManager;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +61,14 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 	@Inject
 	private SchedulerManager messagingManager;
 
+	@Inject
+	private DataSource dataSource;
+
+	@Inject
+	private PersistenceManager<ListenerDefinition> listenerPersistenceManager;
+
+	private volatile boolean upgradePassed;
+
 	/**
 	 * Force synchronization.
 	 */
@@ -93,11 +108,16 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		synchronized (MessagingSynchronizer.class) {
 			logger.trace("Synchronizing Listeners...");
 			try {
+				if (!upgradePassed) {
+					upgradePassed = checkUpgrade();
+				}
 				clearCache();
 				synchronizePredelivered();
 				synchronizeRegistry();
 				startListeners();
-				cleanup();
+				if (isFullSynchronization()) {
+					cleanup();
+				}
 				clearCache();
 			} catch (Exception e) {
 				logger.error("Synchronizing process for Listeners failed.", e);
@@ -106,6 +126,41 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		}
 	}
 
+	/**
+	 * Recreate the table of the listeners, if it has been created by a version without the consumer settings. The
+	 * listeners are synchronized again from the registry afterwards.
+	 *
+	 * @return true, if the check passed
+	 * @throws SQLException
+	 *             the SQL exception
+	 */
+	private boolean checkUpgrade() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			List<String> columnNames = new ArrayList<String>();
+			try (Statement statement = connection.createStatement()) {
+				ResultSet resultSet;
+				try {
+					resultSet = statement.executeQuery("SELECT * FROM DIRIGIBLE_LISTENERS");
+				} catch (Exception e) {
+					// not created yet
+					logger.warn(e.getMessage());
+					return false;
+				}
+				ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+				for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+					columnNames.add(resultSetMetaData.getColumnName(i));
+				}
+				resultSet.close();
+			}
+			if (!columnNames.contains("LISTENER_CONCURRENCY")) {
+				logger.warn("Upgrading Messaging Synchronizer to the listeners with consumer settings ...");
+				listenerPersistenceManager.tableDrop(connection, ListenerDefinition.class);
+				logger.warn("Upgrade of Messaging Synchronizer to the listeners with consumer settings passed successfully.");
+			}
+		}
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.core.scheduler.api.AbstractSynchronizer#synchronizeRegistry()
@@ -173,14 +228,16 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		}
 
 		List<String> runningListeners = messagingManager.getRunningListeners();
-		for (String listenerLocation : runningListeners) {
-			try {
-				if (!LISTENERS_SYNCHRONIZED.contains(listenerLocation)) {
-					ListenerDefinition listenerDefinition = messagingCoreService.getListener(listenerLocation);
-					messagingManager.stopListener(listenerDefinition);
+		if (isFullSynchronization()) {
+			for (String listenerLocation : runningListeners) {
+				try {
+					if (!LISTENERS_SYNCHRONIZED.contains(listenerLocation)) {
+						ListenerDefinition listenerDefinition = messagingCoreService.getListener(listenerLocation);
+						messagingManager.stopListener(listenerDefinition);
+					}
+				} catch (MessagingException e) {
+					logger.error(e.getMessage(), e);
 				}
-			} catch (MessagingException e) {
-				logger.error(e.getMessage(), e);
 			}
 		}
 
@@ -205,13 +262,19 @@ public class MessagingSynchronizer extends AbstractSynchronizer {
 		try {
 			if (!messagingCoreService.existsListener(listenerDefinition.getLocation())) {
 				messagingCoreService.createListener(listenerDefinition.getLocation(), listenerDefinition.getName(), listenerDefinition.getType(),
-						listenerDefinition.getHandler(), listenerDefinition.getDescription());
+						listenerDefinition.getHandler(), listenerDefinition.getDescription(), listenerDefinition.getConcurrency(),
+						listenerDefinition.getPrefetch(), listenerDefinition.getBatchAck());
 				logger.info("Synchronized a new Listener [{}] from location: {}", listenerDefinition.getName(), listenerDefinition.getLocation());
 			} else {
 				ListenerDefinition existing = messagingCoreService.getListener(listenerDefinition.getLocation());
 				if (!listenerDefinition.equals(existing)) {
 					messagingCoreService.updateListener(listenerDefinition.getLocation(), listenerDefinition.getName(), listenerDefinition.getType(),
-							listenerDefinition.getHandler(), listenerDefinition.getDescription());
+							listenerDefinition.getHandler(), listenerDefinition.getDescription(), listenerDefinition.getConcurrency(),
+							listenerDefinition.getPrefetch(), listenerDefinition.getBatchAck());
+					// the running workers are restarted with the modified handler and settings
+					if (messagingManager.existsListener(listenerDefinition.getLocation())) {
+						messagingManager.stopListener(existing);
+					}
 					logger.info("Synchronized a modified Listener [{}] from location: {}", listenerDefinition.getName(),
 							listenerDefinition.getLocation());
 				}
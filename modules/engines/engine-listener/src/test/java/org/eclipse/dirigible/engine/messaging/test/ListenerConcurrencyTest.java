@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.messaging.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.eclipse.dirigible.core.messaging.api.IMessagingCoreService;
+import org.eclipse.dirigible.core.messaging.definition.ListenerDefinition;
+import org.eclipse.dirigible.core.messaging.service.MessagingProducer;
+import org.eclipse.dirigible.core.messaging.service.SchedulerManager;
+import org.eclipse.dirigible.core.test.AbstractGuiceTest;
+import org.eclipse.dirigible.engine.api.script.ScriptEngineExecutorsManager;
+import org.eclipse.dirigible.engine.js.api.IJavascriptEngineExecutor;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class ListenerConcurrencyTest.
+ */
+public class ListenerConcurrencyTest extends AbstractGuiceTest {
+
+	private static final int CONCURRENCY = 3;
+
+	private static final int MESSAGES = 9;
+
+	private static final AtomicInteger RUNNING = new AtomicInteger();
+
+	private static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+	private static final Set<String> THREADS = Collections.synchronizedSet(new HashSet<String>());
+
+	private static final Set<String> MESSAGES_HANDLED = Collections.synchronizedSet(new HashSet<String>());
+
+	private static final AtomicInteger HANDLER_LOADS = new AtomicInteger();
+
+	private static final List<String> BATCH_HANDLED = Collections.synchronizedList(new ArrayList<String>());
+
+	private static volatile CountDownLatch handled;
+
+	private static volatile CountDownLatch together;
+
+	private static volatile boolean apart;
+
+	@Inject
+	private SchedulerManager messagingManager;
+
+	@Inject
+	private IRepository repository;
+
+	/**
+	 * Setup.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.messagingManager = getInjector().getInstance(SchedulerManager.class);
+		this.repository = getInjector().getInstance(IRepository.class);
+
+		this.messagingManager.initialize();
+	}
+
+	/**
+	 * Tear down.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		SchedulerManager.shutdown();
+	}
+
+	/**
+	 * Invoked by the handler module for each message. The first handlers wait for each other, until as many of them as
+	 * the configured workers run together - which is possible only if the workers run them in parallel.
+	 *
+	 * @param message
+	 *            the message
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	public static void handle(String message) throws InterruptedException {
+		int running = RUNNING.incrementAndGet();
+		MAX_RUNNING.accumulateAndGet(running, Math::max);
+		THREADS.add(Thread.currentThread().getName());
+		try {
+			together.countDown();
+			if (!together.await(30, TimeUnit.SECONDS)) {
+				apart = true;
+			}
+		} finally {
+			RUNNING.decrementAndGet();
+			MESSAGES_HANDLED.add(message);
+			handled.countDown();
+		}
+	}
+
+	/**
+	 * The handler wrappers are invoked by the configured number of workers in parallel.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void concurrentWorkersTest() throws IOException, InterruptedException {
+		handled = new CountDownLatch(MESSAGES);
+		together = new CountDownLatch(CONCURRENCY);
+		repository.createResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/concurrent/handler.js",
+				("exports.onMessage = function(message) { Packages." + ListenerConcurrencyTest.class.getName() + ".handle(message); };"
+						+ "exports.onError = function(error) {};").getBytes());
+
+		ListenerDefinition listenerDefinition = new ListenerDefinition();
+		listenerDefinition.setLocation("/concurrent/concurrent.listener");
+		listenerDefinition.setName("concurrent");
+		listenerDefinition.setType(IMessagingCoreService.QUEUE);
+		listenerDefinition.setHandler("concurrent/handler");
+		listenerDefinition.setConcurrency(CONCURRENCY);
+		// a single message in advance per worker, so that they are distributed among all of them
+		listenerDefinition.setPrefetch(1);
+		messagingManager.startListener(listenerDefinition);
+		try {
+			for (int i = 0; i < MESSAGES; i++) {
+				new MessagingProducer("concurrent", IMessagingCoreService.QUEUE, "message" + i).run();
+			}
+
+			assertTrue("The messages were not handled in time", handled.await(30, TimeUnit.SECONDS));
+			assertEquals(MESSAGES, MESSAGES_HANDLED.size());
+			assertFalse("The handlers did not run in parallel", apart);
+			assertEquals(CONCURRENCY, THREADS.size());
+			assertEquals(CONCURRENCY, MAX_RUNNING.get());
+			assertTrue("More handlers ran in parallel than configured", MAX_RUNNING.get() <= CONCURRENCY);
+		} finally {
+			messagingManager.stopListener(listenerDefinition);
+		}
+	}
+
+	/**
+	 * Invoked by the batch handler module, when it is loaded.
+	 */
+	public static void loaded() {
+		HANDLER_LOADS.incrementAndGet();
+	}
+
+	/**
+	 * Invoked by the batch handler module for each message.
+	 *
+	 * @param message
+	 *            the message
+	 */
+	public static void handleBatch(String message) {
+		if ("failing".equals(message)) {
+			throw new IllegalStateException(message);
+		}
+		BATCH_HANDLED.add(message);
+	}
+
+	/**
+	 * The handler is resolved once for all the messages passed to the wrapper at once, and a failing message does not
+	 * prevent the rest of them from being handled.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void batchWrapperTest() throws IOException {
+		repository.createResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/batch/handler.js",
+				("Packages." + ListenerConcurrencyTest.class.getName() + ".loaded();" + "exports.onMessage = function(message) { Packages."
+						+ ListenerConcurrencyTest.class.getName() + ".handleBatch(message); };" + "exports.onError = function(error) {};").getBytes());
+
+		List<String> messages = new ArrayList<String>();
+		messages.add("first");
+		messages.add("failing");
+		messages.add("second");
+		messages.add("third");
+		Map<Object, Object> executionContext = new HashMap<Object, Object>();
+		executionContext.put("handler", "batch/handler");
+		executionContext.put("messages", messages);
+		try {
+			ScriptEngineExecutorsManager.executeServiceModule(IJavascriptEngineExecutor.JAVASCRIPT_TYPE_DEFAULT, "messaging/wrappers/onMessage.js",
+					executionContext);
+			fail("The failure of the handler is expected to be reported");
+		} catch (Exception e) {
+			// expected - after the whole batch is handled
+		}
+		assertEquals(1, HANDLER_LOADS.get());
+		assertEquals(3, BATCH_HANDLED.size());
+		assertEquals("third", BATCH_HANDLED.get(2));
+	}
+
+}
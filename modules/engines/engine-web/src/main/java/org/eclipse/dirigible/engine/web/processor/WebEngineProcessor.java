@@ -10,10 +10,20 @@
  */
 package org.eclipse.dirigible.engine.web.processor;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 import javax.inject.Inject;
 
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.ContentCache;
+import org.eclipse.dirigible.commons.config.ContentCache.Entry;
+import org.eclipse.dirigible.commons.config.ResourcesCache;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
 
 /**
  * Processing the incoming requests for the raw web content.
@@ -21,6 +31,10 @@ import org.eclipse.dirigible.repository.api.IResource;
  */
 public class WebEngineProcessor {
 
+	private static final ContentCache CONTENT_CACHE = ResourcesCache.getWebContentCache();
+
+	private static final String EXTENSION_BROTLI = ".br";
+
 	@Inject
 	private WebEngineExecutor webEngineExecutor;
 
@@ -57,4 +71,99 @@ public class WebEngineProcessor {
 		return webEngineExecutor.getResourceContent(IRepositoryStructure.PATH_REGISTRY_PUBLIC, path);
 	}
 
+	/**
+	 * Gets the cached entry of the current version of the resource - from the registry or from the classpath. The
+	 * content is read only if the current version is not in the cache yet. A registry resource without a modification
+	 * time is read on each request, as its cached entry could not be revalidated.
+	 *
+	 * @param path
+	 *            the requested resource location
+	 * @return the entry, which might be without content in case of a big resource, or null if there is no such
+	 *         resource
+	 */
+	public Entry getResourceEntry(String path) {
+		IResource resource = null;
+		long modifiedAt = 0;
+		if (existResource(path)) {
+			resource = getResource(path);
+			modifiedAt = getModifiedAt(resource);
+		}
+		if ((resource != null) && (modifiedAt == 0)) {
+			try (InputStream content = resource.getContentStream()) {
+				return CONTENT_CACHE.load(modifiedAt, content, resource.getContentType(), !resource.isBinary(), null);
+			} catch (IOException e) {
+				throw new RepositoryReadException(e);
+			}
+		}
+		Entry entry = CONTENT_CACHE.get(path, modifiedAt);
+		if (entry != null) {
+			return entry;
+		}
+		if (resource != null) {
+			try (InputStream content = resource.getContentStream()) {
+				return CONTENT_CACHE.put(path, modifiedAt, content, resource.getContentType(), !resource.isBinary(),
+						getBrotliVariant(path, modifiedAt));
+			} catch (IOException e) {
+				throw new RepositoryReadException(e);
+			}
+		}
+		byte[] content = getResourceContent(path);
+		if (content == null) {
+			return null;
+		}
+		String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
+		return CONTENT_CACHE.put(path, modifiedAt, content, contentType, !ContentTypeHelper.isBinary(contentType), null);
+	}
+
+	/**
+	 * Gets the content of a resource, which is too big to be cached, as a stream.
+	 *
+	 * @param path
+	 *            the requested resource location
+	 * @return the content stream, which has to be closed by the caller, or null if there is no such resource
+	 */
+	public InputStream getResourceStream(String path) {
+		if (existResource(path)) {
+			return getResource(path).getContentStream();
+		}
+		byte[] content = getResourceContent(path);
+		return (content != null) ? new ByteArrayInputStream(content) : null;
+	}
+
+	/**
+	 * Gets the precompressed brotli variant published next to the resource, if any. A variant older than the resource
+	 * is skipped, as it has not been compressed from its current content.
+	 *
+	 * @param path
+	 *            the requested resource location
+	 * @param modifiedAt
+	 *            the modification time of the resource
+	 * @return the brotli variant or null
+	 */
+	private byte[] getBrotliVariant(String path, long modifiedAt) {
+		String variantPath = path + EXTENSION_BROTLI;
+		if (existResource(variantPath)) {
+			IResource variant = getResource(variantPath);
+			if (getModifiedAt(variant) >= modifiedAt) {
+				return variant.getContent();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the modification time of the resource.
+	 *
+	 * @param resource
+	 *            the resource
+	 * @return the modification time or 0, if not known
+	 */
+	private long getModifiedAt(IResource resource) {
+		IEntityInformation information = resource.getInformation();
+		if ((information != null) && (information.getModifiedAt() != null)) {
+			return information.getModifiedAt().getTime();
+		}
+		return 0;
+	}
+
 }
@@ -10,24 +10,29 @@
  */
 package org.eclipse.dirigible.engine.web.service;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 
-import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.api.service.AbstractRestService;
 import org.eclipse.dirigible.commons.api.service.IRestService;
-import org.eclipse.dirigible.commons.config.ResourcesCache;
-import org.eclipse.dirigible.commons.config.ResourcesCache.Cache;
+import org.eclipse.dirigible.commons.config.ContentCache;
+import org.eclipse.dirigible.commons.config.ContentCache.Entry;
 import org.eclipse.dirigible.engine.web.processor.WebEngineProcessor;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
-import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,12 +42,22 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class AbstractWebEngineRestService extends AbstractRestService implements IRestService {
 
-	private static final Cache WEB_CACHE = ResourcesCache.getWebCache();
-
 	private static final Logger logger = LoggerFactory.getLogger(AbstractWebEngineRestService.class);
 
 	private static final String INDEX_HTML = "index.html";
 
+	private static final String HEADER_ETAG = "ETag";
+
+	private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+	private static final String HEADER_RANGE = "Range";
+
+	private static final String HEADER_IF_RANGE = "If-Range";
+
+	private static final String HEADER_CONTENT_RANGE = "Content-Range";
+
+	private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+
 	@Inject
 	private WebEngineProcessor processor;
 
@@ -84,63 +99,233 @@ public abstract class AbstractWebEngineRestService extends AbstractRestService i
 	 * @return the resource by path
 	 */
 	private Response getResourceByPath(String path) {
-		if (isCached(path)) {
-			return sendResourceNotModified();
-		}
-
-		if (processor.existResource(path)) {
-			IResource resource = processor.getResource(path);
-			String contentType = resource.getContentType();
-			return sendResource(path, resource.isBinary(), resource.getContent(), contentType);
-		}
+		Entry entry;
 		try {
-			byte[] content = processor.getResourceContent(path);
-			if (content != null) {
-				String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
-				return sendResource(path, ContentTypeHelper.isBinary(contentType), content, contentType);
-			}
+			entry = processor.getResourceEntry(path);
 		} catch (RepositoryNotFoundException e) {
 			String error = "Resource not found: " + path;
 			sendErrorNotFound(response, error);
 			return Response.status(Status.NOT_FOUND).entity(error).build();
 		}
-		sendErrorNotFound(response, path);
-		return Response.status(Status.NOT_FOUND).build();
+		if (entry == null) {
+			sendErrorNotFound(response, path);
+			return Response.status(Status.NOT_FOUND).build();
+		}
+		if (isNotModified(entry)) {
+			return sendResourceNotModified(entry);
+		}
+		return sendResource(path, entry);
 	}
 
-	private Response sendResourceNotModified() {
+	private Response sendResourceNotModified(Entry entry) {
 		return Response
 				.notModified()
-				.header("ETag", getTag())
+				.header(HEADER_ETAG, entry.getTag(selectEncoding(entry)))
 				.build();
 	}
 
-	private Response sendResource(String path, boolean isBinary, byte[] content, String contentType) {
-		String tag = cacheResource(path);
-		Object responseContent = isBinary ? content : new String(content, StandardCharsets.UTF_8);
-		return Response
-				.ok(responseContent)
-				.type(contentType)
+	private Response sendResource(String path, Entry entry) {
+		String range = getRequest().getHeader(HEADER_RANGE);
+		// the ranges are served only from the identity encoding
+		String encoding = (range == null) ? selectEncoding(entry) : null;
+		// the content of a resource too big to be cached is streamed from the repository
+		byte[] content = (encoding != null) ? entry.getVariant(encoding) : entry.getContent();
+		long total = (content != null) ? content.length : entry.getLength();
+
+		ResponseBuilder builder;
+		long[] bounds = (range != null) && isRangeApplicable(entry) ? parseRange(range, total) : null;
+		if ((bounds == null) && (content != null)) {
+			builder = Response.ok(content);
+		} else if (bounds == null) {
+			builder = Response
+					.ok(streamResource(path, 0, total))
+					.header(HttpHeaders.CONTENT_LENGTH, total);
+		} else if (bounds.length == 0) {
+			return Response
+					.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+					.header(HEADER_CONTENT_RANGE, "bytes */" + total)
+					.build();
+		} else {
+			final byte[] body = content;
+			final long offset = bounds[0];
+			final long length = bounds[1] - bounds[0] + 1;
+			StreamingOutput partial = (body != null) ? output -> output.write(body, (int) offset, (int) length) : streamResource(path, offset, length);
+			builder = Response
+					.status(Status.PARTIAL_CONTENT)
+					.entity(partial)
+					.header(HEADER_CONTENT_RANGE, "bytes " + bounds[0] + "-" + bounds[1] + "/" + total)
+					.header(HttpHeaders.CONTENT_LENGTH, length);
+		}
+		builder
+				.type(entry.getContentType())
 				.header("Cache-Control", "public, must-revalidate, max-age=0")
-				.header("ETag", tag)
-				.build();
+				.header(HEADER_ETAG, entry.getTag(encoding))
+				.header(HEADER_ACCEPT_RANGES, "bytes");
+		if (encoding != null) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, encoding);
+		}
+		if (entry.hasVariants()) {
+			builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		}
+		return builder.build();
 	}
 
-	private String cacheResource(String path) {
-		String tag = WEB_CACHE.generateTag();
-		WEB_CACHE.setTag(path, tag);
-		return tag;
+	/**
+	 * Stream a part of the content of the resource from the repository.
+	 *
+	 * @param path
+	 *            the path
+	 * @param offset
+	 *            the offset of the first byte
+	 * @param length
+	 *            the number of the bytes
+	 * @return the streaming output
+	 */
+	private StreamingOutput streamResource(String path, long offset, long length) {
+		return (OutputStream output) -> {
+			try (InputStream input = processor.getResourceStream(path)) {
+				if (input == null) {
+					throw new IOException("Resource not found: " + path);
+				}
+				IOUtils.copyLarge(input, output, offset, length);
+			}
+		};
 	}
 
-	private boolean isCached(String path) {
-		String tag = getTag();
-		String cachedTag = WEB_CACHE.getTag(path);
-		return tag == null || cachedTag == null ? false : tag.equals(cachedTag); 
-		
+	/**
+	 * Checks whether the client has the current version of the resource in any of its encodings.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return true, if it is not modified
+	 */
+	private boolean isNotModified(Entry entry) {
+		String header = getRequest().getHeader(HEADER_IF_NONE_MATCH);
+		if (header == null) {
+			return false;
+		}
+		for (String token : header.split(",")) {
+			String tag = token.trim();
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if ("*".equals(tag) || tag.equals(entry.getTag()) || tag.equals(entry.getTag(ContentCache.ENCODING_GZIP))
+					|| tag.equals(entry.getTag(ContentCache.ENCODING_BROTLI))) {
+				return true;
+			}
+		}
+		return false;
 	}
 
-	private String getTag() {
-		return getRequest().getHeader("If-None-Match");
+	/**
+	 * Select the best encoding of the entry accepted by the client.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the encoding or null for the identity one
+	 */
+	private String selectEncoding(Entry entry) {
+		if (!entry.hasVariants()) {
+			return null;
+		}
+		String header = getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (header == null) {
+			return null;
+		}
+		boolean brotli = false;
+		boolean gzip = false;
+		for (String token : header.split(",")) {
+			String[] parts = token.trim().split(";");
+			if ((parts.length > 1) && isZeroQuality(parts[1])) {
+				continue;
+			}
+			String coding = parts[0].trim().toLowerCase(Locale.ENGLISH);
+			if (ContentCache.ENCODING_BROTLI.equals(coding)) {
+				brotli = true;
+			} else if (ContentCache.ENCODING_GZIP.equals(coding)) {
+				gzip = true;
+			}
+		}
+		if (brotli && (entry.getVariant(ContentCache.ENCODING_BROTLI) != null)) {
+			return ContentCache.ENCODING_BROTLI;
+		}
+		if (gzip && (entry.getVariant(ContentCache.ENCODING_GZIP) != null)) {
+			return ContentCache.ENCODING_GZIP;
+		}
+		return null;
+	}
+
+	private boolean isZeroQuality(String parameter) {
+		String value = parameter.trim();
+		if (!value.startsWith("q=")) {
+			return false;
+		}
+		try {
+			return Double.parseDouble(value.substring(2)) == 0;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks whether the range request is for the current version of the resource.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return true, if the range can be served
+	 */
+	private boolean isRangeApplicable(Entry entry) {
+		String ifRange = getRequest().getHeader(HEADER_IF_RANGE);
+		return (ifRange == null) || ifRange.trim().equals(entry.getTag());
+	}
+
+	/**
+	 * Parses a single byte range.
+	 *
+	 * @param range
+	 *            the range header
+	 * @param length
+	 *            the length of the content
+	 * @return the first and the last byte of the range, an empty array if it is not satisfiable or null if it is not
+	 *         supported and the whole content has to be served
+	 */
+	static long[] parseRange(String range, long length) {
+		String value = range.trim();
+		if (!value.startsWith("bytes=") || (value.indexOf(',') >= 0)) {
+			return null;
+		}
+		value = value.substring("bytes=".length()).trim();
+		int dash = value.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			String first = value.substring(0, dash).trim();
+			String last = value.substring(dash + 1).trim();
+			long start;
+			long end;
+			if (first.isEmpty()) {
+				// the suffix of the given length
+				if (last.isEmpty()) {
+					return null;
+				}
+				long suffix = Long.parseLong(last);
+				if (suffix == 0) {
+					return new long[0];
+				}
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(first);
+				end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+			}
+			if ((start >= length) || (start > end)) {
+				return new long[0];
+			}
+			return new long[] { start, end };
+		} catch (NumberFormatException e) {
+			return null;
+		}
 	}
 
 	/*
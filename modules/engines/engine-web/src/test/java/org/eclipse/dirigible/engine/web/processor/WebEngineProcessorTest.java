@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.engine.web.processor;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.eclipse.dirigible.commons.config.ContentCache;
+import org.eclipse.dirigible.commons.config.ContentCache.Entry;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class WebEngineProcessorTest.
+ */
+public class WebEngineProcessorTest {
+
+	private WebEngineExecutor webEngineExecutor;
+
+	private WebEngineProcessor webEngineProcessor;
+
+	/**
+	 * Sets the up.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.webEngineExecutor = mock(WebEngineExecutor.class);
+		this.webEngineProcessor = new WebEngineProcessor();
+		Field field = WebEngineProcessor.class.getDeclaredField("webEngineExecutor");
+		field.setAccessible(true);
+		field.set(webEngineProcessor, webEngineExecutor);
+	}
+
+	/**
+	 * The brotli variant older than the resource is not served.
+	 */
+	@Test
+	public void staleBrotliVariant() {
+		publish("/stale/index.html", "<html>current</html>", 2000);
+		publish("/stale/index.html.br", "compressed", 1000);
+		Entry entry = webEngineProcessor.getResourceEntry("/stale/index.html");
+		assertNull(entry.getVariant(ContentCache.ENCODING_BROTLI));
+
+		publish("/current/index.html", "<html>current</html>", 2000);
+		publish("/current/index.html.br", "compressed", 3000);
+		entry = webEngineProcessor.getResourceEntry("/current/index.html");
+		assertArrayEquals("compressed".getBytes(StandardCharsets.UTF_8), entry.getVariant(ContentCache.ENCODING_BROTLI));
+	}
+
+	/**
+	 * The resource without a modification time is read again on each request.
+	 */
+	@Test
+	public void resourceWithoutInformation() {
+		publish("/unknown/index.html", "<html>first</html>", -1);
+		Entry first = webEngineProcessor.getResourceEntry("/unknown/index.html");
+		assertEquals("<html>first</html>", new String(first.getContent(), StandardCharsets.UTF_8));
+
+		publish("/unknown/index.html", "<html>second</html>", -1);
+		Entry second = webEngineProcessor.getResourceEntry("/unknown/index.html");
+		assertEquals("<html>second</html>", new String(second.getContent(), StandardCharsets.UTF_8));
+		assertNotEquals(first.getTag(), second.getTag());
+	}
+
+	/**
+	 * Publish a resource in the registry.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content
+	 * @param modifiedAt
+	 *            the modification time or -1 for a resource without information
+	 */
+	private void publish(String path, String content, long modifiedAt) {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		IResource resource = mock(IResource.class);
+		when(resource.getContent()).thenReturn(bytes);
+		when(resource.getContentStream()).thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+		when(resource.getContentType()).thenReturn("text/html");
+		if (modifiedAt >= 0) {
+			IEntityInformation information = mock(IEntityInformation.class);
+			when(information.getModifiedAt()).thenReturn(new Date(modifiedAt));
+			when(resource.getInformation()).thenReturn(information);
+		}
+		when(webEngineExecutor.existResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC, path)).thenReturn(true);
+		when(webEngineExecutor.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC, path)).thenReturn(resource);
+	}
+
+}
@@ -10,10 +10,29 @@
  */
 package org.eclipse.dirigible.engine.web.service;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
 
 /**
  * The Class WebEngineServiceTest.
  */
 public class WebEngineServiceTest {
 
+	/**
+	 * Parses the range test.
+	 */
+	@Test
+	public void parseRangeTest() {
+		assertArrayEquals(new long[] { 0, 99 }, AbstractWebEngineRestService.parseRange("bytes=0-99", 1000));
+		assertArrayEquals(new long[] { 500, 999 }, AbstractWebEngineRestService.parseRange("bytes=500-", 1000));
+		assertArrayEquals(new long[] { 900, 999 }, AbstractWebEngineRestService.parseRange("bytes=-100", 1000));
+		assertArrayEquals(new long[] { 900, 999 }, AbstractWebEngineRestService.parseRange("bytes=900-5000", 1000));
+		assertEquals(0, AbstractWebEngineRestService.parseRange("bytes=1000-", 1000).length);
+		assertNull(AbstractWebEngineRestService.parseRange("bytes=0-1,5-6", 1000));
+		assertNull(AbstractWebEngineRestService.parseRange("items=0-1", 1000));
+	}
+
 }
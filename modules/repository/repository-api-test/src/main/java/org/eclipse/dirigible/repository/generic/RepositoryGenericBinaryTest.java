@@ -10,11 +10,16 @@
  */
 package org.eclipse.dirigible.repository.generic;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -74,6 +79,52 @@ public class RepositoryGenericBinaryTest {
 		}
 	}
 
+	/**
+	 * Test stream binary.
+	 */
+	@Test
+	public void testStreamBinary() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			byte[] content = new byte[100000];
+			for (int i = 0; i < content.length; i++) {
+				content[i] = (byte) i;
+			}
+			try {
+				IResource resource = repository.createResource("/testCollection/toBeRemovedStream.bin", //$NON-NLS-1$
+						new ByteArrayInputStream(content), content.length, true, "application/bin", true); //$NON-NLS-1$
+				assertTrue(resource.exists());
+				assertArrayEquals(content, resource.getContent());
+				assertArrayEquals(content, readStream(resource));
+
+				byte[] changed = Arrays.copyOf(content, 1000);
+				resource.setContent(new ByteArrayInputStream(changed), -1);
+				resource = repository.getResource("/testCollection/toBeRemovedStream.bin"); //$NON-NLS-1$
+				assertArrayEquals(changed, readStream(resource));
+			} finally {
+				repository.removeResource("/testCollection/toBeRemovedStream.bin"); //$NON-NLS-1$
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	private byte[] readStream(IResource resource) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (InputStream input = resource.getContentStream()) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				output.write(buffer, 0, read);
+			}
+		}
+		return output.toByteArray();
+	}
+
 	/**
 	 * Test remove binary.
 	 */
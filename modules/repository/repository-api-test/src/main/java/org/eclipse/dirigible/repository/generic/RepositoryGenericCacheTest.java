@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.repository.generic;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -46,8 +47,14 @@ public class RepositoryGenericCacheTest {
 			assertNotNull(resource);
 			assertTrue(resource.exists());
 			assertFalse(resource.isBinary());
+			assertEquals("cached file", new String(resource.getContent()));
+			// the cached content is not shared with the caller
+			resource.getContent()[0] = 'X';
+			assertEquals("cached file", new String(resource.getContent()));
 
-			// TODO
+			// the writes are visible immediately
+			resource.setContent("changed file".getBytes());
+			assertEquals("changed file", new String(repository.getResource("/testCollection/toBeRemoved1Cached.txt").getContent()));
 
 		} catch (Exception e) {
 			e.printStackTrace();
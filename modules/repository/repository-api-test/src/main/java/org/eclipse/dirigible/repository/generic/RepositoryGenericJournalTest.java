@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.generic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryJournal;
+import org.junit.Test;
+
+/**
+ * The Class RepositoryGenericJournalTest.
+ */
+public class RepositoryGenericJournalTest {
+
+	/** The repository. */
+	protected IRepository repository;
+
+	/**
+	 * Test the changes recorded in the journal.
+	 */
+	@Test
+	public void testJournal() {
+		if (repository == null) {
+			return;
+		}
+
+		RepositoryJournal journal = repository.getRepositoryJournal();
+		assertNotNull(journal);
+		long checkpoint = journal.getSequence();
+		try {
+			IResource resource = repository.createResource("/a/b/c/journal.txt", "first".getBytes(), false, //$NON-NLS-1$ //$NON-NLS-2$
+					"text/plain"); //$NON-NLS-1$
+			resource.setContent("second".getBytes()); //$NON-NLS-1$
+			repository.removeCollection("/a"); //$NON-NLS-1$
+
+			List<RepositoryJournal.Entry> entries = journal.getEntries(checkpoint);
+			assertNotNull(entries);
+			assertTrue(entries.size() >= 3);
+			assertEquals(journal.getSequence(), entries.get(entries.size() - 1).getSequence());
+			assertEquals("/a/b/c/journal.txt", entries.get(0).getPath()); //$NON-NLS-1$
+			assertEquals(RepositoryJournal.Kind.RESOURCE_CHANGED, entries.get(0).getKind());
+			assertEquals("/a", entries.get(entries.size() - 1).getPath()); //$NON-NLS-1$
+			assertEquals(RepositoryJournal.Kind.COLLECTION_REMOVED, entries.get(entries.size() - 1).getKind());
+			for (int i = 1; i < entries.size(); i++) {
+				assertEquals(entries.get(i - 1).getSequence() + 1, entries.get(i).getSequence());
+			}
+			// the changes through the resource itself are recorded with the repository path as well
+			assertTrue(entries.stream().anyMatch(entry -> (entry.getSequence() > entries.get(0).getSequence())
+					&& "/a/b/c/journal.txt".equals(entry.getPath()) && (entry.getKind() == RepositoryJournal.Kind.RESOURCE_CHANGED))); //$NON-NLS-1$
+			for (RepositoryJournal.Entry entry : entries) {
+				assertTrue(entry.getPath(), entry.getPath().startsWith("/a")); //$NON-NLS-1$
+			}
+
+			assertTrue(journal.getEntries(journal.getSequence()).isEmpty());
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the overflow of the journal.
+	 */
+	@Test
+	public void testJournalOverflow() {
+		RepositoryJournal journal = new RepositoryJournal(2);
+		journal.resourceChanged("/a"); //$NON-NLS-1$
+		journal.resourceChanged("/b"); //$NON-NLS-1$
+		journal.resourceRemoved("/c"); //$NON-NLS-1$
+		assertEquals(3, journal.getSequence());
+		assertNull(journal.getEntries(0));
+		List<RepositoryJournal.Entry> entries = journal.getEntries(1);
+		assertEquals(2, entries.size());
+		assertEquals("/b", entries.get(0).getPath()); //$NON-NLS-1$
+		assertEquals("/c", entries.get(1).getPath()); //$NON-NLS-1$
+		assertTrue(entries.get(1).getKind().isRemoval());
+	}
+
+}
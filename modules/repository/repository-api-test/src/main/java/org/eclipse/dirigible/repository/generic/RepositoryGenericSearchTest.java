@@ -210,4 +210,54 @@ public class RepositoryGenericSearchTest {
 		}
 	}
 
+	/**
+	 * Test search text after changes, which are indexed from the repository events without a refresh.
+	 */
+	@Test
+	public void testSearchTextIncremental() {
+		if (repository == null) {
+			return;
+		}
+
+		try {
+			IResource resource = repository.createResource("/testCollectionSearch/incremental1.txt", "quokka wombat".getBytes()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNotNull(resource);
+			assertEquals(1, searchText("quokka", 1).size()); //$NON-NLS-1$
+			assertEquals("/testCollectionSearch/incremental1.txt", searchText("quokka", 1).get(0).getPath()); //$NON-NLS-1$ //$NON-NLS-2$
+
+			resource.setContent("numbat wombat".getBytes()); //$NON-NLS-1$
+			assertEquals(1, searchText("numbat", 1).size()); //$NON-NLS-1$
+			assertEquals(0, searchText("quokka", 0).size()); //$NON-NLS-1$
+
+			repository.removeResource("/testCollectionSearch/incremental1.txt"); //$NON-NLS-1$
+			assertEquals(0, searchText("wombat", 0).size()); //$NON-NLS-1$
+
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Search the text, waiting for the changes to be indexed, until the expected number of results is found or a
+	 * timeout occurs.
+	 *
+	 * @param term
+	 *            the term
+	 * @param expected
+	 *            the expected number of results
+	 * @return the found entities
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	private List<IEntity> searchText(String term, int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		List<IEntity> entities = repository.searchText(term);
+		while ((entities.size() != expected) && (System.currentTimeMillis() < deadline)) {
+			Thread.sleep(100);
+			entities = repository.searchText(term);
+		}
+		return entities;
+	}
+
 }
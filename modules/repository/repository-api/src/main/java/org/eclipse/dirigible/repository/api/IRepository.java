@@ -37,4 +37,11 @@ public interface IRepository
 	/** Gets the internal named parameter value*/
 	public String getParameter(String key);
 
+	/**
+	 * Gets the journal of the changes made through this repository.
+	 *
+	 * @return the repository journal or null, if the repository does not keep one
+	 */
+	public RepositoryJournal getRepositoryJournal();
+
 }
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.api;
+
+/**
+ * The listener of the changes in a repository. It is notified synchronously, after the change has been made, by the
+ * thread which made it - hence the implementations should only record the change and process it later. A rename is
+ * notified as a removal of the old path followed by a change of the new one.
+ */
+public interface IRepositoryListener {
+
+	/**
+	 * A resource has been created or its content has been updated.
+	 *
+	 * @param path
+	 *            the path of the resource
+	 */
+	public void resourceChanged(String path);
+
+	/**
+	 * A resource has been removed.
+	 *
+	 * @param path
+	 *            the path of the resource
+	 */
+	public void resourceRemoved(String path);
+
+	/**
+	 * A collection has been created as a copy or has been renamed, so that all of its resources are new.
+	 *
+	 * @param path
+	 *            the path of the collection
+	 */
+	public void collectionChanged(String path);
+
+	/**
+	 * A collection has been removed together with all of its resources.
+	 *
+	 * @param path
+	 *            the path of the collection
+	 */
+	public void collectionRemoved(String path);
+
+}
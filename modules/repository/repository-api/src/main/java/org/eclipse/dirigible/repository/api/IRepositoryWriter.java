@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
+
 /**
  * This interface represents a Repository. It allows for querying, modifying and
  * navigating through collections and resources.
@@ -115,6 +117,32 @@ public interface IRepositoryWriter {
 	public IResource createResource(String path, byte[] content, boolean isBinary, String contentType, boolean override)
 			throws RepositoryWriteException;
 
+	/**
+	 * This method creates a new, or override resource at the specified path with
+	 * the content read from a stream, which is read to its end, but is not closed.
+	 * <p>
+	 * The returned value is an instance of <code>IResource</code> that
+	 * represents the newly created resource.
+	 *
+	 * @param path
+	 *            the {@link IResource} location
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if it is not known in advance
+	 * @param isBinary
+	 *            whether it is binary
+	 * @param contentType
+	 *            the type of the content
+	 * @param override
+	 *            whether to override existing
+	 * @return an {@link IResource} instance
+	 * @throws RepositoryWriteException
+	 *             in case the {@link IResource} cannot be created
+	 */
+	public IResource createResource(String path, InputStream content, long length, boolean isBinary, String contentType, boolean override)
+			throws RepositoryWriteException;
+
 	/**
 	 * This method removes the resource at the specified path from the
 	 * repository.
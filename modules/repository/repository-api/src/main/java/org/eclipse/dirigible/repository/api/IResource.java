@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -54,6 +55,44 @@ public interface IResource extends IEntity {
 	 */
 	public void setContent(byte[] content, boolean isBinary, String contentType) throws RepositoryWriteException;
 
+	/**
+	 * Returns the content of the resource as a stream, which has to be closed by the caller. Unlike
+	 * {@link #getContent()}, the content is read on demand instead of being loaded in memory as a whole.
+	 *
+	 * @return the content stream
+	 * @throws RepositoryReadException
+	 *             in case the content cannot be retrieved
+	 */
+	public InputStream getContentStream() throws RepositoryReadException;
+
+	/**
+	 * Sets this resource's content from a stream, which is read to its end, but is not closed.
+	 *
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if it is not known in advance
+	 * @throws RepositoryWriteException
+	 *             the repository write exception
+	 */
+	public void setContent(InputStream content, long length) throws RepositoryWriteException;
+
+	/**
+	 * Sets this resource's content from a stream, which is read to its end, but is not closed.
+	 *
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if it is not known in advance
+	 * @param isBinary
+	 *            whether it is binary
+	 * @param contentType
+	 *            the type of the content
+	 * @throws RepositoryWriteException
+	 *             the repository write exception
+	 */
+	public void setContent(InputStream content, long length, boolean isBinary, String contentType) throws RepositoryWriteException;
+
 	/**
 	 * Getter for binary flag.
 	 *
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * The journal of the changes made in a repository - a bounded sequence of entries with monotonically increasing
+ * numbers, so that its consumers can process only the changes made after their last checkpoint. The oldest entries are
+ * dropped, when the maximum size is reached, in which case the consumers, which have not caught up, have to fall back
+ * to a full scan of the repository. The journal is kept in memory, hence it contains only the changes made through the
+ * repository instances in the current process.
+ */
+public class RepositoryJournal implements IRepositoryListener {
+
+	/** The Constant DIRIGIBLE_REPOSITORY_JOURNAL_SIZE. */
+	public static final String DIRIGIBLE_REPOSITORY_JOURNAL_SIZE = "DIRIGIBLE_REPOSITORY_JOURNAL_SIZE"; //$NON-NLS-1$
+
+	private static final int DEFAULT_SIZE = 10000;
+
+	private final Entry[] entries;
+
+	private long sequence;
+
+	/**
+	 * Instantiates a new repository journal with the configured size.
+	 */
+	public RepositoryJournal() {
+		this(Integer.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_JOURNAL_SIZE, Integer.toString(DEFAULT_SIZE))));
+	}
+
+	/**
+	 * Instantiates a new repository journal.
+	 *
+	 * @param size
+	 *            the maximum number of the entries kept
+	 */
+	public RepositoryJournal(int size) {
+		this.entries = new Entry[Math.max(1, size)];
+	}
+
+	/**
+	 * Gets the number of the last entry.
+	 *
+	 * @return the sequence, 0 if there are no changes so far
+	 */
+	public synchronized long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Gets the entries after the given one.
+	 *
+	 * @param since
+	 *            the number of the last entry already processed
+	 * @return the entries in the order of the changes or null, if some of them have already been dropped
+	 */
+	public synchronized List<Entry> getEntries(long since) {
+		if ((since < 0) || (since > sequence) || ((sequence - since) > entries.length)) {
+			return null;
+		}
+		List<Entry> result = new ArrayList<Entry>((int) (sequence - since));
+		for (long i = since + 1; i <= sequence; i++) {
+			result.add(entries[(int) (i % entries.length)]);
+		}
+		return result;
+	}
+
+	/**
+	 * Appends an entry.
+	 *
+	 * @param path
+	 *            the path
+	 * @param kind
+	 *            the kind of the change
+	 */
+	private synchronized void append(String path, Kind kind) {
+		sequence++;
+		entries[(int) (sequence % entries.length)] = new Entry(sequence, path, kind);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceChanged(java.lang.String)
+	 */
+	@Override
+	public void resourceChanged(String path) {
+		append(path, Kind.RESOURCE_CHANGED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceRemoved(java.lang.String)
+	 */
+	@Override
+	public void resourceRemoved(String path) {
+		append(path, Kind.RESOURCE_REMOVED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionChanged(java.lang.String)
+	 */
+	@Override
+	public void collectionChanged(String path) {
+		append(path, Kind.COLLECTION_CHANGED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionRemoved(java.lang.String)
+	 */
+	@Override
+	public void collectionRemoved(String path) {
+		append(path, Kind.COLLECTION_REMOVED);
+	}
+
+	/**
+	 * The kind of a change - a creation and an update are not told apart.
+	 */
+	public enum Kind {
+
+		/** A resource has been created or updated. */
+		RESOURCE_CHANGED,
+
+		/** A resource has been removed. */
+		RESOURCE_REMOVED,
+
+		/** A collection has been created with its resources. */
+		COLLECTION_CHANGED,
+
+		/** A collection has been removed with its resources. */
+		COLLECTION_REMOVED;
+
+		/**
+		 * Checks if it is a removal.
+		 *
+		 * @return true, if it is a removal
+		 */
+		public boolean isRemoval() {
+			return (this == RESOURCE_REMOVED) || (this == COLLECTION_REMOVED);
+		}
+
+	}
+
+	/**
+	 * An entry of the journal.
+	 */
+	public static class Entry {
+
+		private final long sequence;
+
+		private final String path;
+
+		private final Kind kind;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param sequence
+		 *            the sequence
+		 * @param path
+		 *            the path
+		 * @param kind
+		 *            the kind
+		 */
+		Entry(long sequence, String path, Kind kind) {
+			this.sequence = sequence;
+			this.path = path;
+			this.kind = kind;
+		}
+
+		/**
+		 * Gets the number of the entry.
+		 *
+		 * @return the sequence
+		 */
+		public long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * Gets the path of the changed resource or collection.
+		 *
+		 * @return the path
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Gets the kind of the change.
+		 *
+		 * @return the kind
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.api;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The listeners registered to a repository. The notifications are dispatched to each of them in turn - a failing
+ * listener is logged and does not affect the others, nor the change itself.
+ */
+public class RepositoryListeners implements IRepositoryListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(RepositoryListeners.class);
+
+	private final List<IRepositoryListener> listeners = new CopyOnWriteArrayList<IRepositoryListener>();
+
+	/**
+	 * Adds a listener.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public void add(IRepositoryListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public void remove(IRepositoryListener listener) {
+		listeners.remove(listener);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceChanged(java.lang.String)
+	 */
+	@Override
+	public void resourceChanged(String path) {
+		for (IRepositoryListener listener : listeners) {
+			try {
+				listener.resourceChanged(path);
+			} catch (RuntimeException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceRemoved(java.lang.String)
+	 */
+	@Override
+	public void resourceRemoved(String path) {
+		for (IRepositoryListener listener : listeners) {
+			try {
+				listener.resourceRemoved(path);
+			} catch (RuntimeException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionChanged(java.lang.String)
+	 */
+	@Override
+	public void collectionChanged(String path) {
+		for (IRepositoryListener listener : listeners) {
+			try {
+				listener.collectionChanged(path);
+			} catch (RuntimeException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionRemoved(java.lang.String)
+	 */
+	@Override
+	public void collectionRemoved(String path) {
+		for (IRepositoryListener listener : listeners) {
+			try {
+				listener.collectionRemoved(path);
+			} catch (RuntimeException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+}
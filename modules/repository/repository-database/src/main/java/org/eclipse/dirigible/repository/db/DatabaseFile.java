@@ -10,6 +10,7 @@
  */
 package org.eclipse.dirigible.repository.db;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 
 /**
@@ -110,6 +111,35 @@ public class DatabaseFile extends DatabaseObject {
 		}
 	}
 
+	/**
+	 * Gets the data as a stream.
+	 *
+	 * @return the data stream, which has to be closed by the caller
+	 * @throws DatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public InputStream getDataStream() throws DatabaseRepositoryException {
+		return getRepository().getRepositoryDao().getFileContentStream(this);
+	}
+
+	/**
+	 * Sets the data from a stream.
+	 *
+	 * @param content
+	 *            the new data stream
+	 * @param length
+	 *            the length of the data or -1, if not known
+	 * @throws DatabaseRepositoryException
+	 *             the local repository exception
+	 */
+	public void setData(InputStream content, long length) throws DatabaseRepositoryException {
+		try {
+			getRepository().getRepositoryDao().setFileContent(this, content, length);
+		} catch (SQLException e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Checks if is binary.
 	 *
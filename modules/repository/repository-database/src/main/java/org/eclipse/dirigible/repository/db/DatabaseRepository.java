@@ -11,6 +11,7 @@
 package org.eclipse.dirigible.repository.db;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -29,6 +30,8 @@ import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
+import org.eclipse.dirigible.repository.api.RepositoryJournal;
+import org.eclipse.dirigible.repository.api.RepositoryListeners;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.eclipse.dirigible.repository.api.RepositorySearchException;
@@ -58,6 +61,10 @@ public class DatabaseRepository implements IRepository {
 	private DatabaseRepositoryDao databaseRepositoryDao;
 
 	private RepositorySearcher repositorySearcher;
+
+	private final RepositoryListeners repositoryListeners = new RepositoryListeners();
+
+	private final RepositoryJournal repositoryJournal = new RepositoryJournal();
 	
 	private Map<String, String> parameters = Collections.synchronizedMap(new HashMap<>());
 
@@ -72,6 +79,8 @@ public class DatabaseRepository implements IRepository {
 	public DatabaseRepository(DataSource datasource) throws DatabaseRepositoryException {
 		this.databaseRepositoryDao = new DatabaseRepositoryDao(this, datasource);
 		this.repositorySearcher = new RepositorySearcher(this);
+		this.repositoryListeners.add(this.repositorySearcher);
+		this.repositoryListeners.add(this.repositoryJournal);
 	}
 
 	public DatabaseRepositoryDao getRepositoryDao() {
@@ -192,6 +201,20 @@ public class DatabaseRepository implements IRepository {
 		return resource;
 	}
 
+	@Override
+	public IResource createResource(String path, InputStream content, long length, boolean isBinary, String contentType, boolean override)
+			throws RepositoryWriteException {
+		logger.trace("entering createResource with Content Stream"); //$NON-NLS-1$
+		try {
+			getRepositoryDao().createFile(path, content, length, isBinary, contentType, override);
+		} catch (DatabaseRepositoryException e) {
+			throw new RepositoryWriteException(e);
+		}
+		final IResource resource = getResource(path);
+		logger.trace("exiting createResource with Content Stream"); //$NON-NLS-1$
+		return resource;
+	}
+
 	@Override
 	public void removeResource(String path) throws RepositoryWriteException {
 		logger.trace("entering removeResource"); //$NON-NLS-1$
@@ -311,6 +334,24 @@ public class DatabaseRepository implements IRepository {
 		}
 	}
 	
+	/**
+	 * Gets the listeners of the changes in the repository.
+	 *
+	 * @return the repository listeners
+	 */
+	public RepositoryListeners getRepositoryListeners() {
+		return repositoryListeners;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepository#getRepositoryJournal()
+	 */
+	@Override
+	public RepositoryJournal getRepositoryJournal() {
+		return repositoryJournal;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IRepository#getParameter(java.lang.String)
 	 */
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.repository.db;
 
 import static java.text.MessageFormat.format;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -185,6 +186,51 @@ public class DatabaseResource extends DatabaseEntity implements IResource {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentStream()
+	 */
+	@Override
+	public InputStream getContentStream() throws RepositoryReadException {
+		final DatabaseFile document = getDocumentSafe();
+		try {
+			return document.getDataStream();
+		} catch (DatabaseRepositoryException ex) {
+			throw new RepositoryReadException("Could not read resource content.", ex);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long)
+	 */
+	@Override
+	public void setContent(InputStream content, long length) throws RepositoryWriteException {
+		String type = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(getName()));
+		setContent(content, length, ContentTypeHelper.isBinary(type), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long, boolean, java.lang.String)
+	 */
+	@Override
+	public void setContent(InputStream content, long length, boolean isBinary, String contentType) throws RepositoryWriteException {
+
+		this.binary = isBinary;
+		this.contentType = contentType;
+
+		try {
+			if (exists()) {
+				getDocumentSafe().setData(content, length);
+			} else {
+				getRepository().getRepositoryDao().createFile(getPath(), content, length, isBinary, contentType);
+			}
+		} catch (DatabaseRepositoryException ex) {
+			throw new RepositoryWriteException("Could not update document.", ex);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.local.LocalEntity#equals(java.lang.Object)
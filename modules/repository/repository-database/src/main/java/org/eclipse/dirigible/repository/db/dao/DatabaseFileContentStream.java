@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.db.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+/**
+ * The content of a file read from the database on demand or from its spooled copy. The statement the content is read
+ * through or the spooled copy stay until the stream is closed.
+ */
+class DatabaseFileContentStream extends FilterInputStream {
+
+	private static final String SPOOL_PREFIX = "dirigible-content"; //$NON-NLS-1$
+
+	private final AutoCloseable resource;
+
+	private boolean closed;
+
+	/**
+	 * Instantiates a new database file content stream.
+	 *
+	 * @param content
+	 *            the content
+	 * @param resource
+	 *            the statement or the spooled copy to be closed together with the stream
+	 */
+	DatabaseFileContentStream(InputStream content, AutoCloseable resource) {
+		super(content);
+		this.resource = resource;
+	}
+
+	/**
+	 * Reads the content to its end, so that the connection it is read through can be released before the content is
+	 * consumed by a possibly slow client. A content up to the memory limit is kept in memory, while a bigger one is
+	 * spooled to a temporary file, which is deleted when the returned stream is closed.
+	 *
+	 * @param content
+	 *            the content, which is not closed
+	 * @param memoryLimit
+	 *            the maximum size of a content kept in memory
+	 * @return the spooled content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	static InputStream spool(InputStream content, long memoryLimit) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		int read;
+		while ((read = content.read(chunk)) != -1) {
+			buffer.write(chunk, 0, read);
+			if (buffer.size() > memoryLimit) {
+				File file = File.createTempFile(SPOOL_PREFIX, null);
+				try {
+					try (OutputStream output = new FileOutputStream(file)) {
+						buffer.writeTo(output);
+						while ((read = content.read(chunk)) != -1) {
+							output.write(chunk, 0, read);
+						}
+					}
+					return new DatabaseFileContentStream(new FileInputStream(file), () -> Files.deleteIfExists(file.toPath()));
+				} catch (IOException | RuntimeException e) {
+					Files.deleteIfExists(file.toPath());
+					throw e;
+				}
+			}
+		}
+		return new ByteArrayInputStream(buffer.toByteArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.FilterInputStream#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			super.close();
+		} finally {
+			try {
+				resource.close();
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,519 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.db.dao;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+
+/**
+ * Size bounded LRU cache of the definitions and the contents of the files and the folders of a database repository.
+ * The writes made through the repository invalidate the affected entries immediately, while the changes made by the
+ * other nodes of a cluster are detected by checking the modification time of an entry, once its validation interval
+ * has passed. The entries of the missing paths are kept as well, so that the existence checks are served from the
+ * cache too. The entries are indexed by path as well, so that an invalidation looks up only the affected path, its
+ * descendants and its ancestors instead of scanning the whole cache.
+ */
+public class DatabaseRepositoryCache {
+
+	/** The maximum total size of the cached entries in bytes, 0 disables the cache. */
+	public static final String DIRIGIBLE_REPOSITORY_DATABASE_CACHE_SIZE = "DIRIGIBLE_REPOSITORY_DATABASE_CACHE_SIZE"; //$NON-NLS-1$
+
+	/** The maximum size of the cached content of a single file in bytes. */
+	public static final String DIRIGIBLE_REPOSITORY_DATABASE_CACHE_ENTRY_SIZE = "DIRIGIBLE_REPOSITORY_DATABASE_CACHE_ENTRY_SIZE"; //$NON-NLS-1$
+
+	/** The time in milliseconds an entry is served without checking its modification time. */
+	public static final String DIRIGIBLE_REPOSITORY_DATABASE_CACHE_VALIDATION_INTERVAL = "DIRIGIBLE_REPOSITORY_DATABASE_CACHE_VALIDATION_INTERVAL"; //$NON-NLS-1$
+
+	private static final String DEFAULT_SIZE = "33554432"; //$NON-NLS-1$
+
+	private static final String DEFAULT_ENTRY_SIZE = "1048576"; //$NON-NLS-1$
+
+	private static final String DEFAULT_VALIDATION_INTERVAL = "5000"; //$NON-NLS-1$
+
+	/** The number of the recent invalidations checked against the entries loaded meanwhile. */
+	private static final int INVALIDATIONS_HISTORY_SIZE = 1024;
+
+	private final long maxSize;
+
+	private final long maxEntrySize;
+
+	private final long validationInterval;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true);
+
+	private final TreeMap<String, Entry> index = new TreeMap<String, Entry>();
+
+	private final ArrayDeque<Invalidation> invalidations = new ArrayDeque<Invalidation>();
+
+	private long size;
+
+	private long generation;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Instantiates a new database repository cache with the configured limits.
+	 */
+	public DatabaseRepositoryCache() {
+		this(Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_DATABASE_CACHE_SIZE, DEFAULT_SIZE)),
+				Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_DATABASE_CACHE_ENTRY_SIZE, DEFAULT_ENTRY_SIZE)),
+				Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_DATABASE_CACHE_VALIDATION_INTERVAL, DEFAULT_VALIDATION_INTERVAL)));
+	}
+
+	/**
+	 * Instantiates a new database repository cache.
+	 *
+	 * @param maxSize
+	 *            the maximum total size of the cached entries in bytes
+	 * @param maxEntrySize
+	 *            the maximum size of the cached content of a single file in bytes
+	 * @param validationInterval
+	 *            the time in milliseconds an entry is served without checking its modification time
+	 */
+	public DatabaseRepositoryCache(long maxSize, long maxEntrySize, long validationInterval) {
+		this.maxSize = maxSize;
+		this.maxEntrySize = maxEntrySize;
+		this.validationInterval = validationInterval;
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Gets the entry, if it is still valid.
+	 *
+	 * @param path
+	 *            the path
+	 * @param withContent
+	 *            whether the content is needed
+	 * @return the entry or null, if it has to be loaded or validated
+	 */
+	public Entry get(String path, boolean withContent) {
+		Entry entry = peek(path);
+		if ((entry != null) && ((System.currentTimeMillis() - entry.getValidatedAt()) < validationInterval)
+				&& (!withContent || entry.hasContent())) {
+			hits.incrementAndGet();
+			return entry;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Gets the entry regardless of its validity.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the entry or null
+	 */
+	public Entry peek(String path) {
+		synchronized (entries) {
+			return entries.get(path);
+		}
+	}
+
+	/**
+	 * Gets the generation of the cache, which changes on each invalidation. The entries loaded before an invalidation
+	 * of the same path, of an ancestor or of a descendant are not put in the cache, as they may have been loaded before
+	 * the change. The entries of the unrelated paths are still put.
+	 *
+	 * @return the generation
+	 */
+	public long getGeneration() {
+		synchronized (entries) {
+			return generation;
+		}
+	}
+
+	/**
+	 * Put the entry loaded from the database. The content is dropped, if it is bigger than the maximum entry size.
+	 *
+	 * @param path
+	 *            the path
+	 * @param definition
+	 *            the definition or null, if there is no such file or folder
+	 * @param content
+	 *            the content or null, if not loaded
+	 * @param loadedGeneration
+	 *            the generation of the cache before the loading
+	 */
+	public void put(String path, DatabaseFileDefinition definition, byte[] content, long loadedGeneration) {
+		if (!isEnabled()) {
+			return;
+		}
+		if ((content != null) && (content.length > maxEntrySize)) {
+			content = null;
+		}
+		Entry entry = new Entry(definition, content, System.currentTimeMillis(), path.length());
+		synchronized (entries) {
+			if ((loadedGeneration != generation) && isInvalidatedSince(path, loadedGeneration)) {
+				return;
+			}
+			Entry previous = entries.put(path, entry);
+			index.put(path, entry);
+			if (previous != null) {
+				size -= previous.getWeight();
+			}
+			size += entry.getWeight();
+			Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+			while ((size > maxSize) && iterator.hasNext()) {
+				Map.Entry<String, Entry> eldest = iterator.next();
+				if (eldest.getValue() == entry) {
+					continue;
+				}
+				size -= eldest.getValue().getWeight();
+				index.remove(eldest.getKey());
+				iterator.remove();
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the path has been affected by an invalidation after the given generation. If the history of the
+	 * invalidations does not reach that far, it is assumed to be affected.
+	 *
+	 * @param path
+	 *            the path
+	 * @param loadedGeneration
+	 *            the generation of the cache before the loading
+	 * @return true, if the path may have been changed since the loading
+	 */
+	private boolean isInvalidatedSince(String path, long loadedGeneration) {
+		if (invalidations.isEmpty() || (invalidations.peekFirst().getGeneration() > (loadedGeneration + 1))) {
+			return true;
+		}
+		Iterator<Invalidation> iterator = invalidations.descendingIterator();
+		while (iterator.hasNext()) {
+			Invalidation invalidation = iterator.next();
+			if (invalidation.getGeneration() <= loadedGeneration) {
+				break;
+			}
+			if (isAffected(invalidation.getPath(), path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Invalidate the entries of the path, of the paths under it and of its ancestors, whose existence it may have
+	 * changed.
+	 *
+	 * @param path
+	 *            the path
+	 */
+	public void invalidate(String path) {
+		synchronized (entries) {
+			generation++;
+			invalidations.addLast(new Invalidation(path, generation));
+			if (invalidations.size() > INVALIDATIONS_HISTORY_SIZE) {
+				invalidations.removeFirst();
+			}
+			if (IRepository.SEPARATOR.equals(path)) {
+				entries.clear();
+				index.clear();
+				size = 0;
+				return;
+			}
+			// the descendants are the keys between "path/" and "path0", as '0' follows the separator
+			String from = path + IRepository.SEPARATOR;
+			String to = path + (char) (IRepository.SEPARATOR.charAt(0) + 1);
+			Iterator<String> descendants = index.subMap(from, to).keySet().iterator();
+			while (descendants.hasNext()) {
+				remove(descendants.next());
+				descendants.remove();
+			}
+			for (String current = path; current != null; current = getParentPath(current)) {
+				if (index.remove(current) != null) {
+					remove(current);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry of the path from the access ordered entries, the caller has to remove it from the index.
+	 *
+	 * @param path
+	 *            the path
+	 */
+	private void remove(String path) {
+		Entry removed = entries.remove(path);
+		if (removed != null) {
+			size -= removed.getWeight();
+		}
+	}
+
+	/**
+	 * Gets the path of the parent collection.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the parent path or null for the root
+	 */
+	private static String getParentPath(String path) {
+		if (IRepository.SEPARATOR.equals(path)) {
+			return null;
+		}
+		int index = path.lastIndexOf(IRepository.SEPARATOR);
+		return (index > 0) ? path.substring(0, index) : IRepository.SEPARATOR;
+	}
+
+	/**
+	 * Checks whether the invalidation of the first path affects the entry of the second one.
+	 *
+	 * @param invalidated
+	 *            the invalidated path
+	 * @param path
+	 *            the path of the entry
+	 * @return true, if the paths are the same or one of them is an ancestor of the other
+	 */
+	private static boolean isAffected(String invalidated, String path) {
+		return invalidated.equals(path) || isAncestor(invalidated, path) || isAncestor(path, invalidated);
+	}
+
+	/**
+	 * Checks whether the first path is an ancestor of the second one.
+	 *
+	 * @param ancestor
+	 *            the ancestor candidate
+	 * @param path
+	 *            the path
+	 * @return true, if it is an ancestor
+	 */
+	private static boolean isAncestor(String ancestor, String path) {
+		if (IRepository.SEPARATOR.equals(ancestor)) {
+			return true;
+		}
+		return path.startsWith(ancestor) && (path.length() > ancestor.length())
+				&& (path.charAt(ancestor.length()) == IRepository.SEPARATOR.charAt(0));
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			generation++;
+			invalidations.clear();
+			entries.clear();
+			index.clear();
+			size = 0;
+		}
+	}
+
+	/**
+	 * Gets the number of the cached entries.
+	 *
+	 * @return the count
+	 */
+	public int getCount() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Gets the total weight of the cached entries in bytes.
+	 *
+	 * @return the size
+	 */
+	public long getSize() {
+		synchronized (entries) {
+			return size;
+		}
+	}
+
+	/**
+	 * Gets the number of the lookups served from the cache.
+	 *
+	 * @return the hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of the lookups not served from the cache.
+	 *
+	 * @return the misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the number of the entries evicted due to the size limit.
+	 *
+	 * @return the evictions
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * An invalidation of a path.
+	 */
+	private static class Invalidation {
+
+		private final String path;
+
+		private final long generation;
+
+		/**
+		 * Instantiates a new invalidation.
+		 *
+		 * @param path
+		 *            the path
+		 * @param generation
+		 *            the generation of the cache after the invalidation
+		 */
+		Invalidation(String path, long generation) {
+			this.path = path;
+			this.generation = generation;
+		}
+
+		/**
+		 * Gets the path.
+		 *
+		 * @return the path
+		 */
+		String getPath() {
+			return path;
+		}
+
+		/**
+		 * Gets the generation.
+		 *
+		 * @return the generation
+		 */
+		long getGeneration() {
+			return generation;
+		}
+
+	}
+
+	/**
+	 * The cached state of a path.
+	 */
+	public static class Entry {
+
+		private final DatabaseFileDefinition definition;
+
+		private final byte[] content;
+
+		private final long validatedAt;
+
+		private final int pathLength;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param definition
+		 *            the definition or null
+		 * @param content
+		 *            the content or null
+		 * @param validatedAt
+		 *            the time of the last loading or validation
+		 * @param pathLength
+		 *            the length of the path
+		 */
+		Entry(DatabaseFileDefinition definition, byte[] content, long validatedAt, int pathLength) {
+			this.definition = definition;
+			this.content = content;
+			this.validatedAt = validatedAt;
+			this.pathLength = pathLength;
+		}
+
+		/**
+		 * Gets the definition.
+		 *
+		 * @return the definition or null, if there is no such file or folder
+		 */
+		public DatabaseFileDefinition getDefinition() {
+			return definition;
+		}
+
+		/**
+		 * Gets the content.
+		 *
+		 * @return the content or null, if not cached
+		 */
+		public byte[] getContent() {
+			return content;
+		}
+
+		/**
+		 * Checks whether the content is cached. The content of a missing file or of a folder is known to be null.
+		 *
+		 * @return true, if the content is known
+		 */
+		public boolean hasContent() {
+			return (content != null) || (definition == null) || (definition.getType() == DatabaseFileDefinition.OBJECT_TYPE_FOLDER);
+		}
+
+		/**
+		 * Gets the time of the last loading or validation.
+		 *
+		 * @return the validated at
+		 */
+		public long getValidatedAt() {
+			return validatedAt;
+		}
+
+		/**
+		 * Checks whether the entry is of the same version as the given definition.
+		 *
+		 * @param other
+		 *            the definition
+		 * @return true, if the type and the modification time are the same
+		 */
+		public boolean isSameVersion(DatabaseFileDefinition other) {
+			if ((definition == null) || (other == null)) {
+				return false;
+			}
+			return (definition.getType() == other.getType()) && (definition.getModifiedAt() == other.getModifiedAt());
+		}
+
+		/**
+		 * Gets the weight of the entry in the cache.
+		 *
+		 * @return the weight in bytes
+		 */
+		long getWeight() {
+			long weight = 256 + (pathLength * 4L);
+			if (content != null) {
+				weight += content.length;
+			}
+			return weight;
+		}
+
+	}
+
+}
@@ -10,7 +10,9 @@
  */
 package org.eclipse.dirigible.repository.db.dao;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -24,6 +26,7 @@ import javax.sql.DataSource;
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
@@ -51,6 +54,11 @@ public class DatabaseRepositoryDao {
 
 	private static final Logger logger = LoggerFactory.getLogger(DatabaseRepositoryDao.class);
 
+	/** The maximum size in bytes of a content streamed from memory, a bigger one is spooled to a temporary file. */
+	public static final String DIRIGIBLE_REPOSITORY_DATABASE_STREAM_MEMORY_LIMIT = "DIRIGIBLE_REPOSITORY_DATABASE_STREAM_MEMORY_LIMIT"; //$NON-NLS-1$
+
+	private static final String DEFAULT_STREAM_MEMORY_LIMIT = "1048576"; //$NON-NLS-1$
+
 	private static final String LAST = "last";
 
 	private static final String MODIFIED_AT = "modifiedAt";
@@ -73,6 +81,11 @@ public class DatabaseRepositoryDao {
 	@Inject
 	private DataSource datasource;
 
+	private final DatabaseRepositoryCache cache = new DatabaseRepositoryCache();
+
+	private final long streamMemoryLimit = Long
+			.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_DATABASE_STREAM_MEMORY_LIMIT, DEFAULT_STREAM_MEMORY_LIMIT));
+
 	/**
 	 * Instantiates a new database repository dao.
 	 */
@@ -102,6 +115,15 @@ public class DatabaseRepositoryDao {
 		return this.repository;
 	}
 
+	/**
+	 * Gets the cache of the definitions and the contents of the files.
+	 *
+	 * @return the cache
+	 */
+	public DatabaseRepositoryCache getCache() {
+		return cache;
+	}
+
 	/**
 	 * Creates the file.
 	 *
@@ -146,8 +168,69 @@ public class DatabaseRepositoryDao {
 					DatabaseRepositoryUtils.saveFile(connection, path, content, isBinary, contentType);
 				} finally {
 					closeConnection(connection);
+					cache.invalidate(path);
 				}
 				createVersion(path, content);
+				getRepository().getRepositoryListeners().resourceChanged(path);
+			}
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Creates the file from a stream.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if not known
+	 * @param isBinary
+	 *            the is binary
+	 * @param contentType
+	 *            the content type
+	 * @throws DatabaseRepositoryException
+	 *             the database repository exception
+	 */
+	public void createFile(String path, InputStream content, long length, boolean isBinary, String contentType) throws DatabaseRepositoryException {
+		createFile(path, content, length, isBinary, contentType, true);
+	}
+
+	/**
+	 * Creates the file from a stream.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if not known
+	 * @param isBinary
+	 *            the is binary
+	 * @param contentType
+	 *            the content type
+	 * @param override
+	 *            to override if exist
+	 * @throws DatabaseRepositoryException
+	 *             the database repository exception
+	 */
+	public void createFile(String path, InputStream content, long length, boolean isBinary, String contentType, boolean override)
+			throws DatabaseRepositoryException {
+		try {
+			if (!fileExists(path) || override) {
+				Connection connection = null;
+				try {
+					connection = openConnection();
+					ensureFoldersCreated(path);
+					DatabaseRepositoryUtils.saveFile(connection, path, content, length, isBinary, contentType);
+				} finally {
+					closeConnection(connection);
+					cache.invalidate(path);
+				}
+				createVersion(path);
+				getRepository().getRepositoryListeners().resourceChanged(path);
 			}
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -196,6 +279,25 @@ public class DatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Creates the version from the current content of the file.
+	 *
+	 * @param path
+	 *            the workspace path
+	 * @throws SQLException
+	 *             on sql error
+	 */
+	private void createVersion(String path) throws SQLException {
+		Connection connection = null;
+		try {
+			connection = openConnection();
+			int version = DatabaseRepositoryUtils.getLastFileVersion(connection, path);
+			DatabaseRepositoryUtils.saveFileVersion(connection, path, ++version);
+		} finally {
+			closeConnection(connection);
+		}
+	}
+
 	/**
 	 * Removes the versions.
 	 *
@@ -242,8 +344,39 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.saveFile(connection, databaseFile.getPath(), content, databaseFile.isBinary(), databaseFile.getContentType());
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(workspacePath);
 			}
 			createVersion(workspacePath, content);
+			getRepository().getRepositoryListeners().resourceChanged(workspacePath);
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Sets the file content from a stream.
+	 *
+	 * @param databaseFile
+	 *            the database file
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if not known
+	 * @throws SQLException
+	 */
+	public void setFileContent(DatabaseFile databaseFile, InputStream content, long length) throws SQLException {
+		try {
+			String workspacePath = databaseFile.getPath();
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				DatabaseRepositoryUtils.saveFile(connection, workspacePath, content, length, databaseFile.isBinary(), databaseFile.getContentType());
+			} finally {
+				closeConnection(connection);
+				cache.invalidate(workspacePath);
+			}
+			createVersion(workspacePath);
+			getRepository().getRepositoryListeners().resourceChanged(workspacePath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -259,6 +392,9 @@ public class DatabaseRepositoryDao {
 	public byte[] getFileContent(DatabaseFile databaseFile) {
 		try {
 			String workspacePath = databaseFile.getPath();
+			if (cache.isEnabled()) {
+				return copyContent(getCachedFileContent(workspacePath));
+			}
 			Connection connection = null;
 			try {
 				connection = openConnection();
@@ -271,6 +407,88 @@ public class DatabaseRepositoryDao {
 		}
 	}
 
+	/**
+	 * Gets the file content as a stream. A cached content is served from memory, otherwise it is read from the database
+	 * without being cached. The connection is released once the content is read, so a big content is spooled to a
+	 * temporary file instead of keeping the connection for as long as the stream is consumed.
+	 *
+	 * @param databaseFile
+	 *            the database file
+	 * @return the file content stream, which has to be closed by the caller, or null if there is no such file
+	 */
+	public InputStream getFileContentStream(DatabaseFile databaseFile) {
+		try {
+			String workspacePath = databaseFile.getPath();
+			if (cache.isEnabled()) {
+				DatabaseRepositoryCache.Entry entry = cache.get(workspacePath, true);
+				if (entry != null) {
+					return (entry.getContent() != null) ? new ByteArrayInputStream(entry.getContent()) : null;
+				}
+			}
+			Connection connection = null;
+			try {
+				connection = openConnection();
+				InputStream content = DatabaseRepositoryUtils.loadFileStream(connection, workspacePath);
+				if (content == null) {
+					return null;
+				}
+				try {
+					return DatabaseFileContentStream.spool(content, streamMemoryLimit);
+				} finally {
+					content.close();
+				}
+			} finally {
+				closeConnection(connection);
+			}
+		} catch (Exception e) {
+			throw new DatabaseRepositoryException(e);
+		}
+	}
+
+	/**
+	 * Gets the file content through the cache. The content of a cached entry, which validity has expired, is reused, if
+	 * the file has not been modified in the meantime.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the file content
+	 * @throws SQLException
+	 */
+	private byte[] getCachedFileContent(String path) throws SQLException {
+		DatabaseRepositoryCache.Entry entry = cache.get(path, true);
+		if (entry != null) {
+			return entry.getContent();
+		}
+		long generation = cache.getGeneration();
+		Connection connection = null;
+		try {
+			connection = openConnection();
+			DatabaseFileDefinition fileDefinition = DatabaseRepositoryUtils.getFile(connection, path);
+			DatabaseRepositoryCache.Entry previous = cache.peek(path);
+			byte[] content;
+			if ((previous != null) && (previous.getContent() != null) && previous.isSameVersion(fileDefinition)) {
+				content = previous.getContent();
+			} else {
+				content = DatabaseRepositoryUtils.loadFile(connection, path);
+			}
+			cache.put(path, fileDefinition, content, generation);
+			return content;
+		} finally {
+			closeConnection(connection);
+		}
+	}
+
+	/**
+	 * Copy the content, so that the cached one cannot be modified by the caller.
+	 *
+	 * @param content
+	 *            the content
+	 * @return the copy
+	 */
+	private byte[] copyContent(byte[] content) {
+		return (content != null) ? content.clone() : null;
+	}
+
 	/**
 	 * Rename file.
 	 *
@@ -290,11 +508,15 @@ public class DatabaseRepositoryDao {
 				content = DatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(path);
+				cache.invalidate(newPath);
 			}
 			if (content != null) {
 				createVersion(newPath, content);
 				removeVersions(path);
 			}
+			getRepository().getRepositoryListeners().resourceRemoved(path);
+			getRepository().getRepositoryListeners().resourceChanged(newPath);
 
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
@@ -320,10 +542,12 @@ public class DatabaseRepositoryDao {
 				content = DatabaseRepositoryUtils.loadFile(connection, newPath);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(newPath);
 			}
 			if (content != null) {
 				createVersion(newPath, content);
 			}
+			getRepository().getRepositoryListeners().resourceChanged(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -344,8 +568,10 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.removeFile(connection, path);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(path);
 			}
 			removeVersions(path);
+			getRepository().getRepositoryListeners().resourceRemoved(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -366,8 +592,10 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.removeFile(connection, path);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(path);
 			}
 			removeVersions(path);
+			getRepository().getRepositoryListeners().collectionRemoved(path);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -388,6 +616,7 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.createFolder(connection, path);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(path);
 			}
 		} catch (RepositoryWriteException e) {
 			throw new DatabaseRepositoryException(e);
@@ -411,8 +640,12 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.moveFile(connection, path, newPath);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(path);
+				cache.invalidate(newPath);
 			}
 			removeVersions(newPath);
+			getRepository().getRepositoryListeners().collectionRemoved(path);
+			getRepository().getRepositoryListeners().collectionChanged(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -437,7 +670,9 @@ public class DatabaseRepositoryDao {
 				DatabaseRepositoryUtils.copyFolder(connection, path, newPath);
 			} finally {
 				closeConnection(connection);
+				cache.invalidate(newPath);
 			}
+			getRepository().getRepositoryListeners().collectionChanged(newPath);
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
@@ -453,51 +688,15 @@ public class DatabaseRepositoryDao {
 	 * @throws SQLException
 	 */
 	public DatabaseObject getObjectByPath(String path) throws SQLException {
-		DatabaseObject databaseObject = null;
 		try {
-			if (fileExists(path)) {
-				String contentType = ContentTypeHelper.getContentType(FilenameUtils.getExtension(path));
-				databaseObject = new DatabaseFile(repository, ContentTypeHelper.isBinary(contentType), contentType);
-			} else {
-				databaseObject = new DatabaseFolder(repository);
-			}
-			String name = path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1);
-			databaseObject.setName(name);
-			databaseObject.setPath(path);
-
-			if (fileExists(path)) {
-				try {
-					Connection connection = null;
-					try {
-						connection = openConnection();
-						DatabaseFileDefinition fileDefinition = DatabaseRepositoryUtils.getFile(connection, path);
-						databaseObject.setCreatedBy(fileDefinition.getCreatedBy());
-						long prop = fileDefinition.getCreatedAt();
-						if (prop != 0) {
-							databaseObject.setCreatedAt(new Date(prop));
-						}
-						databaseObject.setModifiedBy(fileDefinition.getModifiedBy());
-						prop = fileDefinition.getModifiedAt();
-						if (prop != 0) {
-							databaseObject.setModifiedAt(new Date(prop));
-						}
-					} finally {
-						closeConnection(connection);
-					}
-				} catch (Throwable e) {
-					throw new DatabaseRepositoryException(e);
-				}
-			}
-
+			return createObject(path, getFileDefinition(path));
 		} catch (Exception e) {
 			throw new DatabaseRepositoryException(e);
 		}
-		return databaseObject;
-
 	}
 
 	/**
-	 * Gets the children by folder.
+	 * Gets the children by folder. They are built from the rows of a single query, instead of looking up each of them.
 	 *
 	 * @param path
 	 *            the path
@@ -509,10 +708,12 @@ public class DatabaseRepositoryDao {
 		try {
 			Connection connection = null;
 			try {
+				long generation = cache.getGeneration();
 				connection = openConnection();
 				List<DatabaseFileDefinition> definitions = DatabaseRepositoryUtils.findChildren(connection, path);
 				for (DatabaseFileDefinition definition : definitions) {
-					databaseObjects.add(getObjectByPath(definition.getPath()));
+					databaseObjects.add(createObject(definition.getPath(), definition));
+					cacheFileDefinition(definition.getPath(), definition, generation);
 				}
 			} finally {
 				closeConnection(connection);
@@ -524,6 +725,83 @@ public class DatabaseRepositoryDao {
 		return databaseObjects;
 	}
 
+	/**
+	 * Gets the definition of the file or the folder through the cache.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the definition or null, if there is no such file or folder
+	 * @throws SQLException
+	 */
+	private DatabaseFileDefinition getFileDefinition(String path) throws SQLException {
+		DatabaseRepositoryCache.Entry entry = cache.get(path, false);
+		if (entry != null) {
+			return entry.getDefinition();
+		}
+		long generation = cache.getGeneration();
+		Connection connection = null;
+		try {
+			connection = openConnection();
+			DatabaseFileDefinition fileDefinition = DatabaseRepositoryUtils.getFile(connection, path);
+			cacheFileDefinition(path, fileDefinition, generation);
+			return fileDefinition;
+		} finally {
+			closeConnection(connection);
+		}
+	}
+
+	/**
+	 * Cache the definition of the file or the folder, keeping the cached content, if it is of the same version.
+	 *
+	 * @param path
+	 *            the path
+	 * @param fileDefinition
+	 *            the file definition
+	 * @param generation
+	 *            the generation of the cache before the loading
+	 */
+	private void cacheFileDefinition(String path, DatabaseFileDefinition fileDefinition, long generation) {
+		DatabaseRepositoryCache.Entry previous = cache.peek(path);
+		byte[] content = ((previous != null) && previous.isSameVersion(fileDefinition)) ? previous.getContent() : null;
+		cache.put(path, fileDefinition, content, generation);
+	}
+
+	/**
+	 * Creates the object from its definition.
+	 *
+	 * @param path
+	 *            the path
+	 * @param fileDefinition
+	 *            the file definition or null, if there is no such object
+	 * @return the object - a folder, if it is not a file
+	 */
+	private DatabaseObject createObject(String path, DatabaseFileDefinition fileDefinition) {
+		DatabaseObject databaseObject = null;
+		if ((fileDefinition != null) && (fileDefinition.getType() != DatabaseFileDefinition.OBJECT_TYPE_FOLDER)) {
+			String contentType = ContentTypeHelper.getContentType(FilenameUtils.getExtension(path));
+			databaseObject = new DatabaseFile(repository, ContentTypeHelper.isBinary(contentType), contentType);
+		} else {
+			databaseObject = new DatabaseFolder(repository);
+		}
+		String name = path.substring(path.lastIndexOf(IRepository.SEPARATOR) + 1);
+		databaseObject.setName(name);
+		databaseObject.setPath(path);
+
+		if (fileDefinition != null) {
+			databaseObject.setCreatedBy(fileDefinition.getCreatedBy());
+			long prop = fileDefinition.getCreatedAt();
+			if (prop != 0) {
+				databaseObject.setCreatedAt(new Date(prop));
+			}
+			databaseObject.setModifiedBy(fileDefinition.getModifiedBy());
+			prop = fileDefinition.getModifiedAt();
+			if (prop != 0) {
+				databaseObject.setModifiedAt(new Date(prop));
+			}
+		}
+		return databaseObject;
+	}
+
 	/**
 	 * Gets the resource versions by path.
 	 *
@@ -735,13 +1013,8 @@ public class DatabaseRepositoryDao {
 	 *             in case of an error
 	 */
 	public boolean folderExists(String path) throws SQLException {
-		Connection connection = null;
-		try {
-			connection = openConnection();
-			return DatabaseRepositoryUtils.existsFolder(connection, path);
-		} finally {
-			closeConnection(connection);
-		}
+		DatabaseFileDefinition fileDefinition = getFileDefinition(path);
+		return (fileDefinition != null) && (fileDefinition.getType() == DatabaseFileDefinition.OBJECT_TYPE_FOLDER);
 	}
 
 	/**
@@ -754,13 +1027,8 @@ public class DatabaseRepositoryDao {
 	 *             in case of an error
 	 */
 	public boolean fileExists(String path) throws SQLException {
-		Connection connection = null;
-		try {
-			connection = openConnection();
-			return DatabaseRepositoryUtils.existsFile(connection, path);
-		} finally {
-			closeConnection(connection);
-		}
+		DatabaseFileDefinition fileDefinition = getFileDefinition(path);
+		return (fileDefinition != null) && (fileDefinition.getType() != DatabaseFileDefinition.OBJECT_TYPE_FOLDER);
 	}
 
 	/**
@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.repository.db.dao;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -48,6 +50,110 @@ public class DatabaseRepositoryUtils {
 	 *            the content type
 	 */
 	public static void saveFile(Connection connection, String path, byte[] content, boolean isBinary, String contentType) {
+		saveFileDefinition(connection, path, isBinary, contentType);
+
+		DatabaseFileContentDefinition databaseFileContentDefinition = persistenceManagerFilesContent.find(connection,
+				DatabaseFileContentDefinition.class, path);
+		if (databaseFileContentDefinition != null) {
+			databaseFileContentDefinition.setContent(content);
+			persistenceManagerFilesContent.update(connection, databaseFileContentDefinition);
+		} else {
+			databaseFileContentDefinition = new DatabaseFileContentDefinition();
+			databaseFileContentDefinition.setPath(path);
+			databaseFileContentDefinition.setContent(content);
+			persistenceManagerFilesContent.insert(connection, databaseFileContentDefinition);
+		}
+
+	}
+
+	/**
+	 * Saves a file from a stream, which is bound to the statement as is, so that the content is not loaded in memory
+	 * as a whole.
+	 *
+	 * @param connection
+	 *            the underlying connection
+	 * @param path
+	 *            the path of the file
+	 * @param content
+	 *            the content stream
+	 * @param length
+	 *            the length of the content or -1, if not known
+	 * @param isBinary
+	 *            whether the file is binary
+	 * @param contentType
+	 *            the content type
+	 * @throws SQLException
+	 *             in case of an error
+	 */
+	public static void saveFile(Connection connection, String path, InputStream content, long length, boolean isBinary, String contentType)
+			throws SQLException {
+		saveFileDefinition(connection, path, isBinary, contentType);
+
+		persistenceManagerFilesContent.tableCheck(connection, DatabaseFileContentDefinition.class);
+		String sql;
+		if (existsFileContent(connection, path)) {
+			sql = SqlFactory.getNative(connection).update().table("DIRIGIBLE_FILES_CONTENT").set("FILE_CONTENT", "?").where("FILE_PATH = ?")
+					.build();
+		} else {
+			sql = SqlFactory.getNative(connection).insert().into("DIRIGIBLE_FILES_CONTENT").column("FILE_CONTENT").column("FILE_PATH").build();
+		}
+		PreparedStatement statement = null;
+		try {
+			statement = connection.prepareStatement(sql);
+			InputStream stream = (content != null) ? content : new ByteArrayInputStream(new byte[] {});
+			if (length >= 0) {
+				statement.setBinaryStream(1, stream, length);
+			} else {
+				statement.setBinaryStream(1, stream);
+			}
+			statement.setString(2, path);
+			statement.executeUpdate();
+		} finally {
+			if (statement != null) {
+				statement.close();
+			}
+		}
+	}
+
+	/**
+	 * Whether there is a content stored for the file
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param path
+	 *            the path
+	 * @return true if exists and false otherwise
+	 * @throws SQLException
+	 *             in case of an error
+	 */
+	private static boolean existsFileContent(Connection connection, String path) throws SQLException {
+		String sql = SqlFactory.getNative(connection).select().column("COUNT(*)").from("DIRIGIBLE_FILES_CONTENT").where("FILE_PATH = ?").build();
+		PreparedStatement statement = null;
+		try {
+			statement = connection.prepareStatement(sql);
+			statement.setString(1, path);
+			ResultSet rs = statement.executeQuery();
+			return rs.next() && (rs.getInt(1) > 0);
+		} finally {
+			if (statement != null) {
+				statement.close();
+			}
+		}
+	}
+
+	/**
+	 * Saves the definition of a file, creating it if it does not exist yet
+	 *
+	 * @param connection
+	 *            the underlying connection
+	 * @param path
+	 *            the path of the file
+	 * @param isBinary
+	 *            whether the file is binary
+	 * @param contentType
+	 *            the content type
+	 */
+	private static void saveFileDefinition(Connection connection, String path, boolean isBinary, String contentType) {
 		String username = UserFacade.getName();
 		DatabaseFileDefinition file = persistenceManagerFiles.find(connection, DatabaseFileDefinition.class, path);
 		if ((file != null) && (file.getType() != DatabaseFileDefinition.OBJECT_TYPE_FOLDER)) {
@@ -69,19 +175,6 @@ public class DatabaseRepositoryUtils {
 			file.setModifiedBy(username);
 			persistenceManagerFiles.insert(connection, file);
 		}
-
-		DatabaseFileContentDefinition databaseFileContentDefinition = persistenceManagerFilesContent.find(connection,
-				DatabaseFileContentDefinition.class, path);
-		if (databaseFileContentDefinition != null) {
-			databaseFileContentDefinition.setContent(content);
-			persistenceManagerFilesContent.update(connection, databaseFileContentDefinition);
-		} else {
-			databaseFileContentDefinition = new DatabaseFileContentDefinition();
-			databaseFileContentDefinition.setPath(path);
-			databaseFileContentDefinition.setContent(content);
-			persistenceManagerFilesContent.insert(connection, databaseFileContentDefinition);
-		}
-
 	}
 
 	/**
@@ -120,6 +213,41 @@ public class DatabaseRepositoryUtils {
 		return null;
 	}
 
+	/**
+	 * Loads a file as a stream read from the database on demand
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param path
+	 *            the path
+	 * @return the content stream, which has to be closed before the connection, or null if there is no such file
+	 * @throws SQLException
+	 *             in case of an error
+	 */
+	public static InputStream loadFileStream(Connection connection, String path) throws SQLException {
+		persistenceManagerFilesContent.tableCheck(connection, DatabaseFileContentDefinition.class);
+		String sql = SqlFactory.getNative(connection).select().column("FILE_CONTENT").from("DIRIGIBLE_FILES_CONTENT").where("FILE_PATH = ?")
+				.build();
+		PreparedStatement statement = connection.prepareStatement(sql);
+		try {
+			statement.setString(1, path);
+			ResultSet rs = statement.executeQuery();
+			if (rs.next()) {
+				InputStream content = rs.getBinaryStream(1);
+				if (content != null) {
+					return new DatabaseFileContentStream(content, statement);
+				}
+				statement.close();
+				return new ByteArrayInputStream(new byte[] {});
+			}
+			statement.close();
+			return null;
+		} catch (SQLException | RuntimeException e) {
+			statement.close();
+			throw e;
+		}
+	}
+
 	/**
 	 * Moves the file
 	 *
@@ -448,6 +576,60 @@ public class DatabaseRepositoryUtils {
 
 	}
 
+	/**
+	 * Stores a version with the current content of the file, which is streamed from the file to the version without
+	 * being loaded in memory as a whole. The copy is done in a single transaction, as the large objects read through a
+	 * connection are valid only within the transaction they are read in.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param path
+	 *            the path
+	 * @param version
+	 *            the version
+	 * @throws SQLException
+	 *             in case of an error
+	 */
+	public static void saveFileVersion(Connection connection, String path, int version) throws SQLException {
+		boolean autoCommit = connection.getAutoCommit();
+		if (autoCommit) {
+			connection.setAutoCommit(false);
+		}
+		try {
+			saveFileVersion(connection, path, version, null);
+			String select = SqlFactory.getNative(connection).select().column("FILE_CONTENT").from("DIRIGIBLE_FILES_CONTENT").where("FILE_PATH = ?")
+					.build();
+			String update = SqlFactory.getNative(connection).update().table("DIRIGIBLE_FILES_VERSIONS").set("FILE_CONTENT", "?")
+					.where("FILE_PATH = ? AND FILE_VERSION = ?").build();
+			try (PreparedStatement selectStatement = connection.prepareStatement(select)) {
+				selectStatement.setString(1, path);
+				try (ResultSet rs = selectStatement.executeQuery()) {
+					InputStream content = rs.next() ? rs.getBinaryStream(1) : null;
+					if (content != null) {
+						try (PreparedStatement updateStatement = connection.prepareStatement(update)) {
+							updateStatement.setBinaryStream(1, content);
+							updateStatement.setString(2, path);
+							updateStatement.setInt(3, version);
+							updateStatement.executeUpdate();
+						}
+					}
+				}
+			}
+			if (autoCommit) {
+				connection.commit();
+			}
+		} catch (SQLException | RuntimeException e) {
+			if (autoCommit) {
+				connection.rollback();
+			}
+			throw e;
+		} finally {
+			if (autoCommit) {
+				connection.setAutoCommit(true);
+			}
+		}
+	}
+
 	/**
 	 * Removes all the file versions
 	 *
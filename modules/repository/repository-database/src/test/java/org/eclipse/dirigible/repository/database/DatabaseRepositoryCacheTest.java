@@ -10,13 +10,19 @@
  */
 package org.eclipse.dirigible.repository.database;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import javax.sql.DataSource;
 
+import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.db.DatabaseRepository;
+import org.eclipse.dirigible.repository.db.dao.DatabaseRepositoryCache;
 import org.eclipse.dirigible.repository.generic.RepositoryGenericCacheTest;
 import org.junit.Before;
+import org.junit.Test;
 
 /**
  * The Class DatabaseRepositoryCacheTest.
@@ -37,4 +43,75 @@ public class DatabaseRepositoryCacheTest extends RepositoryGenericCacheTest {
 		}
 	}
 
+	/**
+	 * Test cache hits.
+	 */
+	@Test
+	public void testCacheHits() {
+		DatabaseRepositoryCache cache = ((DatabaseRepository) repository).getRepositoryDao().getCache();
+		try {
+			IResource resource = repository.createResource("/testCollection/toBeRemoved2Cached.txt", "cached file".getBytes()); //$NON-NLS-1$
+			try {
+				resource.getContent();
+				long hits = cache.getHits();
+				long misses = cache.getMisses();
+				// the definition and the content lookups are both served from the cache
+				assertEquals("cached file", new String(resource.getContent()));
+				assertEquals(hits + 2, cache.getHits());
+				assertEquals(misses, cache.getMisses());
+			} finally {
+				repository.removeResource("/testCollection/toBeRemoved2Cached.txt"); //$NON-NLS-1$
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test cache eviction and invalidation.
+	 */
+	@Test
+	public void testCacheEviction() {
+		DatabaseRepositoryCache cache = new DatabaseRepositoryCache(1000, 500, 60000);
+		cache.put("/a", null, new byte[400], cache.getGeneration());
+		cache.put("/b", null, new byte[400], cache.getGeneration());
+		assertNull(cache.peek("/a"));
+		assertNotNull(cache.peek("/b"));
+		assertEquals(1, cache.getEvictions());
+
+		// the content bigger than the maximum entry size is not kept
+		cache.put("/c", null, new byte[600], cache.getGeneration());
+		assertNull(cache.peek("/c").getContent());
+
+		cache.clear();
+		cache.put("/x", null, null, cache.getGeneration());
+		cache.put("/x/y", null, null, cache.getGeneration());
+		cache.put("/xy", null, null, cache.getGeneration());
+		cache.invalidate("/x/y/z");
+		assertNull(cache.peek("/x"));
+		assertNull(cache.peek("/x/y"));
+		assertNotNull(cache.peek("/xy"));
+
+		// the entries loaded before an invalidation are not kept
+		long generation = cache.getGeneration();
+		cache.invalidate("/b");
+		cache.put("/b", null, null, generation);
+		assertNull(cache.peek("/b"));
+
+		// while the ones of the unrelated paths are
+		generation = cache.getGeneration();
+		cache.invalidate("/b");
+		cache.put("/x/z", null, null, generation);
+		assertNotNull(cache.peek("/x/z"));
+		cache.put("/b/c", null, null, generation);
+		assertNull(cache.peek("/b/c"));
+
+		// the invalidation of the root affects all the entries
+		cache.invalidate("/");
+		assertNull(cache.peek("/x/z"));
+		assertEquals(0, cache.getCount());
+		assertEquals(0, cache.getSize());
+	}
+
 }
@@ -0,0 +1,530 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The in-memory index of the paths of the files of a file system repository - a trie of the path segments with sorted
+ * children, which answers the name and path searches and the listings without walking the file system. The index is
+ * built on first use by listing the folders in parallel, and is kept current by the changes made through the
+ * repository instances sharing it. The changes made directly on the file system are picked up by comparing the
+ * modification times of the indexed folders, once the validation interval has passed, so that only the changed
+ * folders are listed again. The published nodes are not modified, so the searches read them without locking, and the
+ * folders are listed without holding the lock taken by the changes.
+ */
+public class FileSystemPathIndex implements IRepositoryListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileSystemPathIndex.class);
+
+	/** The time in milliseconds the index is used without checking the folders for changes made on the file system. */
+	public static final String DIRIGIBLE_REPOSITORY_LOCAL_INDEX_VALIDATION_INTERVAL = "DIRIGIBLE_REPOSITORY_LOCAL_INDEX_VALIDATION_INTERVAL"; //$NON-NLS-1$
+
+	private static final String DEFAULT_VALIDATION_INTERVAL = "5000"; //$NON-NLS-1$
+
+	/** The modification times within this margin of the listing of a folder are not trusted due to their granularity. */
+	private static final long MODIFICATION_TIME_MARGIN = 2000;
+
+	private static final Map<String, FileSystemPathIndex> INDEXES = new ConcurrentHashMap<String, FileSystemPathIndex>();
+
+	private final String rootPath;
+
+	private final long validationInterval;
+
+	// the published nodes are never modified - the changes copy the nodes on the path to the changed folder
+	private volatile Node root;
+
+	private long validatedAt;
+
+	// the changes made while the index is being built or validated, applied to the new root before it is published
+	private List<UnaryOperator<Node>> pending;
+
+	/**
+	 * Gets the index shared by the repository instances with the given root folder.
+	 *
+	 * @param rootPath
+	 *            the root folder of the repository
+	 * @return the index
+	 */
+	public static FileSystemPathIndex get(String rootPath) {
+		return INDEXES.computeIfAbsent(rootPath,
+				path -> new FileSystemPathIndex(path, Long.parseLong(Configuration.get(DIRIGIBLE_REPOSITORY_LOCAL_INDEX_VALIDATION_INTERVAL,
+						DEFAULT_VALIDATION_INTERVAL))));
+	}
+
+	/**
+	 * Instantiates a new path index.
+	 *
+	 * @param rootPath
+	 *            the root folder of the repository
+	 * @param validationInterval
+	 *            the time in milliseconds the index is used without checking the folders for changes
+	 */
+	public FileSystemPathIndex(String rootPath, long validationInterval) {
+		this.rootPath = rootPath;
+		this.validationInterval = validationInterval;
+	}
+
+	/**
+	 * Search the files under the given folder, which names match the wildcard.
+	 *
+	 * @param folder
+	 *            the repository or the workspace path of the folder
+	 * @param wildcard
+	 *            the wildcard
+	 * @param ioCase
+	 *            the case sensitivity
+	 * @return the repository paths of the matching files
+	 */
+	public List<String> search(String folder, String wildcard, IOCase ioCase) {
+		Node current = ensureCurrent();
+		List<String> paths = new ArrayList<String>();
+		List<String> segments = toSegments(folder);
+		Node node = find(current, segments, segments.size());
+		if (node != null) {
+			StringBuilder path = new StringBuilder();
+			for (String segment : segments) {
+				path.append(IRepository.SEPARATOR).append(segment);
+			}
+			collect(node, path, wildcard, ioCase, paths);
+		}
+		return paths;
+	}
+
+	/**
+	 * Builds the index on first use and picks up the changes made on the file system, once the validation interval has
+	 * passed. The folders are walked outside of the lock, so that the changes through the repository are not blocked
+	 * meanwhile - they are recorded and applied to the new root before it is published. While a validation is in
+	 * progress, the other searches use the current root.
+	 *
+	 * @return the current root
+	 */
+	private Node ensureCurrent() {
+		Node indexed;
+		long now;
+		synchronized (this) {
+			while ((root == null) && (pending != null)) {
+				// the index is being built by another search
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(e);
+				}
+			}
+			now = System.currentTimeMillis();
+			if ((root != null) && ((pending != null) || ((now - validatedAt) < validationInterval))) {
+				return root;
+			}
+			indexed = root;
+			pending = new ArrayList<UnaryOperator<Node>>();
+		}
+		Node current = null;
+		boolean walked = false;
+		try {
+			current = ForkJoinPool.commonPool().invoke(new FolderTask(Paths.get(rootPath), indexed));
+			walked = true;
+		} finally {
+			synchronized (this) {
+				if (!walked) {
+					current = indexed;
+				}
+				if (current == null) {
+					current = new Node(0, 0);
+				}
+				for (UnaryOperator<Node> change : pending) {
+					current = change.apply(current);
+				}
+				root = current;
+				validatedAt = now;
+				pending = null;
+				notifyAll();
+			}
+		}
+		return current;
+	}
+	/**
+	 * Collects the matching files under the node.
+	 *
+	 * @param node
+	 *            the node
+	 * @param path
+	 *            the repository path of the node
+	 * @param wildcard
+	 *            the wildcard
+	 * @param ioCase
+	 *            the case sensitivity
+	 * @param paths
+	 *            the collected paths
+	 */
+	private static void collect(Node node, StringBuilder path, String wildcard, IOCase ioCase, List<String> paths) {
+		int length = path.length();
+		for (String file : node.files) {
+			if (FilenameUtils.wildcardMatch(file, wildcard, ioCase)) {
+				paths.add(path.append(IRepository.SEPARATOR).append(file).toString());
+				path.setLength(length);
+			}
+		}
+		for (Map.Entry<String, Node> folder : node.folders.entrySet()) {
+			collect(folder.getValue(), path.append(IRepository.SEPARATOR).append(folder.getKey()), wildcard, ioCase, paths);
+			path.setLength(length);
+		}
+	}
+
+	/**
+	 * Splits the path into segments relative to the root folder.
+	 *
+	 * @param path
+	 *            the repository or the workspace path
+	 * @return the segments
+	 */
+	private List<String> toSegments(String path) {
+		String relative = path.startsWith(rootPath) ? path.substring(rootPath.length()) : path;
+		relative = relative.replace(File.separator, IRepository.SEPARATOR);
+		List<String> segments = new ArrayList<String>();
+		for (String segment : relative.split(IRepository.SEPARATOR)) {
+			if (!segment.isEmpty()) {
+				segments.add(segment);
+			}
+		}
+		return segments;
+	}
+
+	/**
+	 * Finds the node of the folder given by the first segments.
+	 *
+	 * @param node
+	 *            the root node
+	 * @param segments
+	 *            the segments
+	 * @param count
+	 *            the number of the segments to follow
+	 * @return the node or null, if there is no such folder
+	 */
+	private static Node find(Node node, List<String> segments, int count) {
+		for (int i = 0; (node != null) && (i < count); i++) {
+			node = node.folders.get(segments.get(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Copies the nodes on the path to the folder given by the first segments and applies the change to the copy of the
+	 * folder. The missing folders are created - they are listed again on the next validation.
+	 *
+	 * @param node
+	 *            the node
+	 * @param segments
+	 *            the segments
+	 * @param index
+	 *            the index of the segment of the child to follow
+	 * @param count
+	 *            the number of the segments to follow
+	 * @param change
+	 *            the change of the copy of the folder
+	 * @return the copy of the node
+	 */
+	private static Node update(Node node, List<String> segments, int index, int count, Consumer<Node> change) {
+		Node copy = node.copy();
+		if (index == count) {
+			change.accept(copy);
+			return copy;
+		}
+		String name = segments.get(index);
+		Node child = node.folders.get(name);
+		if (child == null) {
+			child = new Node(0, 0);
+			copy.files.remove(name);
+		}
+		copy.folders.put(name, update(child, segments, index + 1, count, change));
+		return copy;
+	}
+
+	/**
+	 * Applies the change to the current root and records it, if the index is being built or validated meanwhile. The
+	 * changes made before the index is used for the first time are ignored, as the folders are listed then anyway.
+	 *
+	 * @param change
+	 *            the change
+	 */
+	private synchronized void apply(UnaryOperator<Node> change) {
+		if (root != null) {
+			root = change.apply(root);
+		}
+		if (pending != null) {
+			pending.add(change);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceChanged(java.lang.String)
+	 */
+	@Override
+	public void resourceChanged(String path) {
+		List<String> segments = toSegments(path);
+		if (segments.isEmpty()) {
+			return;
+		}
+		String name = segments.get(segments.size() - 1);
+		apply(current -> update(current, segments, 0, segments.size() - 1, parent -> {
+			parent.folders.remove(name);
+			parent.files.add(name);
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceRemoved(java.lang.String)
+	 */
+	@Override
+	public void resourceRemoved(String path) {
+		List<String> segments = toSegments(path);
+		if (segments.isEmpty()) {
+			return;
+		}
+		String name = segments.get(segments.size() - 1);
+		apply(current -> {
+			Node parent = find(current, segments, segments.size() - 1);
+			if ((parent == null) || !parent.files.contains(name)) {
+				return current;
+			}
+			return update(current, segments, 0, segments.size() - 1, copy -> copy.files.remove(name));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionChanged(java.lang.String)
+	 */
+	@Override
+	public void collectionChanged(String path) {
+		if ((root == null) && !isBuilding()) {
+			return;
+		}
+		List<String> segments = toSegments(path);
+		// the changed folder is listed outside of the lock
+		Node node = ForkJoinPool.commonPool().invoke(new FolderTask(Paths.get(rootPath, segments.toArray(new String[segments.size()])), null));
+		if (segments.isEmpty()) {
+			apply(current -> (node != null) ? node : new Node(0, 0));
+			return;
+		}
+		String name = segments.get(segments.size() - 1);
+		apply(current -> update(current, segments, 0, segments.size() - 1, parent -> {
+			if (node != null) {
+				parent.files.remove(name);
+				parent.folders.put(name, node);
+			} else {
+				parent.folders.remove(name);
+			}
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionRemoved(java.lang.String)
+	 */
+	@Override
+	public void collectionRemoved(String path) {
+		List<String> segments = toSegments(path);
+		if (segments.isEmpty()) {
+			apply(current -> new Node(0, 0));
+			return;
+		}
+		String name = segments.get(segments.size() - 1);
+		apply(current -> {
+			Node parent = find(current, segments, segments.size() - 1);
+			if ((parent == null) || !parent.folders.containsKey(name)) {
+				return current;
+			}
+			return update(current, segments, 0, segments.size() - 1, copy -> copy.folders.remove(name));
+		});
+	}
+
+	/**
+	 * Checks whether the index is being built or validated.
+	 *
+	 * @return true, if it is being built or validated
+	 */
+	private synchronized boolean isBuilding() {
+		return (pending != null);
+	}
+
+	/**
+	 * The indexed folder.
+	 */
+	private static final class Node {
+
+		private final Map<String, Node> folders;
+
+		private final TreeSet<String> files;
+
+		private final long modifiedAt;
+
+		private final long listedAt;
+
+		/**
+		 * Instantiates a new node.
+		 *
+		 * @param modifiedAt
+		 *            the modification time of the folder at its listing
+		 * @param listedAt
+		 *            the time of the listing
+		 */
+		Node(long modifiedAt, long listedAt) {
+			this(modifiedAt, listedAt, new TreeMap<String, Node>(), new TreeSet<String>());
+		}
+
+		/**
+		 * Instantiates a new node.
+		 *
+		 * @param modifiedAt
+		 *            the modification time of the folder at its listing
+		 * @param listedAt
+		 *            the time of the listing
+		 * @param folders
+		 *            the subfolders
+		 * @param files
+		 *            the files
+		 */
+		private Node(long modifiedAt, long listedAt, Map<String, Node> folders, TreeSet<String> files) {
+			this.modifiedAt = modifiedAt;
+			this.listedAt = listedAt;
+			this.folders = folders;
+			this.files = files;
+		}
+
+		/**
+		 * Copies the node, so that the copy can be changed before it is published.
+		 *
+		 * @return the copy
+		 */
+		Node copy() {
+			return new Node(modifiedAt, listedAt, new TreeMap<String, Node>(folders), new TreeSet<String>(files));
+		}
+
+		/**
+		 * Checks whether the folder has not changed since its listing.
+		 *
+		 * @param currentModifiedAt
+		 *            the current modification time of the folder
+		 * @return true, if the listing is still valid
+		 */
+		boolean isValid(long currentModifiedAt) {
+			return (currentModifiedAt == modifiedAt) && (modifiedAt < (listedAt - MODIFICATION_TIME_MARGIN));
+		}
+
+	}
+
+	/**
+	 * Lists a folder or validates its indexed node, forking a task per subfolder.
+	 */
+	private static final class FolderTask extends RecursiveTask<Node> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path folder;
+
+		private final Node indexed;
+
+		/**
+		 * Instantiates a new folder task.
+		 *
+		 * @param folder
+		 *            the folder
+		 * @param indexed
+		 *            the indexed node of the folder or null, if it has to be listed
+		 */
+		FolderTask(Path folder, Node indexed) {
+			this.folder = folder;
+			this.indexed = indexed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Node compute() {
+			BasicFileAttributes attributes;
+			try {
+				attributes = Files.readAttributes(folder, BasicFileAttributes.class);
+			} catch (IOException e) {
+				return null;
+			}
+			if (!attributes.isDirectory()) {
+				return null;
+			}
+			long modifiedAt = attributes.lastModifiedTime().toMillis();
+			Map<String, FolderTask> subtasks = new LinkedHashMap<String, FolderTask>();
+			Node node;
+			if ((indexed != null) && indexed.isValid(modifiedAt)) {
+				// the indexed node is published already, so the new one gets its own maps
+				node = indexed.copy();
+				for (Map.Entry<String, Node> child : indexed.folders.entrySet()) {
+					subtasks.put(child.getKey(), new FolderTask(folder.resolve(child.getKey()), child.getValue()));
+				}
+			} else {
+				node = new Node(modifiedAt, System.currentTimeMillis());
+				try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+					for (Path child : stream) {
+						String name = child.getFileName().toString();
+						if (Files.isDirectory(child)) {
+							subtasks.put(name, new FolderTask(child, (indexed != null) ? indexed.folders.get(name) : null));
+						} else {
+							node.files.add(name);
+						}
+					}
+				} catch (IOException | DirectoryIteratorException e) {
+					logger.error(String.format("Error on listing the folder: %s", folder), e);
+				}
+			}
+			invokeAll(subtasks.values());
+			for (Map.Entry<String, FolderTask> subtask : subtasks.entrySet()) {
+				Node child = subtask.getValue().join();
+				if (child != null) {
+					node.folders.put(subtask.getKey(), child);
+				} else {
+					node.folders.remove(subtask.getKey());
+				}
+			}
+			return node;
+		}
+
+	}
+
+}
@@ -12,25 +12,21 @@ package org.eclipse.dirigible.repository.fs;
 
 import static org.apache.commons.io.IOCase.INSENSITIVE;
 import static org.apache.commons.io.IOCase.SENSITIVE;
-import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipInputStream;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.AgeFileFilter;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
@@ -39,6 +35,8 @@ import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
+import org.eclipse.dirigible.repository.api.RepositoryJournal;
+import org.eclipse.dirigible.repository.api.RepositoryListeners;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.eclipse.dirigible.repository.api.RepositorySearchException;
@@ -81,6 +79,9 @@ public abstract class FileSystemRepository implements IRepository {
 
 	private static final String PATH_SEGMENT_INFO = "info";
 
+	/** The journals shared by the repository instances with the same root folder, as they see each other's changes. */
+	private static final Map<String, RepositoryJournal> JOURNALS = new ConcurrentHashMap<String, RepositoryJournal>();
+
 	private String repositoryPath = IRepository.SEPARATOR;
 
 	private String versionsPath = IRepository.SEPARATOR;
@@ -90,6 +91,12 @@ public abstract class FileSystemRepository implements IRepository {
 	private LocalRepositoryDao repositoryDao;
 
 	private RepositorySearcher repositorySearcher;
+
+	private FileSystemPathIndex pathIndex;
+
+	private final RepositoryListeners repositoryListeners = new RepositoryListeners();
+
+	private RepositoryJournal repositoryJournal;
 	
 	private Map<String, String> parameters = Collections.synchronizedMap(new HashMap<>());
 
@@ -157,7 +164,18 @@ public abstract class FileSystemRepository implements IRepository {
 		logger.debug(String.format("Creating File-based Repository Client for: %s ...", root));
 		try {
 			initializeRepository(root);
+			if (this.repositoryJournal != null) {
+				this.repositoryListeners.remove(this.repositoryJournal);
+			}
+			this.repositoryJournal = JOURNALS.computeIfAbsent(repositoryPath, path -> new RepositoryJournal());
+			this.repositoryListeners.add(this.repositoryJournal);
+			if (this.pathIndex != null) {
+				this.repositoryListeners.remove(this.pathIndex);
+			}
+			this.pathIndex = FileSystemPathIndex.get(repositoryPath);
+			this.repositoryListeners.add(this.pathIndex);
 			this.repositorySearcher = new RepositorySearcher(this);
+			this.repositoryListeners.add(this.repositorySearcher);
 			this.setParameter(REPOSITORY_INDEX_FOLDER, this.repositorySearcher.getRoot());
 		} catch (IOException e) {
 			throw new LocalRepositoryException();
@@ -353,6 +371,26 @@ public abstract class FileSystemRepository implements IRepository {
 		return resource;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryWriter#createResource(java.lang.String, java.io.InputStream,
+	 * long, boolean, java.lang.String, boolean)
+	 */
+	@Override
+	public IResource createResource(String path, InputStream content, long length, boolean isBinary, String contentType, boolean override)
+			throws RepositoryWriteException {
+		logger.trace("entering createResource with Content Stream"); //$NON-NLS-1$
+		try {
+			final RepositoryPath wrapperPath = new RepositoryPath(path);
+			getRepositoryDao().createFile(wrapperPath.toString(), content, isBinary, contentType);
+		} catch (LocalRepositoryException e) {
+			throw new RepositoryWriteException(e);
+		}
+		final IResource resource = getResource(path);
+		logger.trace("exiting createResource with Content Stream"); //$NON-NLS-1$
+		return resource;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getResource(java.lang.String)
@@ -523,23 +561,12 @@ public abstract class FileSystemRepository implements IRepository {
 				return entities;
 			}
 
-			String rootRepositoryPath = getRepositoryPath();
-			File dir = new File(workspacePath);
-			Iterator<File> foundFiles = FileUtils.iterateFiles(dir,
-					new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-			while (foundFiles.hasNext()) {
-				File foundFile = foundFiles.next();
-				if (foundFile.getCanonicalPath().length() <= rootRepositoryPath.length()) {
-					throw new RepositorySearchException(String.format("The found file name [%s] is shorter than the repository root file name [%s]",
-							foundFile.getCanonicalPath(), rootRepositoryPath));
-				}
-				String repositoryName = foundFile.getCanonicalPath().substring(rootRepositoryPath.length());
-				RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-				entities.add(new LocalResource(this, localRepositoryPath));
+			for (String path : pathIndex.search(workspacePath, "*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE))) {
+				entities.add(new LocalResource(this, new RepositoryPath(path)));
 			}
 
 			return entities;
-		} catch (RepositoryWriteException | IOException e) {
+		} catch (RepositoryWriteException e) {
 			throw new RepositorySearchException(e);
 		}
 	}
@@ -550,22 +577,11 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public List<IEntity> searchPath(String parameter, boolean caseInsensitive) throws RepositorySearchException {
-		try {
-			String rootRepositoryPath = getRepositoryPath();
-			List<IEntity> entities = new ArrayList<IEntity>();
-			Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath),
-					new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
-			while (foundFiles.hasNext()) {
-				File foundFile = foundFiles.next();
-				String repositoryName = foundFile.getCanonicalPath().substring(getRepositoryPath().length());
-				RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-				entities.add(new LocalResource(this, localRepositoryPath));
-			}
-
-			return entities;
-		} catch (IOException e) {
-			throw new RepositorySearchException(e);
+		List<IEntity> entities = new ArrayList<IEntity>();
+		for (String path : pathIndex.search(IRepository.SEPARATOR, "*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE))) {
+			entities.add(new LocalResource(this, new RepositoryPath(path)));
 		}
+		return entities;
 	}
 
 	/*
@@ -617,62 +633,42 @@ public abstract class FileSystemRepository implements IRepository {
 	 */
 	@Override
 	public void cleanupOldVersions() throws RepositoryWriteException {
-		String versionsRoot = getVersionsPath();
-		synchronized (this.getClass()) {
-			GregorianCalendar last = new GregorianCalendar();
-			last.add(Calendar.WEEK_OF_YEAR, -1);
-			thresholdDate = last.getTime();
-			try {
-				cleanOlderFiles(new File(versionsRoot));
-			} catch (IOException e) {
-				throw new RepositoryWriteException(e);
-			}
+		GregorianCalendar last = new GregorianCalendar();
+		last.add(Calendar.WEEK_OF_YEAR, -1);
+		try {
+			repositoryDao.cleanupOldVersions(last.getTime());
+		} catch (LocalRepositoryException e) {
+			throw new RepositoryWriteException(e);
 		}
 	}
 
-	/** The threshold date. */
-	Date thresholdDate;
-
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getAllResourcePaths()
+	 */
+	@Override
+	public List<String> getAllResourcePaths() throws RepositoryReadException {
+		return pathIndex.search(IRepository.SEPARATOR, "*.*", INSENSITIVE);
+	}
+	
 	/**
-	 * Clean older files.
+	 * Gets the listeners of the changes in the repository.
 	 *
-	 * @param file
-	 *            the file
-	 * @throws IOException
+	 * @return the repository listeners
 	 */
-	private void cleanOlderFiles(File file) throws IOException {
-		Iterator<File> filesToBeDeleted = FileUtils.iterateFiles(file, new AgeFileFilter(thresholdDate), TRUE);
-		while (filesToBeDeleted.hasNext()) {
-			File toBeDeleted = filesToBeDeleted.next();
-			boolean deleted = toBeDeleted.delete();
-			if (!deleted) {
-				logger.error("Error on deleting the file: " + toBeDeleted.getCanonicalPath());
-			}
-		}
+	public RepositoryListeners getRepositoryListeners() {
+		return repositoryListeners;
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.eclipse.dirigible.repository.api.IRepositoryReader#getAllResourcePaths()
+	 * @see org.eclipse.dirigible.repository.api.IRepository#getRepositoryJournal()
 	 */
 	@Override
-	public List<String> getAllResourcePaths() throws RepositoryReadException {
-		try {
-			String rootRepositoryPath = getRepositoryPath();
-			List<String> paths = new ArrayList<String>();
-			Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath), new WildcardFileFilter("*.*", INSENSITIVE), TRUE);
-			while (foundFiles.hasNext()) {
-				File foundFile = foundFiles.next();
-				String repositoryName = foundFile.getCanonicalPath().substring(getRepositoryPath().length());
-				RepositoryPath localRepositoryPath = new RepositoryPath(repositoryName);
-				paths.add(localRepositoryPath.toString());
-			}
-			return paths;
-		} catch (IOException e) {
-			throw new RepositorySearchException(e);
-		}
+	public RepositoryJournal getRepositoryJournal() {
+		return repositoryJournal;
 	}
-	
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.api.IRepository#getParameter(java.lang.String)
 	 */
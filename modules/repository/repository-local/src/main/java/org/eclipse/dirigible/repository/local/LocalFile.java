@@ -10,6 +10,8 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 
 /**
@@ -94,6 +96,29 @@ public class LocalFile extends LocalObject {
 		getRepository().getRepositoryDao().setFileContent(this, content);
 	}
 
+	/**
+	 * Gets the data as a stream.
+	 *
+	 * @return the data stream, which has to be closed by the caller
+	 * @throws LocalRepositoryException
+	 *             the local repository exception
+	 */
+	public InputStream getDataStream() throws LocalRepositoryException {
+		return getRepository().getRepositoryDao().getFileContentStream(this);
+	}
+
+	/**
+	 * Sets the data from a stream.
+	 *
+	 * @param content
+	 *            the new data stream
+	 * @throws LocalRepositoryException
+	 *             the local repository exception
+	 */
+	public void setData(InputStream content) throws LocalRepositoryException {
+		getRepository().getRepositoryDao().setFileContent(this, content);
+	}
+
 	/**
 	 * Checks if is binary.
 	 *
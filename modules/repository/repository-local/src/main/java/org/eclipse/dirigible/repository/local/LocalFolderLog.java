@@ -0,0 +1,927 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.local;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
+import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The append-only log of the versions and the info of the entries of a folder of the local repository. Saving a file
+ * appends a single record carrying the saved content, the user and the time, and the creation and the modification
+ * info of the entries is derived from their records, instead of keeping a version counter, a copy per version and an
+ * info file per entry. The records are indexed in memory on first use, and the index is refreshed incrementally, when
+ * the log has been appended to by another instance. The versions over the retention limit are dropped from the index
+ * while writing, and their content is reclaimed by rewriting the log, once the dropped records take the bigger part of
+ * it.
+ */
+class LocalFolderLog {
+
+	private static final Logger logger = LoggerFactory.getLogger(LocalFolderLog.class);
+
+	/** The name of the log file in the versions folder mirroring the repository folder. */
+	static final String LOG_NAME = "$folder.log"; //$NON-NLS-1$
+
+	private static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	private static final String LEGACY_LAST = "last"; //$NON-NLS-1$
+
+	private static final String LEGACY_CREATED_AT = "createdAt"; //$NON-NLS-1$
+
+	private static final String LEGACY_CREATED_BY = "createdBy"; //$NON-NLS-1$
+
+	private static final String LEGACY_MODIFIED_AT = "modifiedAt"; //$NON-NLS-1$
+
+	private static final String LEGACY_MODIFIED_BY = "modifiedBy"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x44464c31;
+
+	private static final int HEADER_SIZE = 12;
+
+	private static final byte RECORD_INFO = 1;
+
+	private static final byte RECORD_VERSION = 2;
+
+	private static final byte RECORD_REMOVE = 3;
+
+	/** The approximate size of a record without its content, used for estimating the size of a compacted log. */
+	private static final long RECORD_OVERHEAD = 64;
+
+	private static final long COMPACTION_MIN_SIZE = 64 * 1024;
+
+	private static final Object[] LOCKS = new Object[64];
+
+	static {
+		for (int i = 0; i < LOCKS.length; i++) {
+			LOCKS[i] = new Object();
+		}
+	}
+
+	private final File file;
+
+	private final File legacyInfoFolder;
+
+	private final int maxVersions;
+
+	private final Object lock;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+
+	private boolean loaded;
+
+	private long id;
+
+	private long length;
+
+	private long fileLength;
+
+	private long fileModifiedAt;
+
+	/**
+	 * Instantiates a new folder log. The instances for the same file share a lock, so that a log evicted from the
+	 * cache and reopened is not written concurrently by the two instances.
+	 *
+	 * @param file
+	 *            the log file
+	 * @param legacyInfoFolder
+	 *            the folder of the info files of the entries, kept before the introduction of the log
+	 * @param maxVersions
+	 *            the maximum number of the versions kept per entry, 0 for no limit
+	 */
+	LocalFolderLog(File file, File legacyInfoFolder, int maxVersions) {
+		this.file = file;
+		this.legacyInfoFolder = legacyInfoFolder;
+		this.maxVersions = maxVersions;
+		this.lock = LOCKS[(file.getPath().hashCode() & 0x7fffffff) % LOCKS.length];
+	}
+
+	/**
+	 * Gets the log file.
+	 *
+	 * @return the file
+	 */
+	File getFile() {
+		return file;
+	}
+
+	/**
+	 * Gets the info and the versions of the entry.
+	 *
+	 * @param name
+	 *            the name of the entry
+	 * @return a snapshot of the entry or null, if there are no records for it
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	Entry getEntry(String name) throws IOException {
+		synchronized (lock) {
+			validate();
+			Entry entry = entries.get(name);
+			return (entry != null) ? entry.copy() : null;
+		}
+	}
+
+	/**
+	 * Gets the content of a version of the entry.
+	 *
+	 * @param name
+	 *            the name of the entry
+	 * @param version
+	 *            the version
+	 * @return the content or null, if there is no such version
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	byte[] getContent(String name, int version) throws IOException {
+		synchronized (lock) {
+			validate();
+			Entry entry = entries.get(name);
+			if (entry == null) {
+				return null;
+			}
+			for (Version candidate : entry.versions) {
+				if (candidate.version == version) {
+					if (candidate.length > Integer.MAX_VALUE) {
+						throw new IOException(String.format("Version [%d] of [%s] is too big to be loaded in memory", version, name));
+					}
+					byte[] content = new byte[(int) candidate.length];
+					try (RandomAccessFile input = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+						input.seek(candidate.offset);
+						input.readFully(content);
+					}
+					return content;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Appends a new version of the entry with the current content of the given file.
+	 *
+	 * @param name
+	 *            the name of the entry
+	 * @param content
+	 *            the file with the content
+	 * @param user
+	 *            the user
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void appendVersion(String name, File content, String user) throws IOException {
+		synchronized (lock) {
+			validate();
+			Entry entry = entries.get(name);
+			int version = ((entry != null) ? entry.lastVersion : 0) + 1;
+			try (FileChannel source = FileChannel.open(content.toPath(), StandardOpenOption.READ)) {
+				append(RECORD_VERSION, name, System.currentTimeMillis(), user, version, source, source.size());
+			}
+			compactIfNeeded();
+		}
+	}
+
+	/**
+	 * Appends a modification of the info of the entry without a new version, e.g. for a folder.
+	 *
+	 * @param name
+	 *            the name of the entry
+	 * @param user
+	 *            the user
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void appendInfo(String name, String user) throws IOException {
+		synchronized (lock) {
+			validate();
+			Entry entry = entries.get(name);
+			append(RECORD_INFO, name, System.currentTimeMillis(), user, (entry != null) ? entry.lastVersion : 0, null, 0);
+		}
+	}
+
+	/**
+	 * Appends the removal of the entry, which drops its info and its versions.
+	 *
+	 * @param name
+	 *            the name of the entry
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void appendRemove(String name) throws IOException {
+		synchronized (lock) {
+			validate();
+			if (!entries.containsKey(name)) {
+				return;
+			}
+			append(RECORD_REMOVE, name, System.currentTimeMillis(), null, 0, null, 0);
+			compactIfNeeded();
+		}
+	}
+
+	/**
+	 * Removes the versions created before the given time and rewrites the log without them. The info of the entries is
+	 * kept.
+	 *
+	 * @param threshold
+	 *            the time in milliseconds
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	void removeVersionsBefore(long threshold) throws IOException {
+		synchronized (lock) {
+			validate();
+			boolean removed = false;
+			for (Entry entry : entries.values()) {
+				Iterator<Version> iterator = entry.versions.iterator();
+				while (iterator.hasNext()) {
+					if (iterator.next().createdAt < threshold) {
+						iterator.remove();
+						removed = true;
+					}
+				}
+			}
+			if (removed) {
+				compact();
+			}
+		}
+	}
+
+	/**
+	 * Brings the index up to date with the log file. Only the records appended since the last check are read, unless
+	 * the log has been rewritten meanwhile. The info and the versions kept before the introduction of the log are
+	 * migrated into it on first use.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void validate() throws IOException {
+		long currentLength = file.length();
+		long currentModifiedAt = file.lastModified();
+		if (loaded && (currentLength == fileLength) && (currentModifiedAt == fileModifiedAt)) {
+			return;
+		}
+		if (!loaded && !file.exists()) {
+			migrate();
+		}
+		read();
+	}
+
+	/**
+	 * Reads the records of the log file into the index.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void read() throws IOException {
+		loaded = true;
+		if (!file.exists()) {
+			reset(0, 0);
+			return;
+		}
+		long physicalLength = file.length();
+		long physicalModifiedAt = file.lastModified();
+		try (InputStream fileInput = new FileInputStream(file)) {
+			CountingInputStream counting = new CountingInputStream(new BufferedInputStream(fileInput));
+			DataInputStream input = new DataInputStream(counting);
+			int magic;
+			long fileId;
+			try {
+				magic = input.readInt();
+				fileId = input.readLong();
+			} catch (EOFException e) {
+				reset(physicalLength, physicalModifiedAt);
+				return;
+			}
+			if (magic != MAGIC) {
+				logger.error(String.format("Invalid versions log: %s", file.getPath()));
+				reset(physicalLength, physicalModifiedAt);
+				return;
+			}
+			if ((fileId == id) && (length >= HEADER_SIZE) && (physicalLength >= length)) {
+				IOUtils.skipFully(input, length - HEADER_SIZE);
+			} else {
+				entries.clear();
+				id = fileId;
+			}
+			long position = counting.getByteCount();
+			try {
+				while (position < physicalLength) {
+					byte type = input.readByte();
+					String name = input.readUTF();
+					long time = input.readLong();
+					String user = input.readUTF();
+					int version = input.readInt();
+					long contentLength = input.readLong();
+					long offset = counting.getByteCount();
+					if ((offset + contentLength) > physicalLength) {
+						// a record, which is still being written or has been left incomplete
+						break;
+					}
+					IOUtils.skipFully(input, contentLength);
+					apply(entries, type, name, time, user, version, offset, contentLength);
+					position = offset + contentLength;
+				}
+			} catch (EOFException e) {
+				// a record, which is still being written or has been left incomplete
+			}
+			length = position;
+		}
+		fileLength = physicalLength;
+		fileModifiedAt = physicalModifiedAt;
+	}
+
+	/**
+	 * Clears the index, as there is no valid log file.
+	 *
+	 * @param physicalLength
+	 *            the length of the log file
+	 * @param physicalModifiedAt
+	 *            the modification time of the log file
+	 */
+	private void reset(long physicalLength, long physicalModifiedAt) {
+		entries.clear();
+		id = 0;
+		length = 0;
+		fileLength = physicalLength;
+		fileModifiedAt = physicalModifiedAt;
+	}
+
+	/**
+	 * Applies a record to an index.
+	 *
+	 * @param index
+	 *            the index
+	 * @param type
+	 *            the type of the record
+	 * @param name
+	 *            the name of the entry
+	 * @param time
+	 *            the time
+	 * @param user
+	 *            the user
+	 * @param version
+	 *            the version or the last version of the entry for the info records
+	 * @param offset
+	 *            the offset of the content in the log file
+	 * @param contentLength
+	 *            the length of the content
+	 */
+	private void apply(Map<String, Entry> index, byte type, String name, long time, String user, int version, long offset, long contentLength) {
+		if (type == RECORD_REMOVE) {
+			index.remove(name);
+			return;
+		}
+		if ((type != RECORD_INFO) && (type != RECORD_VERSION)) {
+			return;
+		}
+		Entry entry = index.get(name);
+		if (entry == null) {
+			entry = new Entry(time, user);
+			index.put(name, entry);
+		}
+		entry.modifiedAt = time;
+		entry.modifiedBy = user;
+		entry.lastVersion = Math.max(entry.lastVersion, version);
+		if (type == RECORD_VERSION) {
+			entry.versions.add(new Version(version, time, user, offset, contentLength));
+			if ((maxVersions > 0) && (entry.versions.size() > maxVersions)) {
+				entry.versions.remove(0);
+			}
+		}
+	}
+
+	/**
+	 * Appends a record to the log file and applies it to the index. An incomplete record left by a failed write is
+	 * overwritten.
+	 *
+	 * @param type
+	 *            the type of the record
+	 * @param name
+	 *            the name of the entry
+	 * @param time
+	 *            the time
+	 * @param user
+	 *            the user
+	 * @param version
+	 *            the version
+	 * @param source
+	 *            the channel to read the content from or null
+	 * @param contentLength
+	 *            the length of the content
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void append(byte type, String name, long time, String user, int version, FileChannel source, long contentLength)
+			throws IOException {
+		String recordUser = (user != null) ? user : "";
+		FileSystemUtils.createFoldersIfNecessary(file.getPath());
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			long position = length;
+			if (position < HEADER_SIZE) {
+				channel.truncate(0);
+				id = ThreadLocalRandom.current().nextLong();
+				position = writeHeader(channel, id);
+			} else if (channel.size() > position) {
+				channel.truncate(position);
+			}
+			position = writeRecord(channel, position, type, name, time, recordUser, version, source, contentLength);
+			length = position;
+			apply(entries, type, name, time, recordUser, version, position - contentLength, contentLength);
+		}
+		fileLength = file.length();
+		fileModifiedAt = file.lastModified();
+	}
+
+	/**
+	 * Writes the header of a log file.
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param logId
+	 *            the identifier of the log, which tells a rewritten log apart
+	 * @return the position after the header
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static long writeHeader(FileChannel channel, long logId) throws IOException {
+		byte[] header = new byte[HEADER_SIZE];
+		ByteBuffer.wrap(header).putInt(MAGIC).putLong(logId);
+		return write(channel, 0, ByteBuffer.wrap(header));
+	}
+
+	/**
+	 * Writes a record at the given position.
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param position
+	 *            the position
+	 * @param type
+	 *            the type of the record
+	 * @param name
+	 *            the name of the entry
+	 * @param time
+	 *            the time
+	 * @param user
+	 *            the user
+	 * @param version
+	 *            the version
+	 * @param source
+	 *            the channel to read the content from its current position or null
+	 * @param contentLength
+	 *            the length of the content
+	 * @return the position after the record
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static long writeRecord(FileChannel channel, long position, byte type, String name, long time, String user, int version,
+			FileChannel source, long contentLength) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + name.length());
+		DataOutputStream output = new DataOutputStream(buffer);
+		output.writeByte(type);
+		output.writeUTF(name);
+		output.writeLong(time);
+		output.writeUTF(user);
+		output.writeInt(version);
+		output.writeLong(contentLength);
+		output.flush();
+		long current = write(channel, position, ByteBuffer.wrap(buffer.toByteArray()));
+		long remaining = contentLength;
+		while (remaining > 0) {
+			long transferred = channel.transferFrom(source, current, remaining);
+			if (transferred <= 0) {
+				throw new EOFException(String.format("The content of [%s] has been truncated while being versioned", name));
+			}
+			current += transferred;
+			remaining -= transferred;
+		}
+		return current;
+	}
+
+	/**
+	 * Writes the buffer at the given position.
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param position
+	 *            the position
+	 * @param buffer
+	 *            the buffer
+	 * @return the position after the written bytes
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static long write(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+		long current = position;
+		while (buffer.hasRemaining()) {
+			current += channel.write(buffer, current);
+		}
+		return current;
+	}
+
+	/**
+	 * Rewrites the log, if the records of the removed entries and versions take the bigger part of it.
+	 */
+	private void compactIfNeeded() {
+		if (length < COMPACTION_MIN_SIZE) {
+			return;
+		}
+		long live = HEADER_SIZE;
+		for (Entry entry : entries.values()) {
+			live += 2 * RECORD_OVERHEAD;
+			for (Version version : entry.versions) {
+				live += RECORD_OVERHEAD + version.length;
+			}
+		}
+		if ((live * 2) < length) {
+			try {
+				compact();
+			} catch (IOException e) {
+				logger.error(String.format("Error on compacting the versions log: %s", file.getPath()), e);
+			}
+		}
+	}
+
+	/**
+	 * Rewrites the log with only the current info and the kept versions of the entries and replaces the log file with
+	 * it at once.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void compact() throws IOException {
+		File compacted = new File(file.getPath() + TEMP_SUFFIX);
+		long compactedId = ThreadLocalRandom.current().nextLong();
+		Map<String, Entry> compactedEntries = new LinkedHashMap<String, Entry>();
+		long position;
+		try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+				FileChannel target = FileChannel.open(compacted.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			position = writeHeader(target, compactedId);
+			for (Map.Entry<String, Entry> item : entries.entrySet()) {
+				String name = item.getKey();
+				Entry entry = item.getValue();
+				position = writeRecord(target, position, RECORD_INFO, name, entry.createdAt, entry.createdBy, entry.lastVersion, null, 0);
+				apply(compactedEntries, RECORD_INFO, name, entry.createdAt, entry.createdBy, entry.lastVersion, position, 0);
+				for (Version version : entry.versions) {
+					source.position(version.offset);
+					position = writeRecord(target, position, RECORD_VERSION, name, version.createdAt, version.createdBy, version.version, source,
+							version.length);
+					apply(compactedEntries, RECORD_VERSION, name, version.createdAt, version.createdBy, version.version, position - version.length,
+							version.length);
+				}
+				position = writeRecord(target, position, RECORD_INFO, name, entry.modifiedAt, entry.modifiedBy, entry.lastVersion, null, 0);
+				apply(compactedEntries, RECORD_INFO, name, entry.modifiedAt, entry.modifiedBy, entry.lastVersion, position, 0);
+			}
+			target.force(true);
+		} catch (IOException e) {
+			compacted.delete();
+			throw e;
+		}
+		Files.move(compacted.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		entries.clear();
+		entries.putAll(compactedEntries);
+		id = compactedId;
+		length = position;
+		fileLength = file.length();
+		fileModifiedAt = file.lastModified();
+	}
+
+	/**
+	 * Migrates the info files of the entries and the version folders of the files kept before the introduction of the
+	 * log into a new log, and removes them afterwards. A failed migration leaves them in place.
+	 */
+	private void migrate() {
+		File folder = file.getParentFile();
+		File[] versionFolders = (folder != null) ? folder.listFiles(f -> f.isDirectory() && new File(f, LEGACY_LAST).isFile()) : null;
+		File[] infoFiles = (legacyInfoFolder != null) ? legacyInfoFolder.listFiles(File::isFile) : null;
+		if (((versionFolders == null) || (versionFolders.length == 0)) && ((infoFiles == null) || (infoFiles.length == 0))) {
+			return;
+		}
+		logger.info(String.format("Migrating the versions and the info of the folder [%s] to a versions log", folder));
+		Map<String, File> versionFoldersByName = new TreeMap<String, File>();
+		if (versionFolders != null) {
+			for (File versionFolder : versionFolders) {
+				versionFoldersByName.put(versionFolder.getName(), versionFolder);
+			}
+		}
+		Map<String, File> infoFilesByName = new TreeMap<String, File>();
+		if (infoFiles != null) {
+			for (File infoFile : infoFiles) {
+				infoFilesByName.put(infoFile.getName(), infoFile);
+			}
+		}
+		File migrated = new File(file.getPath() + TEMP_SUFFIX);
+		try {
+			try (FileChannel target = FileChannel.open(migrated.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				long position = writeHeader(target, ThreadLocalRandom.current().nextLong());
+				for (String name : infoFilesByName.keySet()) {
+					versionFoldersByName.putIfAbsent(name, null);
+				}
+				for (Map.Entry<String, File> item : versionFoldersByName.entrySet()) {
+					position = migrateEntry(target, position, item.getKey(), item.getValue(), infoFilesByName.get(item.getKey()));
+				}
+				target.force(true);
+			}
+			Files.move(migrated.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.error(String.format("Error on migrating the versions and the info of the folder [%s]", folder), e);
+			migrated.delete();
+			return;
+		}
+		try {
+			for (File versionFolder : versionFoldersByName.values()) {
+				if (versionFolder != null) {
+					FileSystemUtils.removeFile(versionFolder.getPath());
+				}
+			}
+			for (File infoFile : infoFilesByName.values()) {
+				Files.deleteIfExists(infoFile.toPath());
+			}
+		} catch (IOException e) {
+			logger.error(String.format("Error on removing the migrated versions and info of the folder [%s]", folder), e);
+		}
+	}
+
+	/**
+	 * Writes the records of an entry migrated from its info file and its version folder.
+	 *
+	 * @param target
+	 *            the channel of the new log
+	 * @param position
+	 *            the position
+	 * @param name
+	 *            the name of the entry
+	 * @param versionFolder
+	 *            the version folder or null
+	 * @param infoFile
+	 *            the info file or null
+	 * @return the position after the records
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static long migrateEntry(FileChannel target, long position, String name, File versionFolder, File infoFile) throws IOException {
+		Properties info = new Properties();
+		if (infoFile != null) {
+			try (InputStream input = new FileInputStream(infoFile)) {
+				info.load(input);
+			}
+		}
+		int lastVersion = 0;
+		Map<Integer, File> versionFiles = new TreeMap<Integer, File>();
+		if (versionFolder != null) {
+			File[] files = versionFolder.listFiles(File::isFile);
+			if (files != null) {
+				for (File versionFile : files) {
+					boolean last = LEGACY_LAST.equals(versionFile.getName());
+					try {
+						int version = Integer.parseInt(last ? new String(Files.readAllBytes(versionFile.toPath()), IRepository.UTF8).trim() : versionFile.getName());
+						lastVersion = Math.max(lastVersion, version);
+						if (!last) {
+							versionFiles.put(version, versionFile);
+						}
+					} catch (NumberFormatException e) {
+						logger.error(String.format("Invalid version file: %s", versionFile.getPath()));
+					}
+				}
+			}
+		}
+		long current = position;
+		String createdAt = info.getProperty(LEGACY_CREATED_AT);
+		if (createdAt != null) {
+			current = writeRecord(target, current, RECORD_INFO, name, parseTime(createdAt), info.getProperty(LEGACY_CREATED_BY, ""), 0, null,
+					0);
+		}
+		for (Map.Entry<Integer, File> versionFile : versionFiles.entrySet()) {
+			try (FileChannel source = FileChannel.open(versionFile.getValue().toPath(), StandardOpenOption.READ)) {
+				current = writeRecord(target, current, RECORD_VERSION, name, versionFile.getValue().lastModified(), "", versionFile.getKey(),
+						source, source.size());
+			}
+		}
+		String modifiedAt = info.getProperty(LEGACY_MODIFIED_AT, createdAt);
+		if ((modifiedAt != null) || (lastVersion > 0)) {
+			current = writeRecord(target, current, RECORD_INFO, name, (modifiedAt != null) ? parseTime(modifiedAt) : System.currentTimeMillis(),
+					info.getProperty(LEGACY_MODIFIED_BY, ""), lastVersion, null, 0);
+		}
+		return current;
+	}
+
+	/**
+	 * Parses a time from an info file.
+	 *
+	 * @param time
+	 *            the time in milliseconds
+	 * @return the time or 0, if it is invalid
+	 */
+	private static long parseTime(String time) {
+		try {
+			return Long.parseLong(time.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * The info and the kept versions of an entry of the folder.
+	 */
+	static class Entry {
+
+		private final long createdAt;
+
+		private final String createdBy;
+
+		private long modifiedAt;
+
+		private String modifiedBy;
+
+		private int lastVersion;
+
+		private final List<Version> versions = new ArrayList<Version>();
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param createdAt
+		 *            the creation time
+		 * @param createdBy
+		 *            the creating user
+		 */
+		Entry(long createdAt, String createdBy) {
+			this.createdAt = createdAt;
+			this.createdBy = createdBy;
+		}
+
+		/**
+		 * Copy the entry.
+		 *
+		 * @return the copy
+		 */
+		Entry copy() {
+			Entry copy = new Entry(createdAt, createdBy);
+			copy.modifiedAt = modifiedAt;
+			copy.modifiedBy = modifiedBy;
+			copy.lastVersion = lastVersion;
+			copy.versions.addAll(versions);
+			return copy;
+		}
+
+		/**
+		 * Gets the creation time.
+		 *
+		 * @return the created at
+		 */
+		long getCreatedAt() {
+			return createdAt;
+		}
+
+		/**
+		 * Gets the creating user.
+		 *
+		 * @return the created by or null, if unknown
+		 */
+		String getCreatedBy() {
+			return toUser(createdBy);
+		}
+
+		/**
+		 * Gets the modification time.
+		 *
+		 * @return the modified at
+		 */
+		long getModifiedAt() {
+			return modifiedAt;
+		}
+
+		/**
+		 * Gets the modifying user.
+		 *
+		 * @return the modified by or null, if unknown
+		 */
+		String getModifiedBy() {
+			return toUser(modifiedBy);
+		}
+
+		/**
+		 * Gets the kept versions in ascending order.
+		 *
+		 * @return the versions
+		 */
+		List<Version> getVersions() {
+			return versions;
+		}
+
+	}
+
+	/**
+	 * A version of an entry and the location of its content in the log.
+	 */
+	static class Version {
+
+		private final int version;
+
+		private final long createdAt;
+
+		private final String createdBy;
+
+		private final long offset;
+
+		private final long length;
+
+		/**
+		 * Instantiates a new version.
+		 *
+		 * @param version
+		 *            the version
+		 * @param createdAt
+		 *            the creation time
+		 * @param createdBy
+		 *            the creating user
+		 * @param offset
+		 *            the offset of the content
+		 * @param length
+		 *            the length of the content
+		 */
+		Version(int version, long createdAt, String createdBy, long offset, long length) {
+			this.version = version;
+			this.createdAt = createdAt;
+			this.createdBy = createdBy;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * Gets the version.
+		 *
+		 * @return the version
+		 */
+		int getVersion() {
+			return version;
+		}
+
+		/**
+		 * Gets the creation time.
+		 *
+		 * @return the created at
+		 */
+		long getCreatedAt() {
+			return createdAt;
+		}
+
+		/**
+		 * Gets the creating user.
+		 *
+		 * @return the created by or null, if unknown
+		 */
+		String getCreatedBy() {
+			return toUser(createdBy);
+		}
+
+	}
+
+	/**
+	 * Converts the user stored in a record.
+	 *
+	 * @param user
+	 *            the stored user
+	 * @return the user or null, if unknown
+	 */
+	private static String toUser(String user) {
+		return ((user == null) || user.isEmpty()) ? null : user;
+	}
+
+}
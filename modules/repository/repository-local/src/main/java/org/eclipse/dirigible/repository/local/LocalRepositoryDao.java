@@ -10,22 +10,27 @@
  */
 package org.eclipse.dirigible.repository.local;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
 
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.dirigible.api.v3.security.UserFacade;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
-import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IResourceVersion;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryVersioningException;
@@ -35,21 +40,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The Local Repository Dao.
+ * The Local Repository Dao. The versions and the info of the files and the folders are kept in an append-only log per
+ * folder - see {@link LocalFolderLog}, and the logs of the recently used folders are shared by the repository
+ * instances.
  */
 public class LocalRepositoryDao {
 
 	private static final Logger logger = LoggerFactory.getLogger(LocalRepositoryDao.class);
 
-	private static final String LAST = "last";
+	/** The maximum number of the versions kept per file, 0 for no limit. */
+	public static final String DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_LIMIT = "DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_LIMIT"; //$NON-NLS-1$
 
-	private static final String MODIFIED_AT = "modifiedAt";
+	/** The maximum number of the folders, which versions logs are kept indexed in memory. */
+	public static final String DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_CACHE_SIZE = "DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_CACHE_SIZE"; //$NON-NLS-1$
 
-	private static final String MODIFIED_BY = "modifiedBy";
+	private static final String DEFAULT_VERSIONS_LIMIT = "20"; //$NON-NLS-1$
 
-	private static final String CREATED_AT = "createdAt";
+	private static final String DEFAULT_VERSIONS_CACHE_SIZE = "10000"; //$NON-NLS-1$
 
-	private static final String CREATED_BY = "createdBy";
+	private static final int VERSIONS_CACHE_SIZE = Integer
+			.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_CACHE_SIZE, DEFAULT_VERSIONS_CACHE_SIZE));
+
+	private static final Map<String, LocalFolderLog> FOLDER_LOGS = new LinkedHashMap<String, LocalFolderLog>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, LocalFolderLog> eldest) {
+			return size() > VERSIONS_CACHE_SIZE;
+		}
+
+	};
 
 	static final int OBJECT_TYPE_FOLDER = 0;
 
@@ -59,6 +80,8 @@ public class LocalRepositoryDao {
 
 	private FileSystemRepository repository;
 
+	private final int versionsLimit;
+
 	/**
 	 * Instantiates a new local repository dao.
 	 *
@@ -67,6 +90,7 @@ public class LocalRepositoryDao {
 	 */
 	public LocalRepositoryDao(FileSystemRepository repository) {
 		this.repository = repository;
+		this.versionsLimit = Integer.parseInt(Configuration.get(DIRIGIBLE_REPOSITORY_LOCAL_VERSIONS_LIMIT, DEFAULT_VERSIONS_LIMIT));
 	}
 
 	/**
@@ -96,133 +120,122 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.saveFile(workspacePath, content);
-			createVersion(workspacePath, content);
-			createInfo(workspacePath);
+			createVersion(workspacePath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
+	}
 
+	/**
+	 * Creates the file from a stream.
+	 *
+	 * @param path
+	 *            the path
+	 * @param content
+	 *            the content stream
+	 * @param isBinary
+	 *            the is binary
+	 * @param contentType
+	 *            the content type
+	 * @throws LocalRepositoryException
+	 *             the local repository exception
+	 */
+	public void createFile(String path, InputStream content, boolean isBinary, String contentType) throws LocalRepositoryException {
+		try {
+			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
+			FileSystemUtils.saveFile(workspacePath, content);
+			createVersion(workspacePath);
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
 	}
 
 	/**
-	 * Creates the version.
+	 * Gets the versions log of the folder of the file or the folder.
 	 *
 	 * @param workspacePath
 	 *            the workspace path
-	 * @param content
-	 *            the content
-	 * @throws FileNotFoundException
-	 *             the file not found exception
-	 * @throws IOException
-	 *             Signals that an I/O exception has occurred.
+	 * @return the folder log or null for the root folder
 	 */
-	private void createVersion(String workspacePath, byte[] content) throws FileNotFoundException, IOException {
-		String versionsPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
-		if (FileSystemUtils.directoryExists(versionsPath)) {
-			String versionsLastPath = versionsPath + File.separator + LAST;
-			byte[] bytes = FileSystemUtils.loadFile(versionsLastPath);
-			if (bytes != null) {
-				Integer index;
-				try {
-					index = Integer.parseInt(new String(bytes, IRepository.UTF8));
-					FileSystemUtils.saveFile(versionsPath + File.separator + (++index), content);
-					FileSystemUtils.saveFile(versionsLastPath, index.toString().getBytes(IRepository.UTF8));
-				} catch (NumberFormatException e) {
-					logger.error(String.format("Invalid versions file: %s", versionsLastPath));
-					createInitialVersion(content, versionsPath);
-				}
-			}
-		} else {
-			createInitialVersion(content, versionsPath);
+	private LocalFolderLog getFolderLog(String workspacePath) {
+		File workspaceFile = new File(workspacePath);
+		if (workspaceFile.getAbsoluteFile().equals(new File(getRepository().getRepositoryPath()).getAbsoluteFile())) {
+			return null;
 		}
+		String versionsPath = workspaceFile.getPath().replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
+		return getFolderLog(new File(versionsPath).getAbsoluteFile().getParentFile());
 	}
 
 	/**
-	 * Creates the initial version.
+	 * Gets the versions log in the given versions folder.
 	 *
-	 * @param content
-	 *            the content
-	 * @param versionsPath
-	 *            the versions path
-	 * @throws FileNotFoundException
-	 *             the file not found exception
-	 * @throws IOException
-	 *             Signals that an I/O exception has occurred.
+	 * @param versionsFolder
+	 *            the versions folder
+	 * @return the folder log
 	 */
-	private void createInitialVersion(byte[] content, String versionsPath) throws FileNotFoundException, IOException {
-		FileSystemUtils.saveFile(versionsPath + File.separator + "1", content);
-		FileSystemUtils.saveFile(versionsPath + File.separator + LAST, "1".getBytes(IRepository.UTF8));
+	private LocalFolderLog getFolderLog(File versionsFolder) {
+		File logFile = new File(versionsFolder, LocalFolderLog.LOG_NAME);
+		synchronized (FOLDER_LOGS) {
+			LocalFolderLog folderLog = FOLDER_LOGS.get(logFile.getPath());
+			if (folderLog == null) {
+				File infoFolder = new File(versionsFolder.getPath().replace(getRepository().getVersionsPath(), getRepository().getInfoPath()));
+				folderLog = new LocalFolderLog(logFile, infoFolder, versionsLimit);
+				FOLDER_LOGS.put(logFile.getPath(), folderLog);
+			}
+			return folderLog;
+		}
 	}
 
 	/**
-	 * Creates the info.
+	 * Creates the version from the current content of the file, which updates its info as well.
 	 *
 	 * @param workspacePath
 	 *            the workspace path
-	 * @throws FileNotFoundException
-	 *             the file not found exception
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	private void createInfo(String workspacePath) throws FileNotFoundException, IOException {
-		String infoPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getInfoPath());
-		if (FileSystemUtils.fileExists(infoPath)) {
-			byte[] bytes = FileSystemUtils.loadFile(infoPath);
-			if (bytes != null) {
-				Properties info = new Properties();
-				info.load(new ByteArrayInputStream(bytes));
-				info.setProperty(MODIFIED_BY, getUser());
-				info.setProperty(MODIFIED_AT, new Date().getTime() + "");
-
-				ByteArrayOutputStream out = new ByteArrayOutputStream();
-				info.store(out, "");
-				FileSystemUtils.saveFile(infoPath, out.toByteArray());
-			}
-		} else {
-			createInitialInfo(infoPath);
+	private void createVersion(String workspacePath) throws IOException {
+		LocalFolderLog folderLog = getFolderLog(workspacePath);
+		if (folderLog != null) {
+			File workspaceFile = new File(workspacePath);
+			folderLog.appendVersion(workspaceFile.getName(), workspaceFile, getUser());
 		}
-
 	}
 
 	/**
-	 * Creates the initial info.
+	 * Creates or updates the info of the folder.
 	 *
-	 * @param infoPath
-	 *            the info path
+	 * @param workspacePath
+	 *            the workspace path
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	private void createInitialInfo(String infoPath) throws IOException {
-		Properties info = new Properties();
-		info.setProperty(CREATED_BY, getUser());
-		info.setProperty(CREATED_AT, new Date().getTime() + "");
-		info.setProperty(MODIFIED_BY, getUser());
-		info.setProperty(MODIFIED_AT, new Date().getTime() + "");
-
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		info.store(out, "");
-		FileSystemUtils.saveFile(infoPath, out.toByteArray());
+	private void createInfo(String workspacePath) throws IOException {
+		LocalFolderLog folderLog = getFolderLog(workspacePath);
+		if (folderLog != null) {
+			folderLog.appendInfo(new File(workspacePath).getName(), getUser());
+		}
 	}
 
 	/**
-	 * Removes the versions.
+	 * Removes the versions and the info of the file.
 	 *
 	 * @param workspacePath
 	 *            the workspace path
-	 * @throws FileNotFoundException
-	 *             the file not found exception
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	private void removeVersions(String workspacePath) throws FileNotFoundException, IOException {
-		String versionsPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
-		if (FileSystemUtils.directoryExists(versionsPath)) {
-			FileSystemUtils.removeFile(versionsPath);
+	private void removeVersions(String workspacePath) throws IOException {
+		LocalFolderLog folderLog = getFolderLog(workspacePath);
+		if (folderLog != null) {
+			folderLog.appendRemove(new File(workspacePath).getName());
 		}
 	}
 
 	/**
-	 * Removes the info.
+	 * Removes the info of the folder and the versions and the info of everything inside it.
 	 *
 	 * @param workspacePath
 	 *            the workspace path
@@ -231,11 +244,52 @@ public class LocalRepositoryDao {
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	private void removeInfo(String workspacePath) throws FileNotFoundException, IOException {
+	private void removeFolderVersions(String workspacePath) throws FileNotFoundException, IOException {
+		removeVersions(workspacePath);
+		String versionsPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
+		if (FileSystemUtils.directoryExists(versionsPath)) {
+			FileSystemUtils.removeFile(versionsPath);
+		}
 		String infoPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getInfoPath());
-		if (FileSystemUtils.fileExists(infoPath)) {
+		if (FileSystemUtils.exists(infoPath)) {
 			FileSystemUtils.removeFile(infoPath);
 		}
+		String prefix = new File(versionsPath).getAbsolutePath() + File.separator;
+		synchronized (FOLDER_LOGS) {
+			Iterator<String> iterator = FOLDER_LOGS.keySet().iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().startsWith(prefix)) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the versions created before the given time. The versions of the folders, which have not been migrated to
+	 * a versions log, are removed by the modification time of their files.
+	 *
+	 * @param threshold
+	 *            the threshold
+	 */
+	public void cleanupOldVersions(Date threshold) {
+		try {
+			Files.walkFileTree(new File(getRepository().getVersionsPath()).toPath(), new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					if (LocalFolderLog.LOG_NAME.equals(file.getFileName().toString())) {
+						getFolderLog(file.getParent().toFile()).removeVersionsBefore(threshold.getTime());
+					} else if (attrs.lastModifiedTime().toMillis() < threshold.getTime()) {
+						Files.deleteIfExists(file);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
 	}
 
 	/**
@@ -258,11 +312,30 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
 			FileSystemUtils.saveFile(workspacePath, content);
-			createVersion(workspacePath, content);
-			createInfo(workspacePath);
+			createVersion(workspacePath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), localFile.getPath()));
+	}
+
+	/**
+	 * Sets the file content from a stream.
+	 *
+	 * @param localFile
+	 *            the local file
+	 * @param content
+	 *            the content stream
+	 */
+	public void setFileContent(LocalFile localFile, InputStream content) {
+		try {
+			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
+			FileSystemUtils.saveFile(workspacePath, content);
+			createVersion(workspacePath);
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), localFile.getPath()));
 	}
 
 	/**
@@ -281,6 +354,22 @@ public class LocalRepositoryDao {
 		}
 	}
 
+	/**
+	 * Gets the file content as a stream.
+	 *
+	 * @param localFile
+	 *            the local file
+	 * @return the file content stream, which has to be closed by the caller
+	 */
+	public InputStream getFileContentStream(LocalFile localFile) {
+		try {
+			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
+			return FileSystemUtils.openFile(workspacePath);
+		} catch (IOException e) {
+			throw new LocalRepositoryException(e);
+		}
+	}
+
 	/**
 	 * Rename file.
 	 *
@@ -294,16 +383,15 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
-			byte[] content = FileSystemUtils.loadFile(workspacePathNew);
-			if (content != null) {
-				createVersion(workspacePathNew, content);
-				createInfo(workspacePathNew);
+			if (FileSystemUtils.fileExists(workspacePathNew)) {
+				createVersion(workspacePathNew);
 				removeVersions(workspacePathOld);
-				removeInfo(workspacePathOld);
 			}
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().resourceRemoved(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), newPath));
 	}
 
 	/**
@@ -319,14 +407,13 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
-			byte[] content = FileSystemUtils.loadFile(workspacePathNew);
-			if (content != null) {
-				createVersion(workspacePathNew, content);
-				createInfo(workspacePathNew);
+			if (FileSystemUtils.fileExists(workspacePathNew)) {
+				createVersion(workspacePathNew);
 			}
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().resourceChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), newPath));
 	}
 
 	/**
@@ -340,10 +427,10 @@ public class LocalRepositoryDao {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
 			removeVersions(workspacePath);
-			removeInfo(workspacePath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().resourceRemoved(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
 	}
 
 	/**
@@ -356,11 +443,11 @@ public class LocalRepositoryDao {
 		try {
 			String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			FileSystemUtils.removeFile(workspacePath);
-			removeVersions(workspacePath);
-			removeInfo(workspacePath);
+			removeFolderVersions(workspacePath);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
+		getRepository().getRepositoryListeners().collectionRemoved(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
 	}
 
 	/**
@@ -391,12 +478,12 @@ public class LocalRepositoryDao {
 			String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
 			String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
 			FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
-			removeVersions(workspacePathNew);
-			removeInfo(workspacePathNew);
+			removeFolderVersions(workspacePathNew);
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
-
+		getRepository().getRepositoryListeners().collectionRemoved(LocalWorkspaceMapper.getRepositoryName(getRepository(), path));
+		getRepository().getRepositoryListeners().collectionChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), newPath));
 	}
 
 	/**
@@ -416,7 +503,7 @@ public class LocalRepositoryDao {
 		} catch (IOException e) {
 			throw new LocalRepositoryException(e);
 		}
-
+		getRepository().getRepositoryListeners().collectionChanged(LocalWorkspaceMapper.getRepositoryName(getRepository(), newPath));
 	}
 
 	/**
@@ -449,27 +536,12 @@ public class LocalRepositoryDao {
 			localObject.setName(objectFile.getName());
 			localObject.setPath(workspacePath);
 
-			String infoPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getInfoPath());
-			if (FileSystemUtils.fileExists(infoPath)) {
-				try {
-					byte[] bytes = FileSystemUtils.loadFile(infoPath);
-					if (bytes != null) {
-						Properties info = new Properties();
-						info.load(new ByteArrayInputStream(bytes));
-						localObject.setCreatedBy(info.getProperty(CREATED_BY));
-						String prop = info.getProperty(CREATED_AT);
-						if (prop != null) {
-							localObject.setCreatedAt(new Date(Long.parseLong(prop)));
-						}
-						localObject.setModifiedBy(info.getProperty(MODIFIED_BY));
-						prop = info.getProperty(MODIFIED_AT);
-						if (prop != null) {
-							localObject.setModifiedAt(new Date(Long.parseLong(prop)));
-						}
-					}
-				} catch (Throwable e) {
-					throw new LocalRepositoryException(e);
-				}
+			LocalFolderLog.Entry info = getFolderLogEntry(workspacePath);
+			if (info != null) {
+				localObject.setCreatedBy(info.getCreatedBy());
+				localObject.setCreatedAt(new Date(info.getCreatedAt()));
+				localObject.setModifiedBy(info.getModifiedBy());
+				localObject.setModifiedAt(new Date(info.getModifiedAt()));
 			}
 
 		} catch (IOException e) {
@@ -517,21 +589,15 @@ public class LocalRepositoryDao {
 	public List<IResourceVersion> getResourceVersionsByPath(String path) throws RepositoryVersioningException {
 		List<IResourceVersion> versions = new ArrayList<IResourceVersion>();
 		String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
-		String versionsPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
-		File versionsDir = new File(versionsPath);
-		if (versionsDir.isDirectory()) {
-			File[] children = versionsDir.listFiles();
-
-			if (children != null) {
-				for (File file : children) {
-					if (!LAST.equals(file.getName())) {
-						int version = Integer.parseInt(file.getName());
-						LocalResourceVersion localResourceVersion = new LocalResourceVersion(getRepository(), new RepositoryPath(path), version);
-						versions.add(localResourceVersion);
-					}
+		try {
+			LocalFolderLog.Entry entry = getFolderLogEntry(workspacePath);
+			if (entry != null) {
+				for (LocalFolderLog.Version version : entry.getVersions()) {
+					versions.add(new LocalResourceVersion(getRepository(), new RepositoryPath(path), version.getVersion()));
 				}
-				Collections.sort(versions);
 			}
+		} catch (IOException e) {
+			throw new RepositoryVersioningException(e);
 		}
 		return versions;
 	}
@@ -564,19 +630,22 @@ public class LocalRepositoryDao {
 	 *             the repository versioning exception
 	 */
 	private LocalFileVersion getLocalFileVersionByPath(int version, String workspacePath) throws RepositoryVersioningException {
-		String versionsPath = workspacePath.replace(getRepository().getRepositoryPath(), getRepository().getVersionsPath());
-		String versionPath = versionsPath + File.separator + version;
 		try {
-			if (FileSystemUtils.fileExists(versionPath)) {
-				byte[] bytes = FileSystemUtils.loadFile(versionPath);
-				if (bytes != null) {
-					String ext = FilenameUtils.getExtension(workspacePath);
-					String contentType = ContentTypeHelper.getContentType(ext);
-					boolean isBinary = ContentTypeHelper.isBinary(contentType);
-					LocalFileVersion localFileVersion = new LocalFileVersion(getRepository(), isBinary, contentType, version, bytes);
-					localFileVersion.setCreatedBy(FileSystemUtils.getOwner(workspacePath));
-					localFileVersion.setCreatedAt(FileSystemUtils.getModifiedAt(workspacePath));
-					return localFileVersion;
+			LocalFolderLog.Entry entry = getFolderLogEntry(workspacePath);
+			if (entry != null) {
+				for (LocalFolderLog.Version fileVersion : entry.getVersions()) {
+					if (fileVersion.getVersion() == version) {
+						byte[] bytes = getFolderLog(workspacePath).getContent(new File(workspacePath).getName(), version);
+						if (bytes != null) {
+							String ext = FilenameUtils.getExtension(workspacePath);
+							String contentType = ContentTypeHelper.getContentType(ext);
+							boolean isBinary = ContentTypeHelper.isBinary(contentType);
+							LocalFileVersion localFileVersion = new LocalFileVersion(getRepository(), isBinary, contentType, version, bytes);
+							localFileVersion.setCreatedBy(fileVersion.getCreatedBy());
+							localFileVersion.setCreatedAt(new Date(fileVersion.getCreatedAt()));
+							return localFileVersion;
+						}
+					}
 				}
 			}
 		} catch (IOException e) {
@@ -586,6 +655,20 @@ public class LocalRepositoryDao {
 		return null;
 	}
 
+	/**
+	 * Gets the entry of the file or the folder in the versions log of its folder.
+	 *
+	 * @param workspacePath
+	 *            the workspace path
+	 * @return the entry or null, if there are no versions and no info
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private LocalFolderLog.Entry getFolderLogEntry(String workspacePath) throws IOException {
+		LocalFolderLog folderLog = getFolderLog(workspacePath);
+		return (folderLog != null) ? folderLog.getEntry(new File(workspacePath).getName()) : null;
+	}
+
 	/**
 	 * Gets the user.
 	 *
@@ -13,6 +13,7 @@ package org.eclipse.dirigible.repository.local;
 import static java.text.MessageFormat.format;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
@@ -186,6 +187,51 @@ public class LocalResource extends LocalEntity implements IResource {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#getContentStream()
+	 */
+	@Override
+	public InputStream getContentStream() throws RepositoryReadException {
+		final LocalFile document = getDocumentSafe();
+		try {
+			return document.getDataStream();
+		} catch (LocalRepositoryException ex) {
+			throw new RepositoryReadException("Could not read resource content.", ex);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long)
+	 */
+	@Override
+	public void setContent(InputStream content, long length) throws RepositoryWriteException {
+		String type = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(getName()));
+		setContent(content, length, ContentTypeHelper.isBinary(type), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream, long, boolean, java.lang.String)
+	 */
+	@Override
+	public void setContent(InputStream content, long length, boolean isBinary, String contentType) throws RepositoryWriteException {
+
+		this.binary = isBinary;
+		this.contentType = contentType;
+
+		try {
+			if (exists()) {
+				getDocumentSafe().setData(content);
+			} else {
+				getRepository().getRepositoryDao().createFile(getPath(), content, isBinary, contentType);
+			}
+		} catch (LocalRepositoryException ex) {
+			throw new RepositoryWriteException("Could not update document.", ex);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.dirigible.repository.local.LocalEntity#equals(java.lang.Object)
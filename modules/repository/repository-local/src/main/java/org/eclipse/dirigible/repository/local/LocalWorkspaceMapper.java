@@ -59,4 +59,28 @@ public class LocalWorkspaceMapper {
 		return workspaceName;
 	}
 
+	/**
+	 * Gets the repository name of a workspace name - the reverse of {@link #getMappedName(FileSystemRepository, String)}.
+	 * A name, which is already a repository one, is returned as it is.
+	 *
+	 * @param repository
+	 *            the repository
+	 * @param workspaceName
+	 *            the workspace name
+	 * @return the repository name
+	 */
+	public static String getRepositoryName(FileSystemRepository repository, String workspaceName) {
+		String repositoryName = workspaceName;
+		String rootPath = repository.getRepositoryPath();
+		if (repositoryName.startsWith(rootPath)
+				&& ((repositoryName.length() == rootPath.length()) || (repositoryName.charAt(rootPath.length()) == File.separatorChar))) {
+			repositoryName = repositoryName.substring(rootPath.length());
+		}
+		repositoryName = repositoryName.replace(File.separator, IRepository.SEPARATOR);
+		if (!repositoryName.startsWith(IRepository.SEPARATOR)) {
+			repositoryName = IRepository.SEPARATOR + repositoryName;
+		}
+		return repositoryName;
+	}
+
 }
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * The Class LocalFolderLogTest.
+ */
+public class LocalFolderLogTest {
+
+	/**
+	 * Versions and info test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void versionsAndInfoTest() throws IOException {
+		File root = Files.createTempDirectory("folder-log").toFile();
+		File content = new File(root, "content");
+		LocalFolderLog folderLog = new LocalFolderLog(new File(root, LocalFolderLog.LOG_NAME), null, 3);
+
+		for (int i = 1; i <= 5; i++) {
+			Files.write(content.toPath(), ("Version " + i).getBytes());
+			folderLog.appendVersion("file.txt", content, (i == 1) ? "creator" : "modifier");
+		}
+		LocalFolderLog.Entry entry = folderLog.getEntry("file.txt");
+		assertEquals("creator", entry.getCreatedBy());
+		assertEquals("modifier", entry.getModifiedBy());
+		// only the last versions are kept
+		assertEquals(3, entry.getVersions().size());
+		assertEquals(3, entry.getVersions().get(0).getVersion());
+		assertArrayEquals("Version 5".getBytes(), folderLog.getContent("file.txt", 5));
+		assertNull(folderLog.getContent("file.txt", 1));
+
+		// the appends of another instance are picked up
+		LocalFolderLog other = new LocalFolderLog(new File(root, LocalFolderLog.LOG_NAME), null, 3);
+		Files.write(content.toPath(), "Version 6".getBytes());
+		other.appendVersion("file.txt", content, "other");
+		assertArrayEquals("Version 6".getBytes(), folderLog.getContent("file.txt", 6));
+
+		folderLog.appendRemove("file.txt");
+		assertNull(folderLog.getEntry("file.txt"));
+		folderLog.appendVersion("file.txt", content, "creator");
+		assertEquals(1, folderLog.getEntry("file.txt").getVersions().get(0).getVersion());
+	}
+
+	/**
+	 * Compaction test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void compactionTest() throws IOException {
+		File root = Files.createTempDirectory("folder-log").toFile();
+		File content = new File(root, "content");
+		File logFile = new File(root, LocalFolderLog.LOG_NAME);
+		LocalFolderLog folderLog = new LocalFolderLog(logFile, null, 2);
+
+		byte[] bytes = new byte[50000];
+		for (int i = 0; i < 20; i++) {
+			bytes[0] = (byte) i;
+			Files.write(content.toPath(), bytes);
+			folderLog.appendVersion("file.bin", content, "user");
+		}
+		assertTrue(logFile.length() < (5 * bytes.length));
+		assertEquals(2, folderLog.getEntry("file.bin").getVersions().size());
+		assertArrayEquals(bytes, folderLog.getContent("file.bin", 20));
+	}
+
+	/**
+	 * Migration test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void migrationTest() throws IOException {
+		File root = Files.createTempDirectory("folder-log").toFile();
+		File versionsFolder = new File(root, "versions");
+		File legacyVersions = new File(versionsFolder, "file.txt");
+		legacyVersions.mkdirs();
+		Files.write(new File(legacyVersions, "1").toPath(), "Version 1".getBytes());
+		Files.write(new File(legacyVersions, "2").toPath(), "Version 2".getBytes());
+		Files.write(new File(legacyVersions, "last").toPath(), "2".getBytes());
+		File infoFolder = new File(root, "info");
+		infoFolder.mkdirs();
+		Properties info = new Properties();
+		info.setProperty("createdAt", "1000");
+		info.setProperty("createdBy", "creator");
+		info.setProperty("modifiedAt", "2000");
+		info.setProperty("modifiedBy", "modifier");
+		try (OutputStream output = new FileOutputStream(new File(infoFolder, "file.txt"))) {
+			info.store(output, "");
+		}
+
+		LocalFolderLog folderLog = new LocalFolderLog(new File(versionsFolder, LocalFolderLog.LOG_NAME), infoFolder, 10);
+		LocalFolderLog.Entry entry = folderLog.getEntry("file.txt");
+		assertEquals(1000, entry.getCreatedAt());
+		assertEquals("creator", entry.getCreatedBy());
+		assertEquals(2000, entry.getModifiedAt());
+		assertEquals("modifier", entry.getModifiedBy());
+		assertEquals(2, entry.getVersions().size());
+		assertArrayEquals("Version 1".getBytes(), folderLog.getContent("file.txt", 1));
+		assertFalse(legacyVersions.exists());
+		assertFalse(new File(infoFolder, "file.txt").exists());
+	}
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.apache.commons.io.IOCase.INSENSITIVE;
+import static org.apache.commons.io.IOCase.SENSITIVE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.dirigible.repository.fs.FileSystemPathIndex;
+import org.junit.Test;
+
+/**
+ * The Class LocalPathIndexTest.
+ */
+public class LocalPathIndexTest {
+
+	/**
+	 * Search test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void searchTest() throws IOException {
+		File root = Files.createTempDirectory("path-index").toFile();
+		new File(root, "a/b").mkdirs();
+		new File(root, "c").mkdirs();
+		Files.write(new File(root, "a/b/File1.txt").toPath(), "1".getBytes());
+		Files.write(new File(root, "a/file2.js").toPath(), "2".getBytes());
+		Files.write(new File(root, "c/file3").toPath(), "3".getBytes());
+		FileSystemPathIndex pathIndex = new FileSystemPathIndex(root.getPath(), Long.MAX_VALUE);
+
+		assertEquals(Arrays.asList("/a/file2.js", "/a/b/File1.txt"), pathIndex.search("/", "*.*", INSENSITIVE));
+		assertEquals(Arrays.asList("/a/file2.js", "/c/file3"), pathIndex.search("/", "*file*", SENSITIVE));
+		assertEquals(Arrays.asList("/a/b/File1.txt"), pathIndex.search(root.getPath() + File.separator + "a/b/", "*file*", INSENSITIVE));
+		assertTrue(pathIndex.search("/missing", "*", INSENSITIVE).isEmpty());
+
+		// the changes through the repository are applied without listing the folders again
+		Files.write(new File(root, "c/file4.txt").toPath(), "4".getBytes());
+		pathIndex.resourceChanged("/c/file4.txt");
+		pathIndex.resourceRemoved(new File(root, "a/file2.js").getPath());
+		pathIndex.collectionRemoved("/a/b");
+		assertEquals(Arrays.asList("/c/file4.txt"), pathIndex.search("/", "*.*", INSENSITIVE));
+	}
+
+	/**
+	 * Validation test.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void validationTest() throws IOException {
+		File root = Files.createTempDirectory("path-index").toFile();
+		new File(root, "a").mkdirs();
+		Files.write(new File(root, "a/file1.txt").toPath(), "1".getBytes());
+		FileSystemPathIndex pathIndex = new FileSystemPathIndex(root.getPath(), 0);
+		assertEquals(Arrays.asList("/a/file1.txt"), pathIndex.search("/", "*.*", INSENSITIVE));
+
+		// the changes made directly on the file system are picked up on validation
+		new File(root, "a/b").mkdirs();
+		Files.write(new File(root, "a/b/file2.txt").toPath(), "2".getBytes());
+		Files.delete(new File(root, "a/file1.txt").toPath());
+		assertEquals(Arrays.asList("/a/b/file2.txt"), pathIndex.search("/", "*.*", INSENSITIVE));
+	}
+
+}
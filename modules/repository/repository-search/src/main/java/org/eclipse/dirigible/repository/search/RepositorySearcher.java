@@ -18,11 +18,16 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -31,8 +36,6 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -41,20 +44,33 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryListener;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RepositorySearcher {
+/**
+ * The full text searcher of the content of a repository. The searcher is notified about the changes in the repository
+ * as a {@link IRepositoryListener} - the changed paths are collected and indexed in a batch by a background thread, a
+ * short delay after the first change of the batch. The index is updated by a single long-lived writer per index folder,
+ * shared by all the searchers pointing to it, and the searches go through a searcher manager refreshed after each
+ * batch. The resources changed while the repository was not running are indexed once on startup, based on the time of
+ * the last full indexing stored with the index.
+ */
+public class RepositorySearcher implements IRepositoryListener {
 
 	private static final Logger logger = LoggerFactory.getLogger(RepositorySearcher.class);
 
@@ -67,6 +83,9 @@ public class RepositorySearcher {
 	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
 	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
 
+	/** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY. */
+	public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY"; //$NON-NLS-1$
+
 	private static final String CURRENT_DIR = ".";
 	private static final String CURRENT_INDEX = "dirigible" + IRepository.SEPARATOR + "repository"
 			+ IRepository.SEPARATOR + "index";
@@ -75,21 +94,42 @@ public class RepositorySearcher {
 	private static final String FIELD_MODIFIED = "modified";
 	private static final String FIELD_LOCATION = "location";
 
+	private static final String COMMIT_LAST_INDEXED = "lastIndexed";
+
 	private static final int MAX_RESULTS = 1000;
 
+	private static final long INITIAL_DELAY = 30000;
+
+	private static final Map<String, SharedIndex> INDICES = new ConcurrentHashMap<String, SharedIndex>();
+
+	private static final ScheduledExecutorService INDEXER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "dirigible-repository-indexer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(RepositorySearcher::closeAll, "dirigible-repository-indexer-shutdown"));
+	}
+
+	/**
+	 * The kinds of the pending changes, in the order they are indexed within a batch.
+	 */
+	private enum Change {
+		COLLECTION_REMOVED, COLLECTION_CHANGED, RESOURCE_REMOVED, RESOURCE_CHANGED
+	}
+
 	private IRepository repository;
 
 	private String root;
 
 	private String index;
 
-	private Timer timer;
+	private long delay;
 
-	private int seconds = 30;
+	private final Map<String, Change> pending = new ConcurrentHashMap<String, Change>();
 
-	private Date lastUpdated = new Date(0);
-
-	private volatile int countUpdated = 0;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
 
 	public RepositorySearcher(IRepository repository) {
 		this.repository = repository;
@@ -100,6 +140,7 @@ public class RepositorySearcher {
 				Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE));
 		String indexLocation = Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION,
 				CURRENT_INDEX);
+		this.delay = Long.parseLong(Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY, "1000"));
 
 		if (absolute) {
 			if (rootFolder != null) {
@@ -118,60 +159,191 @@ public class RepositorySearcher {
 
 		this.index = indexLocation;
 
-		timer = new Timer();
-		timer.schedule(new ReindexTask(), 30000, seconds * 1000);
+		INDEXER.schedule(this::catchUp, INITIAL_DELAY, TimeUnit.MILLISECONDS);
 	}
 
-	class ReindexTask extends TimerTask {
-		@Override
-		public void run() {
-			synchronized (RepositorySearcher.class) {
-				if (countUpdated > 30) {
-					countUpdated = 0;
-					lastUpdated = new Date(0);
-					logger.trace("Full reindexing of the Repository Content...");
-				}
-				reindex();
-				lastUpdated = new Date();
-				countUpdated++;
-			}
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceChanged(java.lang.String)
+	 */
+	@Override
+	public void resourceChanged(String path) {
+		enqueue(path, Change.RESOURCE_CHANGED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#resourceRemoved(java.lang.String)
+	 */
+	@Override
+	public void resourceRemoved(String path) {
+		enqueue(path, Change.RESOURCE_REMOVED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionChanged(java.lang.String)
+	 */
+	@Override
+	public void collectionChanged(String path) {
+		enqueue(path, Change.COLLECTION_CHANGED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.dirigible.repository.api.IRepositoryListener#collectionRemoved(java.lang.String)
+	 */
+	@Override
+	public void collectionRemoved(String path) {
+		enqueue(path, Change.COLLECTION_REMOVED);
+	}
+
+	/**
+	 * Record the change and schedule the indexing of the batch, unless it is already scheduled. The last change of a path
+	 * within a batch wins - the actual state of the path is read while indexing anyway.
+	 *
+	 * @param path
+	 *            the path
+	 * @param change
+	 *            the change
+	 */
+	private void enqueue(String path, Change change) {
+		pending.put(path, change);
+		if (scheduled.compareAndSet(false, true)) {
+			INDEXER.schedule(this::flushQuietly, delay, TimeUnit.MILLISECONDS);
 		}
 	}
 
-	private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters)
-			throws RepositoryWriteException {
-		String indexName = index;
+	/**
+	 * Index the pending changes, logging the failures.
+	 */
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			logger.error("Indexing of the Repository Content failed", e);
+		}
+	}
+
+	/**
+	 * Index the pending changes in a single batch.
+	 *
+	 * @throws RepositoryWriteException
+	 *             in case of an error
+	 */
+	private synchronized void flush() throws RepositoryWriteException {
+		scheduled.set(false);
+		if (pending.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		List<List<String>> batch = new ArrayList<List<String>>();
+		for (int i = 0; i < Change.values().length; i++) {
+			batch.add(new ArrayList<String>());
+		}
+		Iterator<Map.Entry<String, Change>> iterator = pending.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Change> entry = iterator.next();
+			// remove only the seen change, a newer one stays for the next batch
+			if (pending.remove(entry.getKey(), entry.getValue())) {
+				batch.get(entry.getValue().ordinal()).add(entry.getKey());
+			}
+		}
 
+		SharedIndex sharedIndex = getSharedIndex();
 		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			Analyzer analyzer = new StandardAnalyzer();
-			IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-			IndexWriter writer = null;
-			try {
-				writer = new IndexWriter(dir, iwc);
-				Document doc = new Document();
-				Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-				doc.add(pathField);
-				doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-				if (parameters != null) {
-					for (String key : parameters.keySet()) {
-						doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-					}
-				}
-				doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
-						new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-				writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-			} finally {
-				if (writer != null) {
-					writer.close();
+			IndexWriter writer = sharedIndex.writer;
+			int count = 0;
+			for (String path : batch.get(Change.COLLECTION_REMOVED.ordinal())) {
+				writer.deleteDocuments(new PrefixQuery(new Term(FIELD_LOCATION, toPrefix(path))));
+			}
+			for (String path : batch.get(Change.COLLECTION_CHANGED.ordinal())) {
+				writer.deleteDocuments(new PrefixQuery(new Term(FIELD_LOCATION, toPrefix(path))));
+				count += indexCollection(writer, repository.getCollection(path));
+			}
+			for (String path : batch.get(Change.RESOURCE_REMOVED.ordinal())) {
+				writer.deleteDocuments(new Term(FIELD_LOCATION, path));
+			}
+			for (String path : batch.get(Change.RESOURCE_CHANGED.ordinal())) {
+				IResource resource = repository.getResource(path);
+				if (resource.exists()) {
+					indexResource(writer, resource);
+					count++;
+				} else {
+					writer.deleteDocuments(new Term(FIELD_LOCATION, path));
 				}
 			}
+			sharedIndex.commit(null);
+			long end = System.currentTimeMillis();
+			logger.trace("Indexing of {} Repository Resources finished in: {}ms", count, (end - start));
 		} catch (IOException e) {
 			throw new RepositoryWriteException(e);
 		}
 	}
 
+	/**
+	 * Index all the resources of the collection and its sub-collections.
+	 *
+	 * @param writer
+	 *            the writer
+	 * @param collection
+	 *            the collection
+	 * @return the number of the indexed resources
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private int indexCollection(IndexWriter writer, ICollection collection) throws IOException {
+		int count = 0;
+		if (!collection.exists()) {
+			return count;
+		}
+		for (IResource resource : collection.getResources()) {
+			indexResource(writer, resource);
+			count++;
+		}
+		for (ICollection child : collection.getCollections()) {
+			count += indexCollection(writer, child);
+		}
+		return count;
+	}
+
+	/**
+	 * Index the resource, replacing its previous document if any.
+	 *
+	 * @param writer
+	 *            the writer
+	 * @param resource
+	 *            the resource
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void indexResource(IndexWriter writer, IResource resource) throws IOException {
+		String location = resource.getPath();
+		IEntityInformation information = resource.getInformation();
+		long lastModified = ((information != null) && (information.getModifiedAt() != null)) ? information.getModifiedAt().getTime()
+				: System.currentTimeMillis();
+		byte[] contents = resource.getContent();
+
+		Document doc = new Document();
+		Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+		doc.add(pathField);
+		doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+		doc.add(new TextField(FIELD_CONTENTS, new BufferedReader(
+				new InputStreamReader(new ByteArrayInputStream(contents != null ? contents : new byte[0]), StandardCharsets.UTF_8))));
+		writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
+	}
+
+	/**
+	 * The prefix of the locations of the resources within the collection.
+	 *
+	 * @param path
+	 *            the path of the collection
+	 * @return the prefix
+	 */
+	private static String toPrefix(String path) {
+		return path.endsWith(IRepository.SEPARATOR) ? path : path + IRepository.SEPARATOR;
+	}
+
 	/**
 	 * Search for a given term in the text files content
 	 * 
@@ -184,14 +356,11 @@ public class RepositorySearcher {
 	 */
 	public List<String> search(String term) throws RepositoryReadException {
 		List<String> results = new ArrayList<String>();
-		String indexName = index;
 
 		try {
-			Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-			IndexReader reader = null;
+			SharedIndex sharedIndex = getSharedIndex();
+			IndexSearcher searcher = sharedIndex.searcherManager.acquire();
 			try {
-				reader = DirectoryReader.open(dir);
-				IndexSearcher searcher = new IndexSearcher(reader);
 				Analyzer analyzer = new StandardAnalyzer();
 				String field = FIELD_CONTENTS;
 				QueryParser parser = new QueryParser(field, analyzer);
@@ -210,9 +379,7 @@ public class RepositorySearcher {
 
 				}
 			} finally {
-				if (reader != null) {
-					reader.close();
-				}
+				sharedIndex.searcherManager.release(searcher);
 			}
 			return results;
 		} catch (IOException | ParseException e) {
@@ -220,34 +387,200 @@ public class RepositorySearcher {
 		}
 	}
 
-	private void reindex() {
-		synchronized (RepositorySearcher.class) {
-			long start = System.currentTimeMillis();
+	/**
+	 * Index the resources modified since the last full indexing - i.e. the changes made while the repository was not
+	 * running.
+	 */
+	private void catchUp() {
+		try {
+			String lastIndexed = getSharedIndex().getCommitData(COMMIT_LAST_INDEXED);
+			reindex((lastIndexed != null) ? new Date(Long.parseLong(lastIndexed)) : new Date(0));
+		} catch (RuntimeException e) {
+			logger.error("Indexing of the Repository Content failed", e);
+		}
+	}
+
+	/**
+	 * Index the resources modified after the given date.
+	 *
+	 * @param lastUpdated
+	 *            the date
+	 * @throws RepositoryWriteException
+	 *             in case of an error
+	 */
+	private synchronized void reindex(Date lastUpdated) throws RepositoryWriteException {
+		long start = System.currentTimeMillis();
+		SharedIndex sharedIndex = getSharedIndex();
+		try {
+			int count = 0;
 			List<String> paths = repository.getAllResourcePaths();
 			for (String path : paths) {
 				IResource resource = repository.getResource(path);
 				if ((resource != null) && (resource.getInformation() != null)
 						&& (resource.getInformation().getModifiedAt() != null)) {
 					if (lastUpdated.before(resource.getInformation().getModifiedAt())) {
-						add(path, resource.getContent(), resource.getInformation().getModifiedAt().getTime(), null);
+						indexResource(sharedIndex.writer, resource);
+						count++;
 					}
 				}
 			}
+			sharedIndex.commit(Collections.singletonMap(COMMIT_LAST_INDEXED, Long.toString(start)));
 			long end = System.currentTimeMillis();
-			logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
+			logger.trace("Reindexing of {} Repository Resources finished in: {}ms", count, (end - start));
+		} catch (IOException e) {
+			throw new RepositoryWriteException(e);
 		}
 	}
 
+	/**
+	 * Index the pending changes and then all the resources of the repository, e.g. after changes made to the
+	 * underlying storage directly.
+	 */
 	public void forceReindex() {
-		synchronized (RepositorySearcher.class) {
-			this.lastUpdated = new Date(0);
-			this.countUpdated = 0;
-			reindex();
-		}
+		flush();
+		reindex(new Date(0));
 	}
-	
+
 	public String getRoot() {
 		return root;
 	}
 
+	/**
+	 * Gets the shared index of the index folder, opening it on the first access.
+	 *
+	 * @return the shared index
+	 * @throws RepositoryWriteException
+	 *             in case of an error
+	 */
+	private SharedIndex getSharedIndex() throws RepositoryWriteException {
+		String indexPath = root + File.separator + index;
+		SharedIndex sharedIndex = INDICES.get(indexPath);
+		if ((sharedIndex != null) && sharedIndex.writer.isOpen()) {
+			return sharedIndex;
+		}
+		synchronized (INDICES) {
+			sharedIndex = INDICES.get(indexPath);
+			if ((sharedIndex != null) && sharedIndex.writer.isOpen()) {
+				return sharedIndex;
+			}
+			if (sharedIndex != null) {
+				sharedIndex.closeQuietly();
+			}
+			try {
+				sharedIndex = new SharedIndex(indexPath);
+			} catch (IOException e) {
+				throw new RepositoryWriteException(e);
+			}
+			INDICES.put(indexPath, sharedIndex);
+			return sharedIndex;
+		}
+	}
+
+	/**
+	 * Commit and close all the opened indices.
+	 */
+	private static void closeAll() {
+		synchronized (INDICES) {
+			for (SharedIndex sharedIndex : INDICES.values()) {
+				sharedIndex.closeQuietly();
+			}
+			INDICES.clear();
+		}
+	}
+
+	/**
+	 * The writer and the searcher manager of an index folder.
+	 */
+	private static final class SharedIndex {
+
+		private final String path;
+
+		private final Directory directory;
+
+		private final IndexWriter writer;
+
+		private final SearcherManager searcherManager;
+
+		/**
+		 * Instantiates a new shared index.
+		 *
+		 * @param path
+		 *            the path of the index folder
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		SharedIndex(String path) throws IOException {
+			this.path = path;
+			this.directory = FSDirectory.open(Paths.get(path));
+			IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+			iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+			this.writer = new IndexWriter(directory, iwc);
+			try {
+				this.searcherManager = new SearcherManager(writer, null);
+			} catch (IOException e) {
+				writer.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * Gets a value of the user data of the last commit.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the value or null
+		 */
+		synchronized String getCommitData(String key) {
+			Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+			if (commitData != null) {
+				for (Map.Entry<String, String> entry : commitData) {
+					if (key.equals(entry.getKey())) {
+						return entry.getValue();
+					}
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Commit the changes and make them visible to the searches.
+		 *
+		 * @param commitData
+		 *            the user data to be stored with the commit or null to keep the current one
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		synchronized void commit(Map<String, String> commitData) throws IOException {
+			if (commitData != null) {
+				writer.setLiveCommitData(commitData.entrySet());
+			}
+			if (writer.hasUncommittedChanges() || (commitData != null)) {
+				writer.commit();
+			}
+			searcherManager.maybeRefreshBlocking();
+		}
+
+		/**
+		 * Close the index, logging the failures.
+		 */
+		void closeQuietly() {
+			try {
+				try {
+					searcherManager.close();
+				} finally {
+					try {
+						if (writer.isOpen()) {
+							writer.close();
+						}
+					} finally {
+						directory.close();
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				logger.error("Closing the index [" + path + "] failed", e);
+			}
+		}
+
+	}
+
 }
@@ -10,15 +10,14 @@
  */
 package org.eclipse.dirigible.repository.zip;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PushbackInputStream;
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.RepositoryImportException;
@@ -142,35 +141,32 @@ public class RepositoryZipImporter {
 					}
 					logger.debug("importZip outpath replaced: " + outpath);
 
-					try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-						IOUtils.copy(zipInputStream, output);
-						try {
-							final byte[] content = output.toByteArray();
-							if (content.length > 0) {
-								// TODO filter for binary extensions
-
-								String extension = ContentTypeHelper.getExtension(name);
-								String mimeType = ContentTypeHelper.getContentType(extension);
-								boolean isBinary = ContentTypeHelper.isBinary(mimeType);
-								if (mimeType != null) {
-									logger.debug("importZip creating resource: " + outpath);
-									logger.debug("importZip creating resource is binary?: " + isBinary);
-									repository.createResource(outpath, content, isBinary, mimeType, override);
-
-								} else {
-									logger.debug("importZip creating resource: " + outpath);
-									repository.createResource(outpath, content, true, ContentTypeHelper.APPLICATION_OCTET_STREAM,
-											override);
-								}
-							} else {
-								if (outpath.endsWith(IRepository.SEPARATOR)) {
-									logger.debug("importZip creating collection: " + outpath);
-									repository.createCollection(outpath);
-								}
+					// the content of the entry is streamed into the resource, without being loaded in memory
+					PushbackInputStream content = new PushbackInputStream(zipInputStream, 1);
+					try {
+						int first = content.read();
+						if (first != -1) {
+							content.unread(first);
+							// TODO filter for binary extensions
+
+							String extension = ContentTypeHelper.getExtension(name);
+							String mimeType = ContentTypeHelper.getContentType(extension);
+							boolean isBinary = ContentTypeHelper.isBinary(mimeType);
+							if (mimeType == null) {
+								isBinary = true;
+								mimeType = ContentTypeHelper.APPLICATION_OCTET_STREAM;
+							}
+							logger.debug("importZip creating resource: " + outpath);
+							logger.debug("importZip creating resource is binary?: " + isBinary);
+							repository.createResource(outpath, content, entry.getSize(), isBinary, mimeType, override);
+						} else {
+							if (outpath.endsWith(IRepository.SEPARATOR)) {
+								logger.debug("importZip creating collection: " + outpath);
+								repository.createCollection(outpath);
 							}
-						} catch (Exception e) {
-							logger.error(String.format("Error importing %s", outpath), e);
 						}
+					} catch (Exception e) {
+						logger.error(String.format("Error importing %s", outpath), e);
 					}
 				}
 			} finally {
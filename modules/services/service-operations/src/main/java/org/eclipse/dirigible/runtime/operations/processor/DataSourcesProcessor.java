@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.runtime.operations.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.database.api.IDatabase;
+import org.eclipse.dirigible.database.api.wrappers.WrappedConnectionPool;
+import org.eclipse.dirigible.database.api.wrappers.WrappedDataSource;
+
+public class DataSourcesProcessor {
+
+	@Inject
+	private IDatabase database;
+
+	public String list() {
+		List<Map<String, Object>> dataSources = new ArrayList<Map<String, Object>>();
+		for (Map.Entry<String, DataSource> next : new TreeMap<String, DataSource>(database.getDataSources()).entrySet()) {
+			Map<String, Object> dataSource = new LinkedHashMap<String, Object>();
+			dataSource.put("name", next.getKey());
+			dataSource.put("type", database.getType());
+			if (next.getValue() instanceof WrappedDataSource) {
+				WrappedDataSource wrappedDataSource = (WrappedDataSource) next.getValue();
+				dataSource.put("pooled", wrappedDataSource.isPooled());
+				dataSource.put("active", wrappedDataSource.getActiveConnectionsCount());
+				WrappedConnectionPool pool = wrappedDataSource.getPool();
+				if (pool != null) {
+					dataSource.put("maxConnections", pool.getMaxConnections());
+					dataSource.put("idle", pool.getIdle());
+					dataSource.put("opened", pool.getOpened());
+					dataSource.put("waiters", pool.getWaiters());
+					dataSource.put("acquires", pool.getAcquires());
+					dataSource.put("timeouts", pool.getTimeouts());
+					dataSource.put("acquireTimeAverage", pool.getAcquireTimeAverage());
+					dataSource.put("acquireTimeMax", pool.getAcquireTimeMax());
+				}
+			}
+			dataSources.add(dataSource);
+		}
+		return GsonHelper.GSON.toJson(dataSources);
+	}
+
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2018 SAP and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   SAP - initial API and implementation
+ */
+package org.eclipse.dirigible.runtime.operations.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.engine.api.EngineExecutionStatistics;
+
+public class EnginesProcessor {
+	
+	public String list() {
+		List<Map<String, Object>> engines = new ArrayList<Map<String, Object>>();
+		for (EngineExecutionStatistics statistics : EngineExecutionStatistics.getAll().values()) {
+			Map<String, Object> engine = new LinkedHashMap<String, Object>();
+			engine.put("type", statistics.getType());
+			engine.put("invocations", statistics.getInvocations());
+			engine.put("failures", statistics.getFailures());
+			engine.put("totalTime", statistics.getTotalTime());
+			engine.put("histogram", statistics.getHistogram());
+			engines.add(engine);
+		}
+        return GsonHelper.GSON.toJson(engines);
+	}
+
+}